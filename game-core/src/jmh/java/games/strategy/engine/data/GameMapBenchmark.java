@@ -0,0 +1,83 @@
+package games.strategy.engine.data;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks route finding and distance calculation across the Big World 1942 map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameMapBenchmark {
+  private GameMap map;
+  private Territory france;
+  private Territory kamchatka;
+  private Territory easternCanada;
+  private Territory southernJapan;
+  private Predicate<Territory> land;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+    map = gameData.getMap();
+    france = map.getTerritory("France");
+    kamchatka = map.getTerritory("Kamchatka");
+    easternCanada = map.getTerritory("Eastern Canada");
+    southernJapan = map.getTerritory("Southern Japan");
+    land = Matches.territoryIsLand();
+  }
+
+  @Benchmark
+  public Route getRouteOverLand() {
+    return map.getRoute(france, kamchatka, land);
+  }
+
+  @Benchmark
+  public Route getRouteOverLandOrWater() {
+    return map.getRoute(easternCanada, southernJapan);
+  }
+
+  @Benchmark
+  public Optional<Route> routeFinder() {
+    return new RouteFinder(map, land).findRoute(france, kamchatka);
+  }
+
+  @Benchmark
+  public int getDistanceOverLand() {
+    return map.getDistance(france, kamchatka, land);
+  }
+
+  @Benchmark
+  public int getDistanceOverLandOrWater() {
+    return map.getDistance(easternCanada, southernJapan);
+  }
+
+  @Benchmark
+  public int getLandDistance() {
+    return map.getLandDistance(france, kamchatka);
+  }
+
+  @Benchmark
+  public int getNeighborsWithinThree() {
+    return map.getNeighbors(france, 3).size();
+  }
+}
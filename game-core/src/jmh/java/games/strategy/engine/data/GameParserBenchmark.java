@@ -0,0 +1,59 @@
+package games.strategy.engine.data;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.gameparser.XmlGameElementMapper;
+import games.strategy.triplea.delegate.TestDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks parsing the bundled test game XML files. The files are read into memory up front so that only parsing is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameParserBenchmark {
+  @Param({"REVISED", "WW2V3_1942", "BIG_WORLD_1942", "GLOBAL1940"})
+  public TestMapGameData map;
+
+  private byte[] xml;
+  private XmlGameElementMapper xmlGameElementMapper;
+
+  @Setup
+  public void setUp() throws Exception {
+    xml = Files.readAllBytes(Paths.get("src", "test", "resources", map.toString()));
+    xmlGameElementMapper = new XmlGameElementMapper(
+        Collections.singletonMap("TestDelegate", TestDelegate::new),
+        Collections.singletonMap("TestAttachment", TestAttachment::new));
+  }
+
+  @Benchmark
+  public GameData parse() throws Exception {
+    return GameParser.parse(map.toString(), new ByteArrayInputStream(xml), xmlGameElementMapper);
+  }
+
+  @Benchmark
+  public GameData parseShallow() throws Exception {
+    return GameParser.parseShallow(map.toString(), new ByteArrayInputStream(xml));
+  }
+}
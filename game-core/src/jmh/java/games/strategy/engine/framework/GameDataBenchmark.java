@@ -0,0 +1,68 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks copying, saving and loading whole game data instances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameDataBenchmark {
+  @Param({"REVISED", "BIG_WORLD_1942"})
+  public TestMapGameData map;
+
+  private GameData gameData;
+  private GameDataSnapshot snapshot;
+  private byte[] savedGame;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = map.getGameData();
+    snapshot = GameDataSnapshot.of(gameData, true);
+    savedGame = saveGame();
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(gameData, true);
+  }
+
+  @Benchmark
+  public GameData forkSnapshot() throws IOException {
+    return snapshot.fork();
+  }
+
+  @Benchmark
+  public byte[] saveGame() throws IOException {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    GameDataManager.saveGame(os, gameData);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public GameData loadGame() throws IOException {
+    return GameDataManager.loadGame(new ByteArrayInputStream(savedGame));
+  }
+}
@@ -0,0 +1,130 @@
+package games.strategy.net;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.net.nio.NioSocketConfiguration;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Load test of a server messenger receiving chat messages and game updates from many clients at once, measuring the
+ * time the server takes to read and decode a batch of messages from every client with different numbers of decoder
+ * threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessengerLoadBenchmark {
+  private static final int MESSAGES_PER_CLIENT = 50;
+
+  @Param({"8", "32"})
+  public int clientCount;
+
+  @Param({"1", "4"})
+  public int decoderThreads;
+
+  private final AtomicInteger receivedCount = new AtomicInteger();
+  private volatile CountDownLatch allReceived;
+  private ServerMessenger serverMessenger;
+  private final List<ClientMessenger> clientMessengers = new ArrayList<>();
+  private ExecutorService executor;
+  private List<Serializable> messages;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+    messages = newMessages(gameData);
+    serverMessenger = new ServerMessenger("server", 0, new GameObjectStreamFactory(gameData),
+        NioSocketConfiguration.builder().decoderThreads(decoderThreads).build());
+    serverMessenger.setAcceptNewConnections(true);
+    serverMessenger.addMessageListener((msg, from) -> {
+      if (receivedCount.incrementAndGet() == clientCount * MESSAGES_PER_CLIENT) {
+        allReceived.countDown();
+      }
+    });
+    final int port = serverMessenger.getLocalNode().getSocketAddress().getPort();
+    final String mac = MacFinder.getHashedMacAddress();
+    for (int i = 0; i < clientCount; i++) {
+      clientMessengers.add(
+          new ClientMessenger("localhost", port, "client" + i, mac, new GameObjectStreamFactory(gameData), null));
+    }
+    executor = Executors.newFixedThreadPool(clientCount);
+  }
+
+  /**
+   * Returns the messages each client sends, alternating chat messages and game updates changing the owner of a few
+   * territories.
+   */
+  private static List<Serializable> newMessages(final GameData gameData) {
+    final List<Territory> territories = gameData.getMap().getTerritories();
+    final List<PlayerId> players = gameData.getPlayerList().getPlayers();
+    final List<Serializable> messages = new ArrayList<>(MESSAGES_PER_CLIENT);
+    for (int i = 0; i < MESSAGES_PER_CLIENT; i++) {
+      if (i % 2 == 0) {
+        messages.add("chat message " + i + ": the quick brown fox jumps over the lazy dog");
+      } else {
+        final CompositeChange change = new CompositeChange();
+        for (int j = 0; j < 10; j++) {
+          change.add(ChangeFactory.changeOwner(
+              territories.get((i * 10 + j) % territories.size()), players.get((i + j) % players.size())));
+        }
+        messages.add(change);
+      }
+    }
+    return messages;
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    receivedCount.set(0);
+    allReceived = new CountDownLatch(1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+    clientMessengers.forEach(IMessenger::shutDown);
+    serverMessenger.shutDown();
+  }
+
+  @Benchmark
+  public void sendFromAllClients() throws Exception {
+    final INode server = serverMessenger.getLocalNode();
+    for (final ClientMessenger clientMessenger : clientMessengers) {
+      executor.execute(() -> messages.forEach(message -> clientMessenger.send(message, server)));
+    }
+    if (!allReceived.await(1, TimeUnit.MINUTES)) {
+      throw new TimeoutException("received " + receivedCount.get() + " messages");
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package games.strategy.triplea;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks reading the properties checked most often while validating moves and fighting battles, by name and
+ * through {@link Properties}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesBenchmark {
+  private GameData gameData;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+  }
+
+  @Benchmark
+  public void readByName(final Blackhole blackhole) {
+    blackhole.consume(gameData.getProperties().get(Constants.WW2V2, false));
+    blackhole.consume(gameData.getProperties().get(Constants.WW2V3, false));
+    blackhole.consume(gameData.getProperties().get(Constants.NEUTRALS_ARE_IMPASSABLE, false));
+    blackhole.consume(gameData.getProperties().get(Constants.LHTR_HEAVY_BOMBERS, false));
+    blackhole.consume(gameData.getProperties().get(Constants.LAND_BATTLE_ROUNDS, -1));
+  }
+
+  @Benchmark
+  public void readThroughProperties(final Blackhole blackhole) {
+    blackhole.consume(Properties.getWW2V2(gameData));
+    blackhole.consume(Properties.getWW2V3(gameData));
+    blackhole.consume(Properties.getNeutralsImpassable(gameData));
+    blackhole.consume(Properties.getLhtrHeavyBombers(gameData));
+    blackhole.consume(Properties.getLandBattleRounds(gameData));
+  }
+}
@@ -0,0 +1,85 @@
+package games.strategy.triplea.delegate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.delegate.IDelegateBridge;
+import games.strategy.triplea.delegate.data.CasualtyDetails;
+import games.strategy.triplea.delegate.data.CasualtyList;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks selecting default casualties for a mixed land army. The remote player accepts the default casualties, so
+ * only the casualty calculation is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BattleCalculatorBenchmark {
+  private IDelegateBridge bridge;
+  private PlayerId british;
+  private Territory location;
+  private Collection<TerritoryEffect> territoryEffects;
+  private List<Unit> defending;
+  private List<Unit> attacking;
+  private DiceRoll dice;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final PlayerId germans = germans(gameData);
+    british = british(gameData);
+    location = territory("Eastern Canada", gameData);
+    territoryEffects = TerritoryEffectHelper.getEffects(location);
+    defending = infantry(gameData).create(10, british);
+    defending.addAll(armour(gameData).create(5, british));
+    defending.addAll(fighter(gameData).create(3, british));
+    attacking = infantry(gameData).create(12, germans);
+    attacking.addAll(armour(gameData).create(6, germans));
+    dice = new DiceRoll(new int[] {0, 0, 0, 0, 0, 0}, 6, 1, false);
+
+    bridge = MockDelegateBridge.newInstance(gameData, british);
+    when(MockDelegateBridge.withRemotePlayer(bridge).selectCasualties(any(), any(), anyInt(), anyString(), any(),
+        any(), any(), any(), anyBoolean(), any(), any(), any(), any(), anyBoolean()))
+            .thenAnswer(invocation -> new CasualtyDetails(invocation.<CasualtyList>getArgument(10), true));
+  }
+
+  @Benchmark
+  public CasualtyDetails selectCasualties() {
+    return BattleCalculator.selectCasualties(british, defending, defending, attacking, false,
+        Collections.emptyList(), location, territoryEffects, bridge, "", dice, true, null, false, 0, true);
+  }
+}
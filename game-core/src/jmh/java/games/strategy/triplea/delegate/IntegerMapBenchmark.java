@@ -0,0 +1,84 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.java.collections.IntegerMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.util.TuvUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks the income estimation and unit valuation done for every player by the end turn delegate and the AI
+ * purchase phase across the Big World 1942 map, which are dominated by {@link IntegerMap} operations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntegerMapBenchmark {
+  private GameData gameData;
+  private List<PlayerId> players;
+  private List<Territory> territories;
+  private List<Unit> units;
+  private IntegerMap<UnitType> costs;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+    players = gameData.getPlayerList().getPlayers();
+    territories = gameData.getMap().getTerritories();
+    units = new ArrayList<>(gameData.getUnits().getUnits());
+    costs = TuvUtils.getCostsForTuv(players.get(0), gameData);
+  }
+
+  @Benchmark
+  public int findEstimatedIncome() {
+    int total = 0;
+    for (final PlayerId player : players) {
+      final IntegerMap<Resource> income = AbstractEndTurnDelegate.findEstimatedIncome(player, gameData);
+      total += income.totalValues();
+    }
+    return total;
+  }
+
+  @Benchmark
+  public int getUnitsByType() {
+    int total = 0;
+    for (final Territory territory : territories) {
+      for (final PlayerId player : players) {
+        total += territory.getUnitCollection().getUnitsByType(player).size();
+      }
+    }
+    return total;
+  }
+
+  @Benchmark
+  public int getTuv() {
+    return TuvUtils.getTuv(units, costs);
+  }
+
+  @Benchmark
+  public IntegerMap<UnitType> getCostsForTuv() {
+    return TuvUtils.getCostsForTuv(players.get(0), gameData);
+  }
+}
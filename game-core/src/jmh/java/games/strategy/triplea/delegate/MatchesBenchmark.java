@@ -0,0 +1,87 @@
+package games.strategy.triplea.delegate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks typical {@link Matches} predicate chains evaluated over every unit and territory of the Big World 1942
+ * map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchesBenchmark {
+  private GameData gameData;
+  private PlayerId germans;
+  private List<Territory> territories;
+  private List<Unit> units;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+    germans = germans(gameData);
+    territories = gameData.getMap().getTerritories();
+    units = new ArrayList<>();
+    for (final Territory territory : territories) {
+      units.addAll(territory.getUnitCollection().getUnits());
+    }
+  }
+
+  @Benchmark
+  public int ownedMovableCombatUnits() {
+    return count(units, Matches.unitIsOwnedBy(germans)
+        .and(Matches.unitCanMove())
+        .and(Matches.unitIsNotInfrastructure())
+        .and(Matches.unitIsSupporterOrHasCombatAbility(true)));
+  }
+
+  @Benchmark
+  public int enemyLandUnits() {
+    return count(units, Matches.enemyUnit(germans, gameData).and(Matches.unitIsLand()));
+  }
+
+  @Benchmark
+  public int enemyTerritories() {
+    return count(territories, Matches.isTerritoryEnemyAndNotUnownedWaterOrImpassableOrRestricted(germans, gameData));
+  }
+
+  @Benchmark
+  public int territoriesWithEnemyUnits() {
+    return count(territories, Matches.territoryHasEnemyUnits(germans, gameData));
+  }
+
+  private static <T> int count(final Collection<T> elements, final Predicate<T> predicate) {
+    int count = 0;
+    for (final T element : elements) {
+      if (predicate.test(element)) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.triplea.delegate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.data.MoveValidationResult;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks validating the opening German land moves of Revised.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveValidatorBenchmark {
+  private GameData gameData;
+  private PlayerId germans;
+  private List<Unit> landUnits;
+  private List<Unit> armour;
+  private Route nonCombatRoute;
+  private Route combatRoute;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    germans = germans(gameData);
+    final Territory germany = territory("Germany", gameData);
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    landUnits = germany.getUnitCollection().getMatches(Matches.unitIsLandAndOwnedBy(germans)
+        .and(Matches.unitCanMove()));
+    armour = germany.getUnitCollection().getMatches(Matches.unitCanBlitz());
+    nonCombatRoute = new Route(germany, easternEurope);
+    combatRoute = new Route(germany, easternEurope, territory("Ukraine S.S.R.", gameData));
+  }
+
+  @Benchmark
+  public MoveValidationResult validateNonCombatMove() {
+    return MoveValidator.validateMove(landUnits, nonCombatRoute, germans, Collections.emptyList(), new HashMap<>(),
+        true, null, gameData);
+  }
+
+  @Benchmark
+  public MoveValidationResult validateCombatMove() {
+    return MoveValidator.validateMove(armour, combatRoute, germans, Collections.emptyList(), new HashMap<>(), false,
+        null, gameData);
+  }
+}
@@ -0,0 +1,100 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Benchmarks a single 200-run land battle simulation using the sequential and concurrent odds calculators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OddsCalculatorBenchmark {
+  private static final int RUN_COUNT = 200;
+
+  private GameData gameData;
+  private PlayerId attacker;
+  private PlayerId defender;
+  private Territory location;
+  private Collection<Unit> attackingUnits;
+  private Collection<Unit> defendingUnits;
+  private Collection<TerritoryEffect> territoryEffects;
+  private OddsCalculator compiledCalculator;
+  private OddsCalculator mustFightBattleCalculator;
+  private ConcurrentOddsCalculator concurrentCalculator;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    attacker = germans(gameData);
+    defender = british(gameData);
+    location = territory("Eastern Canada", gameData);
+    final List<Unit> attacking = infantry(gameData).create(10, attacker);
+    attacking.addAll(armour(gameData).create(6, attacker));
+    attackingUnits = attacking;
+    defendingUnits = infantry(gameData).create(14, defender);
+    territoryEffects = TerritoryEffectHelper.getEffects(location);
+
+    compiledCalculator = new OddsCalculator(gameData);
+    mustFightBattleCalculator = new OddsCalculator(gameData);
+    mustFightBattleCalculator.setUseCompiledBattles(false);
+    concurrentCalculator = new ConcurrentOddsCalculator("benchmark");
+    concurrentCalculator.setGameData(gameData);
+  }
+
+  @TearDown
+  public void tearDown() {
+    compiledCalculator.shutdown();
+    mustFightBattleCalculator.shutdown();
+    concurrentCalculator.shutdown();
+  }
+
+  @Benchmark
+  public AggregateResults oddsCalculatorCompiled() {
+    return compiledCalculator.setCalculateDataAndCalculate(attacker, defender, location, attackingUnits,
+        defendingUnits, Collections.emptyList(), territoryEffects, RUN_COUNT);
+  }
+
+  @Benchmark
+  public AggregateResults oddsCalculatorMustFightBattle() {
+    return mustFightBattleCalculator.setCalculateDataAndCalculate(attacker, defender, location, attackingUnits,
+        defendingUnits, Collections.emptyList(), territoryEffects, RUN_COUNT);
+  }
+
+  @Benchmark
+  public AggregateResults concurrentOddsCalculator() {
+    return concurrentCalculator.setCalculateDataAndCalculate(attacker, defender, location, attackingUnits,
+        defendingUnits, Collections.emptyList(), territoryEffects, RUN_COUNT);
+  }
+}
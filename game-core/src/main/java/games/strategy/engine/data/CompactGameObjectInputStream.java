@@ -0,0 +1,75 @@
+package games.strategy.engine.data;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.framework.GameObjectStreamFactory;
+
+/**
+ * Reads the streams written by a {@link CompactGameObjectOutputStream}.
+ */
+public class CompactGameObjectInputStream extends GameObjectInputStream {
+  private final RegisteredTypes types;
+  private final @Nullable GameObjectIndex index;
+  private final int fingerprint;
+
+  /**
+   * Creates a stream reading from the specified input.
+   *
+   * @param index The index of the game of this peer, or {@code null} if there is no game.
+   */
+  public CompactGameObjectInputStream(final GameObjectStreamFactory dataSource, final InputStream input,
+      final RegisteredTypes types, final @Nullable GameObjectIndex index) throws IOException {
+    this(dataSource, input, readFingerprint(input), types, index);
+  }
+
+  private CompactGameObjectInputStream(final GameObjectStreamFactory dataSource, final InputStream input,
+      final int fingerprint, final RegisteredTypes types, final @Nullable GameObjectIndex index) throws IOException {
+    super(dataSource, input);
+    this.fingerprint = fingerprint;
+    this.types = types;
+    this.index = index;
+  }
+
+  private static int readFingerprint(final InputStream input) throws IOException {
+    // not closed, as that would close the input
+    return new DataInputStream(input).readInt();
+  }
+
+  @Override
+  protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+    final int id = readUnsignedShort() - 1;
+    if (id == -1) {
+      return super.readClassDescriptor();
+    }
+    final @Nullable Class<?> type = types.getType(id);
+    if (type == null) {
+      throw new StreamCorruptedException("Unknown type ID: " + id);
+    }
+    return ObjectStreamClass.lookup(type);
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+    final @Nullable Class<?> type = types.getType(desc.getName());
+    return type != null ? type : super.resolveClass(desc);
+  }
+
+  @Override
+  protected Object resolveObject(final Object obj) throws IOException {
+    if (obj instanceof GameObjectStreamReference) {
+      final GameObjectStreamReference reference = (GameObjectStreamReference) obj;
+      if (index == null || index.getFingerprint() != fingerprint) {
+        throw new InvalidObjectException("Reference to an object of a game that does not match ours: " + reference);
+      }
+      return index.resolve(reference);
+    }
+    return super.resolveObject(obj);
+  }
+}
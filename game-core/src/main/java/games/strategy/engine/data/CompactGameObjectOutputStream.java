@@ -0,0 +1,65 @@
+package games.strategy.engine.data;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link GameObjectOutputStream} writing a more compact encoding than Java serialization, for peers that support the
+ * same encoding (see {@link CompactGameObjectInputStream}).
+ *
+ * <p>
+ * Java serialization writes the full descriptor (name, serial version UID, field names and types) of every class once
+ * per stream, and messages are written to a new stream each, so small messages are mostly made of class descriptors.
+ * This stream writes the number of registered classes instead of their descriptor. It also writes players, territories
+ * and unit types as their number in the {@link GameObjectIndex} of the game instead of their name.
+ * </p>
+ *
+ * <p>
+ * The stream starts with the fingerprint of the game index, or zero if there is no game, followed by a Java
+ * serialization stream header.
+ * </p>
+ */
+public class CompactGameObjectOutputStream extends GameObjectOutputStream {
+  private final RegisteredTypes types;
+  private final @Nullable GameObjectIndex index;
+
+  public CompactGameObjectOutputStream(final OutputStream output, final RegisteredTypes types,
+      final @Nullable GameObjectIndex index) throws IOException {
+    super(writeFingerprint(output, index));
+    this.types = types;
+    this.index = index;
+  }
+
+  private static OutputStream writeFingerprint(final OutputStream output, final @Nullable GameObjectIndex index)
+      throws IOException {
+    // not closed, as that would close the output
+    new DataOutputStream(output).writeInt(index != null ? index.getFingerprint() : 0);
+    return output;
+  }
+
+  @Override
+  protected Object replaceObject(final Object obj) {
+    if (index != null && obj instanceof Named) {
+      final @Nullable GameObjectStreamReference reference = index.getReference((Named) obj);
+      if (reference != null) {
+        return reference;
+      }
+    }
+    return super.replaceObject(obj);
+  }
+
+  @Override
+  protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+    final @Nullable Class<?> type = desc.forClass();
+    final int id = type != null ? types.getId(type) : -1;
+    // zero means that the full descriptor follows
+    writeShort(id + 1);
+    if (id == -1) {
+      super.writeClassDescriptor(desc);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package games.strategy.engine.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+
+/**
+ * The distances between all pairs of territories of a map, for the kinds of routes most often asked for, and the
+ * neighbors of each territory. A row of distances from one territory is computed by a breadth-first search the first
+ * time it is needed, and kept until the connections of the map change. Searches with other conditions use the same
+ * neighbor arrays, but their results are not kept.
+ *
+ * <p>
+ * Territories are identified by their ordinal. Distances are held in {@code short} arrays, so maps may have at most
+ * {@link #MAX_TERRITORIES} territories. Canals are treated as open, like the distance and neighbor methods of
+ * {@link GameMap} do; routes validating canals are found by {@link RouteFinder}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe and only depend on the territory ordinals and connections of a map, so they
+ * may be shared by copies of the same map (see {@link GameMap#setDistanceTables(DistanceTables)}).
+ * </p>
+ */
+public final class DistanceTables {
+  static final int MAX_TERRITORIES = Short.MAX_VALUE;
+
+  /**
+   * The kinds of territories routes may go through.
+   */
+  enum Kind {
+    /** Routes through any territory. */
+    ANY,
+    /** Routes through land territories only. */
+    LAND,
+    /** Routes through water territories only. */
+    WATER
+  }
+
+  private final int[][] neighbors;
+  private final boolean[] water;
+  // the row of distances from territory i for kind k is at index k * territoryCount + i
+  private final AtomicReferenceArray<short[]> rows;
+
+  DistanceTables(final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    checkArgument(territories.size() <= MAX_TERRITORIES, "too many territories: " + territories.size());
+
+    final int territoryCount = territories.size();
+    neighbors = new int[territoryCount][];
+    water = new boolean[territoryCount];
+    for (int i = 0; i < territoryCount; i++) {
+      final Territory territory = territories.get(i);
+      neighbors[i] = connections.get(territory).stream().mapToInt(Territory::getOrdinal).toArray();
+      water[i] = territory.isWater();
+    }
+    rows = new AtomicReferenceArray<>(Kind.values().length * territoryCount);
+  }
+
+  int getTerritoryCount() {
+    return neighbors.length;
+  }
+
+  /**
+   * Returns the distance between the territories with the specified ordinals, where all territories of the route
+   * except the start are of the specified kind, or -1 if there is no such route.
+   */
+  int getDistance(final Kind kind, final int from, final int to) {
+    return getRow(kind, from)[to];
+  }
+
+  /**
+   * Returns the distances from the territory with the specified ordinal to each territory, indexed by ordinal, where
+   * all territories of the route except the start are of the specified kind. Territories without such a route have a
+   * distance of -1. The returned array must not be modified.
+   */
+  short[] getRow(final Kind kind, final int from) {
+    final int index = kind.ordinal() * neighbors.length + from;
+    short[] row = rows.get(index);
+    if (row == null) {
+      // threads racing to compute the same row compute the same distances
+      row = newRow(kind, from);
+      rows.set(index, row);
+    }
+    return row;
+  }
+
+  private short[] newRow(final Kind kind, final int from) {
+    return search(from, -1, MAX_TERRITORIES, territory -> isPassable(kind, territory));
+  }
+
+  /**
+   * Returns the ordinals of the neighbors of the territory with the specified ordinal. The returned array must not be
+   * modified.
+   */
+  int[] getNeighbors(final int territory) {
+    return neighbors[territory];
+  }
+
+  /**
+   * Returns the distance between the territories with the specified ordinals, where all territories of the route
+   * except the start match the specified condition, or -1 if there is no such route.
+   */
+  int getDistance(final int from, final int to, final IntPredicate passable) {
+    return search(from, to, MAX_TERRITORIES, passable)[to];
+  }
+
+  /**
+   * Returns the distances from the territory with the specified ordinal to each territory not further away than the
+   * specified distance, where all territories of the route except the start match the specified condition. Territories
+   * without such a route have a distance of -1.
+   */
+  short[] getDistances(final int from, final int maxDistance, final IntPredicate passable) {
+    return search(from, -1, maxDistance, passable);
+  }
+
+  /**
+   * Searches breadth-first from the specified territory, until the specified target (if not -1) is found, or all
+   * territories within the specified distance are found.
+   */
+  private short[] search(final int from, final int target, final int maxDistance, final IntPredicate passable) {
+    final short[] row = new short[neighbors.length];
+    Arrays.fill(row, (short) -1);
+    row[from] = 0;
+    final int[] queue = new int[neighbors.length];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = from;
+    while (head < tail && row[queue[head]] < maxDistance) {
+      final int current = queue[head++];
+      final short distance = (short) (row[current] + 1);
+      for (final int neighbor : neighbors[current]) {
+        if (row[neighbor] == -1 && passable.test(neighbor)) {
+          row[neighbor] = distance;
+          if (neighbor == target) {
+            return row;
+          }
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return row;
+  }
+
+  private boolean isPassable(final Kind kind, final int territory) {
+    switch (kind) {
+      case ANY:
+        return true;
+      case LAND:
+        return !water[territory];
+      case WATER:
+        return water[territory];
+      default:
+        throw new AssertionError("unknown kind: " + kind);
+    }
+  }
+}
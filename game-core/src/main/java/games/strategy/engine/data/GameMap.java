@@ -1,7 +1,10 @@
 package games.strategy.engine.data;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -10,6 +13,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -41,6 +45,8 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // null if the map is not grid-based
   // otherwise, gridDimensions.length is the number of dimensions, and each element is the size of a dimension
   private int[] gridDimensions = null;
+  // built when first needed, discarded when territories or connections change
+  private transient volatile @Nullable DistanceTables distanceTables;
 
   GameMap(final GameData data) {
     super(data);
@@ -73,9 +79,19 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (territories.contains(t1)) {
       throw new IllegalArgumentException("Map already contains " + t1.getName());
     }
+    t1.setOrdinal(territories.size());
     territories.add(t1);
     connections.put(t1, Collections.emptySet());
     territoryLookup.put(t1.getName(), t1);
+    distanceTables = null;
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // ordinals are not serialized
+    for (int i = 0; i < territories.size(); i++) {
+      territories.get(i).setOrdinal(i);
+    }
   }
 
   /**
@@ -98,6 +114,62 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<>(current);
     modified.add(to);
     connections.put(from, Collections.unmodifiableSet(modified));
+    distanceTables = null;
+  }
+
+  /**
+   * Returns the distance tables of this map, or null if the map is too large for them. The tables may be shared with
+   * copies of this map (see {@link #setDistanceTables(DistanceTables)}).
+   */
+  public @Nullable DistanceTables getDistanceTables() {
+    DistanceTables tables = distanceTables;
+    if (tables == null && territories.size() <= DistanceTables.MAX_TERRITORIES) {
+      // threads racing to build the tables build equal tables
+      tables = new DistanceTables(territories, connections);
+      distanceTables = tables;
+    }
+    return tables;
+  }
+
+  /**
+   * Makes this map use the specified distance tables of another map with the same territories, in the same order, and
+   * the same connections, e.g. a copy of the same game data, so the tables are only built once and the distance rows
+   * computed for one map are used by all of them. The tables are discarded as soon as territories or connections of
+   * this map change.
+   */
+  public void setDistanceTables(final DistanceTables tables) {
+    checkNotNull(tables);
+    checkArgument(tables.getTerritoryCount() == territories.size(),
+        "Distance tables are for another map with " + tables.getTerritoryCount() + " territories");
+
+    distanceTables = tables;
+  }
+
+  /**
+   * Returns the ordinal of the specified territory, or -1 if it is not a territory of this map.
+   */
+  private int getOrdinal(final Territory territory) {
+    final int ordinal = territory.getOrdinal();
+    return (ordinal >= 0 && ordinal < territories.size() && territories.get(ordinal) == territory) ? ordinal : -1;
+  }
+
+  /**
+   * Looks up the distance between two territories where the covered territories of the route are of the specified
+   * kind in the distance tables. Returns an empty optional if it cannot be looked up.
+   */
+  private OptionalInt lookUpDistance(final Territory t1, final Territory t2, final DistanceTables.Kind kind) {
+    final int from = getOrdinal(t1);
+    final int to = getOrdinal(t2);
+    final DistanceTables tables = (from < 0 || to < 0) ? null : getDistanceTables();
+    return (tables == null) ? OptionalInt.empty() : OptionalInt.of(tables.getDistance(kind, from, to));
+  }
+
+  /**
+   * Indicates whether the distance tables tell that there is no route at all between two territories, in which case
+   * there is no route whose territories match some condition either.
+   */
+  private boolean isDisconnected(final Territory t1, final Territory t2) {
+    return lookUpDistance(t1, t2, DistanceTables.Kind.ANY).orElse(0) == -1;
   }
 
   /**
@@ -155,6 +227,18 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final int from = getOrdinal(territory);
+    final DistanceTables tables = (from < 0) ? null : getDistanceTables();
+    if (tables != null) {
+      final short[] distances = tables.getRow(DistanceTables.Kind.ANY, from);
+      final Set<Territory> neighbors = new HashSet<>();
+      for (int i = 0; i < distances.length; i++) {
+        if (distances[i] > 0 && distances[i] <= distance) {
+          neighbors.add(territories.get(i));
+        }
+      }
+      return neighbors;
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), distance - 1);
     neighbors.remove(territory);
     return neighbors;
@@ -173,6 +257,19 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final int from = getOrdinal(territory);
+    final DistanceTables tables = (from < 0) ? null : getDistanceTables();
+    if (tables != null) {
+      final short[] distances =
+          tables.getDistances(from, distance, i -> cond == null || cond.test(territories.get(i)));
+      final Set<Territory> neighbors = new HashSet<>();
+      for (int i = 0; i < distances.length; i++) {
+        if (distances[i] > 0) {
+          neighbors.add(territories.get(i));
+        }
+      }
+      return neighbors;
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), distance - 1, cond);
     neighbors.remove(territory);
     return neighbors;
@@ -276,6 +373,9 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     checkNotNull(t1);
     checkNotNull(t2);
 
+    if (isDisconnected(t1, t2)) {
+      return null;
+    }
     return new RouteFinder(this, cond).findRoute(t1, t2).orElse(null);
   }
 
@@ -329,7 +429,12 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLandOrWater());
+    return getDistance(t1, t2, DistanceTables.Kind.ANY, Matches.territoryIsLandOrWater());
+  }
+
+  private int getDistance(final Territory t1, final Territory t2, final DistanceTables.Kind kind,
+      final Predicate<Territory> cond) {
+    return lookUpDistance(t1, t2, kind).orElseGet(() -> getDistance(t1, t2, cond));
   }
 
   /**
@@ -344,6 +449,15 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1.equals(t2)) {
       return 0;
     }
+    if (isDisconnected(t1, t2)) {
+      return -1;
+    }
+    final int from = getOrdinal(t1);
+    final int to = getOrdinal(t2);
+    final DistanceTables tables = (from < 0 || to < 0) ? null : getDistanceTables();
+    if (tables != null) {
+      return tables.getDistance(from, to, i -> cond.test(territories.get(i)));
+    }
     return getDistance(0, new HashSet<>(), Collections.singleton(t1), t2, cond);
   }
 
@@ -392,7 +506,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getLandDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLand());
+    return getDistance(t1, t2, DistanceTables.Kind.LAND, Matches.territoryIsLand());
   }
 
   /**
@@ -402,7 +516,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getWaterDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsWater());
+    return getDistance(t1, t2, DistanceTables.Kind.WATER, Matches.territoryIsWater());
   }
 
   /**
@@ -0,0 +1,100 @@
+package games.strategy.engine.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.InvalidObjectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.GameObjectStreamReference.Kind;
+
+/**
+ * Numbers the players, territories and unit types of a game in the order they are declared, so that compact object
+ * streams can refer to them by number instead of by name (see {@link CompactGameObjectOutputStream}).
+ *
+ * <p>
+ * The numbers are only meaningful to a peer holding the same game. Streams therefore start with the
+ * {@link #getFingerprint() fingerprint} of the index of the writer, which the reader compares with its own before
+ * resolving a reference.
+ * </p>
+ */
+public final class GameObjectIndex {
+  private static final int MAX_SIZE = 1 << 16;
+
+  private final GameData data;
+  private final Map<Kind, List<? extends Named>> objectsByKind = new HashMap<>();
+  private final Map<Kind, Map<String, Integer>> idsByKind = new HashMap<>();
+  private final int fingerprint;
+
+  private GameObjectIndex(final GameData data) {
+    this.data = data;
+    final CRC32 checksum = new CRC32();
+    data.acquireReadLock();
+    try {
+      add(Kind.PLAYER, data.getPlayerList().getPlayers(), checksum);
+      add(Kind.TERRITORY, data.getMap().getTerritories(), checksum);
+      add(Kind.UNIT_TYPE, data.getUnitTypeList().getAllUnitTypes(), checksum);
+    } finally {
+      data.releaseReadLock();
+    }
+    fingerprint = (int) checksum.getValue();
+  }
+
+  private void add(final Kind kind, final Collection<? extends Named> objects, final CRC32 checksum) {
+    final List<Named> list = new ArrayList<>(objects);
+    final Map<String, Integer> ids = new HashMap<>();
+    // objects beyond the range of a reference are written by name
+    for (int i = 0; i < Math.min(list.size(), MAX_SIZE); i++) {
+      ids.put(list.get(i).getName(), i);
+    }
+    objectsByKind.put(kind, Collections.unmodifiableList(list));
+    idsByKind.put(kind, ids);
+    checksum.update(kind.ordinal());
+    for (final Named object : list) {
+      checksum.update(object.getName().getBytes(StandardCharsets.UTF_8));
+      checksum.update(0);
+    }
+  }
+
+  public static GameObjectIndex of(final GameData data) {
+    checkNotNull(data);
+    return new GameObjectIndex(data);
+  }
+
+  public GameData getData() {
+    return data;
+  }
+
+  public int getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Returns a reference to the specified object, or {@code null} if the object can not be referred to by number.
+   */
+  @Nullable
+  GameObjectStreamReference getReference(final Named named) {
+    final @Nullable Kind kind = Kind.of(named);
+    if (kind == null) {
+      return null;
+    }
+    final @Nullable Integer id = idsByKind.get(kind).get(named.getName());
+    return id != null ? new GameObjectStreamReference(kind, id) : null;
+  }
+
+  Named resolve(final GameObjectStreamReference reference) throws InvalidObjectException {
+    final List<? extends Named> objects = objectsByKind.get(reference.getKind());
+    if (reference.getId() >= objects.size()) {
+      throw new InvalidObjectException("Unknown " + reference.getKind() + ": " + reference.getId());
+    }
+    return objects.get(reference.getId());
+  }
+}
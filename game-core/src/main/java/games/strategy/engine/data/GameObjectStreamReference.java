@@ -0,0 +1,72 @@
+package games.strategy.engine.data;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import javax.annotation.Nullable;
+
+/**
+ * A handle to a player, territory or unit type within a compact game object stream, holding the number of the object
+ * in the {@link GameObjectIndex} of the game instead of its name (see {@link GameObjectStreamData}).
+ */
+public final class GameObjectStreamReference implements Externalizable {
+  private static final long serialVersionUID = -4327453126917264543L;
+
+  private Kind kind;
+  private int id;
+
+  public GameObjectStreamReference() {}
+
+  GameObjectStreamReference(final Kind kind, final int id) {
+    this.kind = kind;
+    this.id = id;
+  }
+
+  enum Kind {
+    PLAYER, TERRITORY, UNIT_TYPE;
+
+    @Nullable
+    static Kind of(final Named named) {
+      if (named instanceof PlayerId) {
+        return PLAYER;
+      } else if (named instanceof Territory) {
+        return TERRITORY;
+      } else if (named instanceof UnitType) {
+        return UNIT_TYPE;
+      }
+      return null;
+    }
+  }
+
+  Kind getKind() {
+    return kind;
+  }
+
+  int getId() {
+    return id;
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    out.writeByte(kind.ordinal());
+    out.writeShort(id);
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException {
+    final int ordinal = in.readUnsignedByte();
+    if (ordinal >= Kind.values().length) {
+      throw new InvalidObjectException("Unknown kind: " + ordinal);
+    }
+    kind = Kind.values()[ordinal];
+    id = in.readUnsignedShort();
+  }
+
+  @Override
+  public String toString() {
+    return kind + "#" + id;
+  }
+}
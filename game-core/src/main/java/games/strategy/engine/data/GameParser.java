@@ -5,8 +5,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,16 +20,14 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.triplea.util.Tuple;
 import org.triplea.util.Version;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXParseException;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
@@ -60,12 +61,12 @@ public final class GameParser {
   private static final String RESOURCE_IS_DISPLAY_FOR_NONE = "NONE";
 
   private final GameData data;
-  private final Collection<SAXParseException> errorsSax = new ArrayList<>();
   private final String mapName;
   private final XmlGameElementMapper xmlGameElementMapper;
 
   private final GameDataVariableParser variableParser = new GameDataVariableParser();
   private final NodeFinder nodeFinder = new NodeFinder();
+  private Map<String, List<String>> variables = Collections.emptyMap();
 
   @VisibleForTesting
   GameParser(final GameData gameData, final String mapName) {
@@ -102,9 +103,22 @@ public final class GameParser {
   }
 
   private GameData parse(final InputStream stream) throws GameParseException, EngineVersionException {
-    final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
-    parseMapProperties(root);
-    parseMapDetails(root);
+    parseSections(stream, EnumSet.allOf(Section.class));
+    // set & override default relationships
+    // sets the relationship between all players and the NullPlayer to NullRelation (with archeType War)
+    data.getRelationshipTracker().setNullPlayerRelations();
+    // sets the relationship for all players with themselfs to the SelfRelation (with archeType Allied)
+    data.getRelationshipTracker().setSelfRelations();
+    // set default tech attachments (comes after we parse all technologies, parse all attachments, and parse all game
+    // options/properties)
+    checkThatAllUnitsHaveAttachments(data);
+    TechAbilityAttachment.setDefaultTechnologyAttachments(data);
+    try {
+      validate();
+    } catch (final Exception e) {
+      log.log(Level.SEVERE, "Error parsing: " + mapName, e);
+      throw newGameParseException("validation failed", e);
+    }
     return data;
   }
 
@@ -134,105 +148,203 @@ public final class GameParser {
   }
 
   private GameData parseShallow(final InputStream stream) throws GameParseException, EngineVersionException {
-    final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
-    parseMapProperties(root);
+    parseSections(stream, Section.MAP_PROPERTIES);
     return data;
   }
 
-  private void parseMapProperties(final Element root) throws GameParseException, EngineVersionException {
-    // mandatory fields
-    // get the name of the map
-    parseInfo(getSingleChild("info", root));
-
+  /**
+   * The top-level elements of a game XML file, in the order in which they are parsed. A section can only be parsed
+   * after the sections it depends on, which always precede it in this order.
+   */
+  private enum Section {
+    INFO("info", true),
     // test minimum engine version FIRST
-    parseMinimumEngineVersionNumber(getSingleChild("triplea", root, true));
-    // if we manage to get this far, past the minimum engine version number test, AND we are still good, then check and
-    // see if we have any SAX errors we need to show
-    if (!errorsSax.isEmpty()) {
-      for (final SAXParseException error : errorsSax) {
-        log.severe("SAXParseException: game: " + (data.getGameName() == null ? "?" : data.getGameName()) + ", line: "
-            + error.getLineNumber() + ", column: " + error.getColumnNumber() + ", error: " + error.getMessage());
-      }
-    }
-    parseDiceSides(getSingleChild("diceSides", root, true));
-    final Element playerListNode = getSingleChild("playerList", root);
-    parsePlayerList(playerListNode);
-    parseAlliances(playerListNode);
-    final Node properties = getSingleChild("propertyList", root, true);
-    if (properties != null) {
-      parseProperties(properties);
+    TRIPLEA("triplea", false, INFO),
+    DICE_SIDES("diceSides", false),
+    PLAYER_LIST("playerList", true),
+    PROPERTY_LIST("propertyList", false, PLAYER_LIST),
+    VARIABLE_LIST("variableList", false),
+    MAP("map", true),
+    RESOURCE_LIST("resourceList", false, PLAYER_LIST),
+    UNIT_LIST("unitList", false),
+    RELATIONSHIP_TYPES("relationshipTypes", false),
+    TERRITORY_EFFECT_LIST("territoryEffectList", false),
+    GAME_PLAY("gamePlay", true, PLAYER_LIST),
+    PRODUCTION("production", false, PLAYER_LIST, RESOURCE_LIST, UNIT_LIST),
+    // the default technologies depend on the game properties
+    TECHNOLOGY("technology", false, PLAYER_LIST, PROPERTY_LIST),
+    // attachments depend on everything parsed before them, including the game properties
+    ATTACHMENT_LIST("attachmentList", false, TRIPLEA, DICE_SIDES, PROPERTY_LIST, VARIABLE_LIST, MAP, PRODUCTION,
+        RELATIONSHIP_TYPES, TERRITORY_EFFECT_LIST, GAME_PLAY, TECHNOLOGY),
+    INITIALIZE("initialize", false, ATTACHMENT_LIST);
+
+    /** The sections needed to display metadata about the game. */
+    static final Set<Section> MAP_PROPERTIES = Collections.unmodifiableSet(
+        EnumSet.of(INFO, TRIPLEA, DICE_SIDES, PLAYER_LIST, PROPERTY_LIST));
+
+    private final String elementName;
+    private final boolean required;
+    private final List<Section> prerequisites;
+
+    Section(final String elementName, final boolean required, final Section... prerequisites) {
+      this.elementName = elementName;
+      this.required = required;
+      this.prerequisites = Arrays.asList(prerequisites);
+    }
+
+    static @Nullable Section fromElementName(final String elementName) {
+      return Arrays.stream(values())
+          .filter(section -> section.elementName.equals(elementName))
+          .findAny()
+          .orElse(null);
     }
   }
 
-  private void parseMapDetails(final Element root) throws GameParseException {
-    final Map<String, List<String>> variables = variableParser.parseVariables(root);
-    parseMap(getSingleChild("map", root));
-    final Element resourceList = getSingleChild("resourceList", root, true);
-    if (resourceList != null) {
-      parseResources(resourceList);
-    }
-    final Element unitList = getSingleChild("unitList", root, true);
-    if (unitList != null) {
-      parseUnits(unitList);
-    }
-    // Parse all different relationshipTypes that are defined in the xml, for example: War, Allied, Neutral, NAP
-    final Element relationshipTypes = getSingleChild("relationshipTypes", root, true);
-    if (relationshipTypes != null) {
-      parseRelationshipTypes(relationshipTypes);
-    }
-    final Element territoryEffectList = getSingleChild("territoryEffectList", root, true);
-    if (territoryEffectList != null) {
-      parseTerritoryEffects(territoryEffectList);
-    }
-    parseGamePlay(getSingleChild("gamePlay", root));
-    final Element production = getSingleChild("production", root, true);
-    if (production != null) {
-      parseProduction(production);
-    }
-    final Element technology = getSingleChild("technology", root, true);
-    if (technology != null) {
-      parseTechnology(technology);
-    } else {
-      TechAdvance.createDefaultTechAdvances(data);
-    }
-    final Element attachmentList = getSingleChild("attachmentList", root, true);
-    if (attachmentList != null) {
-      parseAttachments(attachmentList, variables);
+  /**
+   * Reads the top-level elements of the game XML file contained in the specified stream one at a time. Each of the
+   * specified sections is parsed and discarded as soon as the sections it depends on have been parsed, so only the
+   * sections waiting for a section further down the file are held in memory. Other top-level elements are skipped
+   * without being read.
+   */
+  private void parseSections(final InputStream stream, final Set<Section> sections)
+      throws GameParseException, EngineVersionException {
+    final Map<Section, XmlElement> pendingSections = new EnumMap<>(Section.class);
+    final Set<Section> parsedSections = EnumSet.noneOf(Section.class);
+    final XMLStreamReader reader = XmlReader.newStreamReader(mapName, stream);
+    try {
+      try {
+        readSections(reader, sections, pendingSections, parsedSections);
+      } finally {
+        reader.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw new GameParseException("failed to parse XML document", e);
+    }
+    // the whole file has been read, so any section that has not been parsed yet is either waiting or missing
+    for (final Section section : sections) {
+      if (!parsedSections.contains(section)) {
+        parseSection(section, pendingSections.remove(section));
+        parsedSections.add(section);
+      }
     }
-    final Node initialization = getSingleChild("initialize", root, true);
-    if (initialization != null) {
-      parseInitialization(initialization);
+  }
+
+  private void readSections(final XMLStreamReader reader, final Set<Section> sections,
+      final Map<Section, XmlElement> pendingSections, final Set<Section> parsedSections)
+      throws XMLStreamException, GameParseException, EngineVersionException {
+    // skip the prolog, including the document type declaration
+    while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+      continue;
     }
-    // set & override default relationships
-    // sets the relationship between all players and the NullPlayer to NullRelation (with archeType War)
-    data.getRelationshipTracker().setNullPlayerRelations();
-    // sets the relationship for all players with themselfs to the SelfRelation (with archeType Allied)
-    data.getRelationshipTracker().setSelfRelations();
-    // set default tech attachments (comes after we parse all technologies, parse all attachments, and parse all game
-    // options/properties)
-    checkThatAllUnitsHaveAttachments(data);
-    TechAbilityAttachment.setDefaultTechnologyAttachments(data);
-    try {
-      validate();
-    } catch (final Exception e) {
-      log.log(Level.SEVERE, "Error parsing: " + mapName, e);
-      throw newGameParseException("validation failed", e);
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        break;
+      } else if (event == XMLStreamConstants.START_ELEMENT) {
+        final @Nullable Section section = Section.fromElementName(reader.getLocalName());
+        if (section == null || !sections.contains(section)) {
+          XmlElement.skip(reader);
+        } else if (pendingSections.containsKey(section) || parsedSections.contains(section)) {
+          throw newGameParseException("Too many children named: " + section.elementName);
+        } else {
+          pendingSections.put(section, XmlElement.read(reader));
+          parseReadySections(pendingSections, parsedSections);
+        }
+      }
     }
   }
 
-  private void parseDiceSides(final Node diceSides) {
-    if (diceSides == null) {
-      data.setDiceSides(6);
-    } else {
-      data.setDiceSides(Integer.parseInt(((Element) diceSides).getAttribute("value")));
+  private void parseReadySections(final Map<Section, XmlElement> pendingSections, final Set<Section> parsedSections)
+      throws GameParseException, EngineVersionException {
+    // prerequisites precede the sections that depend on them, so a single pass parses every section that is ready
+    for (final Section section : Section.values()) {
+      if (pendingSections.containsKey(section) && parsedSections.containsAll(section.prerequisites)) {
+        parseSection(section, pendingSections.remove(section));
+        parsedSections.add(section);
+      }
     }
   }
 
-  private void parseMinimumEngineVersionNumber(final Node minimumVersion) throws EngineVersionException {
-    if (minimumVersion == null) {
+  private void parseSection(final Section section, final @Nullable XmlElement element)
+      throws GameParseException, EngineVersionException {
+    if (element == null) {
+      if (section.required) {
+        throw newGameParseException("Expected one child node named: " + section.elementName + ", found: 0");
+      }
+      switch (section) {
+        case DICE_SIDES:
+          data.setDiceSides(6);
+          break;
+        case TECHNOLOGY:
+          TechAdvance.createDefaultTechAdvances(data);
+          break;
+        default:
+          break;
+      }
       return;
     }
-    final Version mapMinimumEngineVersion = new Version(((Element) minimumVersion).getAttribute("minimumVersion"));
+    switch (section) {
+      case INFO:
+        parseInfo(element);
+        break;
+      case TRIPLEA:
+        parseMinimumEngineVersionNumber(element);
+        break;
+      case DICE_SIDES:
+        parseDiceSides(element);
+        break;
+      case PLAYER_LIST:
+        parsePlayerList(element);
+        parseAlliances(element);
+        break;
+      case PROPERTY_LIST:
+        parseProperties(element);
+        break;
+      case VARIABLE_LIST:
+        variables = variableParser.parseVariables(element);
+        break;
+      case MAP:
+        parseMap(element);
+        break;
+      case RESOURCE_LIST:
+        parseResources(element);
+        break;
+      case UNIT_LIST:
+        parseUnits(element);
+        break;
+      case RELATIONSHIP_TYPES:
+        // Parse all different relationshipTypes that are defined in the xml, for example: War, Allied, Neutral, NAP
+        parseRelationshipTypes(element);
+        break;
+      case TERRITORY_EFFECT_LIST:
+        parseTerritoryEffects(element);
+        break;
+      case GAME_PLAY:
+        parseGamePlay(element);
+        break;
+      case PRODUCTION:
+        parseProduction(element);
+        break;
+      case TECHNOLOGY:
+        parseTechnology(element);
+        break;
+      case ATTACHMENT_LIST:
+        parseAttachments(element, variables);
+        break;
+      case INITIALIZE:
+        parseInitialization(element);
+        break;
+      default:
+        throw new AssertionError("unknown section: " + section);
+    }
+  }
+
+  private void parseDiceSides(final XmlElement diceSides) {
+    data.setDiceSides(Integer.parseInt(diceSides.getAttribute("value")));
+  }
+
+  private void parseMinimumEngineVersionNumber(final XmlElement minimumVersion) throws EngineVersionException {
+    final Version mapMinimumEngineVersion = new Version(minimumVersion.getAttribute("minimumVersion"));
     if (!GameEngineVersion.of(ClientContext.engineVersion())
         .isCompatibleWithMapMinimumEngineVersion(mapMinimumEngineVersion)) {
       throw new EngineVersionException(
@@ -290,7 +402,7 @@ public final class GameParser {
     }
   }
 
-  private <T> T getValidatedObject(final Element element, final String attribute,
+  private <T> T getValidatedObject(final XmlElement element, final String attribute,
       final boolean mustFind, final Function<String, T> function, final String errorName)
       throws GameParseException {
     final String name = element.getAttribute(attribute);
@@ -314,7 +426,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the player an exception will be thrown.
    */
-  private PlayerId getPlayerId(final Element element, final String attribute, final boolean mustFind)
+  private PlayerId getPlayerId(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getPlayerList()::getPlayerId, "player");
   }
@@ -329,7 +441,7 @@ public final class GameParser {
    * @return a RelationshipType from the relationshipTypeList, at this point all relationshipTypes should have been
    *         declared
    */
-  private RelationshipType getRelationshipType(final Element element, final String attribute)
+  private RelationshipType getRelationshipType(final XmlElement element, final String attribute)
       throws GameParseException {
     return getValidatedObject(element, attribute, true, data.getRelationshipTypeList()::getRelationshipType,
         "relation");
@@ -342,7 +454,7 @@ public final class GameParser {
   /**
    * If cannot find the productionRule an exception will be thrown.
    */
-  private ProductionRule getProductionRule(final Element element) throws GameParseException {
+  private ProductionRule getProductionRule(final XmlElement element) throws GameParseException {
     return getValidatedObject(element, "name", true, data.getProductionRuleList()::getProductionRule,
         "production rule");
   }
@@ -350,7 +462,7 @@ public final class GameParser {
   /**
    * If cannot find the repairRule an exception will be thrown.
    */
-  private RepairRule getRepairRule(final Element element) throws GameParseException {
+  private RepairRule getRepairRule(final XmlElement element) throws GameParseException {
     return getValidatedObject(element, "name", true, data.getRepairRules()::getRepairRule, "repair rule");
   }
 
@@ -361,7 +473,7 @@ public final class GameParser {
   /**
    * If cannot find the territory an exception will be thrown.
    */
-  private Territory getTerritory(final Element element, final String attribute)
+  private Territory getTerritory(final XmlElement element, final String attribute)
       throws GameParseException {
     return getValidatedObject(element, attribute, true, data.getMap()::getTerritory, "territory");
   }
@@ -373,7 +485,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the unitType an exception will be thrown.
    */
-  private UnitType getUnitType(final Element element, final String attribute, final boolean mustFind)
+  private UnitType getUnitType(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getUnitTypeList()::getUnitType, "unitType");
   }
@@ -394,7 +506,7 @@ public final class GameParser {
   /**
    * If cannot find the Delegate an exception will be thrown.
    */
-  private IDelegate getDelegate(final Element element) throws GameParseException {
+  private IDelegate getDelegate(final XmlElement element) throws GameParseException {
     return getValidatedObject(element, "delegate", true, data::getDelegate, "delegate");
   }
 
@@ -405,7 +517,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the Resource an exception will be thrown.
    */
-  private Resource getResource(final Element element, final String attribute, final boolean mustFind)
+  private Resource getResource(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getResourceList()::getResource, "resource");
   }
@@ -413,7 +525,7 @@ public final class GameParser {
   /**
    * If cannot find the productionRule an exception will be thrown.
    */
-  private ProductionFrontier getProductionFrontier(final Element element) throws GameParseException {
+  private ProductionFrontier getProductionFrontier(final XmlElement element) throws GameParseException {
     return getValidatedObject(element, "frontier", true, data.getProductionFrontierList()::getProductionFrontier,
         "production frontier");
   }
@@ -421,7 +533,7 @@ public final class GameParser {
   /**
    * If cannot find the repairFrontier an exception will be thrown.
    */
-  private RepairFrontier getRepairFrontier(final Element element)
+  private RepairFrontier getRepairFrontier(final XmlElement element)
       throws GameParseException {
     return getValidatedObject(element, "frontier", true, data.getRepairFrontierList()::getRepairFrontier,
         "repair frontier");
@@ -431,62 +543,55 @@ public final class GameParser {
    * Get the given child.
    * If there is not exactly one child throws a GameParseException
    */
-  private Element getSingleChild(final String name, final Element node) throws GameParseException {
+  private XmlElement getSingleChild(final String name, final XmlElement node) throws GameParseException {
     return nodeFinder.getSingleChild(name, node);
   }
 
   /**
    * If optional is true, will not throw an exception if there are 0 children.
    */
-  private Element getSingleChild(final String name, final Node node, final boolean optional) throws GameParseException {
+  private XmlElement getSingleChild(final String name, final XmlElement node, final boolean optional)
+      throws GameParseException {
     if (optional) {
       return nodeFinder.getOptionalSingleChild(name, node);
     }
     return nodeFinder.getSingleChild(name, node);
   }
 
-  private List<Element> getChildren(final String name, final Node node) {
+  private List<XmlElement> getChildren(final String name, final XmlElement node) {
     return nodeFinder.getChildren(name, node);
   }
 
-  private static List<Node> getNonTextNodesIgnoringValue(final Node node) {
-    final List<Node> nonTextNodes = getNonTextNodes(node);
-    nonTextNodes.removeIf(node1 -> ((Element) node1).getTagName().equals("value"));
-    return nonTextNodes;
-  }
-
-  private static List<Node> getNonTextNodes(final Node node) {
-    final NodeList children = node.getChildNodes();
-    return IntStream.range(0, children.getLength())
-        .mapToObj(children::item)
-        .filter(current -> !(current.getNodeType() == Node.TEXT_NODE))
+  private static List<XmlElement> getChildrenIgnoringValue(final XmlElement node) {
+    return node.getChildren().stream()
+        .filter(child -> !child.getName().equals("value"))
         .collect(Collectors.toList());
   }
 
-  private void parseInfo(final Node info) {
-    final String gameName = ((Element) info).getAttribute("name");
+  private void parseInfo(final XmlElement info) {
+    final String gameName = info.getAttribute("name");
     data.setGameName(gameName);
-    final String version = ((Element) info).getAttribute("version");
+    final String version = info.getAttribute("version");
     data.setGameVersion(new Version(version));
   }
 
-  private void parseMap(final Node map) throws GameParseException {
-    final List<Element> grids = getChildren("grid", map);
+  private void parseMap(final XmlElement map) throws GameParseException {
+    final List<XmlElement> grids = getChildren("grid", map);
     parseGrids(grids);
     // get the Territories
-    final List<Element> territories = getChildren("territory", map);
+    final List<XmlElement> territories = getChildren("territory", map);
     parseTerritories(territories);
-    final List<Element> connections = getChildren("connection", map);
+    final List<XmlElement> connections = getChildren("connection", map);
     parseConnections(connections);
   }
 
-  private void parseGrids(final List<Element> grids) throws GameParseException {
-    for (final Element current : grids) {
+  private void parseGrids(final List<XmlElement> grids) throws GameParseException {
+    for (final XmlElement current : grids) {
       final String gridType = current.getAttribute("type");
       final String name = current.getAttribute("name");
       final String xs = current.getAttribute("x");
       final String ys = current.getAttribute("y");
-      final List<Element> waterNodes = getChildren("water", current);
+      final List<XmlElement> waterNodes = getChildren("water", current);
       final Set<String> water = parseGridWater(waterNodes);
       final String horizontalConnections = current.getAttribute("horizontal-connections");
       final String verticalConnections = current.getAttribute("vertical-connections");
@@ -644,9 +749,9 @@ public final class GameParser {
     }
   }
 
-  private static Set<String> parseGridWater(final List<Element> waterNodes) {
+  private static Set<String> parseGridWater(final List<XmlElement> waterNodes) {
     final Set<String> set = new HashSet<>();
-    for (final Element current : waterNodes) {
+    for (final XmlElement current : waterNodes) {
       final int x = Integer.valueOf(current.getAttribute("x"));
       final int y = Integer.valueOf(current.getAttribute("y"));
       set.add(x + "-" + y);
@@ -654,9 +759,9 @@ public final class GameParser {
     return set;
   }
 
-  private void parseTerritories(final List<Element> territories) {
+  private void parseTerritories(final List<XmlElement> territories) {
     final GameMap map = data.getMap();
-    for (final Element current : territories) {
+    for (final XmlElement current : territories) {
       final boolean water = current.getAttribute("water").trim().equalsIgnoreCase("true");
       final String name = current.getAttribute("name");
       final Territory newTerritory = new Territory(name, water, data);
@@ -664,17 +769,17 @@ public final class GameParser {
     }
   }
 
-  private void parseConnections(final List<Element> connections) throws GameParseException {
+  private void parseConnections(final List<XmlElement> connections) throws GameParseException {
     final GameMap map = data.getMap();
-    for (final Element current : connections) {
+    for (final XmlElement current : connections) {
       final Territory t1 = getTerritory(current, "t1");
       final Territory t2 = getTerritory(current, "t2");
       map.addConnection(t1, t2);
     }
   }
 
-  private void parseResources(final Element root) throws GameParseException {
-    for (final Element element : getChildren("resource", root)) {
+  private void parseResources(final XmlElement root) throws GameParseException {
+    for (final XmlElement element : getChildren("resource", root)) {
       final String name = element.getAttribute("name");
       final String isDisplayedFor = element.getAttribute("isDisplayedFor");
       if (isDisplayedFor.isEmpty()) {
@@ -700,29 +805,29 @@ public final class GameParser {
     return players;
   }
 
-  private void parseRelationshipTypes(final Element root) {
+  private void parseRelationshipTypes(final XmlElement root) {
     getChildren("relationshipType", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new RelationshipType(name, data))
         .forEach(data.getRelationshipTypeList()::addRelationshipType);
   }
 
-  private void parseTerritoryEffects(final Element root) {
+  private void parseTerritoryEffects(final XmlElement root) {
     getChildren("territoryEffect", root).stream()
         .map(e -> e.getAttribute("name"))
         .forEach(name -> data.getTerritoryEffectList().put(name, new TerritoryEffect(name, data)));
   }
 
-  private void parseUnits(final Element root) {
+  private void parseUnits(final XmlElement root) {
     getChildren("unit", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new UnitType(name, data))
         .forEach(data.getUnitTypeList()::addUnitType);
   }
 
-  private void parsePlayerList(final Element root) {
+  private void parsePlayerList(final XmlElement root) {
     final PlayerList playerList = data.getPlayerList();
-    for (final Element current : getChildren("player", root)) {
+    for (final XmlElement current : getChildren("player", root)) {
       final String name = current.getAttribute("name");
       // It appears the commented line ALWAYS returns false regardless of the value of current.getAttribute("optional")
       // boolean isOptional = Boolean.getBoolean(current.getAttribute("optional"));
@@ -735,10 +840,10 @@ public final class GameParser {
     }
   }
 
-  private void parseAlliances(final Element root) throws GameParseException {
+  private void parseAlliances(final XmlElement root) throws GameParseException {
     final AllianceTracker allianceTracker = data.getAllianceTracker();
     final Collection<PlayerId> players = data.getPlayerList().getPlayers();
-    for (final Element current : getChildren("alliance", root)) {
+    for (final XmlElement current : getChildren("alliance", root)) {
       final PlayerId p1 = getPlayerId(current, "player", true);
       final String alliance = current.getAttribute("alliance");
       allianceTracker.addToAlliance(p1, alliance);
@@ -772,10 +877,10 @@ public final class GameParser {
     }
   }
 
-  private void parseRelationInitialize(final List<Element> relations) throws GameParseException {
+  private void parseRelationInitialize(final List<XmlElement> relations) throws GameParseException {
     if (relations.size() > 0) {
       final RelationshipTracker tracker = data.getRelationshipTracker();
-      for (final Element current : relations) {
+      for (final XmlElement current : relations) {
         final PlayerId p1 = getPlayerId(current, "player1", true);
         final PlayerId p2 = getPlayerId(current, "player2", true);
         final RelationshipType r = getRelationshipType(current, "type");
@@ -785,31 +890,31 @@ public final class GameParser {
     }
   }
 
-  private void parseGamePlay(final Element root) throws GameParseException {
+  private void parseGamePlay(final XmlElement root) throws GameParseException {
     parseDelegates(getChildren("delegate", root));
     parseSequence(getSingleChild("sequence", root));
     parseOffset(getSingleChild("offset", root, true));
   }
 
-  private void parseProperties(final Node root) throws GameParseException {
+  private void parseProperties(final XmlElement root) throws GameParseException {
     final GameProperties properties = data.getProperties();
-    for (final Element current : getChildren("property", root)) {
+    for (final XmlElement current : getChildren("property", root)) {
       final String editable = current.getAttribute("editable");
       final String property = current.getAttribute("name");
       String value = current.getAttribute("value");
       if (value == null || value.length() == 0) {
-        final List<Element> valueChildren = getChildren("value", current);
+        final List<XmlElement> valueChildren = getChildren("value", current);
         if (!valueChildren.isEmpty()) {
-          final Element valueNode = valueChildren.get(0);
+          final XmlElement valueNode = valueChildren.get(0);
           if (valueNode != null) {
-            value = valueNode.getTextContent();
+            value = valueNode.getText();
           }
         }
       }
       if (editable != null && editable.equalsIgnoreCase("true")) {
         parseEditableProperty(current, property, value);
       } else {
-        final List<Node> children2 = getNonTextNodesIgnoringValue(current);
+        final List<XmlElement> children2 = getChildrenIgnoringValue(current);
         if (children2.size() == 0) {
           // we don't know what type this property is!!, it appears like only numbers and string may be represented
           // without proper type definition
@@ -822,7 +927,7 @@ public final class GameParser {
             properties.set(property, value);
           }
         } else {
-          final String type = children2.get(0).getNodeName();
+          final String type = children2.get(0).getName();
           switch (type) {
             case "boolean":
               properties.set(property, Boolean.valueOf(value));
@@ -854,17 +959,17 @@ public final class GameParser {
         new NumberProperty(Constants.getPuIncomeBonus(playerId), null, 999, 0, 0)));
   }
 
-  private void parseEditableProperty(final Element property, final String name, final String defaultValue)
+  private void parseEditableProperty(final XmlElement property, final String name, final String defaultValue)
       throws GameParseException {
     // what type
-    final List<Node> children = getNonTextNodes(property);
+    final List<XmlElement> children = property.getChildren();
     if (children.size() != 1) {
       throw newGameParseException(
           "Editable properties must have exactly 1 child specifying the type. Number of children found:"
-              + children.size() + " for node:" + property.getNodeName());
+              + children.size() + " for node:" + property.getName());
     }
-    final Element child = (Element) children.get(0);
-    final String childName = child.getNodeName();
+    final XmlElement child = children.get(0);
+    final String childName = child.getName();
     final IEditableProperty<?> editableProperty;
     switch (childName) {
       case "boolean":
@@ -902,16 +1007,16 @@ public final class GameParser {
     data.getProperties().addEditableProperty(editableProperty);
   }
 
-  private void parseOffset(final Node offsetAttributes) {
+  private void parseOffset(final XmlElement offsetAttributes) {
     if (offsetAttributes == null) {
       return;
     }
-    final int roundOffset = Integer.parseInt(((Element) offsetAttributes).getAttribute("round"));
+    final int roundOffset = Integer.parseInt(offsetAttributes.getAttribute("round"));
     data.getSequence().setRoundOffset(roundOffset);
   }
 
-  private void parseDelegates(final List<Element> delegateList) throws GameParseException {
-    for (final Element current : delegateList) {
+  private void parseDelegates(final List<XmlElement> delegateList) throws GameParseException {
+    for (final XmlElement current : delegateList) {
       // load the class
       final String className = current.getAttribute("javaClass");
       final IDelegate delegate = xmlGameElementMapper.newDelegate(className)
@@ -926,17 +1031,17 @@ public final class GameParser {
     }
   }
 
-  private void parseSequence(final Node sequence) throws GameParseException {
+  private void parseSequence(final XmlElement sequence) throws GameParseException {
     parseSteps(getChildren("step", sequence));
   }
 
-  private void parseSteps(final List<Element> stepList) throws GameParseException {
-    for (final Element current : stepList) {
+  private void parseSteps(final List<XmlElement> stepList) throws GameParseException {
+    for (final XmlElement current : stepList) {
       final IDelegate delegate = getDelegate(current);
       final PlayerId player = getPlayerId(current, "player", false);
       final String name = current.getAttribute("name");
       String displayName = null;
-      final List<Element> propertyElements = getChildren("stepProperty", current);
+      final List<XmlElement> propertyElements = getChildren("stepProperty", current);
       final Properties stepProperties = parseStepProperties(propertyElements);
       if (current.hasAttribute("display")) {
         displayName = current.getAttribute("display");
@@ -953,9 +1058,9 @@ public final class GameParser {
     }
   }
 
-  private static Properties parseStepProperties(final List<Element> properties) {
+  private static Properties parseStepProperties(final List<XmlElement> properties) {
     final Properties stepProperties = new Properties();
-    for (final Element stepProperty : properties) {
+    for (final XmlElement stepProperty : properties) {
       final String name = stepProperty.getAttribute("name");
       final String value = stepProperty.getAttribute("value");
       stepProperties.setProperty(name, value);
@@ -963,7 +1068,7 @@ public final class GameParser {
     return stepProperties;
   }
 
-  private void parseProduction(final Node root) throws GameParseException {
+  private void parseProduction(final XmlElement root) throws GameParseException {
     parseProductionRules(getChildren("productionRule", root));
     parseProductionFrontiers(getChildren("productionFrontier", root));
     parsePlayerProduction(getChildren("playerProduction", root));
@@ -972,13 +1077,13 @@ public final class GameParser {
     parsePlayerRepair(getChildren("playerRepair", root));
   }
 
-  private void parseTechnology(final Node root) throws GameParseException {
+  private void parseTechnology(final XmlElement root) throws GameParseException {
     parseTechnologies(getSingleChild("technologies", root, true));
     parsePlayerTech(getChildren("playerTech", root));
   }
 
-  private void parseProductionRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseProductionRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionRule rule = new ProductionRule(name, data);
       parseCosts(rule, getChildren("cost", current));
@@ -987,8 +1092,8 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseRepairRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairRule rule = new RepairRule(name, data);
       parseRepairCosts(rule, getChildren("cost", current));
@@ -997,33 +1102,33 @@ public final class GameParser {
     }
   }
 
-  private void parseCosts(final ProductionRule rule, final List<Element> elements) throws GameParseException {
+  private void parseCosts(final ProductionRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseRepairCosts(final RepairRule rule, final List<Element> elements) throws GameParseException {
+  private void parseRepairCosts(final RepairRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseResults(final ProductionRule rule, final List<Element> elements) throws GameParseException {
+  private void parseResults(final ProductionRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1037,11 +1142,11 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairResults(final RepairRule rule, final List<Element> elements) throws GameParseException {
+  private void parseRepairResults(final RepairRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1055,9 +1160,9 @@ public final class GameParser {
     }
   }
 
-  private void parseProductionFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseProductionFrontiers(final List<XmlElement> elements) throws GameParseException {
     final ProductionFrontierList frontiers = data.getProductionFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionFrontier frontier = new ProductionFrontier(name, data);
       parseFrontierRules(getChildren("frontierRules", current), frontier);
@@ -1065,7 +1170,7 @@ public final class GameParser {
     }
   }
 
-  private void parseTechnologies(final Node element) {
+  private void parseTechnologies(final XmlElement element) {
     if (element == null) {
       return;
     }
@@ -1073,26 +1178,26 @@ public final class GameParser {
     parseTechs(getChildren("techname", element), allTechs);
   }
 
-  private void parsePlayerTech(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerTech(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerId player = getPlayerId(current, "player", true);
       final TechnologyFrontierList categories = player.getTechnologyFrontierList();
       parseCategories(getChildren("category", current), categories);
     }
   }
 
-  private void parseCategories(final List<Element> elements, final TechnologyFrontierList categories)
+  private void parseCategories(final List<XmlElement> elements, final TechnologyFrontierList categories)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final TechnologyFrontier tf = new TechnologyFrontier(current.getAttribute("name"), data);
       parseCategoryTechs(getChildren("tech", current), tf);
       categories.addTechnologyFrontier(tf);
     }
   }
 
-  private void parseRepairFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseRepairFrontiers(final List<XmlElement> elements) throws GameParseException {
     final RepairFrontierList frontiers = data.getRepairFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairFrontier frontier = new RepairFrontier(name, data);
       parseRepairFrontierRules(getChildren("repairRules", current), frontier);
@@ -1100,31 +1205,31 @@ public final class GameParser {
     }
   }
 
-  private void parsePlayerProduction(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerProduction(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerId player = getPlayerId(current, "player", true);
       final ProductionFrontier frontier = getProductionFrontier(current);
       player.setProductionFrontier(frontier);
     }
   }
 
-  private void parsePlayerRepair(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerRepair(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerId player = getPlayerId(current, "player", true);
       final RepairFrontier repairFrontier = getRepairFrontier(current);
       player.setRepairFrontier(repairFrontier);
     }
   }
 
-  private void parseFrontierRules(final List<Element> elements, final ProductionFrontier frontier)
+  private void parseFrontierRules(final List<XmlElement> elements, final ProductionFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getProductionRule(element));
     }
   }
 
-  private void parseTechs(final List<Element> elements, final TechnologyFrontier allTechsFrontier) {
-    for (final Element current : elements) {
+  private void parseTechs(final List<XmlElement> elements, final TechnologyFrontier allTechsFrontier) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final String tech = current.getAttribute("tech");
       TechAdvance ta;
@@ -1141,9 +1246,9 @@ public final class GameParser {
     }
   }
 
-  private void parseCategoryTechs(final List<Element> elements, final TechnologyFrontier frontier)
+  private void parseCategoryTechs(final List<XmlElement> elements, final TechnologyFrontier frontier)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       TechAdvance ta = data.getTechnologyFrontier().getAdvanceByProperty(current.getAttribute("name"));
       if (ta == null) {
         ta = data.getTechnologyFrontier().getAdvanceByName(current.getAttribute("name"));
@@ -1155,16 +1260,16 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairFrontierRules(final List<Element> elements, final RepairFrontier frontier)
+  private void parseRepairFrontierRules(final List<XmlElement> elements, final RepairFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getRepairRule(element));
     }
   }
 
-  private void parseAttachments(final Element root, final Map<String, List<String>> variables)
+  private void parseAttachments(final XmlElement root, final Map<String, List<String>> variables)
       throws GameParseException {
-    for (final Element current : getChildren("attachment", root)) {
+    for (final XmlElement current : getChildren("attachment", root)) {
       final String foreach = current.getAttribute("foreach");
       if (foreach.isEmpty()) {
         parseAttachment(current, variables, Collections.emptyMap());
@@ -1224,7 +1329,7 @@ public final class GameParser {
     return foreachMap;
   }
 
-  private void parseAttachment(final Element current, final Map<String, List<String>> variables,
+  private void parseAttachment(final XmlElement current, final Map<String, List<String>> variables,
       final Map<String, String> foreach) throws GameParseException {
     final String className = current.getAttribute("javaClass");
     final Attachable attachable = findAttachment(current, current.getAttribute("type"), foreach);
@@ -1232,13 +1337,13 @@ public final class GameParser {
     final IAttachment attachment = xmlGameElementMapper.newAttachment(className, name, attachable, data)
         .orElseThrow(() -> newGameParseException("Attachment of type " + className + " could not be instantiated"));
     attachable.addAttachment(name, attachment);
-    final List<Element> options = getChildren("option", current);
+    final List<XmlElement> options = getChildren("option", current);
     final List<Tuple<String, String>> attachmentOptionValues = setOptions(attachment, options, foreach, variables);
     // keep a list of attachment references in the order they were added
     data.addToAttachmentOrderAndValues(Tuple.of(attachment, attachmentOptionValues));
   }
 
-  private Attachable findAttachment(final Element element, final String type, final Map<String, String> foreach)
+  private Attachable findAttachment(final XmlElement element, final String type, final Map<String, String> foreach)
       throws GameParseException {
     final String attachTo = replaceForeachVariables(element.getAttribute("attachTo"), foreach);
     switch (type) {
@@ -1261,10 +1366,10 @@ public final class GameParser {
     }
   }
 
-  private List<Tuple<String, String>> setOptions(final IAttachment attachment, final List<Element> options,
+  private List<Tuple<String, String>> setOptions(final IAttachment attachment, final List<XmlElement> options,
       final Map<String, String> foreach, final Map<String, List<String>> variables) throws GameParseException {
     final List<Tuple<String, String>> results = new ArrayList<>();
-    for (final Element option : options) {
+    for (final XmlElement option : options) {
       // decapitalize the property name for backwards compatibility
       final String name = decapitalize(option.getAttribute("name"));
       if (name.isEmpty()) {
@@ -1326,32 +1431,32 @@ public final class GameParser {
         + ((value.length() > 1) ? value.substring(1) : "");
   }
 
-  private void parseInitialization(final Node root) throws GameParseException {
+  private void parseInitialization(final XmlElement root) throws GameParseException {
     // parse territory owners
-    final Node owner = getSingleChild("ownerInitialize", root, true);
+    final XmlElement owner = getSingleChild("ownerInitialize", root, true);
     if (owner != null) {
       parseOwner(getChildren("territoryOwner", owner));
     }
     // parse initial unit placement
-    final Node unit = getSingleChild("unitInitialize", root, true);
+    final XmlElement unit = getSingleChild("unitInitialize", root, true);
     if (unit != null) {
       parseUnitPlacement(getChildren("unitPlacement", unit));
       parseHeldUnits(getChildren("heldUnits", unit));
     }
     // parse resources given
-    final Node resource = getSingleChild("resourceInitialize", root, true);
+    final XmlElement resource = getSingleChild("resourceInitialize", root, true);
     if (resource != null) {
       parseResourceInitialization(getChildren("resourceGiven", resource));
     }
     // parse relationships
-    final Node relationInitialize = getSingleChild("relationshipInitialize", root, true);
+    final XmlElement relationInitialize = getSingleChild("relationshipInitialize", root, true);
     if (relationInitialize != null) {
       parseRelationInitialize(getChildren("relationship", relationInitialize));
     }
   }
 
-  private void parseOwner(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseOwner(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory");
       final PlayerId owner = getPlayerId(current, "owner", true);
       territory.setOwner(owner);
@@ -1377,8 +1482,8 @@ public final class GameParser {
     }
   }
 
-  private void parseUnitPlacement(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseUnitPlacement(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory");
       final UnitType type = getUnitType(current, "unitType", true);
       final String ownerString = current.getAttribute("owner");
@@ -1414,8 +1519,8 @@ public final class GameParser {
     }
   }
 
-  private void parseHeldUnits(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseHeldUnits(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerId player = getPlayerId(current, "player", true);
       final UnitType type = getUnitType(current, "unitType", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -1423,8 +1528,8 @@ public final class GameParser {
     }
   }
 
-  private void parseResourceInitialization(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseResourceInitialization(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerId player = getPlayerId(current, "player", true);
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -48,6 +48,15 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     }
   }
 
+  /**
+   * Moves to the specified round and step, e.g. to bring a copy of the game data up to date with the game data it was
+   * copied from.
+   */
+  public synchronized void setRoundAndStepIndex(final int currentRound, final int stepIndex) {
+    setStepIndex(stepIndex);
+    round = currentRound - roundOffset;
+  }
+
   public void addStep(final GameStep step) {
     steps.add(step);
   }
@@ -49,6 +49,8 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
   private RepairFrontier repairFrontier;
   private final TechnologyFrontierList technologyFrontiers;
   private String whoAmI = "null:no_one";
+  // one more than the index of this player in the player list of its game, zero if it is not in the list
+  private transient int ordinal;
 
   public PlayerId(final String name, final GameData data) {
     this(name, false, false, null, false, data);
@@ -66,6 +68,18 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
     technologyFrontiers = new TechnologyFrontierList(data);
   }
 
+  /**
+   * Returns the index of this player in the player list of its game, or -1 if it is not in the list. Assigned by the
+   * player list, so that per-player data can be held in arrays.
+   */
+  int getOrdinal() {
+    return ordinal - 1;
+  }
+
+  void setOrdinal(final int ordinal) {
+    this.ordinal = ordinal + 1;
+  }
+
   public boolean getOptional() {
     return optional;
   }
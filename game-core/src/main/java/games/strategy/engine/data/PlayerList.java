@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,6 +32,20 @@ public class PlayerList extends GameDataComponent implements Iterable<PlayerId>
   @VisibleForTesting
   public void addPlayerId(final PlayerId player) {
     players.put(player.getName(), player);
+    assignOrdinals();
+  }
+
+  private void assignOrdinals() {
+    int ordinal = 0;
+    for (final PlayerId player : players.values()) {
+      player.setOrdinal(ordinal++);
+    }
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // ordinals are not serialized
+    assignOrdinals();
   }
 
   public int size() {
@@ -0,0 +1,91 @@
+package games.strategy.engine.data;
+
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nullable;
+
+/**
+ * The types whose class descriptors are replaced by a number in a compact object stream (see
+ * {@link CompactGameObjectOutputStream}).
+ *
+ * <p>
+ * Two peers can only exchange compact streams if they register the same types, in the same order, with the same
+ * serialized form. The {@link #getFingerprint() fingerprint} of the registered types covers all of these, so peers
+ * running different versions of a type find out when they connect and fall back to Java serialization.
+ * </p>
+ */
+public final class RegisteredTypes {
+  private final List<Class<?>> types;
+  private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+  private final Map<String, Class<?>> typesByName = new HashMap<>();
+  private final String fingerprint;
+
+  /**
+   * Registers the specified serializable types. The ID of a type is its index in the list.
+   *
+   * @throws IllegalArgumentException If a type is not serializable or is registered twice.
+   */
+  public RegisteredTypes(final List<Class<?>> types) {
+    this.types = Collections.unmodifiableList(new ArrayList<>(types));
+    final CRC32 checksum = new CRC32();
+    for (int i = 0; i < types.size(); i++) {
+      final Class<?> type = types.get(i);
+      final @Nullable ObjectStreamClass descriptor = ObjectStreamClass.lookup(type);
+      if (descriptor == null) {
+        throw new IllegalArgumentException("Not serializable: " + type);
+      }
+      if (idsByType.put(type, i) != null) {
+        throw new IllegalArgumentException("Registered twice: " + type);
+      }
+      typesByName.put(type.getName(), type);
+      final StringBuilder signature = new StringBuilder();
+      signature.append(descriptor.getName()).append(':').append(descriptor.getSerialVersionUID());
+      for (final ObjectStreamField field : descriptor.getFields()) {
+        signature.append(',').append(field.getName()).append(' ').append(field.getTypeString() != null
+            ? field.getTypeString()
+            : String.valueOf(field.getTypeCode()));
+      }
+      checksum.update(signature.append(';').toString().getBytes(StandardCharsets.UTF_8));
+    }
+    fingerprint = types.size() + "-" + Long.toHexString(checksum.getValue());
+  }
+
+  /**
+   * Returns the ID of the specified type, or -1 if the type is not registered.
+   */
+  int getId(final Class<?> type) {
+    final @Nullable Integer id = idsByType.get(type);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Returns the type with the specified ID, or {@code null} if there is no such type.
+   */
+  @Nullable
+  Class<?> getType(final int id) {
+    return id >= 0 && id < types.size() ? types.get(id) : null;
+  }
+
+  /**
+   * Returns the registered type with the specified name, or {@code null} if there is no such type.
+   */
+  @Nullable
+  Class<?> getType(final String name) {
+    return typesByName.get(name);
+  }
+
+  /**
+   * Returns a string identifying the registered types and their serialized form.
+   */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+}
@@ -28,13 +28,12 @@ public class RelationshipInterpreter extends GameDataComponent {
   }
 
   public boolean isAlliedWithAnyOfThesePlayers(final PlayerId p1, final Collection<PlayerId> p2s) {
-    return p2s.stream()
-        .anyMatch(p2 -> Matches.relationshipTypeIsAllied().test(getRelationshipType(p1, p2)));
+    return p2s.stream().anyMatch(p2 -> isAllied(p1, p2));
   }
 
   public Set<PlayerId> getAllies(final PlayerId p1, final boolean includeSelf) {
     final Set<PlayerId> allies = getData().getPlayerList().getPlayers().stream()
-        .filter(player -> Matches.relationshipTypeIsAllied().test(getRelationshipType(p1, player)))
+        .filter(player -> isAllied(p1, player))
         .collect(Collectors.toSet());
     if (includeSelf) {
       allies.add(p1);
@@ -52,13 +51,12 @@ public class RelationshipInterpreter extends GameDataComponent {
   }
 
   public boolean isAtWarWithAnyOfThesePlayers(final PlayerId p1, final Collection<PlayerId> p2s) {
-    return p2s.stream()
-        .anyMatch(p2 -> Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, p2)));
+    return p2s.stream().anyMatch(p2 -> isAtWar(p1, p2));
   }
 
   public Set<PlayerId> getEnemies(final PlayerId p1) {
     final Set<PlayerId> enemies = getData().getPlayerList().getPlayers().stream()
-        .filter(player -> Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, player)))
+        .filter(player -> isAtWar(p1, player))
         .collect(Collectors.toSet());
     enemies.remove(p1);
     return enemies;
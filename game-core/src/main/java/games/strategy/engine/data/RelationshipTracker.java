@@ -3,19 +3,33 @@ package games.strategy.engine.data;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import games.strategy.triplea.attachments.RelationshipTypeAttachment;
 
 /**
  * A collection of relationships between any two players.
+ *
+ * <p>
+ * Relationships are looked up far more often than they change, so they are also held in a {@link RelationshipMatrix}
+ * indexed by the ordinal of the players. The matrix is not serialized, and is rebuilt from the map of relationships
+ * after any change. Each change bumps the version of the tracker, and a matrix is only kept if the version did not
+ * change while it was built, so that a matrix built by a thread reading the tracker while it is being changed is never
+ * kept.
+ * </p>
  */
 public class RelationshipTracker extends RelationshipInterpreter {
   private static final long serialVersionUID = -4740671761925519069L;
 
   // map of "playername:playername" to RelationshipType that exists between those 2 players
   private final Map<RelatedPlayers, Relationship> relationships = new HashMap<>();
+  // null until first used after a change
+  private transient volatile RelationshipMatrix matrix;
+  // incremented, while holding the lock of this tracker, whenever the relationships or their archetypes change
+  private transient volatile int version;
 
   public RelationshipTracker(final GameData data) {
     super(data);
@@ -28,15 +42,31 @@ public class RelationshipTracker extends RelationshipInterpreter {
    * @param p2 Player2 that will get the relationship
    * @param relationshipType the RelationshipType between those two players that will be set.
    */
-  public void setRelationship(final PlayerId p1, final PlayerId p2, final RelationshipType relationshipType) {
+  public synchronized void setRelationship(final PlayerId p1, final PlayerId p2,
+      final RelationshipType relationshipType) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(relationshipType));
+    changed();
   }
 
   /**
    * Method for setting a relationship between two players, this should only be called during the Game Parser.
    */
-  protected void setRelationship(final PlayerId p1, final PlayerId p2, final RelationshipType r, final int roundValue) {
+  protected synchronized void setRelationship(final PlayerId p1, final PlayerId p2, final RelationshipType r,
+      final int roundValue) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    changed();
+  }
+
+  /**
+   * Must be called after the archetype of a relationship type has changed.
+   */
+  public synchronized void archeTypeChanged() {
+    changed();
+  }
+
+  private void changed() {
+    version++;
+    matrix = null;
   }
 
   @Override
@@ -45,7 +75,34 @@ public class RelationshipTracker extends RelationshipInterpreter {
   }
 
   public Relationship getRelationship(final PlayerId p1, final PlayerId p2) {
-    return relationships.get(new RelatedPlayers(p1, p2));
+    final Relationship relationship = getMatrix().getRelationship(p1, p2);
+    return (relationship != null) ? relationship : relationships.get(new RelatedPlayers(p1, p2));
+  }
+
+  @Override
+  public boolean isAllied(final PlayerId p1, final PlayerId p2) {
+    final byte archeType = getMatrix().getArcheType(p1, p2);
+    return (archeType == RelationshipMatrix.UNKNOWN) ? super.isAllied(p1, p2) : archeType == RelationshipMatrix.ALLIED;
+  }
+
+  @Override
+  public boolean isAtWar(final PlayerId p1, final PlayerId p2) {
+    final byte archeType = getMatrix().getArcheType(p1, p2);
+    return (archeType == RelationshipMatrix.UNKNOWN) ? super.isAtWar(p1, p2) : archeType == RelationshipMatrix.WAR;
+  }
+
+  private RelationshipMatrix getMatrix() {
+    RelationshipMatrix matrix = this.matrix;
+    if (matrix == null || !matrix.isUpToDate(getData().getPlayerList())) {
+      final int version = this.version;
+      matrix = new RelationshipMatrix(getData().getPlayerList().getPlayers(), relationships);
+      synchronized (this) {
+        if (version == this.version) {
+          this.matrix = matrix;
+        }
+      }
+    }
+    return matrix;
   }
 
   public Set<Relationship> getRelationships(final PlayerId player1) {
@@ -60,7 +117,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
   }
 
   public int getRoundRelationshipWasCreated(final PlayerId p1, final PlayerId p2) {
-    return relationships.get(new RelatedPlayers(p1, p2)).getRoundCreated();
+    return getRelationship(p1, p2).getRoundCreated();
   }
 
   /**
@@ -94,6 +151,102 @@ public class RelationshipTracker extends RelationshipInterpreter {
     return getData().getRelationshipTypeList().getNullRelation();
   }
 
+  /**
+   * The relationships between the players of the game, and the archetypes of their types, in arrays indexed by the
+   * ordinal of both players, so that looking them up neither allocates nor hashes. The null player comes after all
+   * other players. Players that are not in the player list of the game are not in the matrix.
+   */
+  private static final class RelationshipMatrix {
+    static final byte UNKNOWN = 0;
+    static final byte WAR = 1;
+    static final byte ALLIED = 2;
+    static final byte NEUTRAL = 3;
+
+    private final PlayerId[] players;
+    private final int size;
+    private final Relationship[] relationships;
+    private final byte[] archeTypes;
+
+    RelationshipMatrix(final List<PlayerId> players, final Map<RelatedPlayers, Relationship> relationshipsByPlayers) {
+      this.players = players.toArray(new PlayerId[0]);
+      size = this.players.length + 1;
+      relationships = new Relationship[size * size];
+      archeTypes = new byte[size * size];
+      final Map<RelationshipType, Byte> archeTypesByType = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          final Relationship relationship =
+              relationshipsByPlayers.get(new RelatedPlayers(getPlayer(i), getPlayer(j)));
+          if (relationship != null) {
+            relationships[i * size + j] = relationship;
+            archeTypes[i * size + j] = archeTypesByType.computeIfAbsent(
+                relationship.getRelationshipType(), RelationshipMatrix::getArcheType);
+          }
+        }
+      }
+    }
+
+    private PlayerId getPlayer(final int index) {
+      return (index < players.length) ? players[index] : PlayerId.NULL_PLAYERID;
+    }
+
+    private static byte getArcheType(final RelationshipType relationshipType) {
+      final RelationshipTypeAttachment attachment;
+      try {
+        attachment = relationshipType.getRelationshipTypeAttachment();
+      } catch (final RuntimeException e) {
+        // left to the lookup of the attachment, which reports the error
+        return UNKNOWN;
+      }
+      if (attachment == null) {
+        return UNKNOWN;
+      } else if (attachment.isWar()) {
+        return WAR;
+      } else if (attachment.isAllied()) {
+        return ALLIED;
+      } else if (attachment.isNeutral()) {
+        return NEUTRAL;
+      }
+      return UNKNOWN;
+    }
+
+    boolean isUpToDate(final PlayerList playerList) {
+      return players.length == playerList.size();
+    }
+
+    /**
+     * Returns the index of the cell of the specified players, or -1 if either player is not in the matrix.
+     */
+    private int indexOf(final PlayerId p1, final PlayerId p2) {
+      final int i = indexOf(p1);
+      final int j = indexOf(p2);
+      return (i < 0 || j < 0) ? -1 : i * size + j;
+    }
+
+    private int indexOf(final PlayerId player) {
+      if (player == null) {
+        return -1;
+      } else if (player.isNull()) {
+        return size - 1;
+      }
+      final int ordinal = player.getOrdinal();
+      return (ordinal >= 0 && ordinal < players.length && players[ordinal] == player) ? ordinal : -1;
+    }
+
+    /**
+     * Returns the relationship between the specified players, or null if it is not in the matrix.
+     */
+    Relationship getRelationship(final PlayerId p1, final PlayerId p2) {
+      final int index = indexOf(p1, p2);
+      return (index < 0) ? null : relationships[index];
+    }
+
+    byte getArcheType(final PlayerId p1, final PlayerId p2) {
+      final int index = indexOf(p1, p2);
+      return (index < 0) ? UNKNOWN : archeTypes[index];
+    }
+  }
+
   /**
    * Two players that are related; used in relationships.
    *
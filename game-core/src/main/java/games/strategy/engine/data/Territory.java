@@ -21,6 +21,8 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Compa
 
   @Getter(onMethod_ = {@Override})
   private final UnitCollection unitCollection;
+  // one more than the index of this territory in the map of its game, zero if it is not on the map
+  private transient int ordinal;
 
   public Territory(final String name, final GameData data) {
     this(name, false, data);
@@ -32,6 +34,18 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Compa
     unitCollection = new UnitCollection(this, getData());
   }
 
+  /**
+   * Returns the index of this territory in the map of its game, or -1 if it is not on the map. Assigned by the map, so
+   * that per-territory data can be held in arrays.
+   */
+  int getOrdinal() {
+    return ordinal - 1;
+  }
+
+  void setOrdinal(final int ordinal) {
+    this.ordinal = ordinal + 1;
+  }
+
   public void setOwner(final @Nullable PlayerId owner) {
     this.owner = Optional.ofNullable(owner).orElse(PlayerId.NULL_PLAYERID);
     getData().notifyTerritoryOwnerChanged(this);
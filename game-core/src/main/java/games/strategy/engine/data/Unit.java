@@ -2,6 +2,9 @@ package games.strategy.engine.data;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,6 +29,8 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
   private final GUID id;
   private int hits = 0;
   private final UnitType type;
+  // the unit collections that count this unit by owner, and must be told when its owner changes
+  private transient @Nullable List<UnitCollection> indexingCollections;
 
   /**
    * Creates new Unit. Owner can be null.
@@ -71,7 +76,42 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
   }
 
   public void setOwner(final @Nullable PlayerId player) {
-    owner = Optional.ofNullable(player).orElse(PlayerId.NULL_PLAYERID);
+    final PlayerId newOwner = Optional.ofNullable(player).orElse(PlayerId.NULL_PLAYERID);
+    final List<UnitCollection> collectionsToNotify;
+    synchronized (this) {
+      final boolean ownerChanged = owner != null && !owner.equals(newOwner);
+      owner = newOwner;
+      if (!ownerChanged || indexingCollections == null) {
+        return;
+      }
+      collectionsToNotify = new ArrayList<>(indexingCollections);
+    }
+    collectionsToNotify.forEach(UnitCollection::unitOwnerChanged);
+  }
+
+  /**
+   * Registers a collection to be notified when the owner of this unit changes. A collection is registered once for
+   * every time it holds this unit.
+   */
+  synchronized void addIndexingCollection(final UnitCollection collection) {
+    if (indexingCollections == null) {
+      indexingCollections = new ArrayList<>(1);
+    }
+    indexingCollections.add(collection);
+  }
+
+  /**
+   * Removes one registration of the specified collection made by {@link #addIndexingCollection(UnitCollection)}.
+   */
+  synchronized void removeIndexingCollection(final UnitCollection collection) {
+    if (indexingCollections != null) {
+      for (final Iterator<UnitCollection> iterator = indexingCollections.iterator(); iterator.hasNext();) {
+        if (iterator.next() == collection) {
+          iterator.remove();
+          return;
+        }
+      }
+    }
   }
 
   @Override
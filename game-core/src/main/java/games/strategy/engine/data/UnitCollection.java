@@ -4,74 +4,193 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
 /**
  * A collection of units.
+ *
+ * <p>
+ * Units are kept in insertion order. The collection also indexes them by identity, by type and by owner, so that
+ * membership checks and unit counts do not scan the whole collection. The index is built on first use (not during
+ * deserialization, when the units may not be fully read yet), kept up to date as units are added and removed, and built
+ * again after the owner of one of the units has changed; units notify the collections that index them when their
+ * owner changes. The index is only built, updated and read while holding the lock of the collection, so callers that
+ * read the collection without holding the game data lock never see a partially updated index.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
 
   private final List<Unit> units = new ArrayList<>();
   private final NamedUnitHolder holder;
+  @GuardedBy("this")
+  private transient @Nullable Index index;
+  // whether the units have been registered to notify this collection when their owners change
+  @GuardedBy("this")
+  private transient boolean unitsRegistered;
 
   public UnitCollection(final NamedUnitHolder holder, final GameData data) {
     super(data);
     this.holder = holder;
   }
 
+  /**
+   * The units of a collection by identity, and their counts by type and by owner.
+   */
+  private static final class Index {
+    private final Multiset<Unit> units = HashMultiset.create();
+    private final IntegerMap<UnitType> unitCountsByType = new IntegerMap<>();
+    private final IntegerMap<PlayerId> unitCountsByOwner = new IntegerMap<>();
+    private final Map<PlayerId, IntegerMap<UnitType>> unitCountsByOwnerAndType = new HashMap<>();
+
+    Index(final Collection<Unit> units) {
+      units.forEach(this::add);
+    }
+
+    void add(final Unit unit) {
+      units.add(unit);
+      unitCountsByType.add(unit.getType(), 1);
+      unitCountsByOwner.add(unit.getOwner(), 1);
+      unitCountsByOwnerAndType.computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>()).add(unit.getType(), 1);
+    }
+
+    void remove(final Unit unit) {
+      units.remove(unit);
+      // counts of zero are kept, as removing keys from an IntegerMap is not constant time
+      unitCountsByType.add(unit.getType(), -1);
+      unitCountsByOwner.add(unit.getOwner(), -1);
+      unitCountsByOwnerAndType.get(unit.getOwner()).add(unit.getType(), -1);
+    }
+
+    boolean contains(final Object unit) {
+      return units.contains(unit);
+    }
+
+    int getUnitCount(final UnitType type, final PlayerId owner) {
+      final @Nullable IntegerMap<UnitType> unitCountsByType = unitCountsByOwnerAndType.get(owner);
+      return unitCountsByType == null ? 0 : unitCountsByType.getInt(type);
+    }
+  }
+
+  /**
+   * Returns the index of this collection, building it if needed.
+   */
+  @GuardedBy("this")
+  private Index index() {
+    if (index == null) {
+      if (!unitsRegistered) {
+        // register before the index reads the owners, so no owner change can be missed
+        units.forEach(unit -> unit.addIndexingCollection(this));
+        unitsRegistered = true;
+      }
+      index = new Index(units);
+    }
+    return index;
+  }
+
+  /**
+   * Updates the index of this collection, if it has been built, after units have been added or removed.
+   */
+  @GuardedBy("this")
+  private void updateIndex(final Collection<? extends Unit> units, final BiConsumer<Index, Unit> update,
+      final BiConsumer<Unit, UnitCollection> registration) {
+    if (unitsRegistered) {
+      units.forEach(unit -> registration.accept(unit, this));
+    }
+    if (index != null) {
+      units.forEach(unit -> update.accept(index, unit));
+    }
+  }
+
+  /**
+   * Called by a unit held by this collection after its owner has changed. The index is built again on next use.
+   */
+  synchronized void unitOwnerChanged() {
+    index = null;
+  }
+
   @Override
   public boolean add(final Unit unit) {
-    units.add(unit);
+    synchronized (this) {
+      units.add(unit);
+      updateIndex(Collections.singleton(unit), Index::add, Unit::addIndexingCollection);
+    }
     holder.notifyChanged();
     return true;
   }
 
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
-    final boolean result = this.units.addAll(units);
+    final boolean result;
+    synchronized (this) {
+      result = this.units.addAll(units);
+      updateIndex(units, Index::add, Unit::addIndexingCollection);
+    }
     holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = this.units.removeAll(units);
+    final boolean result;
+    synchronized (this) {
+      final Index index = index();
+      final Set<Unit> removed = new HashSet<>();
+      for (final Object unit : units) {
+        if (index.contains(unit)) {
+          removed.add((Unit) unit);
+        }
+      }
+      result = removeMatches(removed::contains);
+    }
     holder.notifyChanged();
     return result;
   }
 
+  @GuardedBy("this")
+  private boolean removeMatches(final Predicate<Unit> filter) {
+    final List<Unit> removedUnits = new ArrayList<>();
+    final boolean result = this.units.removeIf(unit -> filter.test(unit) && removedUnits.add(unit));
+    updateIndex(removedUnits, Index::remove, Unit::removeIndexingCollection);
+    return result;
+  }
+
   public int getUnitCount() {
     return units.size();
   }
 
-  int getUnitCount(final UnitType type) {
-    return (int) units.stream().filter(u -> u.getType().equals(type)).count();
+  synchronized int getUnitCount(final UnitType type) {
+    return index().unitCountsByType.getInt(type);
   }
 
-  public int getUnitCount(final UnitType type, final PlayerId owner) {
-    return (int) units.stream().filter(u -> u.getType().equals(type) && u.getOwner().equals(owner)).count();
+  public synchronized int getUnitCount(final UnitType type, final PlayerId owner) {
+    return index().getUnitCount(type, owner);
   }
 
-  int getUnitCount(final PlayerId owner) {
-    return (int) units.stream().filter(u -> u.getOwner().equals(owner)).count();
+  synchronized int getUnitCount(final PlayerId owner) {
+    return index().unitCountsByOwner.getInt(owner);
   }
 
   @Override
-  public boolean containsAll(final Collection<?> units) {
-    // much faster for large sets
-    if (this.units.size() > 500 && units.size() > 500) {
-      return new HashSet<>(this.units).containsAll(units);
-    }
-    return this.units.containsAll(units);
+  public synchronized boolean containsAll(final Collection<?> units) {
+    final Index index = index();
+    return units.stream().allMatch(index::contains);
   }
 
   /**
@@ -106,9 +225,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public Collection<Unit> getUnits(final IntegerMap<UnitType> types) {
     final Collection<Unit> units = new ArrayList<>();
-    for (final UnitType type : types.keySet()) {
-      units.addAll(getUnits(type, types.getInt(type)));
-    }
+    types.forEach((type, count) -> units.addAll(getUnits(type, count)));
     return units;
   }
 
@@ -119,10 +236,11 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /**
    * Returns integer map of UnitType.
    */
-  public IntegerMap<UnitType> getUnitsByType() {
+  public synchronized IntegerMap<UnitType> getUnitsByType() {
     final IntegerMap<UnitType> units = new IntegerMap<>();
+    final IntegerMap<UnitType> unitCountsByType = index().unitCountsByType;
     getData().getUnitTypeList().forEach(type -> {
-      final int count = getUnitCount(type);
+      final int count = unitCountsByType.getInt(type);
       if (count > 0) {
         units.put(type, count);
       }
@@ -135,9 +253,16 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    *
    * @param id referring player ID
    */
-  public IntegerMap<UnitType> getUnitsByType(final PlayerId id) {
+  public synchronized IntegerMap<UnitType> getUnitsByType(final PlayerId id) {
     final IntegerMap<UnitType> count = new IntegerMap<>();
-    units.stream().filter(unit -> unit.getOwner().equals(id)).forEach(unit -> count.add(unit.getType(), 1));
+    final @Nullable IntegerMap<UnitType> unitCountsByType = index().unitCountsByOwnerAndType.get(id);
+    if (unitCountsByType != null) {
+      unitCountsByType.forEach((type, unitCount) -> {
+        if (unitCount > 0) {
+          count.put(type, unitCount);
+        }
+      });
+    }
     return count;
   }
 
@@ -156,15 +281,19 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public Set<PlayerId> getPlayersWithUnits() {
     // note nulls are handled by PlayerId.NULL_PLAYERID
-    return units.stream().map(Unit::getOwner).collect(Collectors.toSet());
+    return new HashSet<>(getPlayerUnitCounts().keySet());
   }
 
   /**
    * Returns the count of units each player has in this collection.
    */
-  public IntegerMap<PlayerId> getPlayerUnitCounts() {
+  public synchronized IntegerMap<PlayerId> getPlayerUnitCounts() {
     final IntegerMap<PlayerId> count = new IntegerMap<>();
-    units.forEach(unit -> count.add(unit.getOwner(), 1));
+    index().unitCountsByOwner.forEach((owner, unitCount) -> {
+      if (unitCount > 0) {
+        count.put(owner, unitCount);
+      }
+    });
     return count;
   }
 
@@ -217,8 +346,8 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   }
 
   @Override
-  public boolean contains(final Object object) {
-    return units.contains(object);
+  public synchronized boolean contains(final Object object) {
+    return index().contains(object);
   }
 
   @Override
@@ -233,19 +362,27 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean remove(final Object object) {
-    final boolean result = units.remove(object);
+    final boolean result;
+    synchronized (this) {
+      result = index().contains(object) && units.remove(object);
+      if (result) {
+        updateIndex(Collections.singleton((Unit) object), Index::remove, Unit::removeIndexingCollection);
+      }
+    }
     holder.notifyChanged();
     return result;
   }
 
   @Override
-  public boolean retainAll(final Collection<?> collection) {
-    return units.retainAll(collection);
+  public synchronized boolean retainAll(final Collection<?> collection) {
+    return removeMatches(unit -> !collection.contains(unit));
   }
 
   @Override
   public void clear() {
-    units.clear();
+    synchronized (this) {
+      removeMatches(unit -> true);
+    }
     holder.notifyChanged();
   }
 }
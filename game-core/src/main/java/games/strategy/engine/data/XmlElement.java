@@ -0,0 +1,142 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A compact, read-only element of a game XML file.
+ *
+ * <p>
+ * Game XML files are read with a streaming parser (see {@link XmlReader}), one top-level element at a time. Each
+ * top-level element is read into a tree of instances of this class, which only keeps what the game parser needs: the
+ * element name, its attributes (including default values declared by the DTD), its child elements and, for elements
+ * without children, their text. Comments, processing instructions and whitespace between elements are dropped.
+ * </p>
+ */
+final class XmlElement {
+  private static final String[] NO_ATTRIBUTES = new String[0];
+
+  private final String name;
+  /** Attribute names and values, alternating. */
+  private final String[] attributes;
+  private List<XmlElement> children = Collections.emptyList();
+  private String text = "";
+
+  private XmlElement(final String name, final String[] attributes) {
+    this.name = name;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Reads the element at the current position of the specified reader, which must be positioned on a start element
+   * event. When this method returns, the reader is positioned on the matching end element event.
+   */
+  static XmlElement read(final XMLStreamReader reader) throws XMLStreamException {
+    final XmlElement element = newElement(reader);
+    StringBuilder text = null;
+    while (true) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          if (element.children.isEmpty()) {
+            element.children = new ArrayList<>();
+            text = null;
+          }
+          element.children.add(read(reader));
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (element.children.isEmpty()) {
+            if (text == null) {
+              text = new StringBuilder();
+            }
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          }
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          if (text != null) {
+            element.text = text.toString();
+          }
+          if (element.children instanceof ArrayList) {
+            ((ArrayList<XmlElement>) element.children).trimToSize();
+          }
+          return element;
+        default:
+          break;
+      }
+    }
+  }
+
+  private static XmlElement newElement(final XMLStreamReader reader) {
+    final int attributeCount = reader.getAttributeCount();
+    final String[] attributes = attributeCount == 0 ? NO_ATTRIBUTES : new String[attributeCount * 2];
+    for (int i = 0; i < attributeCount; i++) {
+      attributes[i * 2] = reader.getAttributeLocalName(i);
+      attributes[i * 2 + 1] = reader.getAttributeValue(i);
+    }
+    return new XmlElement(reader.getLocalName(), attributes);
+  }
+
+  /**
+   * Skips the element at the current position of the specified reader, which must be positioned on a start element
+   * event. When this method returns, the reader is positioned on the matching end element event.
+   */
+  static void skip(final XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the value of the specified attribute, or an empty string if the element does not have the attribute.
+   */
+  String getAttribute(final String attributeName) {
+    final @Nullable String value = findAttribute(attributeName);
+    return value != null ? value : "";
+  }
+
+  boolean hasAttribute(final String attributeName) {
+    return findAttribute(attributeName) != null;
+  }
+
+  private @Nullable String findAttribute(final String attributeName) {
+    for (int i = 0; i < attributes.length; i += 2) {
+      if (attributes[i].equals(attributeName)) {
+        return attributes[i + 1];
+      }
+    }
+    return null;
+  }
+
+  List<XmlElement> getChildren() {
+    return Collections.unmodifiableList(children);
+  }
+
+  /**
+   * Returns the text of this element, or an empty string if this element has child elements.
+   */
+  String getText() {
+    return text;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -3,6 +3,7 @@ package games.strategy.engine.data.properties;
 import java.io.Serializable;
 import java.util.Objects;
 
+import javax.annotation.Nullable;
 import javax.swing.JComponent;
 
 /**
@@ -16,12 +17,29 @@ public abstract class AbstractEditableProperty<T>
 
   private final String name;
   private final String description;
+  // the properties holding this property, which must be told about changes to its value
+  private transient volatile @Nullable GameProperties owner;
 
   public AbstractEditableProperty(final String name, final String description) {
     this.name = name;
     this.description = description;
   }
 
+  void setOwner(final GameProperties owner) {
+    this.owner = owner;
+  }
+
+  /**
+   * Must be called by subclasses whenever the value of this property changes, including changes made through its
+   * editor component.
+   */
+  protected final void valueChanged() {
+    final GameProperties owner = this.owner;
+    if (owner != null) {
+      owner.valueChanged();
+    }
+  }
+
   @Override
   public int getRowsNeeded() {
     return 1;
@@ -24,17 +24,19 @@ public class BooleanProperty extends AbstractEditableProperty<Boolean> {
   @Override
   public void setValue(final Boolean value) {
     this.value = value;
+    valueChanged();
   }
 
   public void setValue(final boolean value) {
     this.value = value;
+    valueChanged();
   }
 
   @Override
   public JComponent getEditorComponent() {
     final JCheckBox box = new JCheckBox("");
     box.setSelected(value);
-    box.addActionListener(e -> value = box.isSelected());
+    box.addActionListener(e -> setValue(box.isSelected()));
     return box;
   }
 
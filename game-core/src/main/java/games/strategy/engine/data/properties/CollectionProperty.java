@@ -37,6 +37,7 @@ public class CollectionProperty<T> extends AbstractEditableProperty<List<T>> {
   @Override
   public void setValue(final List<T> value) {
     values = value;
+    valueChanged();
   }
 
   @Override
@@ -55,6 +55,7 @@ public class ColorProperty extends AbstractEditableProperty<Color> {
     } else {
       color = value;
     }
+    valueChanged();
   }
 
   @Override
@@ -76,7 +77,7 @@ public class ColorProperty extends AbstractEditableProperty<Color> {
             JColorChooser.showDialog(label, "Choose color",
                 (ColorProperty.this.color == null ? Color.black : ColorProperty.this.color));
         if (colorSelected != null) {
-          color = colorSelected;
+          setValue(colorSelected);
           // Ask Swing to repaint this label when it's convenient
           SwingUtilities.invokeLater(label::repaint);
         }
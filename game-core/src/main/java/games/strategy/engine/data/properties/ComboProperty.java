@@ -47,13 +47,14 @@ public class ComboProperty<T> extends AbstractEditableProperty<T> {
   @Override
   public void setValue(final T value) {
     this.value = value;
+    valueChanged();
   }
 
   @Override
   public JComponent getEditorComponent() {
     final JComboBox<T> box = new JComboBox<>(SwingComponents.newComboBoxModel(possibleValues));
     box.setSelectedItem(value);
-    box.addActionListener(e -> value = box.getItemAt(box.getSelectedIndex()));
+    box.addActionListener(e -> setValue(box.getItemAt(box.getSelectedIndex())));
     return box;
   }
 
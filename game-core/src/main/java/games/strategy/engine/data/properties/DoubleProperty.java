@@ -51,6 +51,7 @@ public class DoubleProperty extends AbstractEditableProperty<Double> {
   @Override
   public void setValue(final Double value) {
     this.value = roundToPlace(value, places);
+    valueChanged();
   }
 
   @Override
@@ -64,7 +65,7 @@ public class DoubleProperty extends AbstractEditableProperty<Double> {
       ((JSpinner.DefaultEditor) fieldEditor).getTextField().setColumns(10);
     }
 
-    field.addChangeListener(e -> value = (double) field.getValue());
+    field.addChangeListener(e -> setValue((double) field.getValue()));
     return field;
   }
 
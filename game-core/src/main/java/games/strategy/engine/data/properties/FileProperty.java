@@ -66,6 +66,7 @@ public class FileProperty extends AbstractEditableProperty<File> {
   @Override
   public void setValue(final File value) {
     file = value;
+    valueChanged();
   }
 
   /**
@@ -87,7 +88,7 @@ public class FileProperty extends AbstractEditableProperty<File> {
       public void mouseClicked(final MouseEvent e) {
         final File selection = getFileUsingDialog(acceptableSuffixes);
         if (selection != null) {
-          file = selection;
+          setValue(selection);
           label.setText(file.getAbsolutePath());
           // Ask Swing to repaint this label when it's convenient
           SwingUtilities.invokeLater(label::repaint);
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -24,21 +25,65 @@ import lombok.extern.java.Log;
  * Properties of the current game. <br>
  * Maps string -> Object <br>
  * Set through changeFactory.setProperty.
+ *
+ * <p>
+ * Code reading properties in tight loops should read them from a typed snapshot (see
+ * {@link #getSnapshot(Class, Function)}) rather than looking them up by name.
+ * </p>
  */
 @Log
 public class GameProperties extends GameDataComponent {
   private static final long serialVersionUID = -1448163357090677564L;
-
   private final Map<String, Object> constantProperties = new HashMap<>();
   private final Map<String, IEditableProperty<?>> editableProperties = new HashMap<>();
   // This list is used to keep track of order properties were added.
   private final List<String> ordering = new ArrayList<>();
   private final Map<String, IEditableProperty<?>> playerProperties = new HashMap<>();
+  // null until first requested
+  private transient volatile Snapshot snapshot;
+  // counts changes to the value of any of these properties, to find out whether the snapshot is still up to date
+  private transient volatile int changeCount;
 
   public GameProperties(final GameData data) {
     super(data);
   }
 
+  private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    editableProperties.values().forEach(this::adopt);
+    playerProperties.values().forEach(this::adopt);
+  }
+
+  private void adopt(final IEditableProperty<?> property) {
+    if (property instanceof AbstractEditableProperty) {
+      ((AbstractEditableProperty<?>) property).setOwner(this);
+    }
+  }
+
+  /**
+   * Notes that the value of a property changed. Must be called by any change to the values of these properties, or of
+   * the {@link IEditableProperty}s they hold.
+   */
+  synchronized void valueChanged() {
+    changeCount++;
+  }
+
+  /**
+   * Returns a snapshot of these properties of the specified type, created by the specified factory. The snapshot is
+   * reused until the value of any property changes, so it must not hold anything but property values.
+   */
+  public <T> T getSnapshot(final Class<T> type, final Function<GameProperties, T> factory) {
+    final Snapshot snapshot = this.snapshot;
+    if (snapshot != null && snapshot.changeCount == changeCount && type.isInstance(snapshot.value)) {
+      return type.cast(snapshot.value);
+    }
+    // read the count first so that a change while creating the snapshot invalidates it
+    final int currentChangeCount = changeCount;
+    final T value = factory.apply(this);
+    this.snapshot = new Snapshot(currentChangeCount, value);
+    return value;
+  }
+
   public Map<String, Object> getConstantPropertiesByName() {
     return new HashMap<>(constantProperties);
   }
@@ -54,6 +99,7 @@ public class GameProperties extends GameDataComponent {
    * @param value property
    */
   public void set(final String key, final Object value) {
+    valueChanged();
     // TODO should only accept serializable, not object
     if (value == null) {
       constantProperties.remove(key);
@@ -108,6 +154,8 @@ public class GameProperties extends GameDataComponent {
     // add to the editable properties
     editableProperties.put(property.getName(), property);
     ordering.add(property.getName());
+    adopt(property);
+    valueChanged();
   }
 
   /**
@@ -127,6 +175,8 @@ public class GameProperties extends GameDataComponent {
 
   public void addPlayerProperty(final IEditableProperty<?> property) {
     playerProperties.put(property.getName(), property);
+    adopt(property);
+    valueChanged();
   }
 
   public IEditableProperty<?> getPlayerProperty(final String name) {
@@ -203,4 +253,14 @@ public class GameProperties extends GameDataComponent {
       }
     }
   }
+
+  private static final class Snapshot {
+    private final int changeCount;
+    private final Object value;
+
+    Snapshot(final int changeCount, final Object value) {
+      this.changeCount = changeCount;
+      this.value = value;
+    }
+  }
 }
@@ -80,6 +80,7 @@ public class MapProperty<V> extends AbstractEditableProperty<Map<String, V>> {
 
     map = value;
     resetProperties(map, properties, getName(), getDescription());
+    valueChanged();
   }
 
   @Override
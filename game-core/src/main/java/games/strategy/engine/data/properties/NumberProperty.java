@@ -45,13 +45,14 @@ public class NumberProperty extends AbstractEditableProperty<Integer> {
   @Override
   public void setValue(final Integer value) {
     this.value = value;
+    valueChanged();
   }
 
   @Override
   public JComponent getEditorComponent() {
     final IntTextField field = new IntTextField(min, max);
     field.setValue(value);
-    field.addChangeListener(aField -> value = aField.getValue());
+    field.addChangeListener(aField -> setValue(aField.getValue()));
     return field;
   }
 
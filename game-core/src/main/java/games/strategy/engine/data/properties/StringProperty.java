@@ -23,14 +23,14 @@ public class StringProperty extends AbstractEditableProperty<String> {
   @Override
   public JComponent getEditorComponent() {
     final JTextField text = new JTextField(value);
-    text.addActionListener(e -> value = text.getText());
+    text.addActionListener(e -> setValue(text.getText()));
     text.addFocusListener(new FocusListener() {
       @Override
       public void focusGained(final FocusEvent e) {}
 
       @Override
       public void focusLost(final FocusEvent e) {
-        value = text.getText();
+        setValue(text.getText());
       }
     });
     final Dimension ourMinimum = new Dimension(80, 20);
@@ -47,6 +47,7 @@ public class StringProperty extends AbstractEditableProperty<String> {
   @Override
   public void setValue(final String value) {
     this.value = value;
+    valueChanged();
   }
 
   @Override
@@ -0,0 +1,29 @@
+package games.strategy.engine.framework;
+
+import lombok.Value;
+
+/**
+ * A point-in-time view of the work done by the auto-save writer of a {@link ServerGame}.
+ *
+ * <p>
+ * The stall time is how long the game was blocked while an auto-save snapshot was taken; the write time is how long
+ * the background writer then took to compress the snapshot, write it to disk and sync it.
+ * </p>
+ */
+@Value
+public class AutoSaveMetrics {
+  /** The number of auto-saves written to disk. */
+  private final long savesWritten;
+  /** The number of auto-saves replaced by a newer save of the same file before they were written. */
+  private final long savesCoalesced;
+  /** The number of auto-saves discarded because too many saves were waiting to be written. */
+  private final long savesDropped;
+  /** The number of auto-saves that could not be written. */
+  private final long savesFailed;
+  private final long lastStallMillis;
+  private final long maxStallMillis;
+  private final long totalStallMillis;
+  private final long lastWriteMillis;
+  private final long maxWriteMillis;
+  private final long totalWriteMillis;
+}
@@ -0,0 +1,352 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.triplea.java.Interruptibles;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.history.HistoryJournal;
+import lombok.extern.java.Log;
+
+/**
+ * Writes auto-saves to disk on a background thread.
+ *
+ * <p>
+ * The game is only stalled while the caller serializes a snapshot of the game data (see
+ * {@link GameDataManager#serializeGame(games.strategy.engine.data.GameData)}). Compressing the snapshot, writing it to
+ * a temporary file, syncing it and moving it over the auto-save file all happen on the writer thread.
+ * </p>
+ *
+ * <p>
+ * Saves waiting to be written are kept in a bounded queue. A newer save of a file replaces an older save of the same
+ * file that has not been written yet, and when the queue is full the oldest waiting save is dropped, so a slow disk
+ * never makes the game wait or keeps stale snapshots in memory.
+ * </p>
+ *
+ * <p>
+ * Auto-saves may keep their history in a {@link HistoryJournal}. Journal segments are never coalesced or dropped: all
+ * waiting segments are appended to their journals before the next auto-save is written. All records an auto-save
+ * references are then copied from its journal into the auto-save, so auto-saves are complete save games that never
+ * depend on journal files; only the snapshot taken while the game is stalled is limited to the latest records. A
+ * journal is deleted once a newer journal is in use and no waiting save references it, and when the writer is shut
+ * down.
+ * </p>
+ */
+@Log
+final class AutoSaveWriter {
+  @VisibleForTesting
+  static final int MAX_PENDING_SAVES = 4;
+  private static final long STALE_HISTORY_JOURNAL_AGE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+      .setDaemon(true)
+      .setNameFormat("Auto-save writer")
+      .build());
+  private final Object lock = new Object();
+  @GuardedBy("lock")
+  private final Map<File, PendingSave> pendingSaves = new LinkedHashMap<>();
+  @GuardedBy("lock")
+  private final Deque<JournalSegment> pendingJournalSegments = new ArrayDeque<>();
+  @GuardedBy("lock")
+  private final Set<HistoryJournal> journals = new LinkedHashSet<>();
+  @GuardedBy("lock")
+  private @Nullable HistoryJournal currentJournal;
+  @GuardedBy("lock")
+  private long savesWritten;
+  @GuardedBy("lock")
+  private long savesCoalesced;
+  @GuardedBy("lock")
+  private long savesDropped;
+  @GuardedBy("lock")
+  private long savesFailed;
+  @GuardedBy("lock")
+  private long lastStallMillis;
+  @GuardedBy("lock")
+  private long maxStallMillis;
+  @GuardedBy("lock")
+  private long totalStallMillis;
+  @GuardedBy("lock")
+  private long lastWriteMillis;
+  @GuardedBy("lock")
+  private long maxWriteMillis;
+  @GuardedBy("lock")
+  private long totalWriteMillis;
+
+  /**
+   * Queues the specified serialized game to be written to the specified file.
+   *
+   * @param file The auto-save file.
+   * @param serializedGame The game, as returned by
+   *        {@link GameDataManager#serializeGame(games.strategy.engine.data.GameData)}.
+   * @param stallMillis How long the game was stalled while the snapshot was taken.
+   */
+  void submit(final File file, final byte[] serializedGame, final long stallMillis) {
+    submit(file, serializedGame, null, 0, stallMillis);
+  }
+
+  /**
+   * Queues the specified serialized game, whose history is kept in the specified journal, to be written to the
+   * specified file together with the journal records it references. The save is skipped if the journal fails before
+   * the save is written.
+   *
+   * @param journalRecordCount The number of journal records referenced by the serialized game, as returned by
+   *        {@link HistoryJournal#getRecordCount()} when the game was serialized.
+   */
+  void submit(final File file, final byte[] serializedGame, final @Nullable HistoryJournal journal,
+      final int journalRecordCount, final long stallMillis) {
+    checkNotNull(file);
+    checkNotNull(serializedGame);
+
+    synchronized (lock) {
+      lastStallMillis = stallMillis;
+      maxStallMillis = Math.max(maxStallMillis, stallMillis);
+      totalStallMillis += stallMillis;
+      if (pendingSaves.put(file, new PendingSave(file, serializedGame, journal, journalRecordCount)) != null) {
+        savesCoalesced++;
+        return;
+      }
+      if (pendingSaves.size() > MAX_PENDING_SAVES) {
+        final Iterator<PendingSave> oldest = pendingSaves.values().iterator();
+        log.warning("Too many auto-saves waiting to be written, skipping: " + oldest.next().file.getAbsolutePath());
+        oldest.remove();
+        savesDropped++;
+      }
+    }
+    if (!execute(this::writeNextSave, "auto-save " + file.getAbsolutePath())) {
+      synchronized (lock) {
+        savesDropped++;
+      }
+    }
+  }
+
+  /**
+   * Queues the specified segment to be appended to the specified history journal.
+   *
+   * @param segment The segment, as returned by {@link HistoryJournal#newSegment}.
+   */
+  void appendToJournal(final HistoryJournal journal, final byte[] segment) {
+    checkNotNull(journal);
+    checkNotNull(segment);
+
+    synchronized (lock) {
+      pendingJournalSegments.add(new JournalSegment(journal, segment));
+      journals.add(journal);
+      currentJournal = journal;
+    }
+    execute(this::appendJournalSegments, "history journal " + journal.getFile().getAbsolutePath());
+  }
+
+  /**
+   * Runs the specified task on the writer thread, unless the writer has been shut down. A game may still be auto-saving
+   * while it is being stopped, in which case the save is dropped.
+   *
+   * @return False if the writer has been shut down.
+   */
+  private boolean execute(final Runnable task, final String description) {
+    try {
+      executor.execute(task);
+      return true;
+    } catch (final RejectedExecutionException e) {
+      log.info("Auto-save writer has been shut down, skipping " + description);
+      return false;
+    }
+  }
+
+  private void appendJournalSegments() {
+    while (true) {
+      final JournalSegment segment;
+      synchronized (lock) {
+        segment = pendingJournalSegments.poll();
+      }
+      if (segment == null) {
+        break;
+      }
+      final File journalFile = segment.journal.getFile();
+      final boolean isNewJournal = !journalFile.exists();
+      try {
+        segment.journal.append(segment.bytes);
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Failed to write history journal: " + journalFile.getAbsolutePath(), e);
+        continue;
+      }
+      if (isNewJournal) {
+        HistoryJournal.deleteStaleJournals(journalFile.getParentFile(), STALE_HISTORY_JOURNAL_AGE_MILLIS);
+      }
+    }
+    deleteUnusedJournals();
+  }
+
+  private void deleteUnusedJournals() {
+    final List<HistoryJournal> unusedJournals = new ArrayList<>();
+    synchronized (lock) {
+      for (final Iterator<HistoryJournal> iterator = journals.iterator(); iterator.hasNext();) {
+        final HistoryJournal journal = iterator.next();
+        if (journal != currentJournal && !isReferenced(journal)) {
+          unusedJournals.add(journal);
+          iterator.remove();
+        }
+      }
+    }
+    unusedJournals.forEach(HistoryJournal::delete);
+  }
+
+  @GuardedBy("lock")
+  private boolean isReferenced(final HistoryJournal journal) {
+    return pendingSaves.values().stream().anyMatch(save -> save.journal == journal)
+        || pendingJournalSegments.stream().anyMatch(segment -> segment.journal == journal);
+  }
+
+  private void writeNextSave() {
+    final long startNanos = System.nanoTime();
+    appendJournalSegments();
+    final PendingSave save;
+    synchronized (lock) {
+      final Iterator<PendingSave> iterator = pendingSaves.values().iterator();
+      if (!iterator.hasNext()) {
+        // the save this task was scheduled for has been dropped
+        return;
+      }
+      save = iterator.next();
+      iterator.remove();
+    }
+
+    try {
+      if (save.journal == null) {
+        write(save.file, save.serializedGame);
+      } else {
+        if (save.journal.hasFailed()) {
+          throw new IOException("History journal could not be written: " + save.journal.getFile().getAbsolutePath());
+        }
+        write(save.file, save.serializedGame, save.journal.read(save.journalRecordCount));
+      }
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to save game to file: " + save.file.getAbsolutePath(), e);
+      synchronized (lock) {
+        savesFailed++;
+      }
+      return;
+    }
+    final long writeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    synchronized (lock) {
+      savesWritten++;
+      lastWriteMillis = writeMillis;
+      maxWriteMillis = Math.max(maxWriteMillis, writeMillis);
+      totalWriteMillis += writeMillis;
+    }
+    log.fine(() -> "Auto-saved " + save.file.getAbsolutePath() + " in " + writeMillis + " ms");
+  }
+
+  /**
+   * Writes the specified serialized game to the specified file. The game is written to a temporary file in the same
+   * directory first, so a crash while writing never leaves a truncated save game behind.
+   */
+  static void write(final File file, final byte[] serializedGame) throws IOException {
+    write(file, serializedGame, null);
+  }
+
+  private static void write(final File file, final byte[] serializedGame, final @Nullable byte[] historyJournal)
+      throws IOException {
+    final File parentDir = file.getAbsoluteFile().getParentFile();
+    if (!parentDir.exists() && !parentDir.mkdirs()) {
+      throw new IOException("Failed to create save game directory (or one of its ancestors): "
+          + parentDir.getAbsolutePath());
+    }
+
+    final File tempFile = File.createTempFile(file.getName(), ".tmp", parentDir);
+    try {
+      try (FileOutputStream os = new FileOutputStream(tempFile)) {
+        GameDataManager.writeSerializedGame(new CloseShieldOutputStream(os), serializedGame, historyJournal);
+        os.getFD().sync();
+      }
+      try {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+
+  AutoSaveMetrics getMetrics() {
+    synchronized (lock) {
+      return new AutoSaveMetrics(savesWritten, savesCoalesced, savesDropped, savesFailed, lastStallMillis,
+          maxStallMillis, totalStallMillis, lastWriteMillis, maxWriteMillis, totalWriteMillis);
+    }
+  }
+
+  /**
+   * Writes all waiting saves and stops the writer thread. Waits at most the specified time for the waiting saves to be
+   * written. The history journals are deleted once all waiting saves have been written.
+   */
+  void shutdown(final long timeout, final TimeUnit unit) {
+    executor.shutdown();
+    final boolean terminated = Interruptibles.awaitResult(() -> executor.awaitTermination(timeout, unit))
+        .result
+        .orElse(false);
+    if (!terminated) {
+      log.warning("Timed out waiting for auto-saves to be written");
+      return;
+    }
+    final List<HistoryJournal> unusedJournals;
+    synchronized (lock) {
+      unusedJournals = new ArrayList<>(journals);
+      journals.clear();
+      currentJournal = null;
+    }
+    unusedJournals.forEach(HistoryJournal::delete);
+  }
+
+  private static final class PendingSave {
+    final File file;
+    final byte[] serializedGame;
+    final @Nullable HistoryJournal journal;
+    final int journalRecordCount;
+
+    PendingSave(final File file, final byte[] serializedGame, final @Nullable HistoryJournal journal,
+        final int journalRecordCount) {
+      this.file = file;
+      this.serializedGame = serializedGame;
+      this.journal = journal;
+      this.journalRecordCount = journalRecordCount;
+    }
+  }
+
+  private static final class JournalSegment {
+    final HistoryJournal journal;
+    final byte[] bytes;
+
+    JournalSegment(final HistoryJournal journal, final byte[] bytes) {
+      this.journal = journal;
+      this.bytes = bytes;
+    }
+  }
+}
@@ -176,6 +176,8 @@ public class ClientGame extends AbstractGame {
       messengers.unregisterRemote(getRemoteStepAdvancerName(messengers.getLocalNode()));
       vault.shutDown();
       for (final IGamePlayer gp : gamePlayers.values()) {
+        // tell the local players (especially the AI's) that the game is stopping, so they release their resources
+        gp.stopGame();
         final PlayerId player;
         gameData.acquireReadLock();
         try {
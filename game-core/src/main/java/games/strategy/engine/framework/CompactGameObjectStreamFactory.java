@@ -0,0 +1,151 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.CompactGameObjectInputStream;
+import games.strategy.engine.data.CompactGameObjectOutputStream;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectIndex;
+import games.strategy.engine.data.RegisteredTypes;
+import games.strategy.net.IObjectStreamFactory;
+
+/**
+ * Implementation of {@link IObjectStreamFactory} that uses {@link CompactGameObjectOutputStream} and
+ * {@link CompactGameObjectInputStream} for the game data of a {@link GameObjectStreamFactory}. Network peers use it
+ * instead of the game object stream factory when both of them support the same {@link #getFormatName() format}.
+ */
+final class CompactGameObjectStreamFactory implements IObjectStreamFactory {
+  /** Must be incremented whenever the encoding changes in a way not covered by the fingerprint of the types. */
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * The types most often found in network messages: message envelopes, remote method calls, changes and the values
+   * they hold. Types may be appended, removed or reordered freely, as peers only use the compact format if their
+   * registered types have the same fingerprint.
+   */
+  private static final List<String> TYPE_NAMES = Arrays.asList(
+      "java.lang.Number",
+      "java.lang.Integer",
+      "java.lang.Long",
+      "java.lang.Boolean",
+      "java.lang.Double",
+      "java.lang.Enum",
+      "[Ljava.lang.Object;",
+      "[Ljava.lang.String;",
+      "java.util.ArrayList",
+      "java.util.HashMap",
+      "java.util.HashSet",
+      "java.util.LinkedHashMap",
+      "java.util.LinkedHashSet",
+      "java.net.InetAddress",
+      "java.net.InetSocketAddress",
+      "org.triplea.java.collections.IntegerMap",
+      "games.strategy.net.GUID",
+      "games.strategy.net.MessageHeader",
+      "games.strategy.net.Node",
+      "games.strategy.engine.message.HubInvocationResults",
+      "games.strategy.engine.message.HubInvoke",
+      "games.strategy.engine.message.RemoteMethodCall",
+      "games.strategy.engine.message.RemoteMethodCallResults",
+      "games.strategy.engine.message.SpokeInvocationResults",
+      "games.strategy.engine.message.SpokeInvoke",
+      "games.strategy.engine.message.unifiedmessenger.HasEndPointImplementor",
+      "games.strategy.engine.message.unifiedmessenger.InvocationResults",
+      "games.strategy.engine.message.unifiedmessenger.Invoke",
+      "games.strategy.engine.message.unifiedmessenger.NoLongerHasEndPointImplementor",
+      "games.strategy.engine.data.BombingUnitDamageChange",
+      "games.strategy.engine.data.Change",
+      "games.strategy.engine.data.ChangeAttachmentChange",
+      "games.strategy.engine.data.CompositeChange",
+      "games.strategy.engine.data.GameDataComponent",
+      "games.strategy.engine.data.GameObjectStreamData",
+      "games.strategy.engine.data.GameObjectStreamReference",
+      "games.strategy.engine.data.Route",
+      "games.strategy.engine.data.Unit",
+      "games.strategy.engine.data.UnitHitsChange",
+      "games.strategy.engine.data.changefactory.AddAttachmentChange",
+      "games.strategy.engine.data.changefactory.AddAvailableTech",
+      "games.strategy.engine.data.changefactory.AddBattleRecordsChange",
+      "games.strategy.engine.data.changefactory.AddProductionRule",
+      "games.strategy.engine.data.changefactory.AddUnits",
+      "games.strategy.engine.data.changefactory.AttachmentPropertyReset",
+      "games.strategy.engine.data.changefactory.AttachmentPropertyResetUndo",
+      "games.strategy.engine.data.changefactory.ChangeResourceChange",
+      "games.strategy.engine.data.changefactory.GenericTechChange",
+      "games.strategy.engine.data.changefactory.ObjectPropertyChange",
+      "games.strategy.engine.data.changefactory.OwnerChange",
+      "games.strategy.engine.data.changefactory.PlayerOwnerChange",
+      "games.strategy.engine.data.changefactory.PlayerWhoAmIChange",
+      "games.strategy.engine.data.changefactory.ProductionFrontierChange",
+      "games.strategy.engine.data.changefactory.RelationshipChange",
+      "games.strategy.engine.data.changefactory.RemoveAttachmentChange",
+      "games.strategy.engine.data.changefactory.RemoveAvailableTech",
+      "games.strategy.engine.data.changefactory.RemoveBattleRecordsChange",
+      "games.strategy.engine.data.changefactory.RemoveProductionRule",
+      "games.strategy.engine.data.changefactory.RemoveUnits",
+      "games.strategy.engine.data.changefactory.SetPropertyChange",
+      "games.strategy.triplea.TripleAUnit",
+      "games.strategy.triplea.delegate.data.AbstractMoveDescription",
+      "games.strategy.triplea.delegate.data.MoveDescription");
+  private static final RegisteredTypes TYPES = new RegisteredTypes(loadTypes());
+
+  private final GameObjectStreamFactory dataSource;
+  private volatile @Nullable GameObjectIndex index;
+
+  CompactGameObjectStreamFactory(final GameObjectStreamFactory dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  private static List<Class<?>> loadTypes() {
+    final List<Class<?>> types = new ArrayList<>(TYPE_NAMES.size());
+    for (final String name : TYPE_NAMES) {
+      try {
+        types.add(Class.forName(name));
+      } catch (final ClassNotFoundException e) {
+        throw new IllegalStateException("Registered type not found: " + name, e);
+      }
+    }
+    return types;
+  }
+
+  /**
+   * Returns the index of the current game data of the game object stream factory, or {@code null} if there is none.
+   */
+  private @Nullable GameObjectIndex getIndex() {
+    final @Nullable GameData data = dataSource.getData();
+    if (data == null) {
+      return null;
+    }
+    @Nullable
+    GameObjectIndex index = this.index;
+    if (index == null || index.getData() != data) {
+      index = GameObjectIndex.of(data);
+      this.index = index;
+    }
+    return index;
+  }
+
+  @Override
+  public ObjectInputStream create(final InputStream stream) throws IOException {
+    return new CompactGameObjectInputStream(dataSource, stream, TYPES, getIndex());
+  }
+
+  @Override
+  public ObjectOutputStream create(final OutputStream stream) throws IOException {
+    return new CompactGameObjectOutputStream(stream, TYPES, getIndex());
+  }
+
+  @Override
+  public String getFormatName() {
+    return "compact-" + FORMAT_VERSION + "-" + TYPES.getFingerprint();
+  }
+}
@@ -16,6 +16,7 @@ import java.io.Serializable;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
 import javax.swing.JOptionPane;
 
 import org.apache.commons.io.IOUtils;
@@ -28,6 +29,9 @@ import games.strategy.engine.ClientContext;
 import games.strategy.engine.GameEngineVersion;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.history.History;
+import games.strategy.engine.history.HistoryJournal;
+import games.strategy.io.IoUtils;
 import games.strategy.triplea.UrlConstants;
 
 /**
@@ -89,15 +93,26 @@ public final class GameDataManager {
         }
       }
 
-      final GameData data = (GameData) input.readObject();
-      data.postDeSerialize();
-      loadDelegates(input, data);
+      final GameData data = readGameData(input);
+      HistoryJournal.restore(data, input);
       return data;
     } catch (final ClassNotFoundException cnfe) {
-      throw new IOException(cnfe.getMessage());
+      throw new IOException("Save game contains a class this engine does not know, it may have been written by a newer"
+          + " engine: " + cnfe.getMessage(), cnfe);
     }
   }
 
+  /**
+   * Reads the game data and delegates previously written by {@link #writeGameData(ObjectOutputStream, GameData,
+   * boolean)} from the specified stream. No engine version header is expected.
+   */
+  static GameData readGameData(final ObjectInputStream input) throws ClassNotFoundException, IOException {
+    final GameData data = (GameData) input.readObject();
+    data.postDeSerialize();
+    loadDelegates(input, data);
+    return data;
+  }
+
   private static boolean promptToLoadNewerSaveGame(final Version saveGameVersion) {
     final int answer = Interruptibles.awaitResult(() -> SwingAction.invokeAndWaitResult(() -> {
       final String message = "Your TripleA engine is OUT OF DATE. "
@@ -165,17 +180,7 @@ public final class GameDataManager {
           OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream);
           ObjectOutputStream outStream = new ObjectOutputStream(zippedOutStream)) {
         outStream.writeObject(ClientContext.engineVersion());
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
+        writeGameData(outStream, data, saveDelegateInfo);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -188,6 +193,118 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Serializes the specified game data and its delegates in the saved game format, but without compression.
+   *
+   * <p>
+   * This is the only part of saving a game that needs a consistent view of the game data. The returned bytes can be
+   * written out later, e.g. on a background thread, using {@link #writeSerializedGame(OutputStream, byte[])}.
+   * </p>
+   *
+   * @throws IOException If an error occurs while serializing the game.
+   */
+  static byte[] serializeGame(final GameData data) throws IOException {
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+        outStream.writeObject(ClientContext.engineVersion());
+        writeGameData(outStream, data, true);
+      }
+    });
+  }
+
+  /**
+   * Serializes the specified game data like {@link #serializeGame(GameData)}, but with the specified history in place
+   * of the game data's own history, e.g. a reference to a {@link HistoryJournal}.
+   *
+   * @throws IOException If an error occurs while serializing the game.
+   */
+  static byte[] serializeGame(final GameData data, final History history) throws IOException {
+    data.acquireWriteLock();
+    final History temp = data.getHistory();
+    data.setHistory(history);
+    try {
+      return serializeGame(data);
+    } finally {
+      data.setHistory(temp);
+      data.releaseWriteLock();
+    }
+  }
+
+  /**
+   * Compresses a game previously serialized by {@link #serializeGame(GameData)} and writes it to the specified stream.
+   * The result can be loaded with {@link #loadGame(InputStream)}.
+   *
+   * @param os The stream to which the game will be written. Note that this stream will be closed if this method
+   *        returns successfully.
+   *
+   * @throws IOException If an error occurs while writing the game.
+   */
+  static void writeSerializedGame(final OutputStream os, final byte[] serializedGame) throws IOException {
+    writeSerializedGame(os, serializedGame, null);
+  }
+
+  /**
+   * Compresses a game previously serialized by {@link #serializeGame(GameData, History)} with a reference to a
+   * {@link HistoryJournal} in place of its history, followed by the journal records it references, and writes it to the
+   * specified stream. The result can be loaded with {@link #loadGame(InputStream)}.
+   *
+   * @param os The stream to which the game will be written. Note that this stream will be closed if this method
+   *        returns successfully.
+   * @param historyJournal The journal records, as returned by {@link HistoryJournal#read(int)}, or null if the history
+   *        was serialized with the game.
+   *
+   * @throws IOException If an error occurs while writing the game.
+   */
+  static void writeSerializedGame(final OutputStream os, final byte[] serializedGame,
+      final @Nullable byte[] historyJournal) throws IOException {
+    try (OutputStream bufferedOutStream = new BufferedOutputStream(os);
+        OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream)) {
+      zippedOutStream.write(serializedGame);
+      if (historyJournal != null) {
+        // continue the object stream of the serialized game, so HistoryJournal.restore can read the records from it
+        final ObjectOutputStream outStream = new ContinuedObjectOutputStream(zippedOutStream);
+        outStream.reset();
+        outStream.writeObject(historyJournal);
+        outStream.flush();
+      }
+    }
+  }
+
+  /**
+   * An object stream that continues an object stream previously written to the same underlying stream.
+   * {@link ObjectOutputStream#reset()} must be called before the first object is written, so that the reader discards
+   * the objects it has read before, just as this stream does not know about them.
+   */
+  private static final class ContinuedObjectOutputStream extends ObjectOutputStream {
+    ContinuedObjectOutputStream(final OutputStream out) throws IOException {
+      super(out);
+    }
+
+    @Override
+    protected void writeStreamHeader() {
+      // the header has been written by the object stream that is continued
+    }
+  }
+
+  /**
+   * Writes the specified game data and, optionally, its delegates to the specified stream while holding the game data
+   * read lock. No engine version header is written; use {@link #readGameData(ObjectInputStream)} to read it back.
+   */
+  static void writeGameData(final ObjectOutputStream out, final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    data.acquireReadLock();
+    try {
+      out.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, out);
+      } else {
+        out.writeObject(DELEGATE_LIST_END);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private static void writeDelegates(final GameData data, final ObjectOutputStream out) throws IOException {
     for (final IDelegate delegate : data.getDelegates()) {
       out.writeObject(DELEGATE_START);
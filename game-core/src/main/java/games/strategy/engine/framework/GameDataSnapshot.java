@@ -0,0 +1,92 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.DistanceTables;
+import games.strategy.engine.data.GameData;
+import games.strategy.io.IoUtils;
+
+/**
+ * An immutable, point-in-time image of a {@link GameData} instance from which any number of independent copies can be
+ * forked.
+ *
+ * <p>
+ * The game data is serialized exactly once, in memory and uncompressed, when the snapshot is taken. Each call to
+ * {@link #fork()} only pays for deserialization, so callers that need several copies of the same game data (e.g. odds
+ * calculator workers or AI simulations) no longer write the source game data through a temporary file and GZIP stream
+ * once per copy.
+ * </p>
+ *
+ * <p>
+ * The map topology can not be changed by playing the game, so all forks share the {@link DistanceTables} of the source
+ * map: they are built once, and the distances computed by one fork are used by all of them. Every other object is
+ * copied: unit types, attachments and all other {@link games.strategy.engine.data.GameDataComponent}s refer to the game
+ * data they belong to, and attachments can be changed during the game, so they can not be shared. Forks may therefore
+ * be freely mutated on different threads.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe; {@link #fork()} may be called concurrently.
+ * </p>
+ */
+public final class GameDataSnapshot {
+  private final byte[] bytes;
+  private final @Nullable DistanceTables distanceTables;
+
+  private GameDataSnapshot(final byte[] bytes, final @Nullable DistanceTables distanceTables) {
+    this.bytes = bytes;
+    this.distanceTables = distanceTables;
+  }
+
+  /**
+   * Takes a snapshot of the specified game data.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   *
+   * @param data The game data to snapshot.
+   * @param includeDelegates {@code true} if the delegates and their state should be included in the snapshot.
+   *
+   * @throws IOException If the game data cannot be serialized.
+   */
+  public static GameDataSnapshot of(final GameData data, final boolean includeDelegates) throws IOException {
+    checkNotNull(data);
+
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+        GameDataManager.writeGameData(out, data, includeDelegates);
+      }
+    });
+    return new GameDataSnapshot(bytes, data.getMap().getDistanceTables());
+  }
+
+  /**
+   * Creates a new, independent copy of the game data captured by this snapshot.
+   *
+   * @throws IOException If the game data cannot be deserialized.
+   */
+  public GameData fork() throws IOException {
+    final GameData fork = IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream in = new ObjectInputStream(is)) {
+        return GameDataManager.readGameData(in);
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+    if (distanceTables != null) {
+      fork.getMap().setDistanceTables(distanceTables);
+    }
+    return fork;
+  }
+
+  /**
+   * Returns the size in bytes of the serialized game data held by this snapshot.
+   */
+  public int size() {
+    return bytes.length;
+  }
+}
@@ -30,6 +30,21 @@ public final class GameDataUtils {
     return dataCopy;
   }
 
+  /**
+   * Takes a snapshot of the specified game data without its history, from which any number of copies can be forked.
+   * <strong>You should have the game data's write lock before calling this method</strong>
+   */
+  public static GameDataSnapshot snapshotWithoutHistory(final GameData data, final boolean copyDelegates)
+      throws IOException {
+    final History temp = data.getHistory();
+    data.resetHistory();
+    try {
+      return GameDataSnapshot.of(data, copyDelegates);
+    } finally {
+      data.setHistory(temp);
+    }
+  }
+
   public static GameData cloneGameData(final GameData data) {
     return cloneGameData(data, false);
   }
@@ -40,8 +55,7 @@ public final class GameDataUtils {
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
-      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+      return GameDataSnapshot.of(data, copyDelegates).fork();
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to clone game data", e);
       return null;
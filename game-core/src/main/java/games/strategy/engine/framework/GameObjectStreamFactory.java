@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameObjectInputStream;
@@ -19,6 +20,7 @@ import games.strategy.net.IObjectStreamFactory;
  */
 public class GameObjectStreamFactory implements IObjectStreamFactory {
   private GameData gameData;
+  private final IObjectStreamFactory compactFactory = new CompactGameObjectStreamFactory(this);
 
   public GameObjectStreamFactory(final GameData data) {
     gameData = data;
@@ -34,6 +36,11 @@ public class GameObjectStreamFactory implements IObjectStreamFactory {
     return new GameObjectOutputStream(stream);
   }
 
+  @Override
+  public Optional<IObjectStreamFactory> getCompactFactory() {
+    return Optional.of(compactFactory);
+  }
+
   public void setData(final GameData data) {
     gameData = data;
   }
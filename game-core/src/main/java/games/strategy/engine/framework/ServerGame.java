@@ -3,7 +3,6 @@ package games.strategy.engine.framework;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
@@ -14,8 +13,13 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
 import org.triplea.java.Interruptibles;
+import org.triplea.java.function.ThrowingSupplier;
 import org.triplea.util.ExitStatus;
+import org.triplea.util.Tuple;
 
 import games.strategy.engine.GameOverException;
 import games.strategy.engine.data.Change;
@@ -36,6 +40,9 @@ import games.strategy.engine.framework.startup.ui.InGameLobbyWatcherWrapper;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.Event;
 import games.strategy.engine.history.EventChild;
+import games.strategy.engine.history.History;
+import games.strategy.engine.history.HistoryCheckpoint;
+import games.strategy.engine.history.HistoryJournal;
 import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.Step;
 import games.strategy.engine.message.ConnectionLostException;
@@ -53,6 +60,7 @@ import games.strategy.net.Messengers;
 import games.strategy.triplea.TripleAPlayer;
 import games.strategy.triplea.delegate.DiceRoll;
 import games.strategy.triplea.settings.ClientSetting;
+import lombok.Value;
 import lombok.extern.java.Log;
 
 /**
@@ -64,11 +72,18 @@ public class ServerGame extends AbstractGame {
       "games.strategy.engine.framework.ServerGame.GameHasBeenSaved";
   static final RemoteName SERVER_REMOTE =
       new RemoteName("games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
+  private static final int MAX_OBSERVER_SNAPSHOT_DELTA_RECORDS = 2000;
 
   private final RandomStats randomStats;
   private IRandomSource randomSource = new PlainRandomSource();
   private IRandomSource delegateRandomSource;
   private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
+  // the journal holding the history of the auto-saves; only accessed while delegate execution is blocked
+  private @Nullable HistoryJournal historyJournal;
+  private final Object observerSnapshotLock = new Object();
+  @GuardedBy("observerSnapshotLock")
+  private @Nullable ObserverSnapshot observerSnapshot;
   private InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final boolean headless;
@@ -182,9 +197,28 @@ public class ServerGame extends AbstractGame {
 
   /**
    * Adds a new observer (non-participant) node to this server game.
+   *
+   * <p>
+   * The observer is first sent a snapshot of the game, while the game keeps running. The snapshot is cached and shared
+   * by all observers joining until it falls too far behind the game. Delegate execution is then only blocked while
+   * everything that happened since the snapshot was taken is sent to the observer, and the observer finishes joining.
+   * </p>
    */
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
+    final ObserverSnapshot snapshot;
+    try {
+      snapshot = getObserverSnapshot();
+      if (snapshot == null) {
+        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
+        return;
+      }
+      blockingObserver.prepareToJoinGame(snapshot.getBytes());
+    } catch (final Exception e) {
+      log.log(Level.SEVERE, "Failed to send game snapshot to observer: " + newNode.getName(), e);
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+      return;
+    }
     try {
       if (!delegateExecutionManager.blockDelegateExecution(2000)) {
         nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
@@ -197,10 +231,18 @@ public class ServerGame extends AbstractGame {
     }
     try {
       final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = IoUtils.writeToMemory(this::saveGame);
+      final HistoryCheckpoint checkpoint = snapshot.getCheckpoint();
+      // if history has been removed since the snapshot was taken, the whole game must be sent instead
+      final boolean joinFromSnapshot = checkpoint.canCreateDelta(gameData.getHistory());
+      final byte[] bytes = joinFromSnapshot ? checkpoint.newDelta(gameData) : IoUtils.writeToMemory(this::saveGame);
+      final Map<String, INode> players = playerManager.getPlayerMapping();
       new Thread(() -> {
         try {
-          blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
+          if (joinFromSnapshot) {
+            blockingObserver.joinGameFromSnapshot(bytes, players);
+          } else {
+            blockingObserver.joinGame(bytes, players);
+          }
           waitOnObserver.countDown();
         } catch (final ConnectionLostException cle) {
           log.log(Level.SEVERE, "Connection lost to observer while joining: " + newNode.getName(), cle);
@@ -224,6 +266,32 @@ public class ServerGame extends AbstractGame {
     }
   }
 
+  /**
+   * Returns the cached snapshot to send to joining observers, taking a new one if there is none yet, or if too many
+   * history records have been written since it was taken.
+   *
+   * @return The snapshot or {@code null} if delegate execution could not be blocked to take a new snapshot.
+   */
+  @Nullable
+  private ObserverSnapshot getObserverSnapshot() throws IOException {
+    synchronized (observerSnapshotLock) {
+      final History history = gameData.getHistory();
+      if (observerSnapshot == null
+          || !observerSnapshot.getCheckpoint().canCreateDelta(history)
+          || observerSnapshot.getCheckpoint().getRecordsSince(history) > MAX_OBSERVER_SNAPSHOT_DELTA_RECORDS) {
+        final Tuple<HistoryCheckpoint, byte[]> checkpointAndGame = serializeGame(
+            () -> Tuple.of(HistoryCheckpoint.of(history), GameDataManager.serializeGame(gameData)));
+        if (checkpointAndGame == null) {
+          return null;
+        }
+        // compress the snapshot after delegate execution has been resumed
+        observerSnapshot = new ObserverSnapshot(checkpointAndGame.getFirst(),
+            IoUtils.writeToMemory(os -> GameDataManager.writeSerializedGame(os, checkpointAndGame.getSecond())));
+      }
+      return observerSnapshot;
+    }
+  }
+
   private void setupDelegateMessaging(final GameData data) {
     for (final IDelegate delegate : data.getDelegates()) {
       addDelegateMessenger(delegate);
@@ -348,30 +416,85 @@ public class ServerGame extends AbstractGame {
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    autoSaveWriter.shutdown(30, TimeUnit.SECONDS);
     gameData.getGameLoader().shutDown();
   }
 
   private void autoSaveBefore(final IDelegate delegate) {
-    saveGame(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
+    autoSave(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
+  }
+
+  /**
+   * Saves the game to the specified auto-save file without waiting for it to be written. The game is only stalled
+   * while a snapshot of the game data is serialized in memory; compressing and writing it is done in the background.
+   *
+   * <p>
+   * The history is not part of the snapshot. Instead, the history records written since the previous auto-save are
+   * appended to a {@link HistoryJournal} shared by all auto-saves in the same directory, so the time the game is
+   * stalled by an auto-save does not grow with the length of the game. The auto-save writer copies all records the
+   * auto-save references from the journal into the auto-save, so the auto-save file is still a complete save game.
+   * </p>
+   */
+  private void autoSave(final File file) {
+    final long startNanos = System.nanoTime();
+    final byte[] serializedGame;
+    try {
+      serializedGame = serializeGame(() -> {
+        final History history = gameData.getHistory();
+        final File journalDir = file.getAbsoluteFile().getParentFile();
+        if (historyJournal == null
+            || !historyJournal.canAppend(history)
+            || !historyJournal.getFile().getParentFile().equals(journalDir)) {
+          historyJournal = HistoryJournal.create(journalDir);
+        }
+        autoSaveWriter.appendToJournal(historyJournal, historyJournal.newSegment(history));
+        return GameDataManager.serializeGame(gameData, historyJournal.newHistoryReference(gameData));
+      });
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
+      return;
+    }
+    if (serializedGame != null) {
+      autoSaveWriter.submit(file, serializedGame, historyJournal, historyJournal.getRecordCount(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+  }
+
+  /**
+   * Returns how long auto-saves have stalled the game and how long they took to be written so far.
+   */
+  public AutoSaveMetrics getAutoSaveMetrics() {
+    return autoSaveWriter.getMetrics();
   }
 
   @Override
   public void saveGame(final File file) {
     checkNotNull(file);
 
-    final File parentDir = file.getParentFile();
-    if (!parentDir.exists() && !parentDir.mkdirs()) {
-      log.severe("Failed to create save game directory (or one of its ancestors): " + parentDir.getAbsolutePath());
-    }
-
-    try (OutputStream fout = new FileOutputStream(file)) {
-      saveGame(fout);
+    try {
+      final byte[] serializedGame = serializeGame(() -> GameDataManager.serializeGame(gameData));
+      if (serializedGame != null) {
+        AutoSaveWriter.write(file, serializedGame);
+      }
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
     }
   }
 
   private void saveGame(final OutputStream out) throws IOException {
+    final byte[] serializedGame = serializeGame(() -> GameDataManager.serializeGame(gameData));
+    if (serializedGame != null) {
+      GameDataManager.writeSerializedGame(out, serializedGame);
+    }
+  }
+
+  /**
+   * Serializes the game data, using the specified serializer, while delegate execution is blocked.
+   *
+   * @return The serialized game or {@code null} if delegate execution could not be blocked.
+   */
+  @Nullable
+  private <T> T serializeGame(final ThrowingSupplier<T, IOException> serializer) throws IOException {
     final String errorMessage = "Error saving game.. ";
 
     try {
@@ -380,16 +503,16 @@ public class ServerGame extends AbstractGame {
         // try again
         if (!delegateExecutionManager.blockDelegateExecution(6000)) {
           log.severe(errorMessage + " could not lock delegate execution");
-          return;
+          return null;
         }
       }
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
-      return;
+      return null;
     }
 
     try {
-      GameDataManager.saveGame(out, gameData);
+      return serializer.get();
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
@@ -441,7 +564,7 @@ public class ServerGame extends AbstractGame {
     }
     if (gameData.getSequence().next()) {
       gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
-      saveGame(gameData.getSequence().getRound() % 2 == 0
+      autoSave(gameData.getSequence().getRound() % 2 == 0
           ? AutoSaveFileUtils.getEvenRoundAutoSaveFile(headless)
           : AutoSaveFileUtils.getOddRoundAutoSaveFile(headless));
     }
@@ -451,13 +574,13 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSaveAfter(final String stepName, final boolean headless) {
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void autoSaveAfter(final IDelegate delegate, final boolean headless) {
     final String typeName = delegate.getClass().getTypeName();
     final String stepName = typeName.substring(typeName.lastIndexOf('.') + 1).replaceFirst("Delegate$", "");
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void endStep() {
@@ -640,4 +763,13 @@ public class ServerGame extends AbstractGame {
   public boolean isGameSequenceRunning() {
     return !delegateExecutionStopped;
   }
+
+  /**
+   * A compressed snapshot of the game sent to joining observers, and the point in history at which it was taken.
+   */
+  @Value
+  private static class ObserverSnapshot {
+    private final HistoryCheckpoint checkpoint;
+    private final byte[] bytes;
+  }
 }
@@ -0,0 +1,96 @@
+package games.strategy.engine.framework.map.index;
+
+import java.io.InputStream;
+
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.triplea.util.Version;
+
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.GameEngineVersion;
+import games.strategy.engine.data.GameParseException;
+import lombok.Value;
+
+/**
+ * The information about a game that is found at the start of its XML file: the {@code <info>} element and the
+ * optional {@code <triplea>} element holding the minimum engine version required by the game.
+ */
+@Value
+public class GameHeader {
+  private final String name;
+  private final String version;
+  private final @Nullable String minimumEngineVersion;
+
+  /**
+   * Reads the header of the game XML file from the specified stream. The stream is read with a streaming parser that
+   * stops at the first element following the header, so neither the rest of the file nor the DTD is read.
+   *
+   * @throws GameParseException If the stream does not start with a valid game header.
+   */
+  public static GameHeader read(final String location, final InputStream stream) throws GameParseException {
+    final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    try {
+      final XMLStreamReader reader = inputFactory.createXMLStreamReader(stream);
+      try {
+        return read(location, reader);
+      } finally {
+        reader.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw new GameParseException("Failed to read game header: " + location, e);
+    }
+  }
+
+  private static GameHeader read(final String location, final XMLStreamReader reader)
+      throws XMLStreamException, GameParseException {
+    // skip the prolog, including the document type declaration
+    while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+      continue;
+    }
+    if (!reader.isStartElement() || !"game".equals(reader.getLocalName())) {
+      throw new GameParseException("Root element is not <game>: " + location);
+    }
+    String name = null;
+    String version = null;
+    String minimumEngineVersion = null;
+    int depth = 1;
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      } else if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+        if (depth == 2) {
+          final String element = reader.getLocalName();
+          if ("info".equals(element)) {
+            name = reader.getAttributeValue(null, "name");
+            version = reader.getAttributeValue(null, "version");
+          } else if ("triplea".equals(element)) {
+            minimumEngineVersion = reader.getAttributeValue(null, "minimumVersion");
+          } else if (!"loader".equals(element)) {
+            break;
+          }
+        }
+      }
+    }
+    if (name == null || version == null) {
+      throw new GameParseException("Missing <info> element: " + location);
+    }
+    return new GameHeader(name, version, minimumEngineVersion);
+  }
+
+  /**
+   * Indicates whether this game can be played with the running engine.
+   */
+  public boolean isCompatibleWithEngine() {
+    return minimumEngineVersion == null
+        || GameEngineVersion.of(ClientContext.engineVersion())
+            .isCompatibleWithMapMinimumEngineVersion(new Version(minimumEngineVersion));
+  }
+}
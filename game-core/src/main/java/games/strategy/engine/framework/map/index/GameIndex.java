@@ -0,0 +1,311 @@
+package games.strategy.engine.framework.map.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.io.FileUtils;
+import lombok.Value;
+import lombok.extern.java.Log;
+
+/**
+ * A persistent index of the games installed in the user's maps folder.
+ *
+ * <p>
+ * Finding the installed games used to require parsing every game XML file in every map. Instead, only the header of
+ * each game XML file is read (see {@link GameHeader#read(String, InputStream)}), and the result is kept in an index
+ * file in the user's root folder. A map zip, or a game XML file of an extracted map, is only read again when its size
+ * or last modification time changes. The index is shared by the game chooser of the headed client and by the headless
+ * server.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+@Log
+public final class GameIndex {
+  private static final int FORMAT_VERSION = 1;
+  private static final String INDEX_FILE_NAME = "gameIndex.cache";
+  private static final String ZIP_EXTENSION = ".zip";
+
+  private GameIndex() {}
+
+  /**
+   * Handles map zip files that can not be read.
+   */
+  @FunctionalInterface
+  public interface CorruptMapHandler {
+    void corruptMapFound(File map, Optional<String> errorDetails);
+  }
+
+  /**
+   * A game found in the maps folder.
+   */
+  @Value
+  public static class IndexedGame {
+    /** The location of the game XML file. */
+    private final URI uri;
+    /** The name of the map folder or zip file (without extension) holding the game. */
+    private final String mapFolderOrZipName;
+    private final GameHeader header;
+    /** The CRC-32 checksum of the game XML file. */
+    private final long checksum;
+
+    public String getGameName() {
+      return header.getName();
+    }
+  }
+
+  /**
+   * A map zip file or game XML file that has been indexed, and the games it holds.
+   */
+  @Value
+  private static class IndexedFile {
+    private final long lastModified;
+    private final long length;
+    private final List<IndexedGame> games;
+
+    boolean isUpToDate(final File file) {
+      return file.lastModified() == lastModified && file.length() == length;
+    }
+  }
+
+  /**
+   * Returns all games installed in the user's maps folder, updating the index if needed. Games that are not compatible
+   * with the running engine are logged and skipped. This method blocks while new or modified maps are indexed and
+   * should not be called from the EDT.
+   */
+  public static List<IndexedGame> listGames(final CorruptMapHandler corruptMapHandler) {
+    return listGames(ClientFileSystemHelper.getUserMapsFolder(),
+        new File(ClientFileSystemHelper.getUserRootFolder(), INDEX_FILE_NAME), corruptMapHandler);
+  }
+
+  @VisibleForTesting
+  static synchronized List<IndexedGame> listGames(final File mapsFolder, final File indexFile,
+      final CorruptMapHandler corruptMapHandler) {
+    final Map<String, IndexedFile> index = readIndex(indexFile);
+    final Map<String, IndexedFile> updatedIndex = new ConcurrentHashMap<>();
+    FileUtils.listFiles(mapsFolder).parallelStream()
+        .forEach(map -> {
+          if (map.isDirectory()) {
+            for (final File game : FileUtils.listFiles(getGamesFolder(map))) {
+              if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
+                indexFile(game, index, updatedIndex, () -> indexGameFile(game, map.getName()));
+              }
+            }
+          } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
+            indexFile(map, index, updatedIndex, () -> indexZip(map, corruptMapHandler));
+          }
+        });
+    if (!updatedIndex.equals(index)) {
+      writeIndex(indexFile, updatedIndex);
+    }
+    return updatedIndex.values().stream()
+        .map(IndexedFile::getGames)
+        .flatMap(Collection::stream)
+        .filter(GameIndex::isCompatibleWithEngine)
+        .collect(Collectors.toList());
+  }
+
+  private static File getGamesFolder(final File mapDir) {
+    // use contents under a "mapDir/map" folder if present, otherwise use the "mapDir/" contents directly
+    final File mapFolder = new File(mapDir, "map");
+    return new File(mapFolder.exists() ? mapFolder : mapDir, "games");
+  }
+
+  private static boolean isCompatibleWithEngine(final IndexedGame game) {
+    if (!game.getHeader().isCompatibleWithEngine()) {
+      log.severe("Engine version problem: " + game.getUri() + " requires engine version "
+          + game.getHeader().getMinimumEngineVersion());
+      return false;
+    }
+    return true;
+  }
+
+  private static void indexFile(final File file, final Map<String, IndexedFile> index,
+      final Map<String, IndexedFile> updatedIndex, final Indexer indexer) {
+    final String key = file.getAbsolutePath();
+    final @Nullable IndexedFile indexedFile = index.get(key);
+    if (indexedFile != null && indexedFile.isUpToDate(file)) {
+      updatedIndex.put(key, indexedFile);
+    } else {
+      final long lastModified = file.lastModified();
+      final long length = file.length();
+      indexer.index().ifPresent(games -> updatedIndex.put(key, new IndexedFile(lastModified, length, games)));
+    }
+  }
+
+  /**
+   * Reads the games held by a file.
+   */
+  @FunctionalInterface
+  private interface Indexer {
+    /**
+     * Returns the games held by the file, or empty if the file could not be read and should not be added to the index.
+     */
+    Optional<List<IndexedGame>> index();
+  }
+
+  private static Optional<List<IndexedGame>> indexGameFile(final File game, final String mapFolderName) {
+    try {
+      final byte[] bytes = Files.readAllBytes(game.toPath());
+      final CRC32 checksum = new CRC32();
+      checksum.update(bytes);
+      final URI uri = game.toURI();
+      final GameHeader header = GameHeader.read(uri.toString(), new ByteArrayInputStream(bytes));
+      return Optional.of(Collections.singletonList(
+          new IndexedGame(uri, mapFolderName, header, checksum.getValue())));
+    } catch (final GameParseException e) {
+      // index the file anyway, so it is not read again until it is modified
+      log.log(Level.SEVERE, "Could not parse: " + game, e);
+      return Optional.of(Collections.emptyList());
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Could not read: " + game, e);
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<List<IndexedGame>> indexZip(final File map, final CorruptMapHandler corruptMapHandler) {
+    final String mapZipName = map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length());
+    final List<IndexedGame> games = new ArrayList<>();
+    try (ZipFile zipFile = new ZipFile(map);
+        URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
+      final Enumeration<? extends ZipEntry> zipEntryEnumeration = zipFile.entries();
+      while (zipEntryEnumeration.hasMoreElements()) {
+        final ZipEntry entry = zipEntryEnumeration.nextElement();
+        if (entry.getName().contains("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
+          final URL url = loader.getResource(entry.getName());
+          if (url == null) {
+            // not loading the URL means the XML is truncated or otherwise in bad shape
+            corruptMapHandler.corruptMapFound(map, Optional.empty());
+            return Optional.empty();
+          }
+          final URI uri = URI.create(url.toString().replace(" ", "%20"));
+          try (InputStream is = zipFile.getInputStream(entry)) {
+            games.add(new IndexedGame(uri, mapZipName, GameHeader.read(uri.toString(), is), entry.getCrc()));
+          } catch (final GameParseException e) {
+            log.log(Level.SEVERE, "Could not parse: " + uri, e);
+          }
+        }
+      }
+    } catch (final IOException e) {
+      corruptMapHandler.corruptMapFound(map, Optional.of(String.valueOf(e.getMessage())));
+      return Optional.empty();
+    }
+    return Optional.of(games);
+  }
+
+  private static Map<String, IndexedFile> readIndex(final File indexFile) {
+    if (!indexFile.exists()) {
+      return Collections.emptyMap();
+    }
+    try (InputStream is = new FileInputStream(indexFile);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+      if (in.readInt() != FORMAT_VERSION) {
+        return Collections.emptyMap();
+      }
+      final int fileCount = in.readInt();
+      final Map<String, IndexedFile> index = new HashMap<>(fileCount);
+      for (int i = 0; i < fileCount; i++) {
+        final String path = in.readUTF();
+        final long lastModified = in.readLong();
+        final long length = in.readLong();
+        final int gameCount = in.readInt();
+        final List<IndexedGame> games = new ArrayList<>(gameCount);
+        for (int j = 0; j < gameCount; j++) {
+          final URI uri = URI.create(in.readUTF());
+          final String mapFolderOrZipName = in.readUTF();
+          final String name = in.readUTF();
+          final String version = in.readUTF();
+          final String minimumEngineVersion = in.readBoolean() ? in.readUTF() : null;
+          final long checksum = in.readLong();
+          games.add(new IndexedGame(uri, mapFolderOrZipName, new GameHeader(name, version, minimumEngineVersion),
+              checksum));
+        }
+        index.put(path, new IndexedFile(lastModified, length, games));
+      }
+      return index;
+    } catch (final IOException | IllegalArgumentException e) {
+      log.log(Level.WARNING, "Failed to read game index, all maps will be indexed again: " + indexFile, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  private static void writeIndex(final File indexFile, final Map<String, IndexedFile> index) {
+    try {
+      final File parentDir = indexFile.getAbsoluteFile().getParentFile();
+      if (!parentDir.exists() && !parentDir.mkdirs()) {
+        throw new IOException("Failed to create directory: " + parentDir);
+      }
+      final File tempFile = File.createTempFile(indexFile.getName(), ".tmp", parentDir);
+      try {
+        try (FileOutputStream os = new FileOutputStream(tempFile);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+          out.writeInt(FORMAT_VERSION);
+          out.writeInt(index.size());
+          for (final Map.Entry<String, IndexedFile> entry : index.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().getLastModified());
+            out.writeLong(entry.getValue().getLength());
+            out.writeInt(entry.getValue().getGames().size());
+            for (final IndexedGame game : entry.getValue().getGames()) {
+              out.writeUTF(game.getUri().toString());
+              out.writeUTF(game.getMapFolderOrZipName());
+              out.writeUTF(game.getHeader().getName());
+              out.writeUTF(game.getHeader().getVersion());
+              out.writeBoolean(game.getHeader().getMinimumEngineVersion() != null);
+              if (game.getHeader().getMinimumEngineVersion() != null) {
+                out.writeUTF(game.getHeader().getMinimumEngineVersion());
+              }
+              out.writeLong(game.getChecksum());
+            }
+          }
+        }
+        try {
+          Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+          Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tempFile.toPath());
+      }
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to write game index: " + indexFile, e);
+    }
+  }
+}
@@ -22,11 +22,13 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.Action;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.triplea.java.Interruptibles;
+import org.triplea.java.function.ThrowingSupplier;
 import org.triplea.swing.EventThreadJOptionPane;
 import org.triplea.swing.SwingAction;
 
@@ -52,6 +54,7 @@ import games.strategy.engine.framework.startup.login.ClientLogin;
 import games.strategy.engine.framework.startup.ui.ClientOptions;
 import games.strategy.engine.framework.startup.ui.PlayerType;
 import games.strategy.engine.framework.ui.background.WaitWindow;
+import games.strategy.engine.history.HistoryCheckpoint;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.player.IGamePlayer;
 import games.strategy.io.IoUtils;
@@ -90,12 +93,42 @@ public class ClientModel implements IMessengerErrorListener {
   // however, if we cancel, we want to restore the old game data.
   private GameData gameDataOnStartup;
   private Map<String, String> playersToNodes = new HashMap<>();
+  // the game data loaded from the snapshot sent before joining a running game as an observer
+  private volatile @Nullable GameData observerGameSnapshot;
   private final IObserverWaitingToJoin observerWaitingToJoin = new IObserverWaitingToJoin() {
     @Override
     public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+      observerGameSnapshot = null;
       messengers.unregisterRemote(ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, true);
+      startGame(() -> IoUtils.readFromMemory(gameData, GameDataManager::loadGame), players, latch, true);
+      try {
+        latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void prepareToJoinGame(final byte[] gameSnapshot) {
+      // this normally takes a couple seconds, but can take up to 60 seconds for a freaking huge game
+      try {
+        observerGameSnapshot = IoUtils.readFromMemory(gameSnapshot, GameDataManager::loadGame);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Failed to load game snapshot", e);
+      }
+    }
+
+    @Override
+    public void joinGameFromSnapshot(final byte[] gameDelta, final Map<String, INode> players) {
+      final GameData data = Preconditions.checkNotNull(observerGameSnapshot, "No game snapshot has been loaded");
+      observerGameSnapshot = null;
+      messengers.unregisterRemote(ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
+      final CountDownLatch latch = new CountDownLatch(1);
+      startGame(() -> {
+        HistoryCheckpoint.applyDelta(data, gameDelta);
+        return data;
+      }, players, latch, true);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -129,7 +162,7 @@ public class ClientModel implements IMessengerErrorListener {
     @Override
     public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players) {
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, false);
+      startGame(() -> IoUtils.readFromMemory(gameData, GameDataManager::loadGame), players, latch, false);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -273,15 +306,15 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGame(final byte[] gameData, final Map<String, INode> players, final CountDownLatch onDone,
-      final boolean gameRunning) {
+  private void startGame(final ThrowingSupplier<GameData, IOException> gameDataLoader, final Map<String, INode> players,
+      final CountDownLatch onDone, final boolean gameRunning) {
     SwingUtilities.invokeLater(() -> {
       gameLoadingWindow.setVisible(true);
       gameLoadingWindow.setLocationRelativeTo(JOptionPane.getFrameForComponent(ui));
       gameLoadingWindow.showWait();
     });
     try {
-      startGameInNewThread(gameData, players, gameRunning);
+      startGameInNewThread(gameDataLoader, players, gameRunning);
     } catch (final RuntimeException e) {
       gameLoadingWindow.doneWait();
       throw e;
@@ -292,12 +325,12 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGameInNewThread(final byte[] gameData, final Map<String, INode> players,
-      final boolean gameRunning) {
+  private void startGameInNewThread(final ThrowingSupplier<GameData, IOException> gameDataLoader,
+      final Map<String, INode> players, final boolean gameRunning) {
     final GameData data;
     try {
       // this normally takes a couple seconds, but can take up to 60 seconds for a freaking huge game
-      data = IoUtils.readFromMemory(gameData, GameDataManager::loadGame);
+      data = gameDataLoader.get();
     } catch (final IOException ex) {
       log.log(Level.SEVERE, "Failed to load game", ex);
       return;
@@ -16,6 +16,18 @@ public interface IObserverWaitingToJoin extends IRemote {
    */
   void joinGame(byte[] gameData, Map<String, INode> players);
 
+  /**
+   * Loads a snapshot of the game taken some time before the observer joins. The game keeps running while the snapshot
+   * is sent and loaded; {@link #joinGameFromSnapshot(byte[], Map)} is then called to bring it up to date.
+   */
+  void prepareToJoinGame(byte[] gameSnapshot);
+
+  /**
+   * Applies everything that happened to the game since the snapshot passed to {@link #prepareToJoinGame(byte[])} was
+   * taken and then joins the game, exactly like {@link #joinGame(byte[], Map)}.
+   */
+  void joinGameFromSnapshot(byte[] gameDelta, Map<String, INode> players);
+
   /**
    * You could not join the game, usually this is due to an error.
    */
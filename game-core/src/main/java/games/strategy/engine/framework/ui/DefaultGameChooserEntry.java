@@ -7,20 +7,25 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.UrlStreams;
 
 import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.map.index.GameIndex;
 import games.strategy.triplea.Constants;
 import lombok.extern.java.Log;
 
 @Log
 final class DefaultGameChooserEntry implements GameChooserEntry {
   private final URI url;
-  private GameData gameData;
+  private @Nullable GameData gameData;
   private boolean gameDataFullyLoaded = false;
+  private boolean gameDataShallowLoaded = false;
+  private final @Nullable String gameName;
   private final String gameNameAndMapNameProperty;
 
   DefaultGameChooserEntry(final URI uri) throws IOException, GameParseException, EngineVersionException {
@@ -28,6 +33,7 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
 
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (!inputStream.isPresent()) {
+      gameName = null;
       gameNameAndMapNameProperty = "";
       // this means the map was deleted out from under us.
       return;
@@ -35,10 +41,22 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
 
     try (InputStream input = inputStream.get()) {
       gameData = GameParser.parseShallow(uri.toString(), input);
+      gameDataShallowLoaded = true;
+      gameName = gameData.getGameName();
       gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
     }
   }
 
+  /**
+   * Creates an entry for a game found in the game index. The game is not parsed until its game data is requested.
+   */
+  DefaultGameChooserEntry(final GameIndex.IndexedGame indexedGame) {
+    url = indexedGame.getUri();
+    gameName = indexedGame.getGameName();
+    // the map name property usually is the name of the map folder or zip, and reading it would require parsing the game
+    gameNameAndMapNameProperty = gameName + ":" + indexedGame.getMapFolderOrZipName();
+  }
+
   @Override
   public void fullyParseGameData() throws GameParseException {
     // TODO: We should be setting this in the the constructor. At this point, you have to call methods in the
@@ -72,7 +90,7 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
 
   @Override
   public String getGameName() {
-    return gameData.getGameName();
+    return gameName;
   }
 
   // the user may have selected a map skin instead of this map folder, so don't use this for anything except our
@@ -90,8 +108,23 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
     return getGameName();
   }
 
+  /**
+   * Returns the game data of this entry, parsing just the game's properties and players first if neither they nor the
+   * full game data have been parsed yet.
+   */
   @Override
-  public GameData getGameData() {
+  public @Nullable GameData getGameData() {
+    if (gameData == null && !gameDataShallowLoaded && !gameDataFullyLoaded) {
+      gameDataShallowLoaded = true;
+      final Optional<InputStream> inputStream = UrlStreams.openStream(url);
+      if (inputStream.isPresent()) {
+        try (InputStream input = inputStream.get()) {
+          gameData = GameParser.parseShallow(url.toString(), input);
+        } catch (final Exception e) {
+          log.log(Level.SEVERE, "Could not parse: " + url, e);
+        }
+      }
+    }
     return gameData;
   }
 
@@ -119,10 +152,10 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
     }
 
     final DefaultGameChooserEntry other = (DefaultGameChooserEntry) obj;
-    if (gameData == null && other.gameData != null) {
+    if (gameName == null && other.gameName != null) {
       return false;
     }
-    return other.gameData != null && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
+    return other.gameName != null && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
   }
 
   @Override
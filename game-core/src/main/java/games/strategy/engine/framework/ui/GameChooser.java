@@ -125,7 +125,12 @@ public class GameChooser extends JDialog {
   }
 
   private void updateInfoPanel() {
-    if (getSelected() != null) {
+    if (getSelected() != null && getSelected().getGameData() == null) {
+      final StringBuilder notes = new StringBuilder();
+      notes.append("<h1>").append(getSelected().getGameName()).append("</h1>");
+      appendListItem("Location", getSelected().getLocation() + "", notes);
+      notesPanel.setText(notes.toString());
+    } else if (getSelected() != null) {
       final GameData data = getSelected().getGameData();
       final StringBuilder notes = new StringBuilder();
       notes.append("<h1>").append(data.getGameName()).append("</h1>");
@@ -1,10 +1,17 @@
 package games.strategy.engine.history;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
@@ -32,9 +39,21 @@ public class History extends DefaultTreeModel {
 
   private final HistoryWriter writer = new HistoryWriter(this);
   private final List<Change> changes = new ArrayList<>();
+  // the calls made to the history writer, in order, from the oldest one still needed by a reader (see retainRecords)
+  private final transient List<SerializationWriter> records = new ArrayList<>();
+  // the index of the first element of records among all records written
+  private transient int firstRecordIndex = 0;
+  private transient int recordCount = 0;
+  // the index of the first record each reader still needs; readers that are no longer used are dropped by the GC
+  private final transient Map<Object, Integer> recordReaders = new WeakHashMap<>();
+  // incremented whenever previously written records are discarded
+  private transient int recordsGeneration = 0;
   private final GameData gameData;
   private HistoryNode currentNode;
   private HistoryPanel panel = null;
+  // set when this history is only a reference to records stored in a history journal
+  private @Nullable String journalId = null;
+  private int journalRecordCount = 0;
 
   public History(final GameData data) {
     super(new RootHistoryNode("Game History"));
@@ -164,6 +183,10 @@ public class History extends DefaultTreeModel {
       while (!nodesToRemove.isEmpty()) {
         this.removeNodeFromParent(nodesToRemove.remove(0));
       }
+      records.clear();
+      recordReaders.clear();
+      firstRecordIndex = recordCount;
+      recordsGeneration++;
     } finally {
       getGameData().releaseWriteLock();
     }
@@ -179,8 +202,81 @@ public class History extends DefaultTreeModel {
     }
   }
 
+  synchronized void recordWritten(final SerializationWriter record) {
+    recordCount++;
+    if (recordReaders.isEmpty()) {
+      records.clear();
+      firstRecordIndex = recordCount;
+    } else {
+      records.add(record);
+    }
+  }
+
+  /**
+   * Returns the number of records written to this history, including records that are no longer kept.
+   */
+  synchronized int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Returns the records written to this history starting at the specified index, which must have been retained (see
+   * {@link #retainRecords(Object, int)}).
+   */
+  synchronized List<SerializationWriter> getRecords(final int fromIndex) {
+    checkState(fromIndex >= firstRecordIndex && fromIndex <= recordCount, "Records are no longer kept");
+    return new ArrayList<>(records.subList(fromIndex - firstRecordIndex, records.size()));
+  }
+
+  /**
+   * Keeps the records written to this history starting at the specified index, until the specified reader retains
+   * later records or is no longer referenced. Records are only kept while some reader needs them, and only from the
+   * time the first reader asks for them on. All records needed to rebuild this history are returned by
+   * {@link #getCheckpointRecords()} instead.
+   */
+  synchronized void retainRecords(final Object reader, final int fromIndex) {
+    checkArgument(fromIndex <= recordCount, "Records have not been written yet");
+    checkState(fromIndex >= firstRecordIndex, "Records are no longer kept");
+    recordReaders.put(reader, fromIndex);
+    final int firstNeededIndex = Collections.min(recordReaders.values());
+    records.subList(0, firstNeededIndex - firstRecordIndex).clear();
+    firstRecordIndex = firstNeededIndex;
+  }
+
+  /**
+   * Returns records that rebuild this history when written, in order, to an empty history. They are created from the
+   * history nodes and changes rather than from the records written to this history, which are not kept.
+   */
+  synchronized List<SerializationWriter> getCheckpointRecords() {
+    return SerializedHistory.getSerializationWriters(this, changes);
+  }
+
+  /**
+   * Returns a number that changes whenever previously written records are discarded, e.g. when history is removed after
+   * a node. Records can only be appended to a copy of this history's records as long as this number does not change.
+   */
+  synchronized int getRecordsGeneration() {
+    return recordsGeneration;
+  }
+
+  void setJournalReference(final @Nullable String journalId, final int journalRecordCount) {
+    this.journalId = journalId;
+    this.journalRecordCount = journalRecordCount;
+  }
+
+  @Nullable
+  String getJournalId() {
+    return journalId;
+  }
+
+  int getJournalRecordCount() {
+    return journalRecordCount;
+  }
+
   private Object writeReplace() {
-    return new SerializedHistory(this, gameData, changes);
+    return (journalId != null)
+        ? new SerializedHistoryReference(gameData, journalId, journalRecordCount)
+        : new SerializedHistory(this, gameData, changes);
   }
 
   List<Change> getChanges() {
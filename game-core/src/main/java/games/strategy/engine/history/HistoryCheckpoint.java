@@ -0,0 +1,152 @@
+package games.strategy.engine.history;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+
+/**
+ * A point in the history of a game, from which a delta holding everything that happened to the game since then can be
+ * created.
+ *
+ * <p>
+ * A copy of the game data taken at the same time as the checkpoint can be brought up to date by applying a delta to
+ * it (see {@link #applyDelta(GameData, byte[])}): the changes in the delta are performed on the game data, its history
+ * nodes are added to the game data's history, the game sequence is moved to the current round and step and the
+ * delegates are given their current state.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ */
+public final class HistoryCheckpoint {
+  private final int recordCount;
+  private final int recordsGeneration;
+
+  private HistoryCheckpoint(final int recordCount, final int recordsGeneration) {
+    this.recordCount = recordCount;
+    this.recordsGeneration = recordsGeneration;
+  }
+
+  /**
+   * Creates a checkpoint at the end of the specified history.
+   * <strong>The history must not change while the game data is copied and the checkpoint is created</strong>
+   */
+  public static HistoryCheckpoint of(final History history) {
+    checkNotNull(history);
+
+    synchronized (history) {
+      final HistoryCheckpoint checkpoint = new HistoryCheckpoint(history.getRecordCount(), history.getRecordsGeneration());
+      // the history keeps the records needed to create a delta as long as the checkpoint is used
+      history.retainRecords(checkpoint, checkpoint.recordCount);
+      return checkpoint;
+    }
+  }
+
+  /**
+   * Indicates whether a delta can be created from this checkpoint for the specified history: deltas can only be created
+   * for the history the checkpoint was created from, as long as none of its records have been removed since then.
+   */
+  public boolean canCreateDelta(final History history) {
+    synchronized (history) {
+      return history.getRecordsGeneration() == recordsGeneration && history.getRecordCount() >= recordCount;
+    }
+  }
+
+  /**
+   * Returns the number of history records written to the specified history since this checkpoint was created.
+   */
+  public int getRecordsSince(final History history) {
+    synchronized (history) {
+      return history.getRecordCount() - recordCount;
+    }
+  }
+
+  /**
+   * Creates a delta holding everything that happened to the specified game data since this checkpoint was created.
+   * <strong>The game data must not change while this method runs</strong>
+   *
+   * @throws IllegalStateException If history has been removed since this checkpoint was created.
+   * @throws IOException If the delta can not be serialized.
+   */
+  public byte[] newDelta(final GameData data) throws IOException {
+    final History history = data.getHistory();
+    final List<SerializationWriter> records;
+    synchronized (history) {
+      checkState(canCreateDelta(history), "History has been removed since the checkpoint was created");
+      records = history.getRecords(recordCount);
+    }
+    final GameSequence sequence = data.getSequence();
+    final Collection<IDelegate> delegates = data.getDelegates();
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(new DeflaterOutputStream(os))) {
+        out.writeInt(sequence.getRound());
+        out.writeInt(sequence.getStepIndex());
+        out.writeInt(records.size());
+        for (final SerializationWriter record : records) {
+          out.writeObject(record);
+        }
+        out.writeInt(delegates.size());
+        for (final IDelegate delegate : delegates) {
+          out.writeObject(delegate.getName());
+          out.writeObject(delegate.saveState());
+        }
+      }
+    });
+  }
+
+  /**
+   * Applies a delta created by {@link #newDelta(GameData)} to a copy of the game data, including its delegates, taken at
+   * the time the checkpoint was created.
+   *
+   * @throws IOException If the delta can not be deserialized or names a delegate the game data does not have.
+   */
+  public static void applyDelta(final GameData data, final byte[] delta) throws IOException {
+    checkNotNull(data);
+    checkNotNull(delta);
+
+    try (ObjectInputStream in = new GameObjectInputStream(new GameObjectStreamFactory(data),
+        new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+      final int round = in.readInt();
+      final int stepIndex = in.readInt();
+      final int recordCount = in.readInt();
+      final HistoryWriter historyWriter = data.getHistory().getHistoryWriter();
+      for (int i = 0; i < recordCount; i++) {
+        final SerializationWriter record = (SerializationWriter) in.readObject();
+        if (record instanceof ChangeSerializationWriter) {
+          data.performChange(((ChangeSerializationWriter) record).getChange());
+        }
+        record.write(historyWriter);
+      }
+      data.getSequence().setRoundAndStepIndex(round, stepIndex);
+      final int delegateCount = in.readInt();
+      for (int i = 0; i < delegateCount; i++) {
+        final String name = (String) in.readObject();
+        final IDelegate delegate = data.getDelegate(name);
+        if (delegate == null) {
+          throw new IOException("Game data has no delegate named " + name);
+        }
+        delegate.loadState((Serializable) in.readObject());
+      }
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+}
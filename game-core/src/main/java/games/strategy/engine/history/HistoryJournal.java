@@ -0,0 +1,344 @@
+package games.strategy.engine.history;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+import lombok.extern.java.Log;
+
+/**
+ * An append-only, on-disk log of the records written to a game's {@link History}.
+ *
+ * <p>
+ * A journal starts with a checkpoint: a segment holding records that rebuild the history at the time the first segment
+ * was created. Each following save appends a segment holding only the records written since the previous save, so the
+ * time the game is stalled while a game whose history is kept in a journal is serialized does not depend on how long
+ * the game has been played. The serialized game data does not contain any history itself, only the journal's ID and
+ * the number of records that make up its history (see {@link #newHistoryReference(GameData)}).
+ * </p>
+ *
+ * <p>
+ * Save games are self-contained, not deltas: when a save game is written in the background, all records it references
+ * are copied from the journal file into the save game after the game data (see {@link #read(int)}), so writing a save
+ * game still takes time proportional to the length of the history, just not on the game's thread.
+ * {@link #restore(GameData, ObjectInputStream)} replays the records when the save game is loaded. Because the journal
+ * is append-only, any number of save games may be written from different lengths of the same journal.
+ * </p>
+ *
+ * <p>
+ * The history only keeps the records written since the previous segment in memory (see
+ * {@link History#retainRecords(Object, int)}); older records are only kept in the journal file.
+ * </p>
+ *
+ * <p>
+ * A journal becomes invalid as soon as records are removed from the history (see
+ * {@link History#removeAllHistoryAfterNode(HistoryNode)}); a new journal, with a new checkpoint, must then be created.
+ * </p>
+ *
+ * <p>
+ * Segments are created by the thread that owns the game data, while the game data can not change, but they can be
+ * appended to the journal file on any thread. Appending must be done in the order in which the segments were created.
+ * </p>
+ */
+@Log
+public final class HistoryJournal {
+  @VisibleForTesting
+  static final String FILE_EXTENSION = ".journal";
+  private static final int MAGIC_NUMBER = 0x54484a31;
+
+  private final File file;
+  private final String id;
+  private final Object fileLock = new Object();
+  private int recordCount = 0;
+  // the number of records written to the history when the previous segment was created
+  private int historyRecordCount = 0;
+  private int historyRecordsGeneration = -1;
+  private volatile boolean failed = false;
+
+  private HistoryJournal(final File directory, final String id) {
+    this.id = id;
+    file = getFile(directory, id);
+  }
+
+  /**
+   * Creates a new journal in the specified directory. The journal file is created when the first segment is appended.
+   */
+  public static HistoryJournal create(final File directory) {
+    checkNotNull(directory);
+
+    return new HistoryJournal(directory, UUID.randomUUID().toString());
+  }
+
+  private static File getFile(final File directory, final String id) {
+    return new File(directory, id + FILE_EXTENSION);
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Indicates whether the next segment of this journal can be created from the specified history: segments can only be
+   * created from the history the journal was started from, as long as none of its records have been discarded and no
+   * segment failed to be written.
+   */
+  public boolean canAppend(final History history) {
+    return !failed
+        && (historyRecordsGeneration == -1
+            || (history.getRecordsGeneration() == historyRecordsGeneration
+                && history.getRecordCount() >= historyRecordCount));
+  }
+
+  /**
+   * Serializes the records written to the specified history since the previous segment of this journal was created.
+   * The first segment of a journal holds records that rebuild the whole history.
+   * <strong>The history must not change while this method runs</strong>
+   *
+   * @return The segment, to be passed to {@link #append(byte[])}.
+   *
+   * @throws IllegalStateException If this journal {@link #canAppend(History) can not be appended to}.
+   * @throws IOException If the records can not be serialized.
+   */
+  public byte[] newSegment(final History history) throws IOException {
+    checkState(canAppend(history), "History journal can not be appended to");
+
+    final List<SerializationWriter> records = (historyRecordsGeneration == -1)
+        ? history.getCheckpointRecords()
+        : history.getRecords(historyRecordCount);
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(new DeflaterOutputStream(os))) {
+        for (final SerializationWriter record : records) {
+          out.writeObject(record);
+        }
+      }
+    });
+    final byte[] segment = IoUtils.writeToMemory(os -> {
+      try (DataOutputStream out = new DataOutputStream(os)) {
+        out.writeInt(records.size());
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    });
+    recordCount += records.size();
+    historyRecordCount = history.getRecordCount();
+    historyRecordsGeneration = history.getRecordsGeneration();
+    // the history only needs to keep the records written from now on
+    history.retainRecords(this, historyRecordCount);
+    return segment;
+  }
+
+  /**
+   * Returns the number of records held by the segments of this journal created so far, i.e. the number of records
+   * referenced by a history returned by {@link #newHistoryReference(GameData)}.
+   */
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Returns a history, to be serialized in place of the specified game data's history, that references all records in
+   * this journal's segments created so far.
+   */
+  public History newHistoryReference(final GameData data) {
+    final History history = new History(data);
+    history.setJournalReference(id, recordCount);
+    return history;
+  }
+
+  /**
+   * Appends the specified segment to the journal file and syncs it to disk. If this fails, the journal is marked as
+   * failed and no further segments can be created.
+   */
+  public void append(final byte[] segment) throws IOException {
+    synchronized (fileLock) {
+      if (failed) {
+        throw new IOException("Previous segment could not be appended to history journal: " + file.getAbsolutePath());
+      }
+      try {
+        final boolean isNewFile = !file.exists();
+        final File parentDir = file.getParentFile();
+        if (isNewFile && !parentDir.exists() && !parentDir.mkdirs()) {
+          throw new IOException("Failed to create history journal directory: " + parentDir.getAbsolutePath());
+        }
+        try (FileOutputStream fos = new FileOutputStream(file, true);
+            DataOutputStream out = new DataOutputStream(fos)) {
+          if (isNewFile) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeUTF(id);
+          }
+          out.write(segment);
+          out.flush();
+          fos.getFD().sync();
+        }
+      } catch (final IOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Indicates whether a segment could not be appended to or read from the journal file. Save games referencing records
+   * of a failed journal can not be written.
+   */
+  public boolean hasFailed() {
+    return failed;
+  }
+
+  /**
+   * Reads the start of the journal file that holds the specified number of records. The returned bytes are written into
+   * a save game after the game data, so that the save game does not depend on the journal file once it is written (see
+   * {@link #restore(GameData, ObjectInputStream)}). If the records can not be read, the journal is marked as failed.
+   *
+   * @param recordCount The number of records referenced by the save game, as returned by {@link #getRecordCount()}
+   *        when the save game was serialized. All segments holding these records must have been appended.
+   *
+   * @throws IOException If the journal file can not be read or does not contain exactly the segments holding the
+   *         specified number of records.
+   */
+  public byte[] read(final int recordCount) throws IOException {
+    synchronized (fileLock) {
+      try (InputStream fis = new FileInputStream(file);
+          DataInputStream in = new DataInputStream(new BufferedInputStream(fis))) {
+        return IoUtils.writeToMemory(os -> {
+          final DataOutputStream out = new DataOutputStream(os);
+          readHeader(in, id);
+          out.writeInt(MAGIC_NUMBER);
+          out.writeUTF(id);
+          int recordsRead = 0;
+          while (recordsRead < recordCount) {
+            final int segmentRecordCount = in.readInt();
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            out.writeInt(segmentRecordCount);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            recordsRead += segmentRecordCount;
+          }
+          if (recordsRead != recordCount) {
+            throw new IOException("History journal segments do not end after record " + recordCount);
+          }
+          out.flush();
+        });
+      } catch (final EOFException e) {
+        failed = true;
+        throw new IOException("History journal is missing records: " + file.getAbsolutePath(), e);
+      } catch (final IOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+  }
+
+  private static void readHeader(final DataInputStream in, final String journalId) throws IOException {
+    if (in.readInt() != MAGIC_NUMBER || !journalId.equals(in.readUTF())) {
+      throw new IOException("Not the expected history journal: " + journalId);
+    }
+  }
+
+  /**
+   * Deletes the journal file. No further segments can be appended afterwards.
+   */
+  public void delete() {
+    synchronized (fileLock) {
+      failed = true;
+      if (file.exists() && !file.delete()) {
+        log.warning("Failed to delete history journal: " + file.getAbsolutePath());
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the history of game data read from a save game, if that history is kept in a journal. The journal
+   * records, as returned by {@link #read(int)}, follow the game data in the save game and are read from the specified
+   * stream. Does nothing if the game data's history was stored in the save game itself.
+   *
+   * @throws IOException If the save game does not contain all records of its history.
+   */
+  public static void restore(final GameData data, final ObjectInputStream input) throws IOException {
+    checkNotNull(data);
+    checkNotNull(input);
+
+    final History history = data.getHistory();
+    final String journalId = history.getJournalId();
+    if (journalId == null) {
+      return;
+    }
+
+    final Object journal;
+    try {
+      journal = input.readObject();
+    } catch (final EOFException e) {
+      throw new IOException("Save game does not contain its history journal: " + journalId, e);
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    if (!(journal instanceof byte[])) {
+      throw new IOException("Save game does not contain its history journal: " + journalId);
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream((byte[]) journal))) {
+      readHeader(in, journalId);
+      final GameObjectStreamFactory objectStreamFactory = new GameObjectStreamFactory(data);
+      final HistoryWriter historyWriter = history.getHistoryWriter();
+      int recordsLeft = history.getJournalRecordCount();
+      while (recordsLeft > 0) {
+        final int segmentRecordCount = in.readInt();
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream records = new GameObjectInputStream(objectStreamFactory,
+            new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+          for (int i = 0; i < segmentRecordCount && recordsLeft > 0; i++, recordsLeft--) {
+            ((SerializationWriter) records.readObject()).write(historyWriter);
+          }
+        }
+      }
+    } catch (final EOFException e) {
+      throw new IOException("History journal is missing records: " + journalId, e);
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    history.setJournalReference(null, 0);
+  }
+
+  /**
+   * Deletes the journals in the specified directory that have not been modified for the specified time, e.g. journals
+   * left behind by a game that did not shut down cleanly. Save games never depend on journal files, so deleting the
+   * journal of a game that is still running only makes its next auto-save fail and start a new journal.
+   */
+  public static void deleteStaleJournals(final File directory, final long maxAgeMillis) {
+    final long modifiedBefore = System.currentTimeMillis() - maxAgeMillis;
+    final File[] journals = directory.listFiles(
+        file -> file.getName().endsWith(FILE_EXTENSION) && file.lastModified() < modifiedBefore);
+    if (journals == null) {
+      return;
+    }
+    for (final File journal : journals) {
+      if (!journal.delete()) {
+        log.warning("Failed to delete stale history journal: " + journal.getAbsolutePath());
+      }
+    }
+  }
+}
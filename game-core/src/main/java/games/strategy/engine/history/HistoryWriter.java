@@ -51,6 +51,7 @@ public class HistoryWriter implements Serializable {
     }
     final Step currentStep = new Step(stepName, delegateName, player, history.getChanges().size(), stepDisplayName);
     addToAndSetCurrent(currentStep);
+    history.recordWritten(currentStep.getWriter());
   }
 
   /**
@@ -71,6 +72,7 @@ public class HistoryWriter implements Serializable {
     final Round currentRound = new Round(round, history.getChanges().size());
     current = (HistoryNode) history.getRoot();
     addToAndSetCurrent(currentRound);
+    history.recordWritten(currentRound.getWriter());
   }
 
   private void closeCurrent() {
@@ -122,6 +124,7 @@ public class HistoryWriter implements Serializable {
     }
     final Event event = new Event(eventName, history.getChanges().size());
     addToAndSetCurrent(event);
+    history.recordWritten(event.getWriter());
   }
 
   private boolean isCurrentEvent() {
@@ -146,6 +149,7 @@ public class HistoryWriter implements Serializable {
       startEvent("Filler event for child: " + node);
     }
     addToCurrent(node);
+    history.recordWritten(node.getWriter());
   }
 
   /**
@@ -159,6 +163,7 @@ public class HistoryWriter implements Serializable {
       startEvent("Filler event for change: " + change);
     }
     history.changeAdded(change);
+    history.recordWritten(new ChangeSerializationWriter(change));
   }
 
   /**
@@ -176,6 +181,7 @@ public class HistoryWriter implements Serializable {
     } finally {
       history.getGameData().releaseWriteLock();
     }
+    history.recordWritten(new RenderingDataHistorySerializer(details));
     history.goToEnd();
   }
 }
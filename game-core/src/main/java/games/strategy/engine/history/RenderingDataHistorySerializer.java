@@ -0,0 +1,16 @@
+package games.strategy.engine.history;
+
+class RenderingDataHistorySerializer implements SerializationWriter {
+  private static final long serialVersionUID = 2913906467306735212L;
+
+  private final Object renderingData;
+
+  RenderingDataHistorySerializer(final Object renderingData) {
+    this.renderingData = renderingData;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.setRenderingData(renderingData);
+  }
+}
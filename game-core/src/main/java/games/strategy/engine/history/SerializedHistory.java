@@ -22,6 +22,14 @@ class SerializedHistory implements Serializable {
 
   SerializedHistory(final History history, final GameData data, final List<Change> changes) {
     gameData = data;
+    writers.addAll(getSerializationWriters(history, changes));
+  }
+
+  /**
+   * Returns the writers that rebuild the specified history when written, in order, to an empty history.
+   */
+  static List<SerializationWriter> getSerializationWriters(final History history, final List<Change> changes) {
+    final List<SerializationWriter> writers = new ArrayList<>();
     final Enumeration<?> enumeration = ((DefaultMutableTreeNode) history.getRoot()).preorderEnumeration();
     enumeration.nextElement();
     int changeIndex = 0;
@@ -42,6 +50,7 @@ class SerializedHistory implements Serializable {
       writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
       changeIndex++;
     }
+    return writers;
   }
 
   public Object readResolve() {
@@ -0,0 +1,52 @@
+package games.strategy.engine.history;
+
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+
+import games.strategy.engine.data.GameData;
+
+/**
+ * Serialized in place of a {@link History} whose records are kept in a {@link HistoryJournal}. The records follow the
+ * game data in the save game and are replayed by {@link HistoryJournal#restore}.
+ *
+ * <p>
+ * This is a separate class rather than additional fields of {@link SerializedHistory}, so that engines that do not know
+ * about history journals fail to load such a save game instead of loading it with an empty history. This breaks
+ * loading auto-saves with older engines of the same compatibility version (see docs/dev/versioning.md), so only
+ * auto-saves written by the game's own server use it: regular save games, save games sent to clients and observers
+ * and save games written after loading an auto-save always hold a {@link SerializedHistory}.
+ * </p>
+ *
+ * <p>
+ * The format of the records following the game data is versioned by {@link #FORMAT_VERSION}, so engines reject
+ * auto-saves written in a newer format with a meaningful error.
+ * </p>
+ */
+final class SerializedHistoryReference implements Serializable {
+  /** The version of the format of the history journal records that follow the game data in the save game. */
+  static final int FORMAT_VERSION = 1;
+  private static final long serialVersionUID = 4093305873419540467L;
+
+  private final GameData gameData;
+  private final String journalId;
+  private final int journalRecordCount;
+  private final int formatVersion;
+
+  SerializedHistoryReference(final GameData data, final String journalId, final int journalRecordCount) {
+    gameData = data;
+    this.journalId = journalId;
+    this.journalRecordCount = journalRecordCount;
+    formatVersion = FORMAT_VERSION;
+  }
+
+  private Object readResolve() throws InvalidObjectException {
+    if (formatVersion > FORMAT_VERSION) {
+      throw new InvalidObjectException("Save game history is kept in journal format " + formatVersion
+          + ", but this engine only supports format " + FORMAT_VERSION + " or older. Please load it with the engine"
+          + " version that wrote it, or a newer one.");
+    }
+    final History history = new History(gameData);
+    history.setJournalReference(journalId, journalRecordCount);
+    return history;
+  }
+}
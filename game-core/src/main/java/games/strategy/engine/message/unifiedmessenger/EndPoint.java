@@ -4,7 +4,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 import java.util.logging.Level;
 
 import games.strategy.engine.message.MessageContext;
@@ -17,6 +20,11 @@ import lombok.extern.java.Log;
  * This is where the methods finally get called.
  * An end point contains the implementors for a given name that are local to this node.
  * You can invoke the method and get the results for all the implementors.
+ *
+ * <p>
+ * Remote invocations are dispatched through {@link #execute(LongConsumer)}. They run on the threads of a shared
+ * executor, one at a time in the order they were received if the end point is single threaded.
+ * </p>
  */
 @Log
 class EndPoint {
@@ -25,16 +33,26 @@ class EndPoint {
   // the next number we can run
   private long currentRunnableNumber = 0;
   private final Object numberMutex = new Object();
+  // held while a number is taken for a remote invocation and the invocation is queued
+  private final Object executeMutex = new Object();
   private final Object implementorsMutex = new Object();
   private final String name;
   private final Class<?> remoteClass;
   private final List<Object> implementors = new ArrayList<>();
   private final boolean singleThreaded;
+  private final Executor executor;
+  private final AtomicInteger queuedInvocations = new AtomicInteger();
+  private final AtomicInteger runningInvocations = new AtomicInteger();
+  private final LatencyHistogram.Recorder queueLatency = new LatencyHistogram.Recorder();
+  private final LatencyHistogram.Recorder runLatency = new LatencyHistogram.Recorder();
 
-  EndPoint(final String name, final Class<?> remoteClass, final boolean singleThreaded) {
+  EndPoint(final String name, final Class<?> remoteClass, final boolean singleThreaded, final Executor executor) {
     this.name = name;
     this.remoteClass = remoteClass;
     this.singleThreaded = singleThreaded;
+    // invocations of single threaded end points are submitted in the order of their numbers, running them serially
+    // makes sure no thread of the shared executor waits for an invocation still queued behind it
+    this.executor = singleThreaded ? new SerialExecutor(executor) : executor;
   }
 
   public Object getFirstImplementor() {
@@ -46,6 +64,41 @@ class EndPoint {
     }
   }
 
+  /**
+   * Takes a number for a remote invocation of this end point and runs the invocation with it. The invocation must call
+   * {@link #invokeLocal(RemoteMethodCall, long, INode)} with the number it is given.
+   *
+   * <p>
+   * Taking the number and queueing the invocation is atomic, so the invocations of a single threaded end point are
+   * queued in the order of their numbers even if they are received on several threads at once. Otherwise an invocation
+   * could be queued behind one with a higher number, which would wait for it forever.
+   * </p>
+   */
+  void execute(final LongConsumer invocation) {
+    synchronized (executeMutex) {
+      final long number = takeANumber();
+      final long queuedNanos = System.nanoTime();
+      queuedInvocations.incrementAndGet();
+      executor.execute(() -> {
+        final long startNanos = System.nanoTime();
+        queuedInvocations.decrementAndGet();
+        runningInvocations.incrementAndGet();
+        queueLatency.record(startNanos - queuedNanos);
+        try {
+          invocation.accept(number);
+        } finally {
+          runningInvocations.decrementAndGet();
+          runLatency.record(System.nanoTime() - startNanos);
+        }
+      });
+    }
+  }
+
+  InvocationStats getStats() {
+    return new InvocationStats(
+        queuedInvocations.get(), runningInvocations.get(), queueLatency.snapshot(), runLatency.snapshot());
+  }
+
   public long takeANumber() {
     return nextGivenNumber.getAndIncrement();
   }
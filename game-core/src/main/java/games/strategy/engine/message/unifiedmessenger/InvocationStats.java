@@ -0,0 +1,18 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the remote invocations of a single end point dispatched by a {@link UnifiedMessenger}.
+ */
+@Value
+public class InvocationStats {
+  /** The number of invocations waiting to run. */
+  private final int queuedInvocations;
+  /** The number of invocations running. */
+  private final int runningInvocations;
+  /** The time between receiving and running invocations. */
+  private final LatencyHistogram queueLatency;
+  /** The time taken to run invocations. */
+  private final LatencyHistogram runLatency;
+}
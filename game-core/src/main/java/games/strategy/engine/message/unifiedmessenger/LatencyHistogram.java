@@ -0,0 +1,79 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * A snapshot of the distribution of latencies, counted in buckets whose upper bound doubles from one bucket to the
+ * next: the first bucket counts latencies under one millisecond, the second under two milliseconds, and so on. The
+ * last bucket counts all latencies over the upper bound of the previous one.
+ */
+public final class LatencyHistogram {
+  static final int BUCKET_COUNT = 18;
+
+  private final long[] counts;
+
+  private LatencyHistogram(final long[] counts) {
+    this.counts = counts;
+  }
+
+  public int getBucketCount() {
+    return counts.length;
+  }
+
+  public long getCount(final int bucket) {
+    return counts[bucket];
+  }
+
+  public long getTotalCount() {
+    return Arrays.stream(counts).sum();
+  }
+
+  /**
+   * Returns the exclusive upper bound of the latencies counted in the specified bucket, or {@code null} if the bucket
+   * has no upper bound.
+   */
+  public @Nullable Duration getUpperBound(final int bucket) {
+    return (bucket < counts.length - 1) ? Duration.ofMillis(1L << bucket) : null;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        builder.append(builder.length() > 1 ? ", " : "")
+            .append(i < counts.length - 1 ? "<" + (1L << i) + "ms" : ">=" + (1L << (i - 1)) + "ms")
+            .append(": ")
+            .append(counts[i]);
+      }
+    }
+    return builder.append(']').toString();
+  }
+
+  /**
+   * Records latencies from any thread.
+   */
+  static final class Recorder {
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    void record(final long nanos) {
+      final long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(nanos, 0));
+      // the number of significant bits of the milliseconds is the index of the first bucket above them
+      final int bucket = Math.min(Long.SIZE - Long.numberOfLeadingZeros(millis), BUCKET_COUNT - 1);
+      counts.incrementAndGet(bucket);
+    }
+
+    LatencyHistogram snapshot() {
+      final long[] snapshot = new long[BUCKET_COUNT];
+      for (int i = 0; i < snapshot.length; i++) {
+        snapshot[i] = counts.get(i);
+      }
+      return new LatencyHistogram(snapshot);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import lombok.extern.java.Log;
+
+/**
+ * Runs tasks one at a time, in the order they are submitted, on the threads of another executor.
+ *
+ * <p>
+ * At most one thread of the other executor is used at any time, and only while there are tasks to run, so that many
+ * serial executors can share a small pool of threads.
+ * </p>
+ */
+@Log
+final class SerialExecutor implements Executor {
+  private final Executor executor;
+  private final Object lock = new Object();
+  @GuardedBy("lock")
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  @GuardedBy("lock")
+  private boolean draining;
+
+  SerialExecutor(final Executor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    synchronized (lock) {
+      tasks.add(task);
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    executor.execute(this::drain);
+  }
+
+  private void drain() {
+    while (true) {
+      final Runnable task;
+      synchronized (lock) {
+        task = tasks.poll();
+        if (task == null) {
+          draining = false;
+          return;
+        }
+      }
+      try {
+        task.run();
+      } catch (final RuntimeException e) {
+        // keep running the following tasks
+        log.log(Level.SEVERE, "error in serial task", e);
+      }
+    }
+  }
+}
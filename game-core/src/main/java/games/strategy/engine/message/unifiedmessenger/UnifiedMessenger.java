@@ -8,13 +8,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import org.triplea.java.Interruptibles;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import games.strategy.engine.message.HubInvocationResults;
 import games.strategy.engine.message.HubInvoke;
@@ -35,7 +39,13 @@ import lombok.extern.java.Log;
  */
 @Log
 public class UnifiedMessenger {
-  private static final ExecutorService threadPool = Executors.newFixedThreadPool(15);
+  private static final int MAX_INVOCATION_THREADS = 256;
+  /**
+   * Runs the remote invocations of all end points. Threads are only created when needed and end when idle, so that the
+   * pool can grow to run many invocations blocked waiting (for example, on a human player) without keeping threads
+   * alive afterwards.
+   */
+  private static final ExecutorService threadPool = newInvocationThreadPool();
   // the messenger we are based on
   private final IMessenger messenger;
   // lock on this for modifications to create or remove local end points
@@ -55,6 +65,17 @@ public class UnifiedMessenger {
   // only non null for the server
   private UnifiedMessengerHub hub;
 
+  private static ExecutorService newInvocationThreadPool() {
+    final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+        MAX_INVOCATION_THREADS, MAX_INVOCATION_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Remote invocation %d")
+            .build());
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
+  }
+
   public UnifiedMessenger(final IMessenger messenger) {
     this.messenger = messenger;
     this.messenger.addMessageListener(this::messageReceived);
@@ -163,6 +184,16 @@ public class UnifiedMessenger {
     return messenger.getLocalNode();
   }
 
+  /**
+   * Returns a snapshot of the remote invocations of each end point with local implementors, by end point name.
+   */
+  public Map<String, InvocationStats> getInvocationStats() {
+    synchronized (endPointMutex) {
+      return localEndPoints.entrySet().stream()
+          .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getStats()));
+    }
+  }
+
   /**
    * Get the 1 and only implementor for the end point. Throws an exception if there are not exactly 1 implementors.
    */
@@ -200,7 +231,8 @@ public class UnifiedMessenger {
       if (localEndPoints.containsKey(endPointDescriptor.getName())) {
         return localEndPoints.get(endPointDescriptor.getName());
       }
-      endPoint = new EndPoint(endPointDescriptor.getName(), endPointDescriptor.getClazz(), singleThreaded);
+      endPoint =
+          new EndPoint(endPointDescriptor.getName(), endPointDescriptor.getClazz(), singleThreaded, threadPool);
       localEndPoints.put(endPointDescriptor.getName(), endPoint);
     }
     final HasEndPointImplementor msg = new HasEndPointImplementor(endPointDescriptor.getName());
@@ -254,15 +286,13 @@ public class UnifiedMessenger {
         return;
       }
       // very important
-      // we are guaranteed that here messages will be read in the same order that they are sent from the client
-      // however, once we delegate to the thread pool, there is no guarantee that the thread pool task will run before
-      // we get the next message notification
-      // get the number for the invocation here
-      final long methodRunNumber = local.takeANumber();
+      // the invocation gets its number when it is queued, so that invocations of single threaded end points run in the
+      // order they were queued; the end point takes the number and queues the invocation atomically, as messages may be
+      // decoded on several threads
       // we don't want to block the message thread, only one thread is
       // reading messages per connection, so run with out thread pool
       final EndPoint localFinal = local;
-      threadPool.execute(() -> {
+      local.execute(methodRunNumber -> {
         final List<RemoteMethodCallResults> results =
             localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
         if (invoke.needReturnValues) {
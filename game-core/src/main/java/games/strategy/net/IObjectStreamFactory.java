@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.util.Optional;
 
 /**
  * Factory for creating matching pairs of {@link ObjectInputStream} and {@link ObjectOutputStream}. The extra layer of
@@ -14,4 +15,24 @@ public interface IObjectStreamFactory {
   ObjectInputStream create(InputStream stream) throws IOException;
 
   ObjectOutputStream create(OutputStream stream) throws IOException;
+
+  /**
+   * Returns a factory for streams of the same objects in a more compact encoding, or empty if there is none.
+   *
+   * <p>
+   * Peers offer the {@link #getFormatName() format} of their compact factory when they connect, and use it instead of
+   * this factory if both of them support it. Otherwise they keep using this factory.
+   * </p>
+   */
+  default Optional<IObjectStreamFactory> getCompactFactory() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the name of the encoding of the streams created by this factory. Factories of the same name must create
+   * streams that can read each other.
+   */
+  default String getFormatName() {
+    return "java";
+  }
 }
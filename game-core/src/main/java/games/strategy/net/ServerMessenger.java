@@ -23,11 +23,14 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 import games.strategy.net.nio.NioSocket;
+import games.strategy.net.nio.NioSocketConfiguration;
 import games.strategy.net.nio.NioSocketListener;
 import games.strategy.net.nio.QuarantineConversation;
 import games.strategy.net.nio.ServerQuarantineConversation;
+import games.strategy.net.nio.WriteQueueStats;
 import lombok.extern.java.Log;
 
 /**
@@ -52,15 +55,22 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
   private final Set<String> miniBannedMacAddresses = new ConcurrentSkipListSet<>();
   // The following code is used in hosted lobby games by the host for player mini-banning
   private final Map<String, String> playersThatLeftMacsLast10 = new ConcurrentHashMap<>();
+  @GuardedBy("node")
+  private final Set<String> reservedNames = new HashSet<>();
 
   public ServerMessenger(final String name, final int port, final IObjectStreamFactory objectStreamFactory)
       throws IOException {
+    this(name, port, objectStreamFactory, NioSocketConfiguration.DEFAULT);
+  }
+
+  public ServerMessenger(final String name, final int port, final IObjectStreamFactory objectStreamFactory,
+      final NioSocketConfiguration nioSocketConfiguration) throws IOException {
     socketChannel = ServerSocketChannel.open();
     socketChannel.configureBlocking(false);
     socketChannel.socket().setReuseAddress(true);
     socketChannel.socket().bind(new InetSocketAddress(port), 10);
     final int boundPort = socketChannel.socket().getLocalPort();
-    nioSocket = new NioSocket(objectStreamFactory, this);
+    nioSocket = new NioSocket(objectStreamFactory, this, nioSocketConfiguration);
     acceptorSelector = Selector.open();
     node = new Node(name, IpFinder.findInetAddress(), boundPort);
     new Thread(new ConnectionHandler(), "Server Messenger Connection Handler").start();
@@ -132,7 +142,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
   /**
    * Invoked when the node with the specified unique name has successfully logged in. Note that {@code uniquePlayerName}
    * is the node name and may not be identical to the name of the player associated with the node (see
-   * {@link #getUniqueName(String)}.
+   * {@link #reserveUniqueName(String)}.
    */
   public void notifyPlayerLogin(final String uniquePlayerName, final String mac) {
     cachedMacAddresses.put(uniquePlayerName, mac);
@@ -190,26 +200,30 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     }
     final SocketChannel fromChannel = nodeToChannel.get(msg.getFrom());
     final List<SocketChannel> nodes = new ArrayList<>(nodeToChannel.values());
+    nodes.removeIf(channel -> channel == fromChannel);
     log.finest(() -> "broadcasting to" + nodes);
-    for (final SocketChannel channel : nodes) {
-      if (channel != fromChannel) {
-        nioSocket.send(channel, msg);
-      }
-    }
+    nioSocket.send(nodes, msg);
   }
 
+  @GuardedBy("node")
   private boolean isNameTaken(final String nodeName) {
-    return getNodes().stream()
-        .map(INode::getName)
-        .anyMatch(nodeName::equalsIgnoreCase);
+    return reservedNames.stream().anyMatch(nodeName::equalsIgnoreCase)
+        || getNodes().stream()
+            .map(INode::getName)
+            .anyMatch(nodeName::equalsIgnoreCase);
   }
 
   /**
-   * Returns a node name, based on the specified node name, that is unique across all nodes. The node name is made
-   * unique by adding a numbered suffix to the existing node name. For example, for the second node with the name "foo",
-   * this method will return "foo (1)".
+   * Returns a node name, based on the specified node name, that is unique across all nodes and all names reserved by
+   * connections still logging in, and reserves it. The node name is made unique by adding a numbered suffix to the
+   * existing node name. For example, for the second node with the name "foo", this method will return "foo (1)".
+   *
+   * <p>
+   * The reservation ends when the connection is unquarantined, from then on the node holds the name, or when
+   * {@link #releaseName(String)} is called because the login failed.
+   * </p>
    */
-  public String getUniqueName(final String name) {
+  public String reserveUniqueName(final String name) {
     String currentName = name;
     if (currentName.length() > 50) {
       currentName = currentName.substring(0, 50);
@@ -229,10 +243,20 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
           i++;
         }
       }
+      reservedNames.add(currentName);
     }
     return currentName;
   }
 
+  /**
+   * Releases the specified node name reserved by {@link #reserveUniqueName(String)}.
+   */
+  public void releaseName(final String name) {
+    synchronized (node) {
+      reservedNames.remove(name);
+    }
+  }
+
   private void notifyListeners(final MessageHeader msg) {
     for (final IMessageListener listener : listeners) {
       listener.messageReceived(msg.getMessage(), msg.getFrom());
@@ -275,6 +299,16 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     return node;
   }
 
+  /**
+   * Returns a snapshot of the queue of messages waiting to be sent to the specified node, or empty if the node is not
+   * connected or no message was sent to it yet.
+   */
+  public Optional<WriteQueueStats> getWriteQueueStats(final INode node) {
+    checkNotNull(node);
+
+    return Optional.ofNullable(nodeToChannel.get(node)).flatMap(nioSocket::getWriteQueueStats);
+  }
+
   private class ConnectionHandler implements Runnable {
     @Override
     public void run() {
@@ -388,6 +422,8 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     final INode remote = new Node(con.getRemoteName(), (InetSocketAddress) channel.socket().getRemoteSocketAddress());
     nodeToChannel.put(remote, channel);
     channelToNode.put(channel, remote);
+    // the node holds the name from now on
+    releaseName(remote.getName());
     notifyConnectionsChanged(true, remote);
     log.info("Connection added to:" + remote);
   }
@@ -3,10 +3,13 @@ package games.strategy.net.nio;
 import java.io.Serializable;
 import java.net.InetSocketAddress;
 import java.nio.channels.SocketChannel;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.Interruptibles;
 
 import games.strategy.net.IConnectionLogin;
@@ -27,6 +30,7 @@ public class ClientQuarantineConversation extends QuarantineConversation {
   private final IConnectionLogin login;
   private final SocketChannel channel;
   private final NioSocket socket;
+  private final String mac;
   private final CountDownLatch showLatch = new CountDownLatch(1);
   private final CountDownLatch doneShowLatch = new CountDownLatch(1);
   private Step step = Step.READ_CHALLENGE;
@@ -54,8 +58,13 @@ public class ClientQuarantineConversation extends QuarantineConversation {
     this.localName = localName;
     this.socket = socket;
     this.channel = channel;
+    this.mac = mac;
+  }
+
+  @Override
+  public void start() {
     // Send the local name
-    send(this.localName);
+    send(localName);
     // Send the mac address
     send(mac);
   }
@@ -96,10 +105,10 @@ public class ClientQuarantineConversation extends QuarantineConversation {
             if (isClosed) {
               return Action.NONE;
             }
-            send((Serializable) challengeResponse);
+            send((Serializable) withWireFormat(challengeResponse));
           } else {
             showLatch.countDown();
-            send(null);
+            send((Serializable) withWireFormat(socket.getCompactFormatName().isPresent() ? new HashMap<>() : null));
           }
           step = Step.READ_ERROR;
           return Action.NONE;
@@ -116,6 +125,10 @@ public class ClientQuarantineConversation extends QuarantineConversation {
           final String[] strings = ((String[]) serializable);
           localName = strings[0];
           serverName = strings[1];
+          // the server names the compact format if it uses it too, starting with the next message
+          if (strings.length > 2 && socket.getCompactFormatName().filter(strings[2]::equals).isPresent()) {
+            socket.useCompactFormat(channel);
+          }
           step = Step.READ_ADDRESS;
           return Action.NONE;
         case READ_ADDRESS:
@@ -137,6 +150,15 @@ public class ClientQuarantineConversation extends QuarantineConversation {
     }
   }
 
+  private @Nullable Map<String, String> withWireFormat(final @Nullable Map<String, String> response) {
+    if (response == null || !socket.getCompactFormatName().isPresent()) {
+      return response;
+    }
+    final Map<String, String> responseWithWireFormat = new HashMap<>(response);
+    responseWithWireFormat.put(WIRE_FORMAT_PROPERTY, socket.getCompactFormatName().get());
+    return responseWithWireFormat;
+  }
+
   private void send(final Serializable object) {
     // this messenger is quarantined, so to and from dont matter
     final MessageHeader header = new MessageHeader(Node.NULL_NODE, Node.NULL_NODE, object);
@@ -3,7 +3,13 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import games.strategy.io.IoUtils;
@@ -14,14 +20,19 @@ import games.strategy.net.nio.QuarantineConversation.Action;
 import lombok.extern.java.Log;
 
 /**
- * A thread to Decode messages from a reader.
+ * Threads to Decode messages read by the readers.
+ *
+ * <p>
+ * Each channel is decoded by a single thread, so that its messages are decoded and passed on in the order they were
+ * read. This matters beyond the order of the messages themselves, as the quarantine conversation of a channel may
+ * switch the format of its following messages. Different channels are decoded in parallel if there is more than one
+ * thread.
+ * </p>
  */
 @Log
 class Decoder {
-  private final NioReader reader;
   private volatile boolean running = true;
   private final ErrorReporter errorReporter;
-  private final IObjectStreamFactory objectStreamFactory;
   private final NioSocket nioSocket;
   /**
    * These sockets are quarantined. They have not logged in, and messages
@@ -29,69 +40,98 @@ class Decoder {
    */
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
-  private final Thread thread;
+  private final List<Worker> workers = new ArrayList<>();
+  private final ConcurrentHashMap<SocketChannel, Worker> workersByChannel = new ConcurrentHashMap<>();
 
-  Decoder(final NioSocket nioSocket, final NioReader reader, final ErrorReporter reporter,
-      final IObjectStreamFactory objectStreamFactory) {
-    this.reader = reader;
+  Decoder(final NioSocket nioSocket, final ErrorReporter reporter, final int threads) {
     errorReporter = reporter;
-    this.objectStreamFactory = objectStreamFactory;
     this.nioSocket = nioSocket;
-    thread = new Thread(this::loop, "Decoder");
-    thread.start();
+    for (int i = 0; i < threads; i++) {
+      workers.add(new Worker(threads == 1 ? "Decoder" : "Decoder " + (i + 1)));
+    }
   }
 
-  void shutDown() {
-    running = false;
-    thread.interrupt();
-  }
+  /**
+   * A thread decoding the messages of the channels assigned to it.
+   */
+  private final class Worker {
+    private final BlockingQueue<SocketReadData> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger channelCount = new AtomicInteger();
+    private final Thread thread;
 
-  private void loop() {
-    while (running) {
-      try {
-        final SocketReadData data = reader.take();
-        if (data == null || !running) {
-          continue;
-        }
+    Worker(final String name) {
+      thread = new Thread(this::loop, name);
+      thread.start();
+    }
 
+    private void loop() {
+      while (running) {
         try {
-          final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
-            try {
-              return (MessageHeader) objectStreamFactory.create(is).readObject();
-            } catch (final ClassNotFoundException e) {
-              throw new IOException(e);
-            }
-          });
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!running || s == null || s.isInputShutdown()) {
+          final SocketReadData data = queue.take();
+          if (!running) {
             continue;
           }
-          final QuarantineConversation conversation = quarantine.get(data.getChannel());
-          if (conversation != null) {
-            sendQuarantine(data.getChannel(), conversation, header);
-          } else {
-            if (nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            nioSocket.messageReceived(header, data.getChannel());
+          decode(data);
+        } catch (final InterruptedException e) {
+          // Do nothing if we were interrupted due to an explicit shutdown because the thread will terminate normally;
+          // otherwise re-interrupt this thread and keep running
+          if (running) {
+            Thread.currentThread().interrupt();
           }
-        } catch (final IOException | RuntimeException e) {
-          // we are reading from memory here
-          // there should be no network errors, something is odd
-          log.log(Level.SEVERE, "error reading object", e);
-          errorReporter.error(data.getChannel(), e);
         }
-      } catch (final InterruptedException e) {
-        // Do nothing if we were interrupted due to an explicit shutdown because the thread will terminate normally;
-        // otherwise re-interrupt this thread and keep running
-        if (running) {
-          Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  void shutDown() {
+    running = false;
+    workers.forEach(worker -> worker.thread.interrupt());
+  }
+
+  /**
+   * Queues the specified packet for decoding by the thread assigned to its channel.
+   */
+  void enque(final SocketReadData data) {
+    final Worker worker = workersByChannel.get(data.getChannel());
+    if (worker == null) {
+      log.finest(() -> "dropping packet of closed channel:" + data.getChannel());
+      return;
+    }
+    worker.queue.offer(data);
+  }
+
+  private void decode(final SocketReadData data) {
+    try {
+      final IObjectStreamFactory objectStreamFactory = nioSocket.getObjectStreamFactory(data.getChannel());
+      final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
+        try {
+          return (MessageHeader) objectStreamFactory.create(is).readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+      });
+      // make sure we are still open
+      final Socket s = data.getChannel().socket();
+      if (!running || s == null || s.isInputShutdown()) {
+        return;
+      }
+      final QuarantineConversation conversation = quarantine.get(data.getChannel());
+      if (conversation != null) {
+        sendQuarantine(data.getChannel(), conversation, header);
+      } else {
+        if (nioSocket.getLocalNode() == null) {
+          throw new IllegalStateException("we are writing messages, but no local node");
+        }
+        if (header.getFrom() == null) {
+          throw new IllegalArgumentException("Null from:" + header);
         }
+        nioSocket.messageReceived(header, data.getChannel());
       }
+    } catch (final IOException | RuntimeException e) {
+      // we are reading from memory here
+      // there should be no network errors, something is odd
+      log.log(Level.SEVERE, "error reading object", e);
+      errorReporter.error(data.getChannel(), e);
     }
   }
 
@@ -108,11 +148,25 @@ class Decoder {
     }
   }
 
+  /**
+   * Assigns the specified channel to the thread decoding the fewest channels.
+   */
   void add(final SocketChannel channel, final QuarantineConversation conversation) {
     quarantine.put(channel, conversation);
+    workersByChannel.computeIfAbsent(channel, c -> {
+      final Worker worker = workers.stream()
+          .min(Comparator.comparingInt(w -> w.channelCount.get()))
+          .orElseThrow(IllegalStateException::new);
+      worker.channelCount.incrementAndGet();
+      return worker;
+    });
   }
 
   void close(final SocketChannel channel) {
+    final Worker worker = workersByChannel.remove(channel);
+    if (worker != null) {
+      worker.channelCount.decrementAndGet();
+    }
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
@@ -5,6 +5,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import com.google.common.base.Preconditions;
@@ -22,21 +28,37 @@ import lombok.extern.java.Log;
 @AllArgsConstructor
 class Encoder {
   private final NioWriter writer;
-  private final IObjectStreamFactory objectStreamFactory;
+  private final NioSocket nioSocket;
 
   void write(final SocketChannel to, final MessageHeader header) {
+    checkNotNull(to);
+    write(Collections.singleton(to), header);
+  }
+
+  /**
+   * Encodes the specified message header once, and writes the encoded data to each of the specified channels.
+   */
+  void write(final Collection<SocketChannel> to, final MessageHeader header) {
     checkNotNull(to);
     if (header.getFrom() == null) {
       throw new IllegalArgumentException("No from node");
     }
-    try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
-      final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
-      writer.enque(data, to);
-    } catch (final IOException e) {
-      // we aren't doing any I/O, just writing in memory so something is very wrong
-      log.log(Level.SEVERE, "Error writing object:" + header, e);
+    // channels may use different formats, the message is encoded once per format
+    final Map<IObjectStreamFactory, List<SocketChannel>> channelsByFormat = new LinkedHashMap<>();
+    for (final SocketChannel channel : to) {
+      channelsByFormat.computeIfAbsent(nioSocket.getObjectStreamFactory(channel), format -> new ArrayList<>())
+          .add(channel);
     }
+    channelsByFormat.forEach((objectStreamFactory, channels) -> {
+      try {
+        final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
+        final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
+        writer.enque(data, channels);
+      } catch (final IOException e) {
+        // we aren't doing any I/O, just writing in memory so something is very wrong
+        log.log(Level.SEVERE, "Error writing object:" + header, e);
+      }
+    });
   }
 
   private void write(final MessageHeader header, final ObjectOutputStream out) throws IOException {
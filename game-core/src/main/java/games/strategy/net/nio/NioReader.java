@@ -12,19 +12,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import lombok.extern.java.Log;
 
 /**
  * A thread that reads socket data using NIO from a collection of sockets.
- * Data is read in packets, and placed in the output queue.
- * Packets are placed in the output queue in order they are read from the socket.
+ * Data is read in packets, and passed to the output.
+ * Packets are passed to the output in order they are read from the socket.
  */
 @Log
 class NioReader {
-  private final LinkedBlockingQueue<SocketReadData> outputQueue = new LinkedBlockingQueue<>();
+  private final Consumer<SocketReadData> output;
   private volatile boolean running = true;
   private final Map<SocketChannel, SocketReadData> reading = new ConcurrentHashMap<>();
   private final ErrorReporter errorReporter;
@@ -32,15 +32,16 @@ class NioReader {
   private final Object socketsToAddMutex = new Object();
   private final List<SocketChannel> socketsToAdd = new ArrayList<>();
 
-  NioReader(final ErrorReporter reporter) {
+  NioReader(final ErrorReporter reporter, final Consumer<SocketReadData> output, final String threadName) {
     errorReporter = reporter;
+    this.output = output;
     try {
       selector = Selector.open();
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Could not create Selector", e);
       throw new IllegalStateException(e);
     }
-    new Thread(this::loop, "NIO Reader").start();
+    new Thread(this::loop, threadName).start();
   }
 
   void shutDown() {
@@ -119,7 +120,7 @@ class NioReader {
 
   private void enque(final SocketReadData packet) {
     reading.remove(packet.getChannel());
-    outputQueue.offer(packet);
+    output.accept(packet);
   }
 
   private SocketReadData getReadData(final SocketChannel channel) {
@@ -131,10 +132,6 @@ class NioReader {
     return packet;
   }
 
-  SocketReadData take() throws InterruptedException {
-    return outputQueue.take();
-  }
-
   void close(final SocketChannel channel) {
     reading.remove(channel);
   }
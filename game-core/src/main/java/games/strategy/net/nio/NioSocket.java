@@ -5,6 +5,13 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import games.strategy.net.INode;
@@ -14,8 +21,8 @@ import lombok.extern.java.Log;
 
 /**
  * The threads needed for a group of sockets using NIO.
- * One thread reds socket data, one thread writes socket data and one thread deserializes (decodes) packets read by the
- * read thread.
+ * Reader threads read socket data, one thread writes socket data and decoder threads deserialize (decode) packets read
+ * by the reader threads (see {@link NioSocketConfiguration}).
  * serializing (encoding) objects to be written across the network is done by threads calling this object.
  */
 @Log
@@ -23,15 +30,29 @@ public class NioSocket implements ErrorReporter {
   private final Encoder encoder;
   private final Decoder decoder;
   private final NioWriter writer;
-  private final NioReader reader;
+  private final List<NioReader> readers = new ArrayList<>();
+  private final Map<SocketChannel, NioReader> readersByChannel = new ConcurrentHashMap<>();
+  private final AtomicInteger nextReader = new AtomicInteger();
   private final NioSocketListener listener;
+  private final IObjectStreamFactory objectStreamFactory;
+  /** The channels whose messages are encoded with the compact factory instead of the default one. */
+  private final Map<SocketChannel, IObjectStreamFactory> compactChannels = new ConcurrentHashMap<>();
 
   public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener) {
+    this(factory, listener, NioSocketConfiguration.DEFAULT);
+  }
+
+  public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener,
+      final NioSocketConfiguration configuration) {
     this.listener = listener;
-    writer = new NioWriter(this);
-    reader = new NioReader(this);
-    decoder = new Decoder(this, reader, this, factory);
-    encoder = new Encoder(writer, factory);
+    objectStreamFactory = factory;
+    writer = new NioWriter(this, configuration.getWriteQueueLimits());
+    decoder = new Decoder(this, this, configuration.getDecoderThreads());
+    for (int i = 0; i < configuration.getReaderThreads(); i++) {
+      final String name = configuration.getReaderThreads() == 1 ? "NIO Reader" : "NIO Reader " + (i + 1);
+      readers.add(new NioReader(this, decoder::enque, name));
+    }
+    encoder = new Encoder(writer, this);
   }
 
   INode getLocalNode() {
@@ -42,13 +63,46 @@ public class NioSocket implements ErrorReporter {
     return listener.getRemoteNode(channel);
   }
 
+  /**
+   * Returns a snapshot of the queue of data waiting to be written to the specified channel, or empty if nothing was
+   * written to it yet.
+   */
+  public Optional<WriteQueueStats> getWriteQueueStats(final SocketChannel channel) {
+    checkNotNull(channel);
+
+    return writer.getStats(channel);
+  }
+
+  /**
+   * Returns the factory used to encode and decode the messages of the specified channel.
+   */
+  IObjectStreamFactory getObjectStreamFactory(final SocketChannel channel) {
+    return compactChannels.getOrDefault(channel, objectStreamFactory);
+  }
+
+  /**
+   * Returns the name of the compact format this socket can use instead of Java serialization, or empty if there is
+   * none.
+   */
+  Optional<String> getCompactFormatName() {
+    return objectStreamFactory.getCompactFactory().map(IObjectStreamFactory::getFormatName);
+  }
+
+  /**
+   * Encodes and decodes all further messages of the specified channel in the compact format. Must only be called by
+   * the quarantine conversation of the channel, once the peer has agreed to use the compact format.
+   */
+  void useCompactFormat(final SocketChannel channel) {
+    objectStreamFactory.getCompactFactory().ifPresent(factory -> compactChannels.put(channel, factory));
+  }
+
   /**
    * Stop our threads.
    * This does not close the sockets we are connected to.
    */
   public void shutDown() {
     writer.shutDown();
-    reader.shutDown();
+    readers.forEach(NioReader::shutDown);
     decoder.shutDown();
   }
 
@@ -65,6 +119,20 @@ public class NioSocket implements ErrorReporter {
     encoder.write(to, header);
   }
 
+  /**
+   * Sends the specified message header through each of the specified channels. The message is encoded only once,
+   * whatever the number of channels.
+   *
+   * @param to The destination channels.
+   * @param header The message header to send.
+   */
+  public void send(final Collection<SocketChannel> to, final MessageHeader header) {
+    checkNotNull(to);
+    checkNotNull(header);
+
+    encoder.write(to, header);
+  }
+
   /**
    * Add this channel.
    * The channel will either be unquarantined, or an error will be reported
@@ -73,9 +141,13 @@ public class NioSocket implements ErrorReporter {
     if (channel.isBlocking()) {
       throw new IllegalArgumentException("Channel is blocking");
     }
-    // add the decoder first, so it can quarantine the messages!
+    // add the writer and the decoder first, so the conversation can reply and the decoder can quarantine the messages!
+    writer.add(channel);
     decoder.add(channel, conversation);
+    final NioReader reader = readers.get(Math.floorMod(nextReader.getAndIncrement(), readers.size()));
+    readersByChannel.put(channel, reader);
     reader.add(channel);
+    conversation.start();
   }
 
   void unquarantine(final SocketChannel channel, final QuarantineConversation conversation) {
@@ -109,7 +181,11 @@ public class NioSocket implements ErrorReporter {
     }
     decoder.close(channel);
     writer.close(channel);
-    reader.close(channel);
+    final NioReader reader = readersByChannel.remove(channel);
+    if (reader != null) {
+      reader.close(channel);
+    }
+    compactChannels.remove(channel);
   }
 
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
@@ -0,0 +1,39 @@
+package games.strategy.net.nio;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The configuration of a {@link NioSocket}.
+ *
+ * <p>
+ * Each channel is read by a single reader thread and decoded by a single decoder thread, so that the messages of a
+ * channel are always decoded in the order they were sent. Servers with many connections may use more threads to read
+ * and decode the messages of different channels in parallel.
+ * </p>
+ */
+@Builder
+@Value
+public class NioSocketConfiguration {
+  public static final NioSocketConfiguration DEFAULT = builder().build();
+
+  /** The number of threads selecting and reading channels. */
+  @Builder.Default
+  private final int readerThreads = 1;
+  /** The number of threads deserializing the messages read from channels. */
+  @Builder.Default
+  private final int decoderThreads = 1;
+  @Builder.Default
+  private final WriteQueueLimits writeQueueLimits = WriteQueueLimits.DEFAULT;
+
+  private NioSocketConfiguration(final int readerThreads, final int decoderThreads,
+      final WriteQueueLimits writeQueueLimits) {
+    checkArgument(readerThreads > 0, "reader threads must be positive");
+    checkArgument(decoderThreads > 0, "decoder threads must be positive");
+    this.readerThreads = readerThreads;
+    this.decoderThreads = decoderThreads;
+    this.writeQueueLimits = writeQueueLimits;
+  }
+}
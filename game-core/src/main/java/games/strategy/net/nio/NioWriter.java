@@ -5,12 +5,18 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import lombok.extern.java.Log;
@@ -19,21 +25,32 @@ import lombok.extern.java.Log;
  * A thread that writes socket data using NIO.
  * Data is written in packets that are enqueued on our buffer.
  * Packets are sent to the sockets in the order that they are received.
+ *
+ * <p>
+ * Each channel has its own queue, so threads enqueueing packets never wait for each other or for the writing thread.
+ * The size of each queue is bounded by the {@link WriteQueueLimits}.
+ * </p>
  */
 @Log
 class NioWriter {
   private final Selector selector;
   private final ErrorReporter errorReporter;
+  private final WriteQueueLimits limits;
   // this is the data we are writing
-  private final Map<SocketChannel, List<SocketWriteData>> writing = new HashMap<>();
+  private final ConcurrentMap<SocketChannel, ChannelQueue> writing = new ConcurrentHashMap<>();
   // these are the sockets we arent selecting on, but should now
-  private List<SocketChannel> socketsToWake = new ArrayList<>();
-  // the writing thread and threads adding data to write synchronize on this lock
-  private final Object mutex = new Object();
+  private final Queue<SocketChannel> socketsToWake = new ConcurrentLinkedQueue<>();
+  // these are the sockets that went over the high watermark and must be disconnected
+  private final Queue<SocketChannel> socketsToDisconnect = new ConcurrentLinkedQueue<>();
   private volatile boolean running = true;
 
   NioWriter(final ErrorReporter reporter) {
+    this(reporter, WriteQueueLimits.DEFAULT);
+  }
+
+  NioWriter(final ErrorReporter reporter, final WriteQueueLimits limits) {
     errorReporter = reporter;
+    this.limits = limits;
     try {
       selector = Selector.open();
     } catch (final IOException e) {
@@ -43,6 +60,25 @@ class NioWriter {
     new Thread(this::loop, "NIO Writer").start();
   }
 
+  /**
+   * The packets waiting to be written to a single channel. Packets are added by any thread, but only the writing
+   * thread removes them.
+   */
+  private static final class ChannelQueue {
+    final Queue<SocketWriteData> packets = new ConcurrentLinkedQueue<>();
+    final AtomicInteger packetCount = new AtomicInteger();
+    final AtomicLong pendingBytes = new AtomicLong();
+    // whether the channel is registered with the selector, or about to be
+    final AtomicBoolean selected = new AtomicBoolean();
+    final AtomicBoolean slow = new AtomicBoolean();
+    volatile long lastFlushLatencyNanos;
+
+    WriteQueueStats getStats() {
+      return new WriteQueueStats(
+          packetCount.get(), pendingBytes.get(), Duration.ofNanos(lastFlushLatencyNanos), slow.get());
+    }
+  }
+
   void shutDown() {
     running = false;
     try {
@@ -53,15 +89,8 @@ class NioWriter {
   }
 
   private void addNewSocketsToSelector() {
-    final List<SocketChannel> socketsToWriteCopy;
-    synchronized (mutex) {
-      if (socketsToWake.isEmpty()) {
-        return;
-      }
-      socketsToWriteCopy = socketsToWake;
-      socketsToWake = new ArrayList<>();
-    }
-    for (final SocketChannel channel : socketsToWriteCopy) {
+    SocketChannel channel;
+    while ((channel = socketsToWake.poll()) != null) {
       try {
         channel.register(selector, SelectionKey.OP_WRITE);
       } catch (final ClosedChannelException e) {
@@ -70,6 +99,16 @@ class NioWriter {
     }
   }
 
+  private void disconnectSlowSockets() {
+    SocketChannel channel;
+    while ((channel = socketsToDisconnect.poll()) != null) {
+      if (writing.containsKey(channel)) {
+        errorReporter.error(channel, new IOException("Write queue exceeded " + limits.getHighWatermark()
+            + " bytes, peer is not reading fast enough: " + channel.socket().getRemoteSocketAddress()));
+      }
+    }
+  }
+
   private void loop() {
     while (running) {
       try {
@@ -77,6 +116,7 @@ class NioWriter {
         if (!running) {
           continue;
         }
+        disconnectSlowSockets();
         // select any new sockets that can be written to
         addNewSocketsToSelector();
         final Set<SelectionKey> selected = selector.selectedKeys();
@@ -86,25 +126,7 @@ class NioWriter {
           final SelectionKey key = iter.next();
           iter.remove();
           if (key.isValid() && key.isWritable()) {
-            final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
-              try {
-                log.finest(() -> "writing packet:" + packet + " to:" + channel.socket().getRemoteSocketAddress());
-                final boolean done = packet.write(channel);
-                if (done) {
-                  removeLast(channel);
-                }
-              } catch (final Exception e) {
-                log.log(Level.FINER, "exception writing", e);
-                errorReporter.error(channel, e);
-                key.cancel();
-              }
-            } else {
-              // nothing to write
-              // cancel the key, otherwise we will spin forever as the socket will always be writable
-              key.cancel();
-            }
+            write(key);
           }
         }
       } catch (final Exception e) {
@@ -114,61 +136,108 @@ class NioWriter {
     }
   }
 
+  private void write(final SelectionKey key) {
+    final SocketChannel channel = (SocketChannel) key.channel();
+    final ChannelQueue queue = writing.get(channel);
+    final SocketWriteData packet = (queue != null) ? queue.packets.peek() : null;
+    if (packet != null) {
+      try {
+        log.finest(() -> "writing packet:" + packet + " to:" + channel.socket().getRemoteSocketAddress());
+        final boolean done = packet.write(channel);
+        if (done) {
+          removeFirst(queue, packet);
+        }
+      } catch (final Exception e) {
+        log.log(Level.FINER, "exception writing", e);
+        errorReporter.error(channel, e);
+        key.cancel();
+      }
+    } else if (queue == null || !reselect(queue)) {
+      // nothing to write
+      // cancel the key, otherwise we will spin forever as the socket will always be writable
+      key.cancel();
+    }
+  }
+
   /**
-   * Remove the data for this channel.
+   * Marks the specified empty queue as no longer selected, unless a packet was added concurrently.
+   *
+   * @return true if a packet was added concurrently and the channel must stay selected.
    */
-  void close(final SocketChannel channel) {
-    removeAll(channel);
+  private static boolean reselect(final ChannelQueue queue) {
+    queue.selected.set(false);
+    // a packet added before the flag was cleared did not wake the channel, so we must keep it selected
+    return !queue.packets.isEmpty() && queue.selected.compareAndSet(false, true);
   }
 
-  private void removeAll(final SocketChannel to) {
-    synchronized (mutex) {
-      writing.remove(to);
+  private void removeFirst(final ChannelQueue queue, final SocketWriteData packet) {
+    queue.packets.poll();
+    queue.packetCount.decrementAndGet();
+    final long pendingBytes = queue.pendingBytes.addAndGet(-packet.size());
+    queue.lastFlushLatencyNanos = System.nanoTime() - packet.getQueuedNanos();
+    if (pendingBytes < limits.getLowWatermark() && queue.slow.compareAndSet(true, false)) {
+      log.info("Write queue back under " + limits.getLowWatermark() + " bytes");
     }
   }
 
-  private void removeLast(final SocketChannel to) {
-    synchronized (mutex) {
-      final List<SocketWriteData> values = writing.get(to);
-      if (values == null) {
-        log.severe("NO socket data to:" + to);
-        return;
-      }
-      values.remove(0);
-      // remove empty lists, so we can detect that we need to wake up the socket
-      if (values.isEmpty()) {
-        writing.remove(to);
-      }
-    }
+  /**
+   * Creates the write queue of this channel. Packets enqueued for a channel that was not added, or was closed, are
+   * dropped.
+   */
+  void add(final SocketChannel channel) {
+    writing.putIfAbsent(channel, new ChannelQueue());
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
-    synchronized (mutex) {
-      if (!writing.containsKey(to)) {
-        return null;
-      }
-      final List<SocketWriteData> values = writing.get(to);
-      if (values.isEmpty()) {
-        return null;
-      }
-      return values.get(0);
-    }
+  /**
+   * Remove the data for this channel.
+   */
+  void close(final SocketChannel channel) {
+    writing.remove(channel);
   }
 
-  void enque(final SocketWriteData data, final SocketChannel channel) {
-    synchronized (mutex) {
-      if (!running) {
-        return;
+  /**
+   * Returns a snapshot of the write queue of the specified channel, or empty if the channel is not open.
+   */
+  Optional<WriteQueueStats> getStats(final SocketChannel channel) {
+    return Optional.ofNullable(writing.get(channel)).map(ChannelQueue::getStats);
+  }
+
+  /**
+   * Enqueues the specified packet on each of the specified channels. Each channel writes its own copy of the packet,
+   * all sharing the same data.
+   */
+  void enque(final SocketWriteData data, final Collection<SocketChannel> channels) {
+    if (!running) {
+      return;
+    }
+    boolean wakeUp = false;
+    for (final SocketChannel channel : channels) {
+      final ChannelQueue queue = writing.get(channel);
+      if (queue == null) {
+        log.finest(() -> "dropping packet for closed channel: " + channel.socket().getRemoteSocketAddress());
+        continue;
       }
-      if (writing.containsKey(channel)) {
-        writing.get(channel).add(data);
-      } else {
-        final List<SocketWriteData> values = new ArrayList<>();
-        values.add(data);
-        writing.put(channel, values);
+      final SocketWriteData copy = data.copy();
+      copy.setQueuedNanos(System.nanoTime());
+      queue.packets.add(copy);
+      queue.packetCount.incrementAndGet();
+      final long pendingBytes = queue.pendingBytes.addAndGet(copy.size());
+      if (pendingBytes > limits.getHighWatermark() && queue.slow.compareAndSet(false, true)) {
+        log.warning("Write queue over " + limits.getHighWatermark() + " bytes for: "
+            + channel.socket().getRemoteSocketAddress());
+        if (limits.isDisconnectSlowChannels()) {
+          // disconnect in the writing thread, the enqueueing thread may hold locks of the messenger
+          socketsToDisconnect.add(channel);
+          wakeUp = true;
+        }
+      }
+      if (queue.selected.compareAndSet(false, true)) {
         socketsToWake.add(channel);
-        selector.wakeup();
+        wakeUp = true;
       }
     }
+    if (wakeUp) {
+      selector.wakeup();
+    }
   }
 }
@@ -18,6 +18,14 @@ import java.io.Serializable;
  * </p>
  */
 public abstract class QuarantineConversation {
+  /**
+   * The challenge response property holding the name of the compact format the client can use instead of Java
+   * serialization. The server replies with the same name, after the client and server names, if it uses that format
+   * too. All messages after the names are then encoded in that format. Peers not knowing this property ignore it and
+   * keep using Java serialization.
+   */
+  public static final String WIRE_FORMAT_PROPERTY = "Wire.Format";
+
   /**
    * The action to be performed after reading a message.
    */
@@ -30,6 +38,12 @@ public abstract class QuarantineConversation {
    */
   public abstract Action message(Serializable serializable);
 
+  /**
+   * Called once the channel of this conversation has been added to the socket, so the conversation can start writing
+   * to it.
+   */
+  public void start() {}
+
   /**
    * called if this conversation has been removed, either after a TERMINATE was
    * returned from a message, or the channel has been closed.
@@ -4,8 +4,11 @@ import java.io.Serializable;
 import java.net.InetSocketAddress;
 import java.nio.channels.SocketChannel;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import games.strategy.net.ILoginValidator;
 import games.strategy.net.MessageHeader;
 import games.strategy.net.Node;
@@ -26,6 +29,8 @@ public class ServerQuarantineConversation extends QuarantineConversation {
    * 5) if the client reads an error message, the client sends an acknowledgment (we need to make sur the client gets
    * the message before
    * closing the socket).
+   * 6) if the response named the compact format of the server, the server sends its name after the node names and both
+   * sides switch to that format once the names are sent or read
    */
 
   private enum Step {
@@ -37,6 +42,7 @@ public class ServerQuarantineConversation extends QuarantineConversation {
   private final NioSocket socket;
   private Step step = Step.READ_NAME;
   private String remoteName;
+  private volatile @Nullable String reservedName;
   private String remoteMac;
   private Map<String, String> challenge;
   private final ServerMessenger serverMessenger;
@@ -85,10 +91,20 @@ public class ServerQuarantineConversation extends QuarantineConversation {
           } else {
             send(null);
           }
-          // get a unique name
-          remoteName = serverMessenger.getUniqueName(remoteName);
-          // send the node its name and our name
-          send(new String[] {remoteName, serverMessenger.getLocalNode().getName()});
+          // get a unique name, reserved until the node is added or the login fails
+          remoteName = serverMessenger.reserveUniqueName(remoteName);
+          reservedName = remoteName;
+          final String localName = serverMessenger.getLocalNode().getName();
+          final Optional<String> compactFormatName = socket.getCompactFormatName()
+              .filter(name -> response != null && name.equals(response.get(WIRE_FORMAT_PROPERTY)));
+          if (compactFormatName.isPresent()) {
+            // send the node its name, our name and the format of all further messages
+            send(new String[] {remoteName, localName, compactFormatName.get()});
+            socket.useCompactFormat(channel);
+          } else {
+            // send the node its name and our name
+            send(new String[] {remoteName, localName});
+          }
           // send the node its and our address as we see it
           send(new InetSocketAddress[] {(InetSocketAddress) channel.socket().getRemoteSocketAddress(),
               serverMessenger.getLocalNode().getSocketAddress()});
@@ -114,5 +130,10 @@ public class ServerQuarantineConversation extends QuarantineConversation {
   }
 
   @Override
-  public void close() {}
+  public void close() {
+    final String name = reservedName;
+    if (name != null) {
+      serverMessenger.releaseName(name);
+    }
+  }
 }
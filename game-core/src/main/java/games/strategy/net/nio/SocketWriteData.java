@@ -17,6 +17,11 @@ import lombok.extern.java.Log;
  * <p>
  * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself.
  * </p>
+ *
+ * <p>
+ * The data of a packet is never modified, and is shared by all its copies (see {@link #copy()}), so that a message
+ * broadcast to many sockets is only held in memory once. Each copy keeps its own write position.
+ * </p>
  */
 @Log
 class SocketWriteData {
@@ -26,17 +31,35 @@ class SocketWriteData {
   private final int number = counter.incrementAndGet();
   // how many times we called write before we finished writing ourselves
   private int writeCalls = 0;
+  // when this copy was queued for writing, see System.nanoTime()
+  private long queuedNanos;
 
+  /**
+   * Creates a packet holding the first {@code count} bytes of the specified array, which must not be modified
+   * afterwards.
+   */
   SocketWriteData(final byte[] data, final int count) {
-    content = ByteBuffer.allocate(count);
-    content.put(data, 0, count);
-    size = ByteBuffer.allocate(4);
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
+    content = ByteBuffer.wrap(data, 0, count).slice().asReadOnlyBuffer();
+    size = ByteBuffer.allocate(4);
     size.putInt(count ^ SocketReadData.MAGIC);
     size.flip();
-    content.flip();
+  }
+
+  private SocketWriteData(final SocketWriteData data) {
+    content = data.content.duplicate();
+    content.rewind();
+    size = data.size.duplicate();
+    size.rewind();
+  }
+
+  /**
+   * Returns a copy of this packet, sharing its data, that has not been written yet.
+   */
+  SocketWriteData copy() {
+    return new SocketWriteData(this);
   }
 
   int size() {
@@ -47,6 +70,14 @@ class SocketWriteData {
     return writeCalls;
   }
 
+  void setQueuedNanos(final long queuedNanos) {
+    this.queuedNanos = queuedNanos;
+  }
+
+  long getQueuedNanos() {
+    return queuedNanos;
+  }
+
   /**
    * Writes any pending data to the specified channel.
    *
@@ -0,0 +1,38 @@
+package games.strategy.net.nio;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.Value;
+
+/**
+ * The limits of the queue of packets waiting to be written to a single channel.
+ *
+ * <p>
+ * A channel whose queue holds more than the high watermark is considered slow, either because the peer does not read
+ * fast enough or because its link is bad. It is considered slow until its queue holds less than the low watermark
+ * again. If {@link #isDisconnectSlowChannels()} is set, slow channels are disconnected instead, so that a single
+ * stalled peer can not exhaust the memory of the process.
+ * </p>
+ */
+@Value
+public class WriteQueueLimits {
+  private static final int MEGABYTE = 1024 * 1024;
+
+  /**
+   * The default limits, well above the largest message (see {@link SocketReadData#MAX_MESSAGE_SIZE}) so that sending
+   * a save game is not mistaken for a slow channel.
+   */
+  public static final WriteQueueLimits DEFAULT = new WriteQueueLimits(64 * MEGABYTE, 16 * MEGABYTE, true);
+
+  private final long highWatermark;
+  private final long lowWatermark;
+  private final boolean disconnectSlowChannels;
+
+  public WriteQueueLimits(final long highWatermark, final long lowWatermark, final boolean disconnectSlowChannels) {
+    checkArgument(lowWatermark >= 0, "low watermark must not be negative");
+    checkArgument(highWatermark > lowWatermark, "high watermark must be greater than low watermark");
+    this.highWatermark = highWatermark;
+    this.lowWatermark = lowWatermark;
+    this.disconnectSlowChannels = disconnectSlowChannels;
+  }
+}
@@ -0,0 +1,20 @@
+package games.strategy.net.nio;
+
+import java.time.Duration;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the queue of packets waiting to be written to a single channel (see {@link WriteQueueLimits}).
+ */
+@Value
+public class WriteQueueStats {
+  /** The number of packets not yet completely written. */
+  private final int queuedPackets;
+  /** The number of bytes of the packets not yet completely written. */
+  private final long pendingBytes;
+  /** The time between queueing and completely writing the last written packet. */
+  private final Duration lastFlushLatency;
+  /** Whether the queue went over the high watermark and has not yet gone back under the low watermark. */
+  private final boolean slow;
+}
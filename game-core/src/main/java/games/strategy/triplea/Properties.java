@@ -9,285 +9,289 @@ import games.strategy.engine.data.PlayerId;
 public final class Properties implements Constants {
   private Properties() {}
 
+  private static PropertySnapshot snapshot(final GameData data) {
+    return data.getProperties().getSnapshot(PropertySnapshot.class, PropertySnapshot::new);
+  }
+
   // These should always default to false, if boolean, and if not should default to whatever is the "default" behavior
   // of TripleA.
   // If you want something to default to "true", when change the wording of the constant to make it a negative of
   // itself, then default to false. (ex: "Do not do something", false; instead of "Do something", true;)
 
   public static int getNeutralCharge(final GameData data) {
-    return data.getProperties().get(NEUTRAL_CHARGE_PROPERTY, 0);
+    return snapshot(data).neutralCharge;
   }
 
   public static int getFactoriesPerCountry(final GameData data) {
-    return data.getProperties().get(FACTORIES_PER_COUNTRY_PROPERTY, 1);
+    return snapshot(data).factoriesPerCountry;
   }
 
   public static boolean getTwoHitBattleships(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIP_PROPERTY, false);
+    return snapshot(data).twoHitBattleships;
   }
 
   public static boolean getWW2V2(final GameData data) {
-    return data.getProperties().get(WW2V2, false);
+    return snapshot(data).ww2v2;
   }
 
   public static boolean getPartialAmphibiousRetreat(final GameData data) {
-    return data.getProperties().get(PARTIAL_AMPHIBIOUS_RETREAT, false);
+    return snapshot(data).partialAmphibiousRetreat;
   }
 
   public static boolean getTotalVictory(final GameData data) {
-    return data.getProperties().get(TOTAL_VICTORY, false);
+    return snapshot(data).totalVictory;
   }
 
   public static boolean getHonorableSurrender(final GameData data) {
-    return data.getProperties().get(HONORABLE_SURRENDER, false);
+    return snapshot(data).honorableSurrender;
   }
 
   public static boolean getProjectionOfPower(final GameData data) {
-    return data.getProperties().get(PROJECTION_OF_POWER, false);
+    return snapshot(data).projectionOfPower;
   }
 
   public static boolean getAllRocketsAttack(final GameData data) {
-    return data.getProperties().get(ALL_ROCKETS_ATTACK, false);
+    return snapshot(data).allRocketsAttack;
   }
 
   public static boolean getNeutralsImpassable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_IMPASSABLE, false);
+    return snapshot(data).neutralsImpassable;
   }
 
   public static boolean getNeutralsBlitzable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_BLITZABLE, false);
+    return snapshot(data).neutralsBlitzable;
   }
 
   public static boolean getRocketsCanFlyOverImpassables(final GameData data) {
-    return data.getProperties().get(ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
+    return snapshot(data).rocketsCanFlyOverImpassables;
   }
 
   public static boolean getSequentiallyTargetedRockets(final GameData data) {
-    return data.getProperties().get(TARGET_ROCKETS_SEQUENTIALLY_AND_AFTER_SBR, false);
+    return snapshot(data).sequentiallyTargetedRockets;
   }
 
   /**
    * Pacific Theater.
    */
   public static boolean getPacificTheater(final GameData data) {
-    return data.getProperties().get(PACIFIC_THEATER, false);
+    return snapshot(data).pacificTheater;
   }
 
   /**
    * World War 2 Version 3.
    */
   public static boolean getWW2V3(final GameData data) {
-    return data.getProperties().get(WW2V3, false);
+    return snapshot(data).ww2v3;
   }
 
   /**
    * Economic Victory Condition.
    */
   public static boolean getEconomicVictory(final GameData data) {
-    return data.getProperties().get(ECONOMIC_VICTORY, false);
+    return snapshot(data).economicVictory;
   }
 
   /**
    * Triggered Victory Condition.
    */
   public static boolean getTriggeredVictory(final GameData data) {
-    return data.getProperties().get(TRIGGERED_VICTORY, false);
+    return snapshot(data).triggeredVictory;
   }
 
   /**
    * Indicates the number of units that can be placed at a factory is restricted.
    */
   public static boolean getPlacementRestrictedByFactory(final GameData data) {
-    return data.getProperties().get(PLACEMENT_RESTRICTED_BY_FACTORY, false);
+    return snapshot(data).placementRestrictedByFactory;
   }
 
   /**
    * Can the player select the type of technology they are rolling for.
    */
   public static boolean getSelectableTechRoll(final GameData data) {
-    return data.getProperties().get(SELECTABLE_TECH_ROLL, false);
+    return snapshot(data).selectableTechRoll;
   }
 
   /**
    * Can the player select the type of technology they are rolling for.
    */
   public static boolean getWW2V3TechModel(final GameData data) {
-    return data.getProperties().get(WW2V3_TECH_MODEL, false);
+    return snapshot(data).ww2v3TechModel;
   }
 
   /**
    * Use Advanced Technology.
    */
   public static boolean getTechDevelopment(final GameData data) {
-    return data.getProperties().get(TECH_DEVELOPMENT, false);
+    return snapshot(data).techDevelopment;
   }
 
   /**
    * Are transports restricted from unloading in multiple territories in a turn.
    */
   public static boolean getTransportUnloadRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_UNLOAD_RESTRICTED, false);
+    return snapshot(data).transportUnloadRestricted;
   }
 
   /**
    * Are AA casualties chosen randomly.
    */
   public static boolean getRandomAaCasualties(final GameData data) {
-    return data.getProperties().get(RANDOM_AA_CASUALTIES, false);
+    return snapshot(data).randomAaCasualties;
   }
 
   /**
    * Indicates AA dice for each type of aircraft are rolled separately.
    */
   public static boolean getRollAaIndividually(final GameData data) {
-    return data.getProperties().get(ROLL_AA_INDIVIDUALLY, false);
+    return snapshot(data).rollAaIndividually;
   }
 
   /**
    * Limit the damage caused by each bomber on rockets and Strategic Bomb Raids to production of territory.
    */
   public static boolean getLimitRocketAndSbrDamageToProduction(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
+    return snapshot(data).limitRocketAndSbrDamageToProduction;
   }
 
   /**
    * Limit the TOTAL damage caused by Bombers in a turn to territory's production.
    */
   public static boolean getLimitSbrDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_SBR_DAMAGE_PER_TURN, false);
+    return snapshot(data).limitSbrDamagePerTurn;
   }
 
   /**
    * Limit the TOTAL damage caused by Rockets in a turn to territory's production.
    */
   public static boolean getLimitRocketDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_DAMAGE_PER_TURN, false);
+    return snapshot(data).limitRocketDamagePerTurn;
   }
 
   /**
    * Limit the TOTAL PUs lost to Bombers/Rockets in a turn to territory's production.
    */
   public static boolean getPuCap(final GameData data) {
-    return data.getProperties().get(PU_CAP, false);
+    return snapshot(data).puCap;
   }
 
   /**
    * Reduce Victory Points by Strategic Bombing.
    */
   public static boolean getSbrVictoryPoints(final GameData data) {
-    return data.getProperties().get(SBR_VICTORY_POINTS, false);
+    return snapshot(data).sbrVictoryPoints;
   }
 
   /**
    * Are allied aircraft dependents of CVs.
    */
   public static boolean getAlliedAirIndependent(final GameData data) {
-    return data.getProperties().get(ALLIED_AIR_INDEPENDENT, false);
+    return snapshot(data).alliedAirIndependent;
   }
 
   /**
    * Defending subs sneak attack.
    */
   public static boolean getDefendingSubsSneakAttack(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUBS_SNEAK_ATTACK, false);
+    return snapshot(data).defendingSubsSneakAttack;
   }
 
   /**
    * Attacker retreat planes from Amphib assault.
    */
   public static boolean getAttackerRetreatPlanes(final GameData data) {
-    return data.getProperties().get(ATTACKER_RETREAT_PLANES, false);
+    return snapshot(data).attackerRetreatPlanes;
   }
 
   /**
    * Can surviving air at sea move to land on friendly land/carriers.
    */
   public static boolean getSurvivingAirMoveToLand(final GameData data) {
-    return data.getProperties().get(SURVIVING_AIR_MOVE_TO_LAND, false);
+    return snapshot(data).survivingAirMoveToLand;
   }
 
   /**
    * Naval Bombard casualties restricted from return fire.
    */
   public static boolean getNavalBombardCasualtiesReturnFire(final GameData data) {
-    return data.getProperties().get(NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE, false);
+    return snapshot(data).navalBombardCasualtiesReturnFire;
   }
 
   /**
    * Restricted from blitz through territories with factories/AA.
    */
   public static boolean getBlitzThroughFactoriesAndAaRestricted(final GameData data) {
-    return data.getProperties().get(BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
+    return snapshot(data).blitzThroughFactoriesAndAaRestricted;
   }
 
   /**
    * Can place new units in occupied sea zones.
    */
   public static boolean getUnitPlacementInEnemySeas(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
+    return snapshot(data).unitPlacementInEnemySeas;
   }
 
   /**
    * Subs restricted from controlling sea zones.
    */
   public static boolean getSubControlSeaZoneRestricted(final GameData data) {
-    return data.getProperties().get(SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
+    return snapshot(data).subControlSeaZoneRestricted;
   }
 
   /**
    * Can Transports control sea zones.
    */
   public static boolean getTransportControlSeaZone(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CONTROL_SEA_ZONE, false);
+    return snapshot(data).transportControlSeaZone;
   }
 
   /**
    * Production restricted to 1 unit per X owned territories.
    */
   public static boolean getProductionPerXTerritoriesRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
+    return snapshot(data).productionPerXTerritoriesRestricted;
   }
 
   /**
    * Production restricted to 1 unit per owned territory with an PU value.
    */
   public static boolean getProductionPerValuedTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
+    return snapshot(data).productionPerValuedTerritoryRestricted;
   }
 
   /**
    * Can units be placed in any owned territory.
    */
   public static boolean getPlaceInAnyTerritory(final GameData data) {
-    return data.getProperties().get(PLACE_IN_ANY_TERRITORY, false);
+    return snapshot(data).placeInAnyTerritory;
   }
 
   /**
    * Limit the number of units that can be in a territory.
    */
   public static boolean getUnitPlacementPerTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
+    return snapshot(data).unitPlacementPerTerritoryRestricted;
   }
 
   /**
    * Movement restricted for territories.
    */
   public static boolean getMovementByTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(MOVEMENT_BY_TERRITORY_RESTRICTED, false);
+    return snapshot(data).movementByTerritoryRestricted;
   }
 
   /**
    * Transports restricted from being taken as casualties.
    */
   public static boolean getTransportCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CASUALTIES_RESTRICTED, false);
+    return snapshot(data).transportCasualtiesRestricted;
   }
 
   /**
    * Transports do not restrict movement of other units.
    */
   public static boolean getIgnoreTransportInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_TRANSPORT_IN_MOVEMENT, false);
+    return snapshot(data).ignoreTransportInMovement;
   }
 
   /**
@@ -295,11 +299,11 @@ public final class Properties implements Constants {
    * sets 'canBeMovedThroughByEnemies' unit option to true.
    */
   public static boolean getIgnoreSubInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_SUB_IN_MOVEMENT, false);
+    return snapshot(data).ignoreSubInMovement;
   }
 
   public static boolean getUnplacedUnitsLive(final GameData data) {
-    return data.getProperties().get(UNPLACED_UNITS_LIVE, false);
+    return snapshot(data).unplacedUnitsLive;
   }
 
   /**
@@ -307,227 +311,226 @@ public final class Properties implements Constants {
    * sets 'canNotBeTargetedBy' unit option to all air units.
    */
   public static boolean getAirAttackSubRestricted(final GameData data) {
-    return data.getProperties().get(AIR_ATTACK_SUB_RESTRICTED, false);
+    return snapshot(data).airAttackSubRestricted;
   }
 
   /**
    * Allows units with zero movement to be selected to be moved.
    */
   public static boolean getSelectableZeroMovementUnits(final GameData data) {
-    return data.getProperties().get(SELECTABLE_ZERO_MOVEMENT_UNITS, false);
+    return snapshot(data).selectableZeroMovementUnits;
   }
 
   /**
    * Allows paratroopers to move ground units to friendly territories during non-combat move phase.
    */
   public static boolean getParatroopersCanMoveDuringNonCombat(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
+    return snapshot(data).paratroopersCanMoveDuringNonCombat;
   }
 
   public static boolean getSubRetreatBeforeBattle(final GameData data) {
-    return data.getProperties().get(SUB_RETREAT_BEFORE_BATTLE, false);
+    return snapshot(data).subRetreatBeforeBattle;
   }
 
   /**
    * Shore Bombard per Ground Unit Restricted.
    */
   public static boolean getShoreBombardPerGroundUnitRestricted(final GameData data) {
-    return data.getProperties().get(SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
+    return snapshot(data).shoreBombardPerGroundUnitRestricted;
   }
 
   /**
    * AA restricted to Attacked Territory Only.
    */
   public static boolean getAaTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(AA_TERRITORY_RESTRICTED, false);
+    return snapshot(data).aaTerritoryRestricted;
   }
 
   public static boolean getMultipleAaPerTerritory(final GameData data) {
-    return data.getProperties().get(MULTIPLE_AA_PER_TERRITORY, false);
+    return snapshot(data).multipleAaPerTerritory;
   }
 
   public static boolean getNationalObjectives(final GameData data) {
-    return data.getProperties().get(NATIONAL_OBJECTIVES, false);
+    return snapshot(data).nationalObjectives;
   }
 
   public static boolean getTriggers(final GameData data) {
-    return data.getProperties().get(TRIGGERS, false);
+    return snapshot(data).triggers;
   }
 
   public static boolean getAlwaysOnAa(final GameData data) {
-    return data.getProperties().get(ALWAYS_ON_AA_PROPERTY, false);
+    return snapshot(data).alwaysOnAa;
   }
 
   public static boolean getLhtrCarrierProductionRules(final GameData data) {
-    return data.getProperties().get(LHTR_CARRIER_PRODUCTION_RULES, false);
+    return snapshot(data).lhtrCarrierProductionRules;
   }
 
   /**
    * Atomic units of the fighter/carrier production rules.
    */
   public static boolean getProduceFightersOnCarriers(final GameData data) {
-    return data.getProperties().get(CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
+    return snapshot(data).produceFightersOnCarriers;
   }
 
   public static boolean getProduceNewFightersOnOldCarriers(final GameData data) {
-    return data.getProperties().get(PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
+    return snapshot(data).produceNewFightersOnOldCarriers;
   }
 
   public static boolean getMoveExistingFightersToNewCarriers(final GameData data) {
-    return data.getProperties().get(MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
+    return snapshot(data).moveExistingFightersToNewCarriers;
   }
 
   public static boolean getLandExistingFightersOnNewCarriers(final GameData data) {
-    return data.getProperties().get(LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
+    return snapshot(data).landExistingFightersOnNewCarriers;
   }
 
   public static int getHeavyBomberDiceRolls(final GameData data) {
-    return data.getProperties().get(HEAVY_BOMBER_DICE_ROLLS, 2);
+    return snapshot(data).heavyBomberDiceRolls;
   }
 
   public static boolean getBattleshipsRepairAtEndOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
+    return snapshot(data).battleshipsRepairAtEndOfRound;
   }
 
   public static boolean getBattleshipsRepairAtBeginningOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
+    return snapshot(data).battleshipsRepairAtBeginningOfRound;
   }
 
   public static boolean getTwoHitPointUnitsRequireRepairFacilities(final GameData data) {
-    return data.getProperties().get(TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
+    return snapshot(data).twoHitPointUnitsRequireRepairFacilities;
   }
 
   public static boolean getChooseAaCasualties(final GameData data) {
-    return data.getProperties().get(CHOOSE_AA, false);
+    return snapshot(data).chooseAaCasualties;
   }
 
   public static boolean getSubmersibleSubs(final GameData data) {
-    return data.getProperties().get(SUBMERSIBLE_SUBS, false);
+    return snapshot(data).submersibleSubs;
   }
 
   public static boolean getUseDestroyersAndArtillery(final GameData data) {
-    return data.getProperties().get(USE_DESTROYERS_AND_ARTILLERY, false);
+    return snapshot(data).useDestroyersAndArtillery;
   }
 
   public static boolean getUseShipyards(final GameData data) {
-    return data.getProperties().get(USE_SHIPYARDS, false);
+    return snapshot(data).useShipyards;
   }
 
   public static boolean getLowLuck(final GameData data) {
-    return data.getProperties().get(LOW_LUCK, false);
+    return snapshot(data).lowLuck;
   }
 
   public static boolean getLowLuckAaOnly(final GameData data) {
-    return data.getProperties().get(LL_AA_ONLY, false);
+    return snapshot(data).lowLuckAaOnly;
   }
 
   public static boolean getLowLuckTechOnly(final GameData data) {
-    return data.getProperties().get(LL_TECH_ONLY, false);
+    return snapshot(data).lowLuckTechOnly;
   }
 
   public static boolean getLowLuckDamageOnly(final GameData data) {
-    return data.getProperties().get(LL_DAMAGE_ONLY, false);
+    return snapshot(data).lowLuckDamageOnly;
   }
 
   public static boolean getKamikazeAirplanes(final GameData data) {
-    return data.getProperties().get(KAMIKAZE, false);
+    return snapshot(data).kamikazeAirplanes;
   }
 
   public static boolean getLhtrHeavyBombers(final GameData data) {
-    return data.getProperties().get(LHTR_HEAVY_BOMBERS, false);
+    return snapshot(data).lhtrHeavyBombers;
   }
 
   public static int getSuperSubDefenseBonus(final GameData data) {
-    return data.getProperties().get(SUPER_SUB_DEFENSE_BONUS, 0);
+    return snapshot(data).superSubDefenseBonus;
   }
 
   public static boolean getScrambleRulesInEffect(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_RULES_IN_EFFECT, false);
+    return snapshot(data).scrambleRulesInEffect;
   }
 
   public static boolean getScrambledUnitsReturnToBase(final GameData data) {
-    return data.getProperties().get(SCRAMBLED_UNITS_RETURN_TO_BASE, false);
+    return snapshot(data).scrambledUnitsReturnToBase;
   }
 
   public static boolean getScrambleToSeaOnly(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_SEA_ONLY, false);
+    return snapshot(data).scrambleToSeaOnly;
   }
 
   public static boolean getScrambleFromIslandOnly(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_FROM_ISLAND_ONLY, false);
+    return snapshot(data).scrambleFromIslandOnly;
   }
 
   public static boolean getScrambleToAnyAmphibiousAssault(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
+    return snapshot(data).scrambleToAnyAmphibiousAssault;
   }
 
   public static int getPuMultiplier(final GameData data) {
-    return data.getProperties().get(PU_MULTIPLIER, 1);
+    return snapshot(data).puMultiplier;
   }
 
   public static boolean getUnlimitedConstructions(final GameData data) {
-    return data.getProperties().get(UNLIMITED_CONSTRUCTIONS, false);
+    return snapshot(data).unlimitedConstructions;
   }
 
   public static boolean getMoreConstructionsWithoutFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
+    return snapshot(data).moreConstructionsWithoutFactory;
   }
 
   public static boolean getMoreConstructionsWithFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITH_FACTORY, false);
+    return snapshot(data).moreConstructionsWithFactory;
   }
 
   public static boolean getUnitPlacementRestrictions(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_RESTRICTIONS, false);
+    return snapshot(data).unitPlacementRestrictions;
   }
 
   public static boolean getGiveUnitsByTerritory(final GameData data) {
-    return data.getProperties().get(GIVE_UNITS_BY_TERRITORY, false);
+    return snapshot(data).giveUnitsByTerritory;
   }
 
   public static boolean getUnitsCanBeDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
+    return snapshot(data).unitsCanBeDestroyedInsteadOfCaptured;
   }
 
   public static boolean getSuicideAndMunitionCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
+    return snapshot(data).suicideAndMunitionCasualtiesRestricted;
   }
 
   public static boolean getDefendingSuicideAndMunitionUnitsDoNotFire(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
+    return snapshot(data).defendingSuicideAndMunitionUnitsDoNotFire;
   }
 
   public static boolean getNavalUnitsMayNotNonCombatMoveIntoControlledSeaZones(final GameData data) {
-    return data.getProperties().get(NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
+    return snapshot(data).navalUnitsMayNotNonCombatMoveIntoControlledSeaZones;
   }
 
   public static boolean getUnitsMayGiveBonusMovement(final GameData data) {
-    return data.getProperties().get(UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
+    return snapshot(data).unitsMayGiveBonusMovement;
   }
 
   public static boolean getCaptureUnitsOnEnteringTerritory(final GameData data) {
-    return data.getProperties().get(CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
+    return snapshot(data).captureUnitsOnEnteringTerritory;
   }
 
   public static boolean getOnEnteringUnitsDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
+    return snapshot(data).onEnteringUnitsDestroyedInsteadOfCaptured;
   }
 
   public static boolean getDamageFromBombingDoneToUnitsInsteadOfTerritories(final GameData data) {
-    return data.getProperties().get(DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES,
-        data.getProperties().get(SBR_AFFECTS_UNIT_PRODUCTION, false));
+    return snapshot(data).damageFromBombingDoneToUnitsInsteadOfTerritories;
   }
 
   public static boolean getNeutralFlyoverAllowed(final GameData data) {
-    return data.getProperties().get(NEUTRAL_FLYOVER_ALLOWED, false);
+    return snapshot(data).neutralFlyoverAllowed;
   }
 
   public static boolean getUnitsCanBeChangedOnCapture(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
+    return snapshot(data).unitsCanBeChangedOnCapture;
   }
 
   public static boolean getUsePolitics(final GameData data) {
-    return data.getProperties().get(USE_POLITICS, false);
+    return snapshot(data).usePolitics;
   }
 
   public static int getIncomePercentage(final PlayerId playerId, final GameData data) {
@@ -539,132 +542,132 @@ public final class Properties implements Constants {
   }
 
   public static int getRelationshipsLastExtraRounds(final GameData data) {
-    return data.getProperties().get(RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
+    return snapshot(data).relationshipsLastExtraRounds;
   }
 
   public static boolean getAlliancesCanChainTogether(final GameData data) {
-    return data.getProperties().get(ALLIANCES_CAN_CHAIN_TOGETHER, false);
+    return snapshot(data).alliancesCanChainTogether;
   }
 
   public static boolean getRaidsMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return snapshot(data).raidsMayBePreceededByAirBattles;
   }
 
   public static boolean getBattlesMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return snapshot(data).battlesMayBePreceededByAirBattles;
   }
 
   public static boolean getUseKamikazeSuicideAttacks(final GameData data) {
-    return data.getProperties().get(USE_KAMIKAZE_SUICIDE_ATTACKS, false);
+    return snapshot(data).useKamikazeSuicideAttacks;
   }
 
   public static boolean getKamikazeSuicideAttacksDoneByCurrentTerritoryOwner(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
+    return snapshot(data).kamikazeSuicideAttacksDoneByCurrentTerritoryOwner;
   }
 
   public static boolean getForceAaAttacksForLastStepOfFlyOver(final GameData data) {
-    return data.getProperties().get(FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
+    return snapshot(data).forceAaAttacksForLastStepOfFlyOver;
   }
 
   public static boolean getParatroopersCanAttackDeepIntoEnemyTerritory(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
+    return snapshot(data).paratroopersCanAttackDeepIntoEnemyTerritory;
   }
 
   public static boolean getUseBombingMaxDiceSidesAndBonus(final GameData data) {
-    return data.getProperties().get(USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
+    return snapshot(data).useBombingMaxDiceSidesAndBonus;
   }
 
   public static boolean getConvoyBlockadesRollDiceForCost(final GameData data) {
-    return data.getProperties().get(CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
+    return snapshot(data).convoyBlockadesRollDiceForCost;
   }
 
   public static boolean getAirborneAttacksOnlyInExistingBattles(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
+    return snapshot(data).airborneAttacksOnlyInExistingBattles;
   }
 
   public static boolean getAirborneAttacksOnlyInEnemyTerritories(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
+    return snapshot(data).airborneAttacksOnlyInEnemyTerritories;
   }
 
   public static boolean getSubsCanEndNonCombatMoveWithEnemies(final GameData data) {
-    return data.getProperties().get(SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
+    return snapshot(data).subsCanEndNonCombatMoveWithEnemies;
   }
 
   public static boolean getRemoveAllTechTokensAtEndOfTurn(final GameData data) {
-    return data.getProperties().get(REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
+    return snapshot(data).removeAllTechTokensAtEndOfTurn;
   }
 
   public static boolean getKamikazeSuicideAttacksOnlyWhereBattlesAre(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
+    return snapshot(data).kamikazeSuicideAttacksOnlyWhereBattlesAre;
   }
 
   public static boolean getSubmarinesPreventUnescortedAmphibiousAssaults(final GameData data) {
-    return data.getProperties().get(SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
+    return snapshot(data).submarinesPreventUnescortedAmphibiousAssaults;
   }
 
   public static boolean getSubmarinesDefendingMaySubmergeOrRetreat(final GameData data) {
-    return data.getProperties().get(SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
+    return snapshot(data).submarinesDefendingMaySubmergeOrRetreat;
   }
 
   public static int getAirBattleRounds(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ROUNDS, 1);
+    return snapshot(data).airBattleRounds;
   }
 
   public static int getSeaBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(SEA_BATTLE_ROUNDS, -1);
+    return snapshot(data).seaBattleRounds;
   }
 
   public static int getLandBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(LAND_BATTLE_ROUNDS, -1);
+    return snapshot(data).landBattleRounds;
   }
 
   public static boolean getAirBattleAttackersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
+    return snapshot(data).airBattleAttackersCanRetreat;
   }
 
   public static boolean getAirBattleDefendersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
+    return snapshot(data).airBattleDefendersCanRetreat;
   }
 
   public static boolean getCanScrambleIntoAirBattles(final GameData data) {
-    return data.getProperties().get(CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
+    return snapshot(data).canScrambleIntoAirBattles;
   }
 
   public static boolean getTerritoriesAreAssignedRandomly(final GameData data) {
-    return data.getProperties().get(TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
+    return snapshot(data).territoriesAreAssignedRandomly;
   }
 
   public static boolean getUseFuelCost(final GameData data) {
-    return data.getProperties().get(USE_FUEL_COST, false);
+    return snapshot(data).useFuelCost;
   }
 
   public static boolean getRetreatingUnitsRemainInPlace(final GameData data) {
-    return data.getProperties().get(RETREATING_UNITS_REMAIN_IN_PLACE, false);
+    return snapshot(data).retreatingUnitsRemainInPlace;
   }
 
   public static boolean getContestedTerritoriesProduceNoIncome(final GameData data) {
-    return data.getProperties().get(CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
+    return snapshot(data).contestedTerritoriesProduceNoIncome;
   }
 
   public static boolean getSeaBattlesMayBeIgnored(final GameData data) {
-    return data.getProperties().get(SEA_BATTLES_MAY_BE_IGNORED, false);
+    return snapshot(data).seaBattlesMayBeIgnored;
   }
 
   public static boolean getAbandonedTerritoriesMayBeTakenOverImmediately(final GameData data) {
-    return data.getProperties().get(ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
+    return snapshot(data).abandonedTerritoriesMayBeTakenOverImmediately;
   }
 
   public static boolean getDisabledPlayersAssetsDeleted(final GameData data) {
-    return data.getProperties().get(DISABLED_PLAYERS_ASSETS_DELETED, false);
+    return snapshot(data).disabledPlayersAssetsDeleted;
   }
 
   public static boolean getControlAllCanalsBetweenTerritoriesToPass(final GameData data) {
-    return data.getProperties().get(CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
+    return snapshot(data).controlAllCanalsBetweenTerritoriesToPass;
   }
 
   public static boolean getUnitsCanLoadInHostileSeaZones(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_LOAD_IN_HOSTILE_SEA_ZONES, false);
+    return snapshot(data).unitsCanLoadInHostileSeaZones;
   }
 }
@@ -0,0 +1,316 @@
+package games.strategy.triplea;
+
+import java.util.logging.Level;
+
+import games.strategy.engine.data.properties.GameProperties;
+import lombok.extern.java.Log;
+
+/**
+ * The value of every game-wide boolean and integer property read by {@link Properties}, at one point in time.
+ *
+ * <p>
+ * Rules read properties far more often than they change, so reading them from final fields of a snapshot avoids
+ * looking each of them up by name in {@link GameProperties} every time. Properties that are missing or have a value of
+ * the wrong type take their default value, rather than failing every time a rule reads them.
+ * </p>
+ */
+@Log
+final class PropertySnapshot implements Constants {
+  final int neutralCharge;
+  final int factoriesPerCountry;
+  final boolean twoHitBattleships;
+  final boolean ww2v2;
+  final boolean partialAmphibiousRetreat;
+  final boolean totalVictory;
+  final boolean honorableSurrender;
+  final boolean projectionOfPower;
+  final boolean allRocketsAttack;
+  final boolean neutralsImpassable;
+  final boolean neutralsBlitzable;
+  final boolean rocketsCanFlyOverImpassables;
+  final boolean sequentiallyTargetedRockets;
+  final boolean pacificTheater;
+  final boolean ww2v3;
+  final boolean economicVictory;
+  final boolean triggeredVictory;
+  final boolean placementRestrictedByFactory;
+  final boolean selectableTechRoll;
+  final boolean ww2v3TechModel;
+  final boolean techDevelopment;
+  final boolean transportUnloadRestricted;
+  final boolean randomAaCasualties;
+  final boolean rollAaIndividually;
+  final boolean limitRocketAndSbrDamageToProduction;
+  final boolean limitSbrDamagePerTurn;
+  final boolean limitRocketDamagePerTurn;
+  final boolean puCap;
+  final boolean sbrVictoryPoints;
+  final boolean alliedAirIndependent;
+  final boolean defendingSubsSneakAttack;
+  final boolean attackerRetreatPlanes;
+  final boolean survivingAirMoveToLand;
+  final boolean navalBombardCasualtiesReturnFire;
+  final boolean blitzThroughFactoriesAndAaRestricted;
+  final boolean unitPlacementInEnemySeas;
+  final boolean subControlSeaZoneRestricted;
+  final boolean transportControlSeaZone;
+  final boolean productionPerXTerritoriesRestricted;
+  final boolean productionPerValuedTerritoryRestricted;
+  final boolean placeInAnyTerritory;
+  final boolean unitPlacementPerTerritoryRestricted;
+  final boolean movementByTerritoryRestricted;
+  final boolean transportCasualtiesRestricted;
+  final boolean ignoreTransportInMovement;
+  final boolean ignoreSubInMovement;
+  final boolean unplacedUnitsLive;
+  final boolean airAttackSubRestricted;
+  final boolean selectableZeroMovementUnits;
+  final boolean paratroopersCanMoveDuringNonCombat;
+  final boolean subRetreatBeforeBattle;
+  final boolean shoreBombardPerGroundUnitRestricted;
+  final boolean aaTerritoryRestricted;
+  final boolean multipleAaPerTerritory;
+  final boolean nationalObjectives;
+  final boolean triggers;
+  final boolean alwaysOnAa;
+  final boolean lhtrCarrierProductionRules;
+  final boolean produceFightersOnCarriers;
+  final boolean produceNewFightersOnOldCarriers;
+  final boolean moveExistingFightersToNewCarriers;
+  final boolean landExistingFightersOnNewCarriers;
+  final int heavyBomberDiceRolls;
+  final boolean battleshipsRepairAtEndOfRound;
+  final boolean battleshipsRepairAtBeginningOfRound;
+  final boolean twoHitPointUnitsRequireRepairFacilities;
+  final boolean chooseAaCasualties;
+  final boolean submersibleSubs;
+  final boolean useDestroyersAndArtillery;
+  final boolean useShipyards;
+  final boolean lowLuck;
+  final boolean lowLuckAaOnly;
+  final boolean lowLuckTechOnly;
+  final boolean lowLuckDamageOnly;
+  final boolean kamikazeAirplanes;
+  final boolean lhtrHeavyBombers;
+  final int superSubDefenseBonus;
+  final boolean scrambleRulesInEffect;
+  final boolean scrambledUnitsReturnToBase;
+  final boolean scrambleToSeaOnly;
+  final boolean scrambleFromIslandOnly;
+  final boolean scrambleToAnyAmphibiousAssault;
+  final int puMultiplier;
+  final boolean unlimitedConstructions;
+  final boolean moreConstructionsWithoutFactory;
+  final boolean moreConstructionsWithFactory;
+  final boolean unitPlacementRestrictions;
+  final boolean giveUnitsByTerritory;
+  final boolean unitsCanBeDestroyedInsteadOfCaptured;
+  final boolean suicideAndMunitionCasualtiesRestricted;
+  final boolean defendingSuicideAndMunitionUnitsDoNotFire;
+  final boolean navalUnitsMayNotNonCombatMoveIntoControlledSeaZones;
+  final boolean unitsMayGiveBonusMovement;
+  final boolean captureUnitsOnEnteringTerritory;
+  final boolean onEnteringUnitsDestroyedInsteadOfCaptured;
+  final boolean damageFromBombingDoneToUnitsInsteadOfTerritories;
+  final boolean neutralFlyoverAllowed;
+  final boolean unitsCanBeChangedOnCapture;
+  final boolean usePolitics;
+  final int relationshipsLastExtraRounds;
+  final boolean alliancesCanChainTogether;
+  final boolean raidsMayBePreceededByAirBattles;
+  final boolean battlesMayBePreceededByAirBattles;
+  final boolean useKamikazeSuicideAttacks;
+  final boolean kamikazeSuicideAttacksDoneByCurrentTerritoryOwner;
+  final boolean forceAaAttacksForLastStepOfFlyOver;
+  final boolean paratroopersCanAttackDeepIntoEnemyTerritory;
+  final boolean useBombingMaxDiceSidesAndBonus;
+  final boolean convoyBlockadesRollDiceForCost;
+  final boolean airborneAttacksOnlyInExistingBattles;
+  final boolean airborneAttacksOnlyInEnemyTerritories;
+  final boolean subsCanEndNonCombatMoveWithEnemies;
+  final boolean removeAllTechTokensAtEndOfTurn;
+  final boolean kamikazeSuicideAttacksOnlyWhereBattlesAre;
+  final boolean submarinesPreventUnescortedAmphibiousAssaults;
+  final boolean submarinesDefendingMaySubmergeOrRetreat;
+  final int airBattleRounds;
+  // negative = infinite
+  final int seaBattleRounds;
+  // negative = infinite
+  final int landBattleRounds;
+  final boolean airBattleAttackersCanRetreat;
+  final boolean airBattleDefendersCanRetreat;
+  final boolean canScrambleIntoAirBattles;
+  final boolean territoriesAreAssignedRandomly;
+  final boolean useFuelCost;
+  final boolean retreatingUnitsRemainInPlace;
+  final boolean contestedTerritoriesProduceNoIncome;
+  final boolean seaBattlesMayBeIgnored;
+  final boolean abandonedTerritoriesMayBeTakenOverImmediately;
+  final boolean disabledPlayersAssetsDeleted;
+  final boolean controlAllCanalsBetweenTerritoriesToPass;
+  final boolean unitsCanLoadInHostileSeaZones;
+
+  PropertySnapshot(final GameProperties properties) {
+    neutralCharge = getInt(properties, NEUTRAL_CHARGE_PROPERTY, 0);
+    factoriesPerCountry = getInt(properties, FACTORIES_PER_COUNTRY_PROPERTY, 1);
+    twoHitBattleships = getBoolean(properties, TWO_HIT_BATTLESHIP_PROPERTY, false);
+    ww2v2 = getBoolean(properties, WW2V2, false);
+    partialAmphibiousRetreat = getBoolean(properties, PARTIAL_AMPHIBIOUS_RETREAT, false);
+    totalVictory = getBoolean(properties, TOTAL_VICTORY, false);
+    honorableSurrender = getBoolean(properties, HONORABLE_SURRENDER, false);
+    projectionOfPower = getBoolean(properties, PROJECTION_OF_POWER, false);
+    allRocketsAttack = getBoolean(properties, ALL_ROCKETS_ATTACK, false);
+    neutralsImpassable = getBoolean(properties, NEUTRALS_ARE_IMPASSABLE, false);
+    neutralsBlitzable = getBoolean(properties, NEUTRALS_ARE_BLITZABLE, false);
+    rocketsCanFlyOverImpassables = getBoolean(properties, ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
+    sequentiallyTargetedRockets = getBoolean(properties, TARGET_ROCKETS_SEQUENTIALLY_AND_AFTER_SBR, false);
+    pacificTheater = getBoolean(properties, PACIFIC_THEATER, false);
+    ww2v3 = getBoolean(properties, WW2V3, false);
+    economicVictory = getBoolean(properties, ECONOMIC_VICTORY, false);
+    triggeredVictory = getBoolean(properties, TRIGGERED_VICTORY, false);
+    placementRestrictedByFactory = getBoolean(properties, PLACEMENT_RESTRICTED_BY_FACTORY, false);
+    selectableTechRoll = getBoolean(properties, SELECTABLE_TECH_ROLL, false);
+    ww2v3TechModel = getBoolean(properties, WW2V3_TECH_MODEL, false);
+    techDevelopment = getBoolean(properties, TECH_DEVELOPMENT, false);
+    transportUnloadRestricted = getBoolean(properties, TRANSPORT_UNLOAD_RESTRICTED, false);
+    randomAaCasualties = getBoolean(properties, RANDOM_AA_CASUALTIES, false);
+    rollAaIndividually = getBoolean(properties, ROLL_AA_INDIVIDUALLY, false);
+    limitRocketAndSbrDamageToProduction = getBoolean(properties, LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
+    limitSbrDamagePerTurn = getBoolean(properties, LIMIT_SBR_DAMAGE_PER_TURN, false);
+    limitRocketDamagePerTurn = getBoolean(properties, LIMIT_ROCKET_DAMAGE_PER_TURN, false);
+    puCap = getBoolean(properties, PU_CAP, false);
+    sbrVictoryPoints = getBoolean(properties, SBR_VICTORY_POINTS, false);
+    alliedAirIndependent = getBoolean(properties, ALLIED_AIR_INDEPENDENT, false);
+    defendingSubsSneakAttack = getBoolean(properties, DEFENDING_SUBS_SNEAK_ATTACK, false);
+    attackerRetreatPlanes = getBoolean(properties, ATTACKER_RETREAT_PLANES, false);
+    survivingAirMoveToLand = getBoolean(properties, SURVIVING_AIR_MOVE_TO_LAND, false);
+    navalBombardCasualtiesReturnFire = getBoolean(properties, NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE, false);
+    blitzThroughFactoriesAndAaRestricted = getBoolean(properties, BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
+    unitPlacementInEnemySeas = getBoolean(properties, UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
+    subControlSeaZoneRestricted = getBoolean(properties, SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
+    transportControlSeaZone = getBoolean(properties, TRANSPORT_CONTROL_SEA_ZONE, false);
+    productionPerXTerritoriesRestricted = getBoolean(properties, PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
+    productionPerValuedTerritoryRestricted = getBoolean(properties, PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
+    placeInAnyTerritory = getBoolean(properties, PLACE_IN_ANY_TERRITORY, false);
+    unitPlacementPerTerritoryRestricted = getBoolean(properties, UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
+    movementByTerritoryRestricted = getBoolean(properties, MOVEMENT_BY_TERRITORY_RESTRICTED, false);
+    transportCasualtiesRestricted = getBoolean(properties, TRANSPORT_CASUALTIES_RESTRICTED, false);
+    ignoreTransportInMovement = getBoolean(properties, IGNORE_TRANSPORT_IN_MOVEMENT, false);
+    ignoreSubInMovement = getBoolean(properties, IGNORE_SUB_IN_MOVEMENT, false);
+    unplacedUnitsLive = getBoolean(properties, UNPLACED_UNITS_LIVE, false);
+    airAttackSubRestricted = getBoolean(properties, AIR_ATTACK_SUB_RESTRICTED, false);
+    selectableZeroMovementUnits = getBoolean(properties, SELECTABLE_ZERO_MOVEMENT_UNITS, false);
+    paratroopersCanMoveDuringNonCombat = getBoolean(properties, PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
+    subRetreatBeforeBattle = getBoolean(properties, SUB_RETREAT_BEFORE_BATTLE, false);
+    shoreBombardPerGroundUnitRestricted = getBoolean(properties, SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
+    aaTerritoryRestricted = getBoolean(properties, AA_TERRITORY_RESTRICTED, false);
+    multipleAaPerTerritory = getBoolean(properties, MULTIPLE_AA_PER_TERRITORY, false);
+    nationalObjectives = getBoolean(properties, NATIONAL_OBJECTIVES, false);
+    triggers = getBoolean(properties, TRIGGERS, false);
+    alwaysOnAa = getBoolean(properties, ALWAYS_ON_AA_PROPERTY, false);
+    lhtrCarrierProductionRules = getBoolean(properties, LHTR_CARRIER_PRODUCTION_RULES, false);
+    produceFightersOnCarriers = getBoolean(properties, CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
+    produceNewFightersOnOldCarriers = getBoolean(properties, PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
+    moveExistingFightersToNewCarriers = getBoolean(properties, MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
+    landExistingFightersOnNewCarriers = getBoolean(properties, LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
+    heavyBomberDiceRolls = getInt(properties, HEAVY_BOMBER_DICE_ROLLS, 2);
+    battleshipsRepairAtEndOfRound = getBoolean(properties, TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
+    battleshipsRepairAtBeginningOfRound = getBoolean(properties, TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
+    twoHitPointUnitsRequireRepairFacilities = getBoolean(properties,
+        TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
+    chooseAaCasualties = getBoolean(properties, CHOOSE_AA, false);
+    submersibleSubs = getBoolean(properties, SUBMERSIBLE_SUBS, false);
+    useDestroyersAndArtillery = getBoolean(properties, USE_DESTROYERS_AND_ARTILLERY, false);
+    useShipyards = getBoolean(properties, USE_SHIPYARDS, false);
+    lowLuck = getBoolean(properties, LOW_LUCK, false);
+    lowLuckAaOnly = getBoolean(properties, LL_AA_ONLY, false);
+    lowLuckTechOnly = getBoolean(properties, LL_TECH_ONLY, false);
+    lowLuckDamageOnly = getBoolean(properties, LL_DAMAGE_ONLY, false);
+    kamikazeAirplanes = getBoolean(properties, KAMIKAZE, false);
+    lhtrHeavyBombers = getBoolean(properties, LHTR_HEAVY_BOMBERS, false);
+    superSubDefenseBonus = getInt(properties, SUPER_SUB_DEFENSE_BONUS, 0);
+    scrambleRulesInEffect = getBoolean(properties, SCRAMBLE_RULES_IN_EFFECT, false);
+    scrambledUnitsReturnToBase = getBoolean(properties, SCRAMBLED_UNITS_RETURN_TO_BASE, false);
+    scrambleToSeaOnly = getBoolean(properties, SCRAMBLE_TO_SEA_ONLY, false);
+    scrambleFromIslandOnly = getBoolean(properties, SCRAMBLE_FROM_ISLAND_ONLY, false);
+    scrambleToAnyAmphibiousAssault = getBoolean(properties, SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
+    puMultiplier = getInt(properties, PU_MULTIPLIER, 1);
+    unlimitedConstructions = getBoolean(properties, UNLIMITED_CONSTRUCTIONS, false);
+    moreConstructionsWithoutFactory = getBoolean(properties, MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
+    moreConstructionsWithFactory = getBoolean(properties, MORE_CONSTRUCTIONS_WITH_FACTORY, false);
+    unitPlacementRestrictions = getBoolean(properties, UNIT_PLACEMENT_RESTRICTIONS, false);
+    giveUnitsByTerritory = getBoolean(properties, GIVE_UNITS_BY_TERRITORY, false);
+    unitsCanBeDestroyedInsteadOfCaptured = getBoolean(properties, UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
+    suicideAndMunitionCasualtiesRestricted = getBoolean(properties, SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
+    defendingSuicideAndMunitionUnitsDoNotFire = getBoolean(properties,
+        DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
+    navalUnitsMayNotNonCombatMoveIntoControlledSeaZones = getBoolean(properties,
+        NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
+    unitsMayGiveBonusMovement = getBoolean(properties, UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
+    captureUnitsOnEnteringTerritory = getBoolean(properties, CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
+    onEnteringUnitsDestroyedInsteadOfCaptured = getBoolean(properties, DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
+    damageFromBombingDoneToUnitsInsteadOfTerritories = getBoolean(properties,
+        DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES,
+        getBoolean(properties, SBR_AFFECTS_UNIT_PRODUCTION, false));
+    neutralFlyoverAllowed = getBoolean(properties, NEUTRAL_FLYOVER_ALLOWED, false);
+    unitsCanBeChangedOnCapture = getBoolean(properties, UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
+    usePolitics = getBoolean(properties, USE_POLITICS, false);
+    relationshipsLastExtraRounds = getInt(properties, RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
+    alliancesCanChainTogether = getBoolean(properties, ALLIANCES_CAN_CHAIN_TOGETHER, false);
+    raidsMayBePreceededByAirBattles = getBoolean(properties, RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    battlesMayBePreceededByAirBattles = getBoolean(properties, BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    useKamikazeSuicideAttacks = getBoolean(properties, USE_KAMIKAZE_SUICIDE_ATTACKS, false);
+    kamikazeSuicideAttacksDoneByCurrentTerritoryOwner = getBoolean(properties,
+        KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
+    forceAaAttacksForLastStepOfFlyOver = getBoolean(properties, FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
+    paratroopersCanAttackDeepIntoEnemyTerritory = getBoolean(properties,
+        PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
+    useBombingMaxDiceSidesAndBonus = getBoolean(properties, USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
+    convoyBlockadesRollDiceForCost = getBoolean(properties, CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
+    airborneAttacksOnlyInExistingBattles = getBoolean(properties, AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
+    airborneAttacksOnlyInEnemyTerritories = getBoolean(properties, AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
+    subsCanEndNonCombatMoveWithEnemies = getBoolean(properties, SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
+    removeAllTechTokensAtEndOfTurn = getBoolean(properties, REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
+    kamikazeSuicideAttacksOnlyWhereBattlesAre = getBoolean(properties,
+        KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
+    submarinesPreventUnescortedAmphibiousAssaults = getBoolean(properties,
+        SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
+    submarinesDefendingMaySubmergeOrRetreat = getBoolean(properties,
+        SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
+    airBattleRounds = getInt(properties, AIR_BATTLE_ROUNDS, 1);
+    seaBattleRounds = getInt(properties, SEA_BATTLE_ROUNDS, -1);
+    landBattleRounds = getInt(properties, LAND_BATTLE_ROUNDS, -1);
+    airBattleAttackersCanRetreat = getBoolean(properties, AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
+    airBattleDefendersCanRetreat = getBoolean(properties, AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
+    canScrambleIntoAirBattles = getBoolean(properties, CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
+    territoriesAreAssignedRandomly = getBoolean(properties, TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
+    useFuelCost = getBoolean(properties, USE_FUEL_COST, false);
+    retreatingUnitsRemainInPlace = getBoolean(properties, RETREATING_UNITS_REMAIN_IN_PLACE, false);
+    contestedTerritoriesProduceNoIncome = getBoolean(properties, CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
+    seaBattlesMayBeIgnored = getBoolean(properties, SEA_BATTLES_MAY_BE_IGNORED, false);
+    abandonedTerritoriesMayBeTakenOverImmediately = getBoolean(properties,
+        ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
+    disabledPlayersAssetsDeleted = getBoolean(properties, DISABLED_PLAYERS_ASSETS_DELETED, false);
+    controlAllCanalsBetweenTerritoriesToPass = getBoolean(properties,
+        CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
+    unitsCanLoadInHostileSeaZones = getBoolean(properties, UNITS_CAN_LOAD_IN_HOSTILE_SEA_ZONES, false);
+  }
+
+  private static boolean getBoolean(final GameProperties properties, final String key, final boolean defaultValue) {
+    try {
+      return properties.get(key, defaultValue);
+    } catch (final ClassCastException e) {
+      log.log(Level.WARNING, "Ignoring value of property '" + key + "' of unexpected type", e);
+      return defaultValue;
+    }
+  }
+
+  private static int getInt(final GameProperties properties, final String key, final int defaultValue) {
+    try {
+      return properties.get(key, defaultValue);
+    } catch (final ClassCastException e) {
+      log.log(Level.WARNING, "Ignoring value of property '" + key + "' of unexpected type", e);
+      return defaultValue;
+    }
+  }
+}
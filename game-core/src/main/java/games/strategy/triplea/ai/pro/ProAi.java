@@ -57,8 +57,8 @@ import games.strategy.triplea.ui.TripleAFrame;
 public class ProAi extends AbstractAi {
 
   // Odds calculator
-  private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAi");
   protected ProOddsCalculator calc;
+  private final ProData proData = new ProData();
 
   // Phases
   private final ProCombatMoveAi combatMoveAi;
@@ -97,13 +97,18 @@ public class ProAi extends AbstractAi {
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    // each AI has its own calculator, as it keeps the game data and battle options between calls
+    calc = new ProOddsCalculator(new ConcurrentOddsCalculator("ProAi"), proData);
   }
 
   public ProOddsCalculator getCalc() {
     return calc;
   }
 
+  public ProData getProData() {
+    return proData;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUi.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -116,7 +121,6 @@ public class ProAi extends AbstractAi {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
     ProLogUi.clearCachedInstances();
   }
 
@@ -124,10 +128,11 @@ public class ProAi extends AbstractAi {
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
     calc.cancelCalcs();
+    calc.shutdown();
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -174,7 +179,8 @@ public class ProAi extends AbstractAi {
       purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
 
       // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(proData,
+          player);
       final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
           ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
       if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
@@ -218,26 +224,26 @@ public class ProAi extends AbstractAi {
         final String stepName = step.getName();
         ProLogger.info("Simulating phase: " + stepName);
         if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
           if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
+            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
           }
         } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
           if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
+            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
           }
         } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
           ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
         } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
+          proData.initializeSimulation(this, dataCopy, player);
           storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
           break;
         } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
+          proData.initializeSimulation(this, dataCopy, player);
           final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
           politicsDelegate.setDelegateBridgeAndPlayer(bridge);
           final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
@@ -286,7 +292,8 @@ public class ProAi extends AbstractAi {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -333,7 +340,7 @@ public class ProAi extends AbstractAi {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      selectFromSorted.sort(ProPurchaseUtils.getCostComparator());
+      selectFromSorted.sort(ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -349,7 +356,8 @@ public class ProAi extends AbstractAi {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!Properties.getLowLuck(data)) {
           minStrengthDifference = 55;
@@ -365,8 +373,8 @@ public class ProAi extends AbstractAi {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1);
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2);
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1);
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2);
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -54,6 +54,7 @@ class ProCombatMoveAi {
 
   private final ProAi ai;
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private PlayerId player;
   private ProTerritoryManager territoryManager;
@@ -63,19 +64,21 @@ class ProCombatMoveAi {
   ProCombatMoveAi(final ProAi ai) {
     this.ai = ai;
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, ProTerritory> doCombatMove(final IMoveDelegate moveDel) {
     ProLogger.info("Starting combat move phase");
 
     // Current data at the start of combat move
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     // Determine whether capital is threatened and I should be in a defensive stance
     isDefensive =
-        !ProBattleUtils.territoryHasLocalLandSuperiority(ProData.myCapital, ProBattleUtils.MEDIUM_RANGE, player);
+        !ProBattleUtils.territoryHasLocalLandSuperiority(proData, proData.getMyCapital(), ProBattleUtils.MEDIUM_RANGE,
+            player);
     isBombing = false;
     ProLogger.debug("Currently in defensive stance: " + isDefensive);
 
@@ -117,15 +120,15 @@ class ProCombatMoveAi {
     determineUnitsToAttackWith(attackOptions, alreadyMovedUnits);
 
     // Get all transport final territories
-    ProMoveUtils.calculateAmphibRoutes(player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+    ProMoveUtils.calculateAmphibRoutes(proData, player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
         territoryManager.getAttackOptions().getTerritoryMap(), true);
 
     // Determine max enemy counter attack units and remove territories where transports are exposed
     removeTerritoriesWhereTransportsAreExposed();
 
     // Determine if capital can be held if I still own it
-    if (ProData.myCapital != null && ProData.myCapital.getOwner().equals(player)) {
-      removeAttacksUntilCapitalCanBeHeld(attackOptions, ProData.purchaseOptions.getLandOptions());
+    if (proData.getMyCapital() != null && proData.getMyCapital().getOwner().equals(player)) {
+      removeAttacksUntilCapitalCanBeHeld(attackOptions, proData.getPurchaseOptions().getLandOptions());
     }
 
     // Check if any subs in contested territory that's not being attacked
@@ -154,25 +157,25 @@ class ProCombatMoveAi {
 
     final List<Collection<Unit>> moveUnits = new ArrayList<>();
     final List<Route> moveRoutes = new ArrayList<>();
-    ProMoveUtils.calculateMoveRoutes(player, moveUnits, moveRoutes, attackMap, true);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateMoveRoutes(proData, player, moveUnits, moveRoutes, attackMap, true);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
     final List<Collection<Unit>> transportsToLoad = new ArrayList<>();
-    ProMoveUtils.calculateAmphibRoutes(player, moveUnits, moveRoutes, transportsToLoad, attackMap, true);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, transportsToLoad, moveDel);
+    ProMoveUtils.calculateAmphibRoutes(proData, player, moveUnits, moveRoutes, transportsToLoad, attackMap, true);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, transportsToLoad, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
-    ProMoveUtils.calculateBombardMoveRoutes(player, moveUnits, moveRoutes, attackMap);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateBombardMoveRoutes(proData, player, moveUnits, moveRoutes, attackMap);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
     isBombing = true;
-    ProMoveUtils.calculateBombingRoutes(player, moveUnits, moveRoutes, attackMap);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateBombingRoutes(proData, player, moveUnits, moveRoutes, attackMap);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
     isBombing = false;
   }
 
@@ -198,7 +201,7 @@ class ProCombatMoveAi {
           ProMatches.unitIsEnemyAndNotInfa(player, data));
       final int isEmptyLand = (!t.isWater() && defendingUnits.isEmpty() && !patd.isNeedAmphibUnits()) ? 1 : 0;
       final boolean isAdjacentToMyCapital =
-          !data.getMap().getNeighbors(t, Matches.territoryIs(ProData.myCapital)).isEmpty();
+          !data.getMap().getNeighbors(t, Matches.territoryIs(proData.getMyCapital())).isEmpty();
       final int isNotNeutralAdjacentToMyCapital =
           (isAdjacentToMyCapital && ProMatches.territoryIsEnemyNotNeutralLand(player, data).test(t)) ? 1 : 0;
       final int isFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t) ? 1 : 0;
@@ -248,7 +251,7 @@ class ProCombatMoveAi {
             }
           }
           if (!allAlliedNeighborsHaveRoute) {
-            final double value = ProTerritoryValueUtils.findTerritoryAttackValue(player, nearbyEnemyTerritory);
+            final double value = ProTerritoryValueUtils.findTerritoryAttackValue(proData, player, nearbyEnemyTerritory);
             if (value > 0) {
               nearbyEnemyValue += value;
             }
@@ -264,7 +267,8 @@ class ProCombatMoveAi {
 
           // Check if overwhelming attack strength (more than 5 times)
           final double strengthDifference =
-              ProBattleUtils.estimateStrengthDifference(t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player, data));
+              ProBattleUtils.estimateStrengthDifference(proData, t, patd.getMaxUnits(),
+                  patd.getMaxEnemyDefenders(player, data));
           ProLogger.debug(t.getName() + " calculated strengthDifference=" + strengthDifference);
           if (strengthDifference > 500) {
             ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
@@ -276,7 +280,7 @@ class ProCombatMoveAi {
       // Remove negative value territories
       patd.setValue(attackValue);
       if (attackValue <= 0
-          || (isDefensive && attackValue <= 8 && data.getMap().getDistance(ProData.myCapital, t) <= 3)) {
+          || (isDefensive && attackValue <= 8 && data.getMap().getDistance(proData.getMyCapital(), t) <= 3)) {
         ProLogger.debug(
             "Removing territory that has a negative attack value: " + t.getName() + ", AttackValue=" + patd.getValue());
         it.remove();
@@ -315,10 +319,11 @@ class ProCombatMoveAi {
         }
         ProLogger.trace(patd.getResultString() + " with attackers: " + patd.getUnits());
         final double estimate =
-            ProBattleUtils.estimateStrengthDifference(t, patd.getUnits(), patd.getMaxEnemyDefenders(player, data));
+            ProBattleUtils.estimateStrengthDifference(proData, t, patd.getUnits(),
+                patd.getMaxEnemyDefenders(player, data));
         final ProBattleResult result = patd.getBattleResult();
         if (!patd.isStrafing() && estimate < patd.getStrengthEstimate()
-            && (result.getWinPercentage() < ProData.minWinPercentage || !result.isHasLandUnitRemaining())) {
+            && (result.getWinPercentage() < proData.getMinWinPercentage() || !result.isHasLandUnitRemaining())) {
           areSuccessful = false;
         }
       }
@@ -327,8 +332,8 @@ class ProCombatMoveAi {
       if (areSuccessful) {
         for (final ProTerritory patd : territoriesToTryToAttack) {
           patd.setCanAttack(true);
-          final double estimate = ProBattleUtils.estimateStrengthDifference(patd.getTerritory(), patd.getUnits(),
-              patd.getMaxEnemyDefenders(player, data));
+          final double estimate = ProBattleUtils.estimateStrengthDifference(proData, patd.getTerritory(),
+              patd.getUnits(), patd.getMaxEnemyDefenders(player, data));
           if (estimate < patd.getStrengthEstimate()) {
             patd.setStrengthEstimate(estimate);
           }
@@ -381,11 +386,12 @@ class ProCombatMoveAi {
       territoriesToCheck.add(t);
       final List<Unit> nonAirAttackers = CollectionUtils.getMatches(patd.getMaxUnits(), Matches.unitIsNotAir());
       for (final Unit u : nonAirAttackers) {
-        territoriesToCheck.add(ProData.unitTerritoryMap.get(u));
+        territoriesToCheck.add(proData.getUnitTerritoryMap().get(u));
       }
     }
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), clearedTerritories, territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), clearedTerritories,
+            territoriesToCheck);
     for (final ProTerritory patd : prioritizedTerritories) {
       final Territory t = patd.getTerritory();
 
@@ -414,7 +420,7 @@ class ProCombatMoveAi {
       double totalValue = 0.0;
       final List<Unit> nonAirAttackers = CollectionUtils.getMatches(patd.getMaxUnits(), Matches.unitIsNotAir());
       for (final Unit u : nonAirAttackers) {
-        totalValue += territoryValueMap.get(ProData.unitTerritoryMap.get(u));
+        totalValue += territoryValueMap.get(proData.getUnitTerritoryMap().get(u));
       }
       final double averageValue = totalValue / nonAirAttackers.size() * 0.75;
       final double territoryValue = territoryValueMap.get(t) * (1 + 4.0 * isFactory);
@@ -439,8 +445,8 @@ class ProCombatMoveAi {
         // Determine counter attack results to see if I can hold it
         final ProBattleResult result2 = calc.calculateBattleResults(t, patd.getMaxEnemyUnits(),
             remainingUnitsToDefendWith, enemyAttackOptions.getMax(t).getMaxBombardUnits());
-        final boolean canHold = (!result2.isHasLandUnitRemaining() && !t.isWater()) || (result2.getTuvSwing() < 0)
-            || (result2.getWinPercentage() < ProData.minWinPercentage);
+        final boolean canHold = (!result2.isHasLandUnitRemaining() && !t.isWater())
+            || (result2.getTuvSwing() < 0) || (result2.getWinPercentage() < proData.getMinWinPercentage());
         patd.setCanHold(canHold);
         ProLogger.debug(
             t + ", CanHold=" + canHold + ", MyDefenders=" + remainingUnitsToDefendWith.size() + ", EnemyAttackers="
@@ -478,7 +484,8 @@ class ProCombatMoveAi {
       // Remove neutral and low value amphib land territories that can't be held
       final boolean isNeutral = ProUtils.isNeutralLand(t);
       final double strengthDifference =
-          ProBattleUtils.estimateStrengthDifference(t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player, data));
+          ProBattleUtils.estimateStrengthDifference(proData, t, patd.getMaxUnits(),
+              patd.getMaxEnemyDefenders(player, data));
       if (!patd.isCanHold() && enemyAttackOptions.getMax(t) != null && !t.isWater()) {
         if (isNeutral && strengthDifference <= 500) {
 
@@ -510,7 +517,7 @@ class ProCombatMoveAi {
         // Find all territories units are attacking from that are adjacent to territory
         final Set<Territory> attackFromTerritories = new HashSet<>();
         for (final Unit u : patd.getMaxUnits()) {
-          attackFromTerritories.add(ProData.unitTerritoryMap.get(u));
+          attackFromTerritories.add(proData.getUnitTerritoryMap().get(u));
         }
         attackFromTerritories.retainAll(data.getMap().getNeighbors(t));
 
@@ -549,7 +556,7 @@ class ProCombatMoveAi {
 
     // Find land territories with no can't move units and adjacent to enemy land units
     final List<Unit> alreadyMovedUnits = new ArrayList<>();
-    for (final Territory t : ProData.myUnitTerritories) {
+    for (final Territory t : proData.getMyUnitTerritories()) {
       final boolean hasAlliedLandUnits =
           t.getUnitCollection().anyMatch(ProMatches.unitCantBeMovedAndIsAlliedDefenderAndNotInfra(player, data, t));
       final Set<Territory> enemyNeighbors = data.getMap().getNeighbors(t,
@@ -559,8 +566,8 @@ class ProCombatMoveAi {
         int minCost = Integer.MAX_VALUE;
         Unit minUnit = null;
         for (final Unit u : t.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player))) {
-          if (ProData.unitValueMap.getInt(u.getType()) < minCost) {
-            minCost = ProData.unitValueMap.getInt(u.getType());
+          if (proData.getUnitValueMap().getInt(u.getType()) < minCost) {
+            minCost = proData.getUnitValueMap().getInt(u.getType());
             minUnit = u;
           }
         }
@@ -753,8 +760,8 @@ class ProCombatMoveAi {
       }
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
       final List<Unit> addedUnits = new ArrayList<>();
 
       // Set air units in any territory with no AA (don't move planes to empty territories)
@@ -783,7 +790,7 @@ class ProCombatMoveAi {
             final List<Unit> attackingUnits = patd.getUnits();
             final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, attackingUnits, defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, attackingUnits, defendingUnits);
             final boolean hasAa = defendingUnits.stream().anyMatch(Matches.unitIsAaForAnything());
             if (!hasAa && !isOverwhelmingWin) {
               minWinPercentage = result.getWinPercentage();
@@ -800,8 +807,8 @@ class ProCombatMoveAi {
       sortedUnitAttackOptions.keySet().removeAll(addedUnits);
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
       // Find territory that we can try to hold that needs unit
       for (final Unit unit : sortedUnitAttackOptions.keySet()) {
@@ -822,7 +829,7 @@ class ProCombatMoveAi {
             final List<Unit> attackingUnits = patd.getUnits();
             final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, attackingUnits, defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, attackingUnits, defendingUnits);
             if (!isOverwhelmingWin && result.getBattleRounds() > 2) {
               minWinTerritory = t;
               break;
@@ -831,7 +838,7 @@ class ProCombatMoveAi {
         }
         if (minWinTerritory != null) {
           attackMap.get(minWinTerritory).setBattleResult(null);
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, alreadyMovedUnits, attackMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, alreadyMovedUnits, attackMap);
           attackMap.get(minWinTerritory).addUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
         }
@@ -839,8 +846,8 @@ class ProCombatMoveAi {
       sortedUnitAttackOptions.keySet().removeAll(addedUnits);
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
       // Add sea units to any territory that significantly increases TUV gain
       for (final Unit unit : sortedUnitAttackOptions.keySet()) {
@@ -859,7 +866,7 @@ class ProCombatMoveAi {
           attackers.add(unit);
           final ProBattleResult result2 = calc.estimateAttackBattleResults(t, attackers,
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet());
-          final double unitValue = ProData.unitValueMap.getInt(unit.getType());
+          final double unitValue = proData.getUnitValueMap().getInt(unit.getType());
           if ((result2.getTuvSwing() - unitValue / 3) > result.getTuvSwing()) {
             attackMap.get(t).setBattleResult(null);
             attackMap.get(t).addUnit(unit);
@@ -907,8 +914,8 @@ class ProCombatMoveAi {
               remainingUnitsToDefendWith = unusedUnits;
             }
           }
-          canHold = (!result2.isHasLandUnitRemaining() && !t.isWater()) || (result2.getTuvSwing() < 0)
-              || (result2.getWinPercentage() < ProData.minWinPercentage);
+          canHold = (!result2.isHasLandUnitRemaining() && !t.isWater())
+              || (result2.getTuvSwing() < 0) || (result2.getWinPercentage() < proData.getMinWinPercentage());
           if (result2.getTuvSwing() > 0) {
             enemyCounterTuvSwing = result2.getTuvSwing();
           }
@@ -959,7 +966,7 @@ class ProCombatMoveAi {
         }
 
         // Determine whether to remove attack
-        if (!patd.isStrafing() && (result.getWinPercentage() < ProData.minWinPercentage
+        if (!patd.isStrafing() && (result.getWinPercentage() < proData.getMinWinPercentage()
             || !result.isHasLandUnitRemaining() || (isNeutral && !canHold)
             || (attackValue < 0 && (!isNeutral || allUnitsCanAttackOtherTerritory || result.getBattleRounds() >= 4)))) {
           territoryToRemove = patd;
@@ -1017,7 +1024,8 @@ class ProCombatMoveAi {
     }
 
     // Sort units by number of attack options and cost
-    Map<Unit, Set<Territory>> sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(unitAttackOptions);
+    Map<Unit, Set<Territory>> sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(proData,
+        unitAttackOptions);
     final List<Unit> addedUnits = new ArrayList<>();
 
     // Try to set at least one destroyer in each sea territory with subs
@@ -1044,7 +1052,7 @@ class ProCombatMoveAi {
     for (final Unit unit : sortedUnitAttackOptions.keySet()) {
       final boolean isAirUnit = UnitAttachment.get(unit.getType()).getIsAir();
       final boolean isExpensiveLandUnit = Matches.unitIsLand().test(unit)
-          && ProData.unitValueMap.getInt(unit.getType()) > 2 * ProData.minCostPerHitPoint;
+          && proData.getUnitValueMap().getInt(unit.getType()) > 2 * proData.getMinCostPerHitPoint();
       if (isAirUnit || isExpensiveLandUnit || addedUnits.contains(unit)) {
         continue; // skip air and expensive units
       }
@@ -1054,7 +1062,8 @@ class ProCombatMoveAi {
           continue; // ignore sea territories that can't be held
         }
         final List<Unit> defendingUnits = attackMap.get(t).getMaxEnemyDefenders(player, data);
-        double estimate = ProBattleUtils.estimateStrengthDifference(t, attackMap.get(t).getUnits(), defendingUnits);
+        double estimate = ProBattleUtils.estimateStrengthDifference(proData, t, attackMap.get(t).getUnits(),
+            defendingUnits);
         final boolean hasAa = defendingUnits.stream().anyMatch(Matches.unitIsAaForAnything());
         if (hasAa) {
           estimate -= 10;
@@ -1063,7 +1072,7 @@ class ProCombatMoveAi {
       }
       if (!estimatesMap.isEmpty() && estimatesMap.firstKey() < 40) {
         final Territory minWinTerritory = estimatesMap.entrySet().iterator().next().getValue();
-        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, alreadyMovedUnits, attackMap);
+        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, alreadyMovedUnits, attackMap);
         attackMap.get(minWinTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
       }
@@ -1071,8 +1080,8 @@ class ProCombatMoveAi {
     sortedUnitAttackOptions.keySet().removeAll(addedUnits);
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set non-air units in territories that can be held
     for (final Unit unit : sortedUnitAttackOptions.keySet()) {
@@ -1081,7 +1090,7 @@ class ProCombatMoveAi {
         continue; // skip air units
       }
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!attackMap.get(t).isCurrentlyWins() && attackMap.get(t).isCanHold()) {
@@ -1099,7 +1108,7 @@ class ProCombatMoveAi {
       }
       if (minWinTerritory != null) {
         attackMap.get(minWinTerritory).setBattleResult(null);
-        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, alreadyMovedUnits, attackMap);
+        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, alreadyMovedUnits, attackMap);
         attackMap.get(minWinTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
       }
@@ -1107,8 +1116,8 @@ class ProCombatMoveAi {
     sortedUnitAttackOptions.keySet().removeAll(addedUnits);
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set air units in territories that can't be held (don't move planes to empty territories)
     for (final Unit unit : sortedUnitAttackOptions.keySet()) {
@@ -1117,18 +1126,19 @@ class ProCombatMoveAi {
         continue; // skip non-air units
       }
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins() && !patd.isCanHold()) {
 
           // Check if air unit should avoid this territory due to no guaranteed safe landing location
-          final boolean isEnemyCapital = ProUtils.getLiveEnemyCapitals(data, player).contains(t);
-          final boolean isAdjacentToAlliedCapital = Matches.territoryHasNeighborMatching(data,
-              Matches.territoryIsInList(ProUtils.getLiveAlliedCapitals(data, player))).test(t);
+          final boolean isEnemyCapital = ProUtils.getLiveEnemyCapitals(proData, data, player).contains(t);
+          final boolean isAdjacentToAlliedCapital =
+              Matches.territoryHasNeighborMatching(data,
+                  Matches.territoryIsInList(ProUtils.getLiveAlliedCapitals(proData, data, player))).test(t);
           final int range = TripleAUnit.get(unit).getMovementLeft();
-          final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
-              ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, true));
+          final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit),
+              t, ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, true));
           final boolean usesMoreThanHalfOfRange = distance > range / 2;
           if (!isEnemyCapital && !isAdjacentToAlliedCapital && usesMoreThanHalfOfRange) {
             continue;
@@ -1146,7 +1156,7 @@ class ProCombatMoveAi {
             final boolean hasNoDefenders =
                 defendingUnits.stream().noneMatch(ProMatches.unitIsEnemyAndNotInfa(player, data));
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, patd.getUnits(), defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, patd.getUnits(), defendingUnits);
             final boolean hasAa = defendingUnits.stream().anyMatch(Matches.unitIsAaForAnything());
             if (!hasNoDefenders && !isOverwhelmingWin && (!hasAa || result.getWinPercentage() < minWinPercentage)) {
               minWinPercentage = result.getWinPercentage();
@@ -1167,8 +1177,8 @@ class ProCombatMoveAi {
     sortedUnitAttackOptions.keySet().removeAll(addedUnits);
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set remaining units in any territory that needs it (don't move planes to empty territories)
     for (final Unit unit : sortedUnitAttackOptions.keySet()) {
@@ -1177,7 +1187,7 @@ class ProCombatMoveAi {
       }
       final boolean isAirUnit = UnitAttachment.get(unit.getType()).getIsAir();
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins()) {
@@ -1187,11 +1197,11 @@ class ProCombatMoveAi {
               .territoryHasNeighborMatching(data, ProMatches.territoryHasInfraFactoryAndIsAlliedLand(player, data))
               .test(t);
           final int range = TripleAUnit.get(unit).getMovementLeft();
-          final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
-              ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, true));
+          final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit),
+              t, ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, true));
           final boolean usesMoreThanHalfOfRange = distance > range / 2;
           final boolean territoryValueIsLessThanUnitValue =
-              patd.getValue() < ProData.unitValueMap.getInt(unit.getType());
+              patd.getValue() < proData.getUnitValueMap().getInt(unit.getType());
           if (isAirUnit && !isAdjacentToAlliedFactory && usesMoreThanHalfOfRange
               && (territoryValueIsLessThanUnitValue || (!t.isWater() && !patd.isCanHold()))) {
             continue;
@@ -1207,7 +1217,7 @@ class ProCombatMoveAi {
             final boolean hasNoDefenders =
                 defendingUnits.stream().noneMatch(ProMatches.unitIsEnemyAndNotInfa(player, data));
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, patd.getUnits(), defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, patd.getUnits(), defendingUnits);
             final boolean hasAa = defendingUnits.stream().anyMatch(Matches.unitIsAaForAnything());
             if (!isAirUnit || (!hasNoDefenders && !isOverwhelmingWin
                 && (!hasAa || result.getWinPercentage() < minWinPercentage))) {
@@ -1219,7 +1229,7 @@ class ProCombatMoveAi {
       }
       if (minWinTerritory != null) {
         attackMap.get(minWinTerritory).setBattleResult(null);
-        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, alreadyMovedUnits, attackMap);
+        final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, alreadyMovedUnits, attackMap);
         attackMap.get(minWinTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
       }
@@ -1228,7 +1238,7 @@ class ProCombatMoveAi {
 
     // Re-sort attack options
     sortedUnitAttackOptions =
-        ProSortMoveOptionsUtils.sortUnitNeededOptions(player, sortedUnitAttackOptions, attackMap, calc);
+        ProSortMoveOptionsUtils.sortUnitNeededOptions(proData, player, sortedUnitAttackOptions, attackMap, calc);
 
     // If transports can take casualties try placing in naval battles first
     final List<Unit> alreadyAttackedWithTransports = new ArrayList<>();
@@ -1263,7 +1273,7 @@ class ProCombatMoveAi {
                   patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
             }
             final ProBattleResult result = patd.getBattleResult();
-            if (result.getWinPercentage() < ProData.winPercentage || !result.isHasLandUnitRemaining()) {
+            if (result.getWinPercentage() < proData.getWinPercentage() || !result.isHasLandUnitRemaining()) {
               patd.addUnit(transport);
               patd.setBattleResult(null);
               alreadyAttackedWithTransports.add(transport);
@@ -1301,7 +1311,7 @@ class ProCombatMoveAi {
 
       // Find current land battle results for territories that unit can amphib attack
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       List<Unit> minAmphibUnitsToAdd = null;
       Territory minUnloadFromTerritory = null;
       for (final Territory t : amphibAttackOptions.get(transport)) {
@@ -1336,7 +1346,7 @@ class ProCombatMoveAi {
                     data.getMap().getNeighbors(t, ProMatches.territoryCanMoveSeaUnits(player, data, false));
                 final Set<Territory> loadFromTerritories = new HashSet<>();
                 for (final Unit u : amphibUnitsToAdd) {
-                  loadFromTerritories.add(ProData.unitTerritoryMap.get(u));
+                  loadFromTerritories.add(proData.getUnitTerritoryMap().get(u));
                 }
                 for (final Territory territoryToMoveTransport : territoriesToMoveTransport) {
                   if (proTransportData.getSeaTransportMap().containsKey(territoryToMoveTransport) && proTransportData
@@ -1349,7 +1359,8 @@ class ProCombatMoveAi {
                         territoryToMoveTransport.getUnitCollection().getMatches(Matches.isUnitAllied(player, data));
                     defenders.add(transport);
                     final double strengthDifference =
-                        ProBattleUtils.estimateStrengthDifference(territoryToMoveTransport, attackers, defenders);
+                        ProBattleUtils.estimateStrengthDifference(proData, territoryToMoveTransport, attackers,
+                            defenders);
                     if (strengthDifference < minStrengthDifference) {
                       minStrengthDifference = strengthDifference;
                       minUnloadFromTerritory = territoryToMoveTransport;
@@ -1460,13 +1471,13 @@ class ProCombatMoveAi {
 
     final Map<Territory, ProTerritory> attackMap = territoryManager.getAttackOptions().getTerritoryMap();
 
-    final Territory myCapital = ProData.myCapital;
+    final Territory myCapital = proData.getMyCapital();
 
     // Add max purchase defenders to capital for non-mobile factories (don't consider mobile factories since they may
     // move elsewhere)
     final List<Unit> placeUnits = new ArrayList<>();
     if (ProMatches.territoryHasNonMobileFactoryAndIsNotConqueredOwnedLand(player, data).test(myCapital)) {
-      placeUnits.addAll(ProPurchaseUtils.findMaxPurchaseDefenders(player, myCapital, landPurchaseOptions));
+      placeUnits.addAll(ProPurchaseUtils.findMaxPurchaseDefenders(proData, player, myCapital, landPurchaseOptions));
     }
 
     // Remove attack until capital can be defended
@@ -1518,7 +1529,7 @@ class ProCombatMoveAi {
         for (final Territory t : attackMap.keySet()) {
           int unitsNearCapital = 0;
           for (final Unit u : attackMap.get(t).getUnits()) {
-            if (territoriesNearCapital.contains(ProData.unitTerritoryMap.get(u))) {
+            if (territoriesNearCapital.contains(proData.getUnitTerritoryMap().get(u))) {
               unitsNearCapital++;
             }
           }
@@ -1549,7 +1560,7 @@ class ProCombatMoveAi {
 
     final Map<Territory, ProTerritory> attackMap = territoryManager.getAttackOptions().getTerritoryMap();
 
-    for (final Territory t : ProData.myUnitTerritories) {
+    for (final Territory t : proData.getMyUnitTerritories()) {
       if (t.isWater() && Matches.territoryHasEnemyUnits(player, data).test(t)
           && (attackMap.get(t) == null || attackMap.get(t).getUnits().isEmpty())) {
 
@@ -1563,7 +1574,7 @@ class ProCombatMoveAi {
           if (attackMap.containsKey(moveToTerritory)) {
             attackMap.get(moveToTerritory).addUnits(mySeaUnits);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(moveToTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(moveToTerritory, proData);
             moveTerritoryData.addUnits(mySeaUnits);
             attackMap.put(moveToTerritory, moveTerritoryData);
           }
@@ -1675,7 +1686,7 @@ class ProCombatMoveAi {
     final boolean isAdjacentToAlliedFactory = Matches
         .territoryHasNeighborMatching(data, ProMatches.territoryHasInfraFactoryAndIsAlliedLand(player, data)).test(t);
     final int range = TripleAUnit.get(unit).getMovementLeft();
-    final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
+    final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit), t,
         ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, true));
     final boolean usesMoreThanHalfOfRange = distance > range / 2;
     return isAdjacentToAlliedFactory || !usesMoreThanHalfOfRange;
@@ -58,6 +58,7 @@ import games.strategy.triplea.util.TuvUtils;
 class ProNonCombatMoveAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private PlayerId player;
   private Map<Unit, Territory> unitTerritoryMap;
@@ -65,6 +66,7 @@ class ProNonCombatMoveAi {
 
   ProNonCombatMoveAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, ProTerritory> simulateNonCombatMove(final IMoveDelegate moveDel) {
@@ -76,16 +78,16 @@ class ProNonCombatMoveAi {
     ProLogger.info("Starting non-combat move phase");
 
     // Current data at the start of non-combat move
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    unitTerritoryMap = ProData.unitTerritoryMap;
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    unitTerritoryMap = proData.getUnitTerritoryMap();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     // Find the max number of units that can move to each allied territory
     territoryManager.populateDefenseOptions(new ArrayList<>());
 
     // Find number of units in each move territory that can't move and all infra units
-    findUnitsThatCantMove(purchaseTerritories, ProData.purchaseOptions.getLandOptions());
+    findUnitsThatCantMove(purchaseTerritories, proData.getPurchaseOptions().getLandOptions());
     final Map<Unit, Set<Territory>> infraUnitMoveMap = findInfraUnitsThatCanMove();
 
     // Try to have one land unit in each territory that is bordering an enemy territory
@@ -100,28 +102,29 @@ class ProNonCombatMoveAi {
     final List<ProTerritory> prioritizedTerritories = prioritizeDefendOptions(factoryMoveMap);
 
     // Determine which territories to defend and how many units each one needs
-    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(data, player, ProData.myCapital);
+    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(proData, data, player,
+        proData.getMyCapital());
     moveUnitsToDefendTerritories(prioritizedTerritories, enemyDistance);
 
     // Copy data in case capital defense needs increased
-    final ProTerritoryManager territoryManagerCopy = new ProTerritoryManager(calc, territoryManager);
+    final ProTerritoryManager territoryManagerCopy = new ProTerritoryManager(calc, proData, territoryManager);
 
     // Get list of territories that can't be held and find move value for each territory
     final List<Territory> territoriesThatCantBeHeld = territoryManager.getCantHoldTerritories();
-    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(player,
+    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(proData, player,
         territoriesThatCantBeHeld, new ArrayList<>(), new HashSet<>(territoryManager.getDefendTerritories()));
-    final Map<Territory, Double> seaTerritoryValueMap = ProTerritoryValueUtils.findSeaTerritoryValues(player,
+    final Map<Territory, Double> seaTerritoryValueMap = ProTerritoryValueUtils.findSeaTerritoryValues(proData, player,
         territoriesThatCantBeHeld, territoryManager.getDefendTerritories());
 
     // Use loop to ensure capital is protected after moves
-    if (ProData.myCapital != null) {
+    if (proData.getMyCapital() != null) {
       int defenseRange = -1;
       while (true) {
 
         // Add value to territories near capital if necessary
         for (final Territory t : territoryManager.getDefendTerritories()) {
           double value = territoryValueMap.get(t);
-          final int distance = data.getMap().getDistance(ProData.myCapital, t,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), t,
               ProMatches.territoryCanMoveLandUnits(player, data, false));
           if (distance >= 0 && distance <= defenseRange) {
             value *= 10;
@@ -137,8 +140,8 @@ class ProNonCombatMoveAi {
         // Check if capital has local land superiority
         ProLogger.info("Checking if capital has local land superiority with enemyDistance=" + enemyDistance);
         if (enemyDistance >= 2 && enemyDistance <= 3 && defenseRange == -1
-            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player,
-                territoryManager.getDefendOptions().getTerritoryMap())) {
+            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(),
+                enemyDistance, player, territoryManager.getDefendOptions().getTerritoryMap())) {
           defenseRange = enemyDistance - 1;
           territoryManager = territoryManagerCopy;
           ProLogger.debug("Capital doesn't have local land superiority so setting defensive stance");
@@ -181,15 +184,15 @@ class ProNonCombatMoveAi {
     // Calculate move routes and perform moves
     final List<Collection<Unit>> moveUnits = new ArrayList<>();
     final List<Route> moveRoutes = new ArrayList<>();
-    ProMoveUtils.calculateMoveRoutes(player, moveUnits, moveRoutes, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateMoveRoutes(proData, player, moveUnits, moveRoutes, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     // Calculate amphib move routes and perform moves
     moveUnits.clear();
     moveRoutes.clear();
     final List<Collection<Unit>> transportsToLoad = new ArrayList<>();
-    ProMoveUtils.calculateAmphibRoutes(player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, transportsToLoad, moveDel);
+    ProMoveUtils.calculateAmphibRoutes(proData, player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, transportsToLoad, moveDel);
   }
 
   private void findUnitsThatCantMove(final Map<Territory, ProPurchaseTerritory> purchaseTerritories,
@@ -252,7 +255,7 @@ class ProNonCombatMoveAi {
       for (final Territory t : moveMap.keySet()) {
         if (ProMatches.territoryHasNonMobileFactoryAndIsNotConqueredOwnedLand(player, data).test(t)) {
           moveMap.get(t).getCantMoveUnits()
-              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(player, t, landPurchaseOptions));
+              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(proData, player, t, landPurchaseOptions));
         }
       }
     }
@@ -298,7 +301,7 @@ class ProNonCombatMoveAi {
           moveMap.get(t).getCantMoveUnits().stream().anyMatch(ProMatches.unitIsAlliedLandAndNotInfra(player, data));
       if (!t.isWater() && !hasAlliedLandUnits
           && ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .test(t)) {
         territoriesToDefendWithOneUnit.add(t);
       }
@@ -306,13 +309,14 @@ class ProNonCombatMoveAi {
     final List<Territory> result = new ArrayList<>(territoriesToDefendWithOneUnit);
 
     // Sort units by number of defend options and cost
-    final Map<Unit, Set<Territory>> sortedUnitMoveOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(unitMoveMap);
+    final Map<Unit, Set<Territory>> sortedUnitMoveOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(proData,
+        unitMoveMap);
 
     // Set unit with the fewest move options in each territory
     for (final Unit unit : sortedUnitMoveOptions.keySet()) {
       if (Matches.unitIsLand().test(unit)) {
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
-          final int unitValue = ProData.unitValueMap.getInt(unit.getType());
+          final int unitValue = proData.getUnitValueMap().getInt(unit.getType());
           int production = 0;
           final TerritoryAttachment ta = TerritoryAttachment.get(t);
           if (ta != null) {
@@ -390,12 +394,12 @@ class ProNonCombatMoveAi {
         isFactory = 1;
       }
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
       final List<Unit> extraUnits = new ArrayList<>(defendingUnitsAndNotAa);
       extraUnits.removeAll(minDefendingUnitsAndNotAa);
-      final double extraUnitValue = TuvUtils.getTuv(extraUnits, ProData.unitValueMap);
+      final double extraUnitValue = TuvUtils.getTuv(extraUnits, proData.getUnitValueMap());
       final double holdValue = extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2.0 * isMyCapital);
       if (minDefendingUnitsAndNotAa.size() != defendingUnitsAndNotAa.size()
           && (result.getTuvSwing() - holdValue) < minResult.getTuvSwing()) {
@@ -428,7 +432,7 @@ class ProNonCombatMoveAi {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -445,7 +449,7 @@ class ProNonCombatMoveAi {
       final TerritoryAttachment ta = TerritoryAttachment.get(t);
       if (ta != null) {
         production = ta.getProduction();
-        if (ta.isCapital() && !t.equals(ProData.myCapital)) {
+        if (ta.isCapital() && !t.equals(proData.getMyCapital())) {
           isEnemyOrAlliedCapital = 1;
         }
       }
@@ -464,7 +468,7 @@ class ProNonCombatMoveAi {
       }
 
       // Determine defending unit value
-      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), proData.getUnitValueMap());
       double unitOwnerMultiplier = 1;
       if (moveMap.get(t).getCantMoveUnits().stream().noneMatch(Matches.unitIsOwnedBy(player))) {
         if (t.isWater()
@@ -492,17 +496,17 @@ class ProNonCombatMoveAi {
       final Territory t = patd.getTerritory();
       final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
       final ProBattleResult minResult = patd.getMinBattleResult();
-      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), proData.getUnitValueMap());
       final List<Unit> maxEnemyUnits = patd.getMaxEnemyUnits();
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !maxEnemyUnits.isEmpty() && maxEnemyUnits.stream().allMatch(Matches.unitIsAir());
       final boolean isNotFactoryAndShouldHold =
           !hasFactory && (minResult.getTuvSwing() <= 0 || !minResult.isHasLandUnitRemaining());
       final boolean canAlreadyBeHeld =
-          minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.winPercentage);
+          minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getWinPercentage());
       final boolean isNotFactoryAndHasNoEnemyNeighbors = !t.isWater() && !hasFactory
           && !ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .test(t);
       final boolean isNotFactoryAndOnlyAmphib = !t.isWater() && !hasFactory
           && moveMap.get(t).getMaxUnits().stream().noneMatch(Matches.unitIsLand()) && cantMoveUnitValue < 5;
@@ -529,7 +533,7 @@ class ProNonCombatMoveAi {
     for (final Territory t : seaFactories) {
       territoriesToCheck.addAll(data.getMap().getNeighbors(t, ProMatches.territoryCanMoveSeaUnits(player, data, true)));
     }
-    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(player,
+    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(proData, player,
         territoryManager.getCantHoldTerritories(), new ArrayList<>(), territoriesToCheck);
     for (final Territory t : seaFactories) {
       if (territoryValueMap.get(t) >= 1) {
@@ -612,7 +616,7 @@ class ProNonCombatMoveAi {
 
       // Sort units by number of defend options and cost
       final Map<Unit, Set<Territory>> sortedUnitMoveOptions =
-          ProSortMoveOptionsUtils.sortUnitMoveOptions(unitDefendOptions);
+          ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitDefendOptions);
       final List<Unit> addedUnits = new ArrayList<>();
 
       // Set enough units in territories to have at least a chance of winning
@@ -629,12 +633,12 @@ class ProNonCombatMoveAi {
             defendingUnits = moveMap.get(t).getAllDefenders();
           }
           final double estimate =
-              ProBattleUtils.estimateStrengthDifference(t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
+              ProBattleUtils.estimateStrengthDifference(proData, t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
           estimatesMap.put(estimate, t);
         }
         if (!estimatesMap.isEmpty() && estimatesMap.lastKey() > 60) {
           final Territory minWinTerritory = estimatesMap.lastEntry().getValue();
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, moveMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, moveMap);
           moveMap.get(minWinTerritory).addTempUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
         }
@@ -661,8 +665,8 @@ class ProNonCombatMoveAi {
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTuvSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -670,7 +674,7 @@ class ProNonCombatMoveAi {
         }
         if (maxWinTerritory != null) {
           moveMap.get(maxWinTerritory).setBattleResult(null);
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(unit, moveMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, unit, moveMap);
           moveMap.get(maxWinTerritory).addTempUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
 
@@ -694,7 +698,7 @@ class ProNonCombatMoveAi {
         double maxWinPercentage = -1;
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
           if (t.isWater() && Matches.unitIsAir().test(unit)) {
-            if (!ProTransportUtils.validateCarrierCapacity(player, t,
+            if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                 moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), unit)) {
               continue; // skip moving air to water if not enough carrier capacity
             }
@@ -715,8 +719,8 @@ class ProNonCombatMoveAi {
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTuvSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -805,8 +809,8 @@ class ProNonCombatMoveAi {
           }
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
-          if ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-              || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+          if ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+              || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
               || result.getTuvSwing() > 0) {
 
             // Get all units that have already moved
@@ -848,7 +852,8 @@ class ProNonCombatMoveAi {
                     final List<Unit> defenders = moveMap.get(territoryToMoveTransport).getAllDefenders();
                     defenders.add(transport);
                     final double strengthDifference =
-                        ProBattleUtils.estimateStrengthDifference(territoryToMoveTransport, attackers, defenders);
+                        ProBattleUtils.estimateStrengthDifference(proData, territoryToMoveTransport, attackers,
+                            defenders);
                     if (strengthDifference < minStrengthDifference) {
                       minTerritory = territoryToMoveTransport;
                       minStrengthDifference = strengthDifference;
@@ -892,7 +897,7 @@ class ProNonCombatMoveAi {
           territoriesToCheck.add(unitTerritoryMap.get(u));
         }
       }
-      final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(player,
+      final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(proData, player,
           territoryManager.getCantHoldTerritories(), new ArrayList<>(), territoriesToCheck);
       ProLogger.debug("Current number of territories: " + numToDefend);
       for (final ProTerritory patd : territoriesToTryToDefend) {
@@ -908,11 +913,11 @@ class ProNonCombatMoveAi {
           isFactory = 1;
         }
         int isMyCapital = 0;
-        if (t.equals(ProData.myCapital)) {
+        if (t.equals(proData.getMyCapital())) {
           isMyCapital = 1;
           containsCapital = true;
         }
-        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final List<Unit> unsafeTransports = new ArrayList<>();
         for (final Unit transport : moveMap.get(t).getTransportTerritoryMap().keySet()) {
           final Territory transportTerritory = moveMap.get(t).getTransportTerritoryMap().get(transport);
@@ -920,13 +925,13 @@ class ProNonCombatMoveAi {
             unsafeTransports.add(transport);
           }
         }
-        final int unsafeTransportValue = TuvUtils.getTuv(unsafeTransports, ProData.unitValueMap);
+        final int unsafeTransportValue = TuvUtils.getTuv(unsafeTransports, proData.getUnitValueMap());
         final double holdValue =
             extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2.0 * isMyCapital) - unsafeTransportValue;
 
         // Find strategic value
         boolean hasHigherStrategicValue = true;
-        if (!t.isWater() && !t.equals(ProData.myCapital)
+        if (!t.isWater() && !t.equals(proData.getMyCapital())
             && !ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
           double totalValue = 0.0;
           final List<Unit> nonAirDefenders =
@@ -953,25 +958,27 @@ class ProNonCombatMoveAi {
       }
 
       final Territory currentTerritory = prioritizedTerritories.get(numToDefend - 1).getTerritory();
-      if (ProData.myCapital != null) {
+      if (proData.getMyCapital() != null) {
 
         // Check capital defense
-        if (containsCapital && !currentTerritory.equals(ProData.myCapital)
-            && moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage() > (100 - ProData.winPercentage)) {
+        if (containsCapital && !currentTerritory.equals(proData.getMyCapital())
+            && moveMap.get(proData.getMyCapital()).getBattleResult().getWinPercentage() > (100
+                - proData.getWinPercentage())) {
           if (!Collections.disjoint(moveMap.get(currentTerritory).getAllDefenders(),
-              moveMap.get(ProData.myCapital).getMaxDefenders())) {
+              moveMap.get(proData.getMyCapital()).getMaxDefenders())) {
             areSuccessful = false;
             ProLogger.debug("Capital isn't safe after defense moves with winPercentage="
-                + moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage());
+                + moveMap.get(proData.getMyCapital()).getBattleResult().getWinPercentage());
           }
         }
 
         // Check capital local superiority
         if (!currentTerritory.isWater() && enemyDistance >= 2 && enemyDistance <= 3) {
-          final int distance = data.getMap().getDistance(ProData.myCapital, currentTerritory,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), currentTerritory,
               ProMatches.territoryCanMoveLandUnits(player, data, true));
           if (distance > 0 && (enemyDistance == distance || enemyDistance == (distance - 1)) && !ProBattleUtils
-              .territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player, moveMap)) {
+              .territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(), enemyDistance, player,
+                  moveMap)) {
             areSuccessful = false;
             ProLogger.debug(
                 "Capital doesn't have local land superiority after defense moves with enemyDistance=" + enemyDistance);
@@ -1281,8 +1288,8 @@ class ProNonCombatMoveAi {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(player, t, defenders));
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(proData, player, t, defenders));
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
 
           // TODO: add logic to move towards closest factory
           ProLogger.trace(transport + " at " + t + ", strengthDifference=" + strengthDifference + ", attackers="
@@ -1342,8 +1349,8 @@ class ProNonCombatMoveAi {
       }
 
       // Get all transport final territories
-      ProMoveUtils.calculateAmphibRoutes(player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), moveMap,
-          false);
+      ProMoveUtils.calculateAmphibRoutes(proData, player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+          moveMap, false);
       for (final ProTerritory t : moveMap.values()) {
         for (final Map.Entry<Unit, Territory> entry : t.getTransportTerritoryMap().entrySet()) {
           final ProTerritory territory = moveMap.get(entry.getValue());
@@ -1372,7 +1379,7 @@ class ProNonCombatMoveAi {
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTuvSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTuvSwing() > 0) {
                 ProLogger.trace(u + " added sea to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1402,7 +1409,7 @@ class ProNonCombatMoveAi {
           for (final Territory t : currentUnitMoveMap.get(u)) {
             if (t.isWater() && moveMap.get(t).isCanHold() && !moveMap.get(t).getAllDefenders().isEmpty()
                 && moveMap.get(t).getAllDefenders().stream().anyMatch(ProMatches.unitIsOwnedTransport(player))) {
-              if (!ProTransportUtils.validateCarrierCapacity(player, t,
+              if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                   moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
                 continue;
               }
@@ -1416,7 +1423,7 @@ class ProNonCombatMoveAi {
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTuvSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTuvSwing() > 0) {
                 ProLogger.trace(u + " added air to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1482,7 +1489,8 @@ class ProNonCombatMoveAi {
               final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
               defenders.removeAll(alreadyMovedUnits);
               defenders.addAll(moveMap.get(t).getUnits());
-              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers,
+                  defenders);
               if (strengthDifference < minStrengthDifference) {
                 minStrengthDifference = strengthDifference;
                 minTerritory = t;
@@ -1530,7 +1538,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()) {
           isWater = 1;
         }
-        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final double holdValue = result.getTuvSwing() - (extraUnitValue / 8 * (1 + isWater));
 
         // Find min result without temp units
@@ -1659,7 +1667,7 @@ class ProNonCombatMoveAi {
         if (maxValueTerritory != null) {
           ProLogger.trace(u + " moved to " + maxValueTerritory + " with value=" + maxValue
               + ", numNeededTransportUnits=" + maxNeedAmphibUnitValue);
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(u, moveMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
           moveMap.get(maxValueTerritory).addUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
         }
@@ -1693,7 +1701,7 @@ class ProNonCombatMoveAi {
         if (minTerritory != null) {
           ProLogger.trace(
               u.getType().getName() + " moved towards closest factory adjacent to sea at " + minTerritory.getName());
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(u, moveMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
           moveMap.get(minTerritory).addUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
         }
@@ -1721,7 +1729,7 @@ class ProNonCombatMoveAi {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
           if (strengthDifference < minStrengthDifference) {
             minStrengthDifference = strengthDifference;
             minTerritory = t;
@@ -1730,7 +1738,7 @@ class ProNonCombatMoveAi {
         if (minTerritory != null) {
           ProLogger.debug(u.getType().getName() + " moved to safest territory at " + minTerritory.getName()
               + " with strengthDifference=" + minStrengthDifference);
-          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(u, moveMap);
+          final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
           moveMap.get(minTerritory).addUnits(unitsToAdd);
           addedUnits.addAll(unitsToAdd);
         }
@@ -1758,7 +1766,7 @@ class ProNonCombatMoveAi {
         if (!moveMap.get(t).isCanHold()) {
           continue;
         }
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1774,7 +1782,7 @@ class ProNonCombatMoveAi {
         final ProBattleResult result = moveMap.get(t).getBattleResult();
         ProLogger.trace(t + ", TUVSwing=" + result.getTuvSwing() + ", win%=" + result.getWinPercentage()
             + ", defendingUnits=" + defendingUnits + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits());
-        if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTuvSwing() > 0) {
+        if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTuvSwing() > 0) {
           moveMap.get(t).setCanHold(false);
           continue;
         }
@@ -1784,7 +1792,7 @@ class ProNonCombatMoveAi {
         final ProBattleResult result2 = calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
             myDefenders, moveMap.get(t).getMaxEnemyBombardUnits());
         int cantHoldWithoutAllies = 0;
-        if (result2.getWinPercentage() >= ProData.minWinPercentage || result2.getTuvSwing() > 0) {
+        if (result2.getWinPercentage() >= proData.getMinWinPercentage() || result2.getTuvSwing() > 0) {
           cantHoldWithoutAllies = 1;
         }
 
@@ -1837,7 +1845,7 @@ class ProNonCombatMoveAi {
       double minStrengthDifference = Double.POSITIVE_INFINITY;
       Territory minTerritory = null;
       for (final Territory t : unitMoveMap.get(u)) {
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1845,7 +1853,7 @@ class ProNonCombatMoveAi {
         final List<Unit> attackers = moveMap.get(t).getMaxEnemyUnits();
         final List<Unit> defenders = moveMap.get(t).getAllDefenders();
         defenders.add(u);
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
         ProLogger.trace("Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
         if (strengthDifference < minStrengthDifference) {
           minStrengthDifference = strengthDifference;
@@ -1893,7 +1901,7 @@ class ProNonCombatMoveAi {
                   defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
             }
             final ProBattleResult result = moveMap.get(t).getBattleResult();
-            if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTuvSwing() > 0) {
+            if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTuvSwing() > 0) {
               moveMap.get(t).setCanHold(false);
               continue;
             }
@@ -1921,7 +1929,7 @@ class ProNonCombatMoveAi {
             if (factoryMoveMap.containsKey(maxValueTerritory)) {
               factoryMoveMap.get(maxValueTerritory).addUnit(u);
             } else {
-              final ProTerritory patd = new ProTerritory(maxValueTerritory);
+              final ProTerritory patd = new ProTerritory(maxValueTerritory, proData);
               patd.addUnit(u);
               factoryMoveMap.put(maxValueTerritory, patd);
             }
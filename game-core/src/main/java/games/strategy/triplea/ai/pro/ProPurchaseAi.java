@@ -57,6 +57,7 @@ import games.strategy.triplea.util.TuvUtils;
 class ProPurchaseAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private GameData startOfTurnData; // Used to count current units on map for maxBuiltPerPlayer
   private PlayerId player;
@@ -66,6 +67,7 @@ class ProPurchaseAi {
 
   ProPurchaseAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   void repair(final int initialPusRemaining, final IPurchaseDelegate purchaseDelegate, final GameData data,
@@ -134,13 +136,13 @@ class ProPurchaseAi {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(pus, data);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = true;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting bid phase with resources: " + resourceTracker);
     if (!player.getUnits().isEmpty()) {
@@ -148,7 +150,8 @@ class ProPurchaseAi {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findBidTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findBidTerritories(proData,
+        player);
 
     int previousNumUnits = 0;
     while (true) {
@@ -172,7 +175,8 @@ class ProPurchaseAi {
         }
       }
       final Map<Territory, Double> territoryValueMap =
-          ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>(), territoriesToCheck);
+          ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>(),
+              territoriesToCheck);
       for (final ProPurchaseTerritory t : purchaseTerritories.values()) {
         for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
           ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -218,7 +222,7 @@ class ProPurchaseAi {
     final IntegerMap<ProductionRule> purchaseMap = populateProductionRuleMap(purchaseTerritories, purchaseOptions);
 
     // Purchase units
-    ProMetricUtils.collectPurchaseStats(purchaseMap);
+    ProMetricUtils.collectPurchaseStats(proData, purchaseMap);
     final String error = purchaseDelegate.purchase(purchaseMap);
     if (error != null) {
       ProLogger.warn("Purchase error: " + error);
@@ -232,13 +236,13 @@ class ProPurchaseAi {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(player);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = false;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting purchase phase with resources: " + resourceTracker);
     if (!player.getUnits().isEmpty()) {
@@ -246,7 +250,8 @@ class ProPurchaseAi {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(proData,
+        player);
     final Set<Territory> placeTerritories = new HashSet<>(
         CollectionUtils.getMatches(data.getMap().getTerritoriesOwnedBy(player), Matches.territoryIsLand()));
     for (final Territory t : purchaseTerritories.keySet()) {
@@ -274,7 +279,8 @@ class ProPurchaseAi {
       }
     }
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>(), territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>(),
+            territoriesToCheck);
     for (final Territory t : purchaseTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -319,7 +325,7 @@ class ProPurchaseAi {
     final IntegerMap<ProductionRule> purchaseMap = populateProductionRuleMap(purchaseTerritories, purchaseOptions);
 
     // Purchase units
-    ProMetricUtils.collectPurchaseStats(purchaseMap);
+    ProMetricUtils.collectPurchaseStats(proData, purchaseMap);
     final String error = purchaseDelegate.purchase(purchaseMap);
     if (error != null) {
       ProLogger.warn("Purchase error: " + error);
@@ -333,9 +339,9 @@ class ProPurchaseAi {
       final IAbstractPlaceDelegate placeDelegate) {
     ProLogger.info("Starting place phase");
 
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     if (purchaseTerritories != null) {
 
@@ -386,7 +392,7 @@ class ProPurchaseAi {
 
     // Find all place territories
     final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories =
-        ProPurchaseUtils.findPurchaseTerritories(player);
+        ProPurchaseUtils.findPurchaseTerritories(proData, player);
     final Set<Territory> placeTerritories = new HashSet<>();
     for (final Territory t : placeNonConstructionTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : placeNonConstructionTerritories.get(t).getCanPlaceTerritories()) {
@@ -417,7 +423,8 @@ class ProPurchaseAi {
       }
     }
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>(), territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>(),
+            territoriesToCheck);
     for (final ProPurchaseTerritory t : placeNonConstructionTerritories.values()) {
       for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -484,7 +491,7 @@ class ProPurchaseAi {
         if (t.isWater()) {
           final double unitValue = TuvUtils.getTuv(
               CollectionUtils.getMatches(placeTerritory.getDefendingUnits(), Matches.unitIsOwnedBy(player)),
-              ProData.unitValueMap);
+              proData.getUnitValueMap());
           holdValue = unitValue / 8;
         }
         ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", win%=" + result.getWinPercentage()
@@ -496,8 +503,8 @@ class ProPurchaseAi {
             !t.isWater() && !enemyAttackingUnits.isEmpty()
                 && enemyAttackingUnits.stream().allMatch(Matches.unitIsAir());
         if ((!t.isWater() && result.isHasLandUnitRemaining()) || result.getTuvSwing() > holdValue
-            || (t.equals(ProData.myCapital) && !isLandAndCanOnlyBeAttackedByAir
-                && result.getWinPercentage() > (100 - ProData.winPercentage))) {
+            || (t.equals(proData.getMyCapital()) && !isLandAndCanOnlyBeAttackedByAir
+                && result.getWinPercentage() > (100 - proData.getWinPercentage()))) {
           needToDefendTerritories.add(placeTerritory);
         }
       }
@@ -509,7 +516,7 @@ class ProPurchaseAi {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -527,7 +534,7 @@ class ProPurchaseAi {
       }
 
       // Determine defending unit value
-      double defendingUnitValue = TuvUtils.getTuv(placeTerritory.getDefendingUnits(), ProData.unitValueMap);
+      double defendingUnitValue = TuvUtils.getTuv(placeTerritory.getDefendingUnits(), proData.getUnitValueMap());
       if (t.isWater() && placeTerritory.getDefendingUnits().stream().noneMatch(Matches.unitIsOwnedBy(player))) {
         defendingUnitValue = 0;
       }
@@ -571,7 +578,8 @@ class ProPurchaseAi {
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player));
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
 
@@ -597,8 +605,9 @@ class ProPurchaseAi {
         }
 
         // Find defenders that can be produced in this territory
-        final List<ProPurchaseOption> purchaseOptionsForTerritory = ProPurchaseUtils.findPurchaseOptionsForTerritory(
-            player, defensePurchaseOptions, t, purchaseTerritory.getTerritory(), isBid);
+        final List<ProPurchaseOption> purchaseOptionsForTerritory =
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, defensePurchaseOptions, t,
+                purchaseTerritory.getTerritory(), isBid);
         purchaseOptionsForTerritory.addAll(airPurchaseOptions);
 
         // Purchase necessary defenders
@@ -632,7 +641,8 @@ class ProPurchaseAi {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace("Selected unit=" + selectedOption.getUnitType().getName() + ", unusedCarrierCapacity="
               + unusedCarrierCapacity + ", unusedLocalCarrierCapacity=" + unusedLocalCarrierCapacity);
@@ -646,9 +656,11 @@ class ProPurchaseAi {
               enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
           // Break if it can be held
-          if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTuvSwing() <= 0)
-              || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
-                  && finalResult.getTuvSwing() <= 0)) {
+          if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+              && finalResult.getTuvSwing() <= 0)
+              || (t.equals(proData.getMyCapital())
+              && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
+              && finalResult.getTuvSwing() <= 0)) {
             break;
           }
         }
@@ -656,11 +668,12 @@ class ProPurchaseAi {
 
       // Check to see if its worth trying to defend the territory
       final boolean hasLocalSuperiority =
-          ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player, purchaseTerritories);
+          ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.SHORT_RANGE, player,
+              purchaseTerritories);
       if (!finalResult.isHasLandUnitRemaining()
-          || (finalResult.getTuvSwing() - resourceTracker.getTempPUs(data) / 2) < placeTerritory.getMinBattleResult()
-              .getTuvSwing()
-          || t.equals(ProData.myCapital) || (!t.isWater() && hasLocalSuperiority)) {
+          || (finalResult
+              .getTuvSwing() - resourceTracker.getTempPUs(data) / 2) < placeTerritory.getMinBattleResult().getTuvSwing()
+          || t.equals(proData.getMyCapital()) || (!t.isWater() && hasLocalSuperiority)) {
         resourceTracker.confirmTempPurchases();
         ProLogger.trace(
             t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing() + ", hasLandUnitRemaining="
@@ -691,9 +704,9 @@ class ProPurchaseAi {
           final Set<Territory> nearbyLandTerritories =
               data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
           final int numNearbyEnemyTerritories = CollectionUtils.countMatches(nearbyLandTerritories,
-              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
           final boolean hasLocalLandSuperiority =
-              ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player);
+              ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.SHORT_RANGE, player);
           if (hasEnemyNeighbors || numNearbyEnemyTerritories >= 3 || !hasLocalLandSuperiority) {
             prioritizedLandTerritories.add(placeTerritory);
           }
@@ -749,7 +762,7 @@ class ProPurchaseAi {
 
       // Remove options that cost too much PUs or production
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, specialPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, specialPurchaseOptions, t, isBid);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, remainingUnitProduction, new ArrayList<>(), purchaseTerritories);
       if (purchaseOptionsForTerritory.isEmpty()) {
@@ -801,11 +814,13 @@ class ProPurchaseAi {
           data.getMap().getNeighbors(placeTerritory.getTerritory(), 9,
               ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
       final List<Territory> enemyLandTerritories =
-          CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(ProUtils.getEnemyPlayers(player)));
+          CollectionUtils.getMatches(landTerritories,
+              Matches.isTerritoryOwnedBy(ProUtils.getEnemyPlayers(proData, player)));
       territoriesToCheck.addAll(enemyLandTerritories);
     }
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>(), territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>(),
+            territoriesToCheck);
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
       ProLogger.debug("Checking land place for " + t.getName());
@@ -819,14 +834,18 @@ class ProPurchaseAi {
 
       // Determine most cost efficient units that can be produced in this territory
       final List<ProPurchaseOption> landFodderOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandFodderOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandFodderOptions(), t,
+              isBid);
       final List<ProPurchaseOption> landAttackOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandAttackOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandAttackOptions(), t,
+              isBid);
       final List<ProPurchaseOption> landDefenseOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandDefenseOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandDefenseOptions(), t,
+              isBid);
 
       // Determine enemy distance and locally owned units
-      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(data, player, t, territoryValueMap);
+      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(proData, data, player, t,
+          territoryValueMap);
       if (enemyDistance <= 0) {
         enemyDistance = 10;
       }
@@ -845,7 +864,7 @@ class ProPurchaseAi {
       for (final Iterator<Unit> it = unplacedUnits.iterator(); it.hasNext();) {
         final Unit u = it.next();
         if (remainingUnitProduction > 0
-            && ProPurchaseUtils.canUnitsBePlaced(Collections.singletonList(u), player, t, isBid)) {
+            && ProPurchaseUtils.canUnitsBePlaced(proData, Collections.singletonList(u), player, t, isBid)) {
           remainingUnitProduction--;
           unitsToPlace.add(u);
           it.remove();
@@ -979,13 +998,13 @@ class ProPurchaseAi {
     // Remove any territories that don't have local land superiority
     if (!hasExtraPUs) {
       purchaseFactoryTerritories
-          .removeIf(t -> !ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.MEDIUM_RANGE, player,
-              purchaseTerritories));
+          .removeIf(t -> !ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.MEDIUM_RANGE,
+              player, purchaseTerritories));
       ProLogger.debug("Possible factory territories that have land superiority: " + purchaseFactoryTerritories);
     }
 
     // Find strategic value for each territory
-    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(player,
+    final Map<Territory, Double> territoryValueMap = ProTerritoryValueUtils.findTerritoryValues(proData, player,
         territoriesThatCantBeHeld, new ArrayList<>(), purchaseFactoryTerritories);
     double maxValue = 0.0;
     Territory maxTerritory = null;
@@ -1029,7 +1048,7 @@ class ProPurchaseAi {
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> purchaseOptionsForTerritory = ProPurchaseUtils
-          .findPurchaseOptionsForTerritory(player, purchaseOptions.getFactoryOptions(), maxTerritory, isBid);
+          .findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getFactoryOptions(), maxTerritory, isBid);
       resourceTracker.removeTempPurchase(maxPlacedOption);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, 1, new ArrayList<>(), purchaseTerritories);
@@ -1106,13 +1125,13 @@ class ProPurchaseAi {
       int needDefenders = 0;
       if (enemyAttackOptions.getMax(t) != null) {
         final double strengthDifference =
-            ProBattleUtils.estimateStrengthDifference(t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
+            ProBattleUtils.estimateStrengthDifference(proData, t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
         if (strengthDifference > 50) {
           needDefenders = 1;
         }
       }
       final boolean hasLocalNavalSuperiority =
-          ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, null, new ArrayList<>());
+          ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, null, new ArrayList<>());
       if (!hasLocalNavalSuperiority) {
         needDefenders = 1;
       }
@@ -1164,7 +1183,8 @@ class ProPurchaseAi {
         ownedLocalUnits.addAll(neighbor.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player)));
       }
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
 
@@ -1201,8 +1221,8 @@ class ProPurchaseAi {
 
           // Determine sea and transport units that can be produced in this territory
           final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
-              ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaDefenseOptions(), t,
-                  purchaseTerritory.getTerritory(), isBid);
+              ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(),
+                  t, purchaseTerritory.getTerritory(), isBid);
           seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
 
           // Purchase enough sea defenders to hold territory
@@ -1210,7 +1230,7 @@ class ProPurchaseAi {
 
             // If it can be held then break
             if (!hasOnlyRetreatingSubs
-                && (result.getTuvSwing() < -1 || result.getWinPercentage() < ProData.winPercentage)) {
+                && (result.getTuvSwing() < -1 || result.getWinPercentage() < proData.getWinPercentage())) {
               break;
             }
 
@@ -1238,7 +1258,8 @@ class ProPurchaseAi {
             unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
             if (selectedOption.isCarrier() || selectedOption.isAir()) {
               unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                  unitsToPlace);
             }
             ProLogger
                 .trace(t + ", added sea defender for defense: " + selectedOption.getUnitType().getName() + ", TUVSwing="
@@ -1259,7 +1280,7 @@ class ProPurchaseAi {
         }
 
         // Check to see if its worth trying to defend the territory
-        if (result.getTuvSwing() < 0 || result.getWinPercentage() < ProData.winPercentage) {
+        if (result.getTuvSwing() < 0 || result.getWinPercentage() < proData.getWinPercentage()) {
           resourceTracker.confirmTempPurchases();
           ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + result.getTuvSwing()
               + ", hasLandUnitRemaining=" + result.isHasLandUnitRemaining());
@@ -1347,13 +1368,14 @@ class ProPurchaseAi {
         }
 
         // Determine sea and transport units that can be produced in this territory
-        final List<ProPurchaseOption> seaPurchaseOptionsForTerritory = ProPurchaseUtils.findPurchaseOptionsForTerritory(
-            player, purchaseOptions.getSeaDefenseOptions(), t, purchaseTerritory.getTerritory(), isBid);
+        final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(), t,
+                purchaseTerritory.getTerritory(), isBid);
         seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
         while (true) {
 
           // If I have naval attack/defense superiority then break
-          if (ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, purchaseTerritories, unitsToPlace)) {
+          if (ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, purchaseTerritories, unitsToPlace)) {
             break;
           }
 
@@ -1381,7 +1403,8 @@ class ProPurchaseAi {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace(t + ", added sea defender for naval superiority: " + selectedOption.getUnitType().getName()
               + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
@@ -1408,7 +1431,8 @@ class ProPurchaseAi {
         territoriesToCheck.addAll(landNeighbors);
       }
       final Map<Territory, Double> territoryValueMap =
-          ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>(), territoriesToCheck);
+          ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>(),
+              territoriesToCheck);
       ProLogger.trace(t + ", transportMovement=" + distance);
       for (final ProPurchaseTerritory purchaseTerritory : selectedPurchaseTerritories) {
         final Territory landTerritory = purchaseTerritory.getTerritory();
@@ -1427,10 +1451,11 @@ class ProPurchaseAi {
 
         // Determine sea and transport units that can be produced in this territory
         final List<ProPurchaseOption> seaTransportPurchaseOptionsForTerritory = ProPurchaseUtils
-            .findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaTransportOptions(), t, landTerritory, isBid);
+            .findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaTransportOptions(), t,
+                landTerritory, isBid);
         final List<ProPurchaseOption> amphibPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandOptions(), landTerritory,
-                isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandOptions(),
+                landTerritory, isBid);
 
         // Find transports that need loaded and units to ignore that are already paired up
         final List<Unit> transportsThatNeedUnits = new ArrayList<>();
@@ -1591,7 +1616,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1647,7 +1672,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase defense units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1710,7 +1735,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(purchaseOptions.getAirOptions());
       airAndLandPurchaseOptions.addAll(purchaseOptions.getLandOptions());
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUpgradeUnits = purchaseTerritories.get(t).getUnitProduction() / 3;
@@ -1755,7 +1780,7 @@ class ProPurchaseAi {
             }
             if (ppo.getCarrierCost() > 0) {
               final int unusedLocalCarrierCapacity =
-                  ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, placeTerritory.getPlaceUnits());
+                  ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t, placeTerritory.getPlaceUnits());
               final int neededFighters = unusedLocalCarrierCapacity / ppo.getCarrierCost();
               attackEfficiency *= (1 + neededFighters);
             }
@@ -1877,9 +1902,10 @@ class ProPurchaseAi {
             enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
         // Break if it can be held
-        if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTuvSwing() <= 0)
-            || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
-                && finalResult.getTuvSwing() <= 0)) {
+        if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+            && finalResult.getTuvSwing() <= 0)
+            || (t.equals(proData.getMyCapital()) && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
+            && finalResult.getTuvSwing() <= 0)) {
           break;
         }
       }
@@ -1887,7 +1913,7 @@ class ProPurchaseAi {
       // Check to see if its worth trying to defend the territory
       if (!finalResult.isHasLandUnitRemaining()
           || finalResult.getTuvSwing() < placeTerritory.getMinBattleResult().getTuvSwing()
-          || t.equals(ProData.myCapital)) {
+          || t.equals(proData.getMyCapital())) {
         ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing());
         doPlace(t, unitsToPlace, placeDelegate);
       } else {
@@ -1946,7 +1972,8 @@ class ProPurchaseAi {
 
         // If place territory is equal to the current place territory and has remaining production
         if (placeTerritory.equals(ppt) && purchaseTerritory.getRemainingUnitProduction() > 0 && ProPurchaseUtils
-            .canUnitsBePlaced(unitsToPlace, player, ppt.getTerritory(), purchaseTerritory.getTerritory(), isBid)) {
+            .canUnitsBePlaced(proData, unitsToPlace, player, ppt.getTerritory(), purchaseTerritory.getTerritory(),
+                isBid)) {
 
           // Place max number of units
           final int numUnits = Math.min(purchaseTerritory.getRemainingUnitProduction(), unitsToPlace.size());
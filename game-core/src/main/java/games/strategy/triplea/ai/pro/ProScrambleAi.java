@@ -33,17 +33,19 @@ import games.strategy.triplea.delegate.IBattle.BattleType;
 class ProScrambleAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
 
   ProScrambleAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, Collection<Unit>> scrambleUnitsQuery(final Territory scrambleTo,
       final Map<Territory, Tuple<Collection<Unit>, Collection<Unit>>> possibleScramblers) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerId player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerId player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(scrambleTo, false, BattleType.NORMAL);
 
@@ -54,7 +56,7 @@ class ProScrambleAi {
     final ProBattleResult minResult = calc.calculateBattleResults(scrambleTo, attackers, defenders, bombardingUnits);
     ProLogger
         .debug(scrambleTo + ", minTUVSwing=" + minResult.getTuvSwing() + ", minWin%=" + minResult.getWinPercentage());
-    if (minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+    if (minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
       return null;
     }
 
@@ -65,7 +67,7 @@ class ProScrambleAi {
       final int maxCanScramble = BattleDelegate.getMaxScrambleCount(possibleScramblers.get(t).getFirst());
       List<Unit> canScrambleAir = new ArrayList<>(possibleScramblers.get(t).getSecond());
       if (maxCanScramble < canScrambleAir.size()) {
-        canScrambleAir.sort(Comparator.<Unit>comparingDouble(o -> ProBattleUtils.estimateStrength(scrambleTo,
+        canScrambleAir.sort(Comparator.<Unit>comparingDouble(o -> ProBattleUtils.estimateStrength(proData, scrambleTo,
             Collections.singletonList(o), new ArrayList<>(), false)).reversed());
         canScrambleAir = canScrambleAir.subList(0, maxCanScramble);
       }
@@ -101,7 +103,7 @@ class ProScrambleAi {
 
     // Sort units by number of defend options and cost
     final Map<Unit, Set<Territory>> sortedUnitDefendOptions =
-        ProSortMoveOptionsUtils.sortUnitMoveOptions(unitDefendOptions);
+        ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitDefendOptions);
 
     // Add one scramble unit at a time and check if final result is better than min result
     final List<Unit> unitsToScramble = new ArrayList<>();
@@ -113,7 +115,7 @@ class ProScrambleAi {
       result = calc.calculateBattleResults(scrambleTo, attackers, currentDefenders, bombardingUnits);
       ProLogger.debug(scrambleTo + ", TUVSwing=" + result.getTuvSwing() + ", Win%=" + result.getWinPercentage()
           + ", addedUnit=" + u);
-      if (result.getTuvSwing() <= 0 && result.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+      if (result.getTuvSwing() <= 0 && result.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
         break;
       }
     }
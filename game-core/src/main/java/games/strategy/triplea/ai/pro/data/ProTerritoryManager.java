@@ -42,6 +42,7 @@ import games.strategy.triplea.delegate.TransportTracker;
 public class ProTerritoryManager {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private final PlayerId player;
 
   private ProMyMoveOptions attackOptions;
@@ -51,9 +52,10 @@ public class ProTerritoryManager {
   private ProOtherMoveOptions enemyDefendOptions;
   private ProOtherMoveOptions enemyAttackOptions;
 
-  public ProTerritoryManager(final ProOddsCalculator calc) {
+  public ProTerritoryManager(final ProOddsCalculator calc, final ProData proData) {
     this.calc = calc;
-    player = ProData.getPlayer();
+    this.proData = proData;
+    player = proData.getPlayer();
     attackOptions = new ProMyMoveOptions();
     potentialAttackOptions = new ProMyMoveOptions();
     defendOptions = new ProMyMoveOptions();
@@ -62,8 +64,9 @@ public class ProTerritoryManager {
     enemyAttackOptions = new ProOtherMoveOptions();
   }
 
-  public ProTerritoryManager(final ProOddsCalculator calc, final ProTerritoryManager territoryManager) {
-    this(calc);
+  public ProTerritoryManager(final ProOddsCalculator calc, final ProData proData,
+      final ProTerritoryManager territoryManager) {
+    this(calc, proData);
     attackOptions = new ProMyMoveOptions(territoryManager.attackOptions);
     potentialAttackOptions = new ProMyMoveOptions(territoryManager.potentialAttackOptions);
     defendOptions = new ProMyMoveOptions(territoryManager.defendOptions);
@@ -73,33 +76,34 @@ public class ProTerritoryManager {
   }
 
   public void populateAttackOptions() {
-    findAttackOptions(player, ProData.myUnitTerritories, attackOptions.getTerritoryMap(),
+    findAttackOptions(proData, player, proData.getMyUnitTerritories(), attackOptions.getTerritoryMap(),
         attackOptions.getUnitMoveMap(), attackOptions.getTransportMoveMap(), attackOptions.getBombardMap(),
         attackOptions.getTransportList(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     findBombingOptions();
-    alliedAttackOptions = findAlliedAttackOptions(player);
+    alliedAttackOptions = findAlliedAttackOptions(proData, player);
   }
 
   public void populatePotentialAttackOptions() {
-    findPotentialAttackOptions(player, ProData.myUnitTerritories, potentialAttackOptions.getTerritoryMap(),
-        potentialAttackOptions.getUnitMoveMap(), potentialAttackOptions.getTransportMoveMap(),
-        potentialAttackOptions.getBombardMap(), potentialAttackOptions.getTransportList());
+    findPotentialAttackOptions(proData, player, proData.getMyUnitTerritories(),
+        potentialAttackOptions.getTerritoryMap(), potentialAttackOptions.getUnitMoveMap(),
+        potentialAttackOptions.getTransportMoveMap(), potentialAttackOptions.getBombardMap(),
+        potentialAttackOptions.getTransportList());
   }
 
   public void populateDefenseOptions(final List<Territory> clearedTerritories) {
-    findDefendOptions(player, ProData.myUnitTerritories, defendOptions.getTerritoryMap(),
+    findDefendOptions(proData, player, proData.getMyUnitTerritories(), defendOptions.getTerritoryMap(),
         defendOptions.getUnitMoveMap(), defendOptions.getTransportMoveMap(), defendOptions.getTransportList(),
         clearedTerritories, false);
   }
 
   public void populateEnemyAttackOptions(final List<Territory> clearedTerritories,
       final List<Territory> territoriesToCheck) {
-    enemyAttackOptions = findEnemyAttackOptions(player, clearedTerritories, territoriesToCheck);
+    enemyAttackOptions = findEnemyAttackOptions(proData, player, clearedTerritories, territoriesToCheck);
   }
 
   public void populateEnemyDefenseOptions() {
-    findScrambleOptions(player, attackOptions.getTerritoryMap());
-    enemyDefendOptions = findEnemyDefendOptions(player);
+    findScrambleOptions(proData, player, attackOptions.getTerritoryMap());
+    enemyDefendOptions = findEnemyDefendOptions(proData, player);
   }
 
   public List<ProTerritory> removeTerritoriesThatCantBeConquered() {
@@ -113,7 +117,7 @@ public class ProTerritoryManager {
       final ProOtherMoveOptions enemyDefendOptions, final boolean isIgnoringRelationships) {
 
     ProLogger.info("Removing territories that can't be conquered");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine if territory can be successfully attacked with max possible attackers
     final List<Territory> territoriesToRemove = new ArrayList<>();
@@ -126,7 +130,8 @@ public class ProTerritoryManager {
       patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, patd.getMaxUnits(), defenders, new HashSet<>()));
 
       // Add in amphib units if I can't win without them
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage && !patd.getMaxAmphibUnits().isEmpty()) {
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
+          && !patd.getMaxAmphibUnits().isEmpty()) {
         final Set<Unit> combinedUnits = new HashSet<>(patd.getMaxUnits());
         combinedUnits.addAll(patd.getMaxAmphibUnits());
         patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, new ArrayList<>(combinedUnits), defenders,
@@ -141,7 +146,7 @@ public class ProTerritoryManager {
           && ((ta != null && ta.isCapital()) || ProMatches.territoryHasInfraFactoryAndIsLand().test(t))) {
         isEnemyCapitalOrFactory = true;
       }
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage && isEnemyCapitalOrFactory
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage() && isEnemyCapitalOrFactory
           && alliedAttackOptions.getMax(t) != null) {
 
         // Check for allied attackers
@@ -157,7 +162,7 @@ public class ProTerritoryManager {
 
             // Get max enemy defenders
             final Set<Unit> additionalEnemyDefenders = new HashSet<>();
-            final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(player);
+            final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(proData, player);
             for (final ProTerritory enemyDefendOption : enemyDefendOptions.getAll(t)) {
               final Set<Unit> enemyUnits = new HashSet<>(enemyDefendOption.getMaxUnits());
               enemyUnits.addAll(enemyDefendOption.getMaxAmphibUnits());
@@ -175,7 +180,7 @@ public class ProTerritoryManager {
             final ProBattleResult result =
                 calc.estimateAttackBattleResults(t, new ArrayList<>(alliedUnits),
                     new ArrayList<>(enemyDefendersBeforeStrafe), alliedAttack.getMaxBombardUnits());
-            if (result.getWinPercentage() < ProData.winPercentage) {
+            if (result.getWinPercentage() < proData.getWinPercentage()) {
               patd.setStrafing(true);
 
               // Try to strafe to allow allies to conquer territory
@@ -199,8 +204,8 @@ public class ProTerritoryManager {
         }
       }
 
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage
-          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage()
+          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
               || !patd.getMaxBattleResult().isHasLandUnitRemaining()))) {
         territoriesToRemove.add(t);
       }
@@ -285,8 +290,9 @@ public class ProTerritoryManager {
     return movedTransports.size() >= attackOptions.getTransportList().size();
   }
 
-  private static void findScrambleOptions(final PlayerId player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+  private static void findScrambleOptions(final ProData proData, final PlayerId player,
+      final Map<Territory, ProTerritory> moveMap) {
+    final GameData data = proData.getData();
 
     if (!Properties.getScrambleRulesInEffect(data)) {
       return;
@@ -347,7 +353,8 @@ public class ProTerritoryManager {
         if (maxCanScramble > 0 && !canScrambleAir.isEmpty()) {
           if (maxCanScramble < canScrambleAir.size()) {
             canScrambleAir.sort(Comparator.<Unit>comparingDouble(
-                o -> ProBattleUtils.estimateStrength(to, Collections.singletonList(o), new ArrayList<>(), false))
+                o -> ProBattleUtils.estimateStrength(proData, to, Collections.singletonList(o), new ArrayList<>(),
+                    false))
                 .reversed());
             canScrambleAir = canScrambleAir.subList(0, maxCanScramble);
           }
@@ -375,30 +382,32 @@ public class ProTerritoryManager {
     return maxScrambled;
   }
 
-  private static void findAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
-      final List<ProTransport> transportMapList, final List<Territory> enemyTerritories,
-      final List<Territory> alliedTerritories, final List<Territory> territoriesToCheck,
-      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+  private static void findAttackOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Map<Unit, Set<Territory>> transportMoveMap,
+      final Map<Unit, Set<Territory>> bombardMap, final List<ProTransport> transportMapList,
+      final List<Territory> enemyTerritories, final List<Territory> alliedTerritories,
+      final List<Territory> territoriesToCheck, final boolean isCheckingEnemyAttacks,
+      final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
     final List<Territory> territoriesThatCantBeHeld = new ArrayList<>(enemyTerritories);
     territoriesThatCantBeHeld.addAll(territoriesToCheck);
-    findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
+    findNavalMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryIsEnemyOrHasEnemyUnitsOrCantBeHeld(player, data, territoriesThatCantBeHeld),
         enemyTerritories, true, isCheckingEnemyAttacks);
-    findLandMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
+    findLandMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
         ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld), enemyTerritories,
         alliedTerritories, true, isCheckingEnemyAttacks, isIgnoringRelationships);
-    findAirMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap,
+    findAirMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap,
         ProMatches.territoryHasEnemyUnitsOrCantBeHeld(player, data, territoriesThatCantBeHeld), enemyTerritories,
         alliedTerritories, true, isCheckingEnemyAttacks, isIgnoringRelationships);
-    findAmphibMoveOptions(player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
+    findAmphibMoveOptions(proData, player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
         ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld), true,
         isCheckingEnemyAttacks, isIgnoringRelationships);
-    findBombardOptions(player, myUnitTerritories, moveMap, bombardMap, transportMapList, isCheckingEnemyAttacks);
+    findBombardOptions(proData, player, myUnitTerritories, moveMap, bombardMap, transportMapList,
+        isCheckingEnemyAttacks);
   }
 
   private void findBombingOptions() {
@@ -409,11 +418,11 @@ public class ProTerritoryManager {
     }
   }
 
-  private static ProOtherMoveOptions findAlliedAttackOptions(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private static ProOtherMoveOptions findAlliedAttackOptions(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
+    final List<PlayerId> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<>();
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each territory
@@ -426,18 +435,18 @@ public class ProTerritoryManager {
       final Map<Unit, Set<Territory>> bombardMap = new HashMap<>();
       final List<ProTransport> transportMapList = new ArrayList<>();
       alliedAttackMaps.add(attackMap);
-      findAttackOptions(alliedPlayer, alliedUnitTerritories, attackMap, unitAttackMap, transportAttackMap, bombardMap,
-          transportMapList, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
+      findAttackOptions(proData, alliedPlayer, alliedUnitTerritories, attackMap, unitAttackMap, transportAttackMap,
+          bombardMap, transportMapList, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     }
-    return new ProOtherMoveOptions(alliedAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
   }
 
-  private static ProOtherMoveOptions findEnemyAttackOptions(final PlayerId player,
+  private static ProOtherMoveOptions findEnemyAttackOptions(final ProData proData, final PlayerId player,
       final List<Territory> clearedTerritories, final List<Territory> territoriesToCheck) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyAttackMaps = new ArrayList<>();
     final Set<Territory> alliedTerritories = new HashSet<>();
     final List<Territory> enemyTerritories = new ArrayList<>(clearedTerritories);
@@ -453,61 +462,63 @@ public class ProTerritoryManager {
       final Map<Unit, Set<Territory>> bombardMap = new HashMap<>();
       final List<ProTransport> transportMapList = new ArrayList<>();
       enemyAttackMaps.add(attackMap);
-      findAttackOptions(enemyPlayer, enemyUnitTerritories, attackMap, unitAttackMap, transportAttackMap, bombardMap,
-          transportMapList, enemyTerritories, new ArrayList<>(alliedTerritories), territoriesToCheck, true, true);
+      findAttackOptions(proData, enemyPlayer, enemyUnitTerritories, attackMap, unitAttackMap, transportAttackMap,
+          bombardMap, transportMapList, enemyTerritories, new ArrayList<>(alliedTerritories), territoriesToCheck, true,
+          true);
       alliedTerritories.addAll(CollectionUtils.getMatches(attackMap.keySet(), Matches.territoryIsLand()));
       enemyTerritories.removeAll(alliedTerritories);
     }
-    return new ProOtherMoveOptions(enemyAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, enemyAttackMaps, player, true);
   }
 
-  private static void findPotentialAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
-      final List<ProTransport> transportMapList) {
-    final GameData data = ProData.getData();
+  private static void findPotentialAttackOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Map<Unit, Set<Territory>> transportMoveMap,
+      final Map<Unit, Set<Territory>> bombardMap, final List<ProTransport> transportMapList) {
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
-    final List<PlayerId> otherPlayers = ProUtils.getPotentialEnemyPlayers(player);
-    findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
+    final List<PlayerId> otherPlayers = ProUtils.getPotentialEnemyPlayers(proData, player);
+    findNavalMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryIsPotentialEnemyOrHasPotentialEnemyUnits(player, data, otherPlayers), new ArrayList<>(),
         true, false);
-    findLandMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
+    findLandMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
         ProMatches.territoryIsPotentialEnemy(player, data, otherPlayers), new ArrayList<>(), new ArrayList<>(), true,
         false, true);
-    findAirMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap,
+    findAirMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap,
         ProMatches.territoryHasPotentialEnemyUnits(player, data, otherPlayers), new ArrayList<>(), new ArrayList<>(),
         true, false, true);
-    findAmphibMoveOptions(player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
+    findAmphibMoveOptions(proData, player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
         ProMatches.territoryIsPotentialEnemy(player, data, otherPlayers), true, false, true);
-    findBombardOptions(player, myUnitTerritories, moveMap, bombardMap, transportMapList, false);
+    findBombardOptions(proData, player, myUnitTerritories, moveMap, bombardMap, transportMapList, false);
   }
 
-  private static void findDefendOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Unit, Set<Territory>> transportMoveMap, final List<ProTransport> transportMapList,
-      final List<Territory> clearedTerritories, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+  private static void findDefendOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Map<Unit, Set<Territory>> transportMoveMap,
+      final List<ProTransport> transportMapList, final List<Territory> clearedTerritories,
+      final boolean isCheckingEnemyAttacks) {
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
-    findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
+    findNavalMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryHasNoEnemyUnitsOrCleared(player, data, clearedTerritories), clearedTerritories, false,
         isCheckingEnemyAttacks);
-    findLandMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
+    findLandMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap, landRoutesMap,
         Matches.isTerritoryAllied(player, data), new ArrayList<>(), clearedTerritories, false, isCheckingEnemyAttacks,
         false);
-    findAirMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap,
+    findAirMoveOptions(proData, player, myUnitTerritories, moveMap, unitMoveMap,
         ProMatches.territoryCanLandAirUnits(player, data, false, new ArrayList<>(), new ArrayList<>()),
         new ArrayList<>(), new ArrayList<>(), false, isCheckingEnemyAttacks, false);
-    findAmphibMoveOptions(player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
+    findAmphibMoveOptions(proData, player, myUnitTerritories, moveMap, transportMapList, landRoutesMap,
         Matches.isTerritoryAllied(player, data), false, isCheckingEnemyAttacks, false);
   }
 
-  private static ProOtherMoveOptions findEnemyDefendOptions(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private static ProOtherMoveOptions findEnemyDefendOptions(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyMoveMaps = new ArrayList<>();
     final List<Territory> clearedTerritories =
         CollectionUtils.getMatches(data.getMap().getTerritories(), Matches.isTerritoryAllied(player, data));
@@ -521,18 +532,19 @@ public class ProTerritoryManager {
       final Map<Unit, Set<Territory>> transportMoveMap = new HashMap<>();
       final List<ProTransport> transportMapList = new ArrayList<>();
       enemyMoveMaps.add(moveMap);
-      findDefendOptions(enemyPlayer, enemyUnitTerritories, moveMap, unitMoveMap, transportMoveMap, transportMapList,
-          clearedTerritories, true);
+      findDefendOptions(proData, enemyPlayer, enemyUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
+          transportMapList, clearedTerritories, true);
     }
 
-    return new ProOtherMoveOptions(enemyMoveMaps, player, false);
+    return new ProOtherMoveOptions(proData, enemyMoveMaps, player, false);
   }
 
-  private static void findNavalMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Unit, Set<Territory>> transportMoveMap, final Predicate<Territory> moveToTerritoryMatch,
-      final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+  private static void findNavalMoveOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Map<Unit, Set<Territory>> transportMoveMap,
+      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> clearedTerritories,
+      final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -610,7 +622,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(mySeaUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(mySeaUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -638,12 +650,13 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findLandMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Territory, Set<Territory>> landRoutesMap, final Predicate<Territory> moveToTerritoryMatch,
-      final List<Territory> enemyTerritories, final List<Territory> clearedTerritories, final boolean isCombatMove,
-      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+  private static void findLandMoveOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Map<Territory, Set<Territory>> landRoutesMap,
+      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
+      final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
+      final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -653,7 +666,7 @@ public class ProTerritoryManager {
 
       // Check each land unit individually since they can have different ranges
       for (final Unit myLandUnit : myLandUnits) {
-        final Territory startTerritory = ProData.unitTerritoryMap.get(myLandUnit);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(myLandUnit);
         final int range = TripleAUnit.get(myLandUnit).getMovementLeft();
         Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
             ProMatches.territoryCanMoveSpecificLandUnit(player, data, isCombatMove, myLandUnit));
@@ -707,7 +720,7 @@ public class ProTerritoryManager {
                 moveMap.get(potentialTerritory).getMaxUnits());
             moveMap.get(potentialTerritory).addMaxUnits(unitsToAdd);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             final List<Unit> unitsToAdd = ProTransportUtils.findBestUnitsToLandTransport(myLandUnit, startTerritory);
             moveTerritoryData.addMaxUnits(unitsToAdd);
             moveMap.put(potentialTerritory, moveTerritoryData);
@@ -726,19 +739,19 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findAirMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
-      final List<Territory> alliedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
-      final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+  private static void findAirMoveOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> unitMoveMap, final Predicate<Territory> moveToTerritoryMatch,
+      final List<Territory> enemyTerritories, final List<Territory> alliedTerritories, final boolean isCombatMove,
+      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
 
     // TODO: add carriers to landing possibilities for non-enemy attacks
     // Find possible carrier landing territories
     final Set<Territory> possibleCarrierTerritories = new HashSet<>();
     if (isCheckingEnemyAttacks || !isCombatMove) {
       final Map<Unit, Set<Territory>> unitMoveMap2 = new HashMap<>();
-      findNavalMoveOptions(player, myUnitTerritories, new HashMap<>(), unitMoveMap2, new HashMap<>(),
+      findNavalMoveOptions(proData, player, myUnitTerritories, new HashMap<>(), unitMoveMap2, new HashMap<>(),
           Matches.territoryIsWater(), enemyTerritories, false, true);
       for (final Unit u : unitMoveMap2.keySet()) {
         if (Matches.unitIsCarrier().test(u)) {
@@ -824,7 +837,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(myAirUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(myAirUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -842,11 +855,12 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findAmphibMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final List<ProTransport> transportMapList,
-      final Map<Territory, Set<Territory>> landRoutesMap, final Predicate<Territory> moveAmphibToTerritoryMatch,
-      final boolean isCombatMove, final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+  private static void findAmphibMoveOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final List<ProTransport> transportMapList, final Map<Territory, Set<Territory>> landRoutesMap,
+      final Predicate<Territory> moveAmphibToTerritoryMatch, final boolean isCombatMove,
+      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -1004,7 +1018,7 @@ public class ProTerritoryManager {
         if (moveMap.containsKey(moveTerritory)) {
           moveMap.get(moveTerritory).addMaxAmphibUnits(amphibUnits);
         } else {
-          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory);
+          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory, proData);
           moveTerritoryData.addMaxAmphibUnits(amphibUnits);
           moveMap.put(moveTerritory, moveTerritoryData);
         }
@@ -1012,10 +1026,11 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findBombardOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> bombardMap,
-      final List<ProTransport> transportMapList, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+  private static void findBombardOptions(final ProData proData, final PlayerId player,
+      final List<Territory> myUnitTerritories, final Map<Territory, ProTerritory> moveMap,
+      final Map<Unit, Set<Territory>> bombardMap, final List<ProTransport> transportMapList,
+      final boolean isCheckingEnemyAttacks) {
+    final GameData data = proData.getData();
 
     // Find all transport unload from and to territories
     final Set<Territory> unloadFromTerritories = new HashSet<>();
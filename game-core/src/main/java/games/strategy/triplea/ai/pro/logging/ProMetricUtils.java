@@ -3,16 +3,19 @@ package games.strategy.triplea.ai.pro.logging;
 import org.triplea.java.collections.IntegerMap;
 
 import games.strategy.engine.data.ProductionRule;
+import games.strategy.triplea.ai.pro.ProData;
 
 /**
  * Pro AI metrics.
  */
 public final class ProMetricUtils {
-  private static final IntegerMap<ProductionRule> totalPurchaseMap = new IntegerMap<>();
-
   private ProMetricUtils() {}
 
-  public static void collectPurchaseStats(final IntegerMap<ProductionRule> purchaseMap) {
+  /**
+   * Adds the specified purchase to the units purchased by the AI owning the specified data, and logs the total.
+   */
+  public static void collectPurchaseStats(final ProData proData, final IntegerMap<ProductionRule> purchaseMap) {
+    final IntegerMap<ProductionRule> totalPurchaseMap = proData.getTotalPurchaseMap();
     totalPurchaseMap.add(purchaseMap);
     ProLogger.debug(totalPurchaseMap.toString());
   }
@@ -104,18 +104,18 @@ public final class ProSimulateTurnUtils {
    *
    * @return A collection of the results for each simulated transfer.
    */
-  public static Map<Territory, ProTerritory> transferMoveMap(final Map<Territory, ProTerritory> moveMap,
-      final GameData toData, final PlayerId player) {
+  public static Map<Territory, ProTerritory> transferMoveMap(final ProData proData,
+      final Map<Territory, ProTerritory> moveMap, final GameData toData, final PlayerId player) {
 
     ProLogger.info("Transferring move map");
 
-    final Map<Unit, Territory> unitTerritoryMap = ProData.unitTerritoryMap;
+    final Map<Unit, Territory> unitTerritoryMap = proData.getUnitTerritoryMap();
 
     final Map<Territory, ProTerritory> result = new HashMap<>();
     final List<Unit> usedUnits = new ArrayList<>();
     for (final Territory fromTerritory : moveMap.keySet()) {
       final Territory toTerritory = toData.getMap().getTerritory(fromTerritory.getName());
-      final ProTerritory patd = new ProTerritory(toTerritory);
+      final ProTerritory patd = new ProTerritory(toTerritory, proData);
       result.put(toTerritory, patd);
       final Map<Unit, List<Unit>> amphibAttackMap = moveMap.get(fromTerritory).getAmphibAttackMap();
       final Map<Unit, Boolean> isTransportingMap = moveMap.get(fromTerritory).getIsTransportingMap();
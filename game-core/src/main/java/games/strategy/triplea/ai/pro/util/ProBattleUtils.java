@@ -41,16 +41,16 @@ public final class ProBattleUtils {
    * Return {@code true} if the specified battle would result in an overwhelming win for the attacker. An overwhelming
    * win is defined as the ability to defeat the enemy without any losses or within a single round of combat.
    */
-  public static boolean checkForOverwhelmingWin(final Territory t,
+  public static boolean checkForOverwhelmingWin(final ProData proData, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (defendingUnits.isEmpty() && !attackingUnits.isEmpty()) {
       return true;
     }
 
     // Check that defender has at least 1 power
-    final double power = estimatePower(t, defendingUnits, attackingUnits, false);
+    final double power = estimatePower(proData, t, defendingUnits, attackingUnits, false);
     if (power == 0 && !attackingUnits.isEmpty()) {
       return true;
     }
@@ -58,7 +58,8 @@ public final class ProBattleUtils {
     // Determine if enough attack power to win in 1 round
     final List<Unit> sortedUnitsList = new ArrayList<>(attackingUnits);
     sortedUnitsList.sort(
-        new UnitBattleComparator(false, ProData.unitValueMap, TerritoryEffectHelper.getEffects(t), data, false, false));
+        new UnitBattleComparator(false, proData.getUnitValueMap(), TerritoryEffectHelper.getEffects(t), data, false,
+            false));
     Collections.reverse(sortedUnitsList);
     final int attackPower = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
         defendingUnits, false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
@@ -74,8 +75,8 @@ public final class ProBattleUtils {
    * @return 0 indicates absolute defender strength; 100+ indicates absolute attacker
    *         strength; 50 indicates equal attacker and defender strength.
    */
-  public static double estimateStrengthDifference(final Territory t, final List<Unit> attackingUnits,
-      final List<Unit> defendingUnits) {
+  public static double estimateStrengthDifference(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
 
     if (attackingUnits.stream().allMatch(Matches.unitIsInfrastructure())) {
       return 0;
@@ -83,8 +84,8 @@ public final class ProBattleUtils {
     if (defendingUnits.stream().allMatch(Matches.unitIsInfrastructure())) {
       return 99999;
     }
-    final double attackerStrength = estimateStrength(t, attackingUnits, defendingUnits, true);
-    final double defenderStrength = estimateStrength(t, defendingUnits, attackingUnits, false);
+    final double attackerStrength = estimateStrength(proData, t, attackingUnits, defendingUnits, true);
+    final double defenderStrength = estimateStrength(proData, t, defendingUnits, attackingUnits, false);
     return ((attackerStrength - defenderStrength) / Math.pow(defenderStrength, 0.85) * 50 + 50);
   }
 
@@ -93,9 +94,9 @@ public final class ProBattleUtils {
    *
    * @return The larger the result, the stronger {@code myUnits} are relative to {@code enemyUnits}.
    */
-  public static double estimateStrength(final Territory t, final List<Unit> myUnits, final List<Unit> enemyUnits,
-      final boolean attacking) {
-    final GameData data = ProData.getData();
+  public static double estimateStrength(final ProData proData, final Territory t, final List<Unit> myUnits,
+      final List<Unit> enemyUnits, final boolean attacking) {
+    final GameData data = proData.getData();
 
     List<Unit> unitsThatCanFight =
         CollectionUtils.getMatches(myUnits, Matches.unitCanBeInBattle(attacking, !t.isWater(), 1, true));
@@ -104,18 +105,18 @@ public final class ProBattleUtils {
           CollectionUtils.getMatches(unitsThatCanFight, Matches.unitIsTransportButNotCombatTransport().negate());
     }
     final int myHitPoints = BattleCalculator.getTotalHitpointsLeft(unitsThatCanFight);
-    final double myPower = estimatePower(t, myUnits, enemyUnits, attacking);
+    final double myPower = estimatePower(proData, t, myUnits, enemyUnits, attacking);
     return (2.0 * myHitPoints) + myPower;
   }
 
-  private static double estimatePower(final Territory t, final List<Unit> myUnits, final List<Unit> enemyUnits,
-      final boolean attacking) {
-    final GameData data = ProData.getData();
+  private static double estimatePower(final ProData proData, final Territory t, final List<Unit> myUnits,
+      final List<Unit> enemyUnits, final boolean attacking) {
+    final GameData data = proData.getData();
 
     final List<Unit> unitsThatCanFight =
         CollectionUtils.getMatches(myUnits, Matches.unitCanBeInBattle(attacking, !t.isWater(), 1, true));
     final List<Unit> sortedUnitsList = new ArrayList<>(unitsThatCanFight);
-    sortedUnitsList.sort(new UnitBattleComparator(!attacking, ProData.unitValueMap,
+    sortedUnitsList.sort(new UnitBattleComparator(!attacking, proData.getUnitValueMap(),
         TerritoryEffectHelper.getEffects(t), data, false, false));
     Collections.reverse(sortedUnitsList);
     final int myPower = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -123,17 +124,18 @@ public final class ProBattleUtils {
     return (myPower * 6.0 / data.getDiceSides());
   }
 
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerId player) {
-    return territoryHasLocalLandSuperiority(t, distance, player, new HashMap<>());
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerId player) {
+    return territoryHasLocalLandSuperiority(proData, t, distance, player, new HashMap<>());
   }
 
   /**
    * Returns {@code true} if {@code player} has land superiority within {@code distance} neighbors of {@code t}.
    */
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerId player,
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories) {
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerId player, final Map<Territory, ProPurchaseTerritory> purchaseTerritories) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     if (t == null) {
       return true;
     }
@@ -167,7 +169,7 @@ public final class ProBattleUtils {
       }
 
       // Determine strength difference
-      final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+      final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
       ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", distance=" + i
           + ", enemySize=" + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
       if (strengthDifference > 50) {
@@ -181,9 +183,9 @@ public final class ProBattleUtils {
    * Returns {@code true} if {@code player} has land superiority within {@code distance} neighbors of {@code t} after
    * the specified moves are performed.
    */
-  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final Territory t, final int distance,
-      final PlayerId player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final ProData proData, final Territory t,
+      final int distance, final PlayerId player, final Map<Territory, ProTerritory> moveMap) {
+    final GameData data = proData.getData();
 
     // Find enemy strength
     final Set<Territory> nearbyTerritoriesForEnemy =
@@ -206,7 +208,7 @@ public final class ProBattleUtils {
     }
 
     // Determine strength difference
-    final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+    final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
     ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", enemySize="
         + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
     return strengthDifference <= 50;
@@ -215,9 +217,10 @@ public final class ProBattleUtils {
   /**
    * Returns {@code true} if {@code player} has naval superiority within at least 3 neighbors of {@code t}.
    */
-  public static boolean territoryHasLocalNavalSuperiority(final Territory t, final PlayerId player,
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories, final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+  public static boolean territoryHasLocalNavalSuperiority(final ProData proData, final Territory t,
+      final PlayerId player, final Map<Territory, ProPurchaseTerritory> purchaseTerritories,
+      final List<Unit> unitsToPlace) {
+    final GameData data = proData.getData();
 
     int landDistance = ProUtils.getClosestEnemyLandTerritoryDistanceOverWater(data, player, t);
     if (landDistance <= 0) {
@@ -277,14 +280,14 @@ public final class ProBattleUtils {
     myUnits.addAll(alliedUnitsInSeaTerritories);
     final List<Unit> enemyAttackers = new ArrayList<>(enemyUnitsInSeaTerritories);
     enemyAttackers.addAll(enemyUnitsInLandTerritories);
-    final double defenseStrengthDifference = estimateStrengthDifference(t, enemyAttackers, myUnits);
+    final double defenseStrengthDifference = estimateStrengthDifference(proData, t, enemyAttackers, myUnits);
     ProLogger.trace(t + ", current enemy naval attack strengthDifference=" + defenseStrengthDifference + ", enemySize="
         + enemyAttackers.size() + ", alliedSize=" + myUnits.size());
 
     // Find current naval attack strength
-    double attackStrengthDifference = estimateStrengthDifference(t, myUnits, enemyUnitsInSeaTerritories);
+    double attackStrengthDifference = estimateStrengthDifference(proData, t, myUnits, enemyUnitsInSeaTerritories);
     attackStrengthDifference +=
-        0.5 * estimateStrengthDifference(t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
+        0.5 * estimateStrengthDifference(proData, t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
     ProLogger.trace(t + ", current allied naval attack strengthDifference=" + attackStrengthDifference + ", alliedSize="
         + myUnits.size() + ", enemySize=" + enemyUnitsInSeaTerritories.size());
 
@@ -39,10 +39,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateMoveRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateMoveRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all amphib units
     final Set<Unit> amphibUnits = attackMap.values().stream()
@@ -65,7 +66,7 @@ public final class ProMoveUtils {
         }
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -129,11 +130,12 @@ public final class ProMoveUtils {
    * @param attackMap Specifies the territories to be attacked. Will be updated to reflect any transports unloading in a
    *        specific territory.
    */
-  public static void calculateAmphibRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final List<Collection<Unit>> transportsToLoad,
-      final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateAmphibRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final List<Collection<Unit>> transportsToLoad, final Map<Territory, ProTerritory> attackMap,
+      final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -142,7 +144,7 @@ public final class ProMoveUtils {
       final Map<Unit, List<Unit>> amphibAttackMap = attackMap.get(t).getAmphibAttackMap();
       for (final Unit transport : amphibAttackMap.keySet()) {
         int movesLeft = TripleAUnit.get(transport).getMovementLeft();
-        Territory transportTerritory = ProData.unitTerritoryMap.get(transport);
+        Territory transportTerritory = proData.getUnitTerritoryMap().get(transport);
 
         // Check if units are already loaded or not
         final List<Unit> loadedUnits = new ArrayList<>();
@@ -160,10 +162,10 @@ public final class ProMoveUtils {
           if (Matches.territoryHasEnemyUnits(player, data).negate().test(transportTerritory)) {
             final List<Unit> unitsToRemove = new ArrayList<>();
             for (final Unit amphibUnit : remainingUnitsToLoad) {
-              if (data.getMap().getDistance(transportTerritory, ProData.unitTerritoryMap.get(amphibUnit)) == 1) {
+              if (data.getMap().getDistance(transportTerritory, proData.getUnitTerritoryMap().get(amphibUnit)) == 1) {
                 moveUnits.add(Collections.singletonList(amphibUnit));
                 transportsToLoad.add(Collections.singletonList(transport));
-                final Route route = new Route(ProData.unitTerritoryMap.get(amphibUnit), transportTerritory);
+                final Route route = new Route(proData.getUnitTerritoryMap().get(amphibUnit), transportTerritory);
                 moveRoutes.add(route);
                 unitsToRemove.add(amphibUnit);
                 loadedUnits.add(amphibUnit);
@@ -204,7 +206,7 @@ public final class ProMoveUtils {
               }
               int maxUnitDistance = 0;
               for (final Unit u : remainingUnitsToLoad) {
-                final int distance = data.getMap().getDistance(neighbor, ProData.unitTerritoryMap.get(u));
+                final int distance = data.getMap().getDistance(neighbor, proData.getUnitTerritoryMap().get(u));
                 if (distance > maxUnitDistance) {
                   maxUnitDistance = distance;
                 }
@@ -260,10 +262,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateBombardMoveRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombardMoveRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final ProTerritory t : attackMap.values()) {
@@ -273,7 +276,7 @@ public final class ProMoveUtils {
         final Territory bombardFromTerritory = t.getBombardTerritoryMap().get(u);
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory.equals(bombardFromTerritory)) {
           continue;
         }
@@ -303,10 +306,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateBombingRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombingRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -315,7 +319,7 @@ public final class ProMoveUtils {
       for (final Unit u : attackMap.get(t).getBombers()) {
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -336,18 +340,18 @@ public final class ProMoveUtils {
     }
   }
 
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final IMoveDelegate moveDel) {
-    doMove(moveUnits, moveRoutes, null, moveDel);
+    doMove(proData, moveUnits, moveRoutes, null, moveDel);
   }
 
   /**
    * Moves the specified groups of units along the specified routes, possibly using the specified transports.
    */
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final List<Collection<Unit>> transportsToLoad, final IMoveDelegate moveDel) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Group non-amphib units of the same type moving on the same route
     if (transportsToLoad == null) {
@@ -368,7 +372,7 @@ public final class ProMoveUtils {
 
     // Move units
     for (int i = 0; i < moveRoutes.size(); i++) {
-      if (!ProData.isSimulation) {
+      if (!proData.isSimulation()) {
         ProUtils.pause();
       }
       if (moveRoutes.get(i) == null || moveRoutes.get(i).getEnd() == null || moveRoutes.get(i).getStart() == null) {
@@ -25,10 +25,12 @@ import games.strategy.triplea.util.TuvUtils;
 public class ProOddsCalculator {
 
   private final IOddsCalculator calc;
+  private final ProData proData;
   private boolean isCanceled = false;
 
-  public ProOddsCalculator(final IOddsCalculator calc) {
+  public ProOddsCalculator(final IOddsCalculator calc, final ProData proData) {
     this.calc = calc;
+    this.proData = proData;
   }
 
   public void setData(final GameData data) {
@@ -40,6 +42,13 @@ public class ProOddsCalculator {
     isCanceled = true;
   }
 
+  /**
+   * Stops the worker threads of the underlying calculator, which can not calculate battles afterwards.
+   */
+  public void shutdown() {
+    calc.shutdown();
+  }
+
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the attacker's chance to win the
    * battle. If the estimate indicates the attacker has almost no chance to win, the simulation is not performed, and
@@ -48,13 +57,14 @@ public class ProOddsCalculator {
   public ProBattleResult estimateAttackBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits, true);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits, true);
     if (result != null) {
       return result;
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
     }
@@ -69,13 +79,14 @@ public class ProOddsCalculator {
   public ProBattleResult estimateDefendBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits, true);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits, true);
     if (result != null) {
       return result;
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference > 55) {
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !attackingUnits.isEmpty() && attackingUnits.stream().allMatch(Matches.unitIsAir());
@@ -98,16 +109,17 @@ public class ProOddsCalculator {
   private ProBattleResult calculateBattleResults(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean checkSubmerge) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits, checkSubmerge);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits,
+        checkSubmerge);
     if (result != null) {
       return result;
     }
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
-      final List<Unit> defendingUnits, final boolean checkSubmerge) {
-    final GameData data = ProData.getData();
+  private static ProBattleResult checkIfNoAttackersOrDefenders(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits, final boolean checkSubmerge) {
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = defendingUnits.stream().noneMatch(Matches.unitIsNotInfrastructure());
     final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -117,7 +129,7 @@ public class ProOddsCalculator {
     } else if (hasNoDefenders) {
       final List<Unit> mainCombatDefenders = CollectionUtils.getMatches(defendingUnits,
           Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
-      final double tuv = TuvUtils.getTuv(mainCombatDefenders, ProData.unitValueMap);
+      final double tuv = TuvUtils.getTuv(mainCombatDefenders, proData.getUnitValueMap());
       return new ProBattleResult(100, 0.1 + tuv, true, attackingUnits, new ArrayList<>(), 0);
     } else if (checkSubmerge && Properties.getSubRetreatBeforeBattle(data) && !defendingUnits.isEmpty()
         && defendingUnits.stream().allMatch(Matches.unitCanEvade())
@@ -138,7 +150,7 @@ public class ProOddsCalculator {
    */
   public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
@@ -168,15 +180,15 @@ public class ProOddsCalculator {
         Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
     double tuvSwing = results.getAverageTuvSwing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.territoryIsNeutralButNotWater().test(t)) { // Set TUV swing for neutrals
-      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTuvOfUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTuvOfUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits =
         CollectionUtils.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) { // Add TUV swing for transported units
-      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, proData.getUnitValueMap());
       tuvSwing += transportedUnitValue * winPercentage / 100;
     }
 
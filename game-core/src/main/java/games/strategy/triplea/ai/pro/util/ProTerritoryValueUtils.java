@@ -32,17 +32,17 @@ public final class ProTerritoryValueUtils {
   /**
    * Returns the relative value of attacking the specified territory compared to other territories.
    */
-  public static double findTerritoryAttackValue(final PlayerId player, final Territory t) {
-    final GameData data = ProData.getData();
+  public static double findTerritoryAttackValue(final ProData proData, final PlayerId player, final Territory t) {
+    final GameData data = proData.getData();
     final int isEnemyFactory = ProMatches.territoryHasInfraFactoryAndIsEnemyLand(player, data).test(t) ? 1 : 0;
     double value = 3.0 * TerritoryAttachment.getProduction(t) * (isEnemyFactory + 1);
     if (ProUtils.isNeutralLand(t)) {
       final double strength =
-          ProBattleUtils.estimateStrength(t, new ArrayList<>(t.getUnits()), new ArrayList<>(),
+          ProBattleUtils.estimateStrength(proData, t, new ArrayList<>(t.getUnits()), new ArrayList<>(),
               false);
 
       // Estimate TUV swing as number of casualties * cost
-      final double tuvSwing = -(strength / 8) * ProData.minCostPerHitPoint;
+      final double tuvSwing = -(strength / 8) * proData.getMinCostPerHitPoint();
       value += tuvSwing;
     }
 
@@ -52,18 +52,19 @@ public final class ProTerritoryValueUtils {
   /**
    * Returns the value of each territory in {@code territoriesToCheck}.
    */
-  public static Map<Territory, Double> findTerritoryValues(final PlayerId player,
+  public static Map<Territory, Double> findTerritoryValues(final ProData proData, final PlayerId player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack,
       final Set<Territory> territoriesToCheck) {
 
-    final int maxLandMassSize = findMaxLandMassSize(player);
+    final int maxLandMassSize = findMaxLandMassSize(proData, player);
     final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
-        findEnemyCapitalsAndFactoriesValue(player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+        findEnemyCapitalsAndFactoriesValue(proData, player, maxLandMassSize, territoriesThatCantBeHeld,
+            territoriesToAttack);
 
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
     for (final Territory t : territoriesToCheck) {
       if (!t.isWater()) {
-        final double value = findLandValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findLandValue(proData, t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack);
         territoryValueMap.put(t, value);
       }
@@ -71,7 +72,7 @@ public final class ProTerritoryValueUtils {
 
     for (final Territory t : territoriesToCheck) {
       if (t.isWater()) {
-        final double value = findWaterValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findWaterValue(proData, t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack, territoryValueMap);
         territoryValueMap.put(t, value);
       }
@@ -83,12 +84,12 @@ public final class ProTerritoryValueUtils {
   /**
    * Returns the value of each sea territory in {@link ProData#getData()}.
    */
-  public static Map<Territory, Double> findSeaTerritoryValues(final PlayerId player,
+  public static Map<Territory, Double> findSeaTerritoryValues(final ProData proData, final PlayerId player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToCheck) {
 
     // Determine value for water territories
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     for (final Territory t : territoriesToCheck) {
       if (!territoriesThatCantBeHeld.contains(t) && t.isWater()
           && !data.getMap().getNeighbors(t, Matches.territoryIsWater()).isEmpty()) {
@@ -141,9 +142,9 @@ public final class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  private static int findMaxLandMassSize(final PlayerId player) {
+  private static int findMaxLandMassSize(final ProData proData, final PlayerId player) {
     int maxLandMassSize = 1;
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     for (final Territory t : data.getMap().getTerritories()) {
       if (!t.isWater()) {
         final int landMassSize = 1 + data.getMap()
@@ -157,22 +158,22 @@ public final class ProTerritoryValueUtils {
     return maxLandMassSize;
   }
 
-  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final PlayerId player,
+  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final ProData proData, final PlayerId player,
       final int maxLandMassSize, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
     // Get all enemy factories and capitals (check if most territories have factories and if so remove them)
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final List<Territory> allTerritories = data.getMap().getTerritories();
     final Set<Territory> enemyCapitalsAndFactories = new HashSet<>(
         CollectionUtils.getMatches(allTerritories, ProMatches.territoryHasInfraFactoryAndIsOwnedByPlayersOrCantBeHeld(
-            player, ProUtils.getPotentialEnemyPlayers(player), territoriesThatCantBeHeld)));
+            player, ProUtils.getPotentialEnemyPlayers(proData, player), territoriesThatCantBeHeld)));
     final int numPotentialEnemyTerritories = CollectionUtils.countMatches(allTerritories,
-        Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+        Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
     if (enemyCapitalsAndFactories.size() * 2 >= numPotentialEnemyTerritories) {
       enemyCapitalsAndFactories.clear();
     }
-    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(data, player));
+    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(proData, data, player));
     enemyCapitalsAndFactories.removeAll(territoriesToAttack);
 
     // Find value for each enemy capital and factory
@@ -204,9 +205,9 @@ public final class ProTerritoryValueUtils {
     return enemyCapitalsAndFactoriesMap;
   }
 
-  private static double findLandValue(final Territory t, final PlayerId player, final int maxLandMassSize,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
-      final List<Territory> territoriesToAttack) {
+  private static double findLandValue(final ProData proData, final Territory t, final PlayerId player,
+      final int maxLandMassSize, final Map<Territory, Double> enemyCapitalsAndFactoriesMap,
+      final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack) {
 
     if (territoriesThatCantBeHeld.contains(t)) {
       return 0.0;
@@ -214,9 +215,9 @@ public final class ProTerritoryValueUtils {
 
     // Determine value based on enemy factory land distance
     final List<Double> values = new ArrayList<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(proData, t, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
       final int distance = data.getMap().getDistance(t, enemyCapitalOrFactory,
           ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
@@ -243,7 +244,7 @@ public final class ProTerritoryValueUtils {
       if (distance > 0) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (ProUtils.isNeutralLand(nearbyEnemyTerritory)) {
-          value = findTerritoryAttackValue(player, nearbyEnemyTerritory) / 3; // find neutral value
+          value = findTerritoryAttackValue(proData, player, nearbyEnemyTerritory) / 3; // find neutral value
         } else if (ProMatches.territoryIsAlliedLandAndHasNoEnemyNeighbors(player, data).test(nearbyEnemyTerritory)) {
           value *= 0.1; // reduce value for can't hold amphib allied territories
         }
@@ -262,11 +263,12 @@ public final class ProTerritoryValueUtils {
     return value;
   }
 
-  private static double findWaterValue(final Territory t, final PlayerId player, final int maxLandMassSize,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
-      final List<Territory> territoriesToAttack, final Map<Territory, Double> territoryValueMap) {
+  private static double findWaterValue(final ProData proData, final Territory t, final PlayerId player,
+      final int maxLandMassSize, final Map<Territory, Double> enemyCapitalsAndFactoriesMap,
+      final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack,
+      final Map<Territory, Double> territoryValueMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     if (territoriesThatCantBeHeld.contains(t) || data.getMap().getNeighbors(t, Matches.territoryIsWater()).isEmpty()) {
       return 0.0;
     }
@@ -274,7 +276,7 @@ public final class ProTerritoryValueUtils {
     // Determine value based on enemy factory distance
     final List<Double> values = new ArrayList<>();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(proData, t, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
       final Route route = data.getMap().getRoute_IgnoreEnd(t, enemyCapitalOrFactory,
           ProMatches.territoryCanMoveSeaUnits(player, data, true));
@@ -311,13 +313,13 @@ public final class ProTerritoryValueUtils {
             .test(nearbyLandTerritory)) {
           double value = TerritoryAttachment.getProduction(nearbyLandTerritory);
           if (ProUtils.isNeutralLand(nearbyLandTerritory)) {
-            value = findTerritoryAttackValue(player, nearbyLandTerritory);
+            value = findTerritoryAttackValue(proData, player, nearbyLandTerritory);
           }
           nearbyLandValue += value;
         }
         if (!territoryValueMap.containsKey(nearbyLandTerritory)) {
-          final double value = findLandValue(nearbyLandTerritory, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-              territoriesThatCantBeHeld, territoriesToAttack);
+          final double value = findLandValue(proData, nearbyLandTerritory, player, maxLandMassSize,
+              enemyCapitalsAndFactoriesMap, territoriesThatCantBeHeld, territoriesToAttack);
           territoryValueMap.put(nearbyLandTerritory, value);
         }
         nearbyLandValue += territoryValueMap.get(nearbyLandTerritory);
@@ -327,12 +329,12 @@ public final class ProTerritoryValueUtils {
     return capitalOrFactoryValue / 100 + nearbyLandValue / 10;
   }
 
-  private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final Territory t,
+  private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final ProData proData, final Territory t,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap) {
 
     Set<Territory> nearbyEnemyCapitalsAndFactories = new HashSet<>();
     for (int i = MIN_FACTORY_CHECK_DISTANCE; i <= MAX_FACTORY_CHECK_DISTANCE; i++) {
-      nearbyEnemyCapitalsAndFactories = ProData.getData().getMap().getNeighbors(t, i);
+      nearbyEnemyCapitalsAndFactories = proData.getData().getMap().getNeighbors(t, i);
       nearbyEnemyCapitalsAndFactories.retainAll(enemyCapitalsAndFactoriesMap.keySet());
       if (!nearbyEnemyCapitalsAndFactories.isEmpty()) {
         break;
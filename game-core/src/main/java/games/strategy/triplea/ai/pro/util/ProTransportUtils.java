@@ -174,14 +174,15 @@ public final class ProTransportUtils {
     return transportCost;
   }
 
-  public static List<Unit> getUnitsToAdd(final Unit unit, final Map<Territory, ProTerritory> moveMap) {
-    return getUnitsToAdd(unit, new ArrayList<>(), moveMap);
+  public static List<Unit> getUnitsToAdd(final ProData proData, final Unit unit,
+      final Map<Territory, ProTerritory> moveMap) {
+    return getUnitsToAdd(proData, unit, new ArrayList<>(), moveMap);
   }
 
-  public static List<Unit> getUnitsToAdd(final Unit unit, final List<Unit> alreadyMovedUnits,
+  public static List<Unit> getUnitsToAdd(final ProData proData, final Unit unit, final List<Unit> alreadyMovedUnits,
       final Map<Territory, ProTerritory> moveMap) {
     final List<Unit> movedUnits = getMovedUnits(alreadyMovedUnits, moveMap);
-    return findBestUnitsToLandTransport(unit, ProData.unitTerritoryMap.get(unit),
+    return findBestUnitsToLandTransport(unit, proData.getUnitTerritoryMap().get(unit),
         movedUnits);
   }
 
@@ -257,9 +258,9 @@ public final class ProTransportUtils {
   /**
    * Returns the air units in {@code units} that can't land on any carrier unit in {@code units}.
    */
-  public static List<Unit> getAirThatCantLandOnCarrier(final PlayerId player, final Territory t,
+  public static List<Unit> getAirThatCantLandOnCarrier(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> units) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(units, t);
     final Collection<Unit> airUnits = CollectionUtils.getMatches(units, ProMatches.unitIsAlliedAir(player, data));
@@ -282,9 +283,9 @@ public final class ProTransportUtils {
    * Returns {@code true} if the carrier units in {@code existingUnits} have enough capacity to receive the air units in
    * {@code existingUnits} in addition to {@code newUnit}.
    */
-  public static boolean validateCarrierCapacity(final PlayerId player, final Territory t,
+  public static boolean validateCarrierCapacity(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> existingUnits, final Unit newUnit) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(existingUnits, t);
     final Collection<Unit> airUnits =
@@ -304,9 +305,9 @@ public final class ProTransportUtils {
    * Returns the unused capacity of all carrier units within 2 neighbors of {@code t} including any carrier units in
    * {@code unitsToPlace}.
    */
-  public static int getUnusedLocalCarrierCapacity(final PlayerId player, final Territory t,
+  public static int getUnusedLocalCarrierCapacity(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find nearby carrier capacity
     final Set<Territory> nearbyTerritories =
@@ -33,9 +33,9 @@ import games.strategy.triplea.settings.ClientSetting;
 public final class ProUtils {
   private ProUtils() {}
 
-  public static Map<Unit, Territory> newUnitTerritoryMap() {
+  public static Map<Unit, Territory> newUnitTerritoryMap(final GameData data) {
     final Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-    for (final Territory t : ProData.getData().getMap().getTerritories()) {
+    for (final Territory t : data.getMap().getTerritories()) {
       for (final Unit u : t.getUnits()) {
         unitTerritoryMap.put(u, t);
       }
@@ -46,8 +46,8 @@ public final class ProUtils {
   /**
    * Returns a list of all players in turn order excluding {@code player}.
    */
-  public static List<PlayerId> getOtherPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getOtherPlayersInTurnOrder(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
     final List<PlayerId> players = new ArrayList<>();
     final GameSequence sequence = data.getSequence();
     final int startIndex = sequence.getStepIndex();
@@ -66,16 +66,16 @@ public final class ProUtils {
     return players;
   }
 
-  public static List<PlayerId> getAlliedPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
-    final List<PlayerId> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerId> getAlliedPlayersInTurnOrder(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
+    final List<PlayerId> players = getOtherPlayersInTurnOrder(proData, player);
     players.removeIf(currentPlayer -> !data.getRelationshipTracker().isAllied(player, currentPlayer));
     return players;
   }
 
-  public static List<PlayerId> getEnemyPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
-    final List<PlayerId> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerId> getEnemyPlayersInTurnOrder(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
+    final List<PlayerId> players = getOtherPlayersInTurnOrder(proData, player);
     players.removeIf(currentPlayer -> data.getRelationshipTracker().isAllied(player, currentPlayer));
     return players;
   }
@@ -92,8 +92,8 @@ public final class ProUtils {
     return true;
   }
 
-  public static List<PlayerId> getEnemyPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getEnemyPlayers(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
     final List<PlayerId> enemyPlayers = new ArrayList<>();
     for (final PlayerId players : data.getPlayerList().getPlayers()) {
       if (!data.getRelationshipTracker().isAllied(player, players)) {
@@ -103,8 +103,8 @@ public final class ProUtils {
     return enemyPlayers;
   }
 
-  private static List<PlayerId> getAlliedPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private static List<PlayerId> getAlliedPlayers(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
     final List<PlayerId> alliedPlayers = new ArrayList<>();
     for (final PlayerId players : data.getPlayerList().getPlayers()) {
       if (data.getRelationshipTracker().isAllied(player, players)) {
@@ -114,8 +114,8 @@ public final class ProUtils {
     return alliedPlayers;
   }
 
-  public static List<PlayerId> getPotentialEnemyPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getPotentialEnemyPlayers(final ProData proData, final PlayerId player) {
+    final GameData data = proData.getData();
     final List<PlayerId> otherPlayers = data.getPlayerList().getPlayers();
     for (final Iterator<PlayerId> it = otherPlayers.iterator(); it.hasNext();) {
       final PlayerId otherPlayer = it.next();
@@ -139,22 +139,25 @@ public final class ProUtils {
     return production;
   }
 
-  public static List<Territory> getLiveEnemyCapitals(final GameData data, final PlayerId player) {
+  public static List<Territory> getLiveEnemyCapitals(final ProData proData, final GameData data,
+      final PlayerId player) {
     final List<Territory> enemyCapitals = new ArrayList<>();
-    final List<PlayerId> enemyPlayers = getEnemyPlayers(player);
+    final List<PlayerId> enemyPlayers = getEnemyPlayers(proData, player);
     for (final PlayerId otherPlayer : enemyPlayers) {
       enemyCapitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(otherPlayer, data));
     }
     enemyCapitals.retainAll(
         CollectionUtils.getMatches(enemyCapitals, Matches.territoryIsNotImpassableToLandUnits(player, data)));
     enemyCapitals.retainAll(
-        CollectionUtils.getMatches(enemyCapitals, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player))));
+        CollectionUtils.getMatches(enemyCapitals,
+            Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player))));
     return enemyCapitals;
   }
 
-  public static List<Territory> getLiveAlliedCapitals(final GameData data, final PlayerId player) {
+  public static List<Territory> getLiveAlliedCapitals(final ProData proData, final GameData data,
+      final PlayerId player) {
     final List<Territory> capitals = new ArrayList<>();
-    final List<PlayerId> players = getAlliedPlayers(player);
+    final List<PlayerId> players = getAlliedPlayers(proData, player);
     for (final PlayerId alliedPlayer : players) {
       capitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(alliedPlayer, data));
     }
@@ -168,12 +171,13 @@ public final class ProUtils {
    *
    * @return -1 if there is no enemy land territory within a distance of 10 of {@code t}.
    */
-  public static int getClosestEnemyLandTerritoryDistance(final GameData data, final PlayerId player,
-      final Territory t) {
+  public static int getClosestEnemyLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerId player, final Territory t) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player)));
+        CollectionUtils.getMatches(landTerritories,
+            Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       final int distance = data.getMap().getDistance(t, enemyLandTerritory,
@@ -190,12 +194,12 @@ public final class ProUtils {
    *
    * @return -1 if there is no enemy or neutral land territory within a distance of 10 of {@code t}.
    */
-  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final GameData data, final PlayerId player,
-      final Territory t, final Map<Territory, Double> territoryValueMap) {
+  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerId player, final Territory t, final Map<Territory, Double> territoryValueMap) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(player)));
+        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       if (territoryValueMap.get(enemyLandTerritory) <= 0) {
@@ -43,6 +43,17 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
     super(name, attachable, gameData);
   }
 
+  /**
+   * Tells the relationship tracker, which caches the archetypes of the relationships between players, that the
+   * archetype of this relationship type has changed.
+   */
+  private void archeTypeChanged() {
+    final GameData data = getData();
+    if (data != null && data.getRelationshipTracker() != null) {
+      data.getRelationshipTracker().archeTypeChanged();
+    }
+  }
+
   /**
    * Convenience method.
    *
@@ -77,6 +88,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
       case ARCHETYPE_ALLIED:
       case ARCHETYPE_NEUTRAL:
         this.archeType = lowerArcheType;
+        archeTypeChanged();
         break;
       default:
         throw new GameParseException("archeType must be " + ARCHETYPE_WAR + "," + ARCHETYPE_ALLIED + " or "
@@ -94,6 +106,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
 
   private void resetArcheType() {
     archeType = ARCHETYPE_WAR;
+    archeTypeChanged();
   }
 
   /**
@@ -662,6 +662,17 @@ public class BattleCalculator {
     return Tuple.of(defaultCasualtySelection, sorted);
   }
 
+  /**
+   * Returns the specified units in the order default casualties are selected for a non-amphibious battle, taking the
+   * support the units give and receive into account.
+   */
+  public static List<Unit> getDefaultOrderOfLoss(final Collection<Unit> targetsToPickFrom, final boolean defending,
+      final PlayerId player, final Collection<Unit> enemyUnits, final Territory battlesite,
+      final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    return sortUnitsForCasualtiesWithSupport(targetsToPickFrom, defending, player, enemyUnits, false,
+        Collections.emptyList(), battlesite, TuvUtils.getCostsForTuv(player, data), territoryEffects, data, true);
+  }
+
   /**
    * The purpose of this is to return a list in the PERFECT order of which units should be selected to die first,
    * And that means that certain units MUST BE INTERLEAVED.
@@ -46,6 +46,20 @@ public class BattleResults extends GameDataComponent {
     whoWon = scriptedWhoWon;
   }
 
+  /**
+   * Use this for battles that were simulated without an {@link IBattle} instance. The WhoWon flag must be set.
+   */
+  public BattleResults(final int battleRoundsFought, final List<Unit> remainingAttackingUnits,
+      final List<Unit> remainingDefendingUnits, final WhoWon whoWon, final GameData data) {
+    super(data);
+    this.battleRoundsFought = battleRoundsFought;
+    this.remainingAttackingUnits = remainingAttackingUnits;
+    this.remainingDefendingUnits = remainingDefendingUnits;
+    this.whoWon = whoWon;
+    if (whoWon == WhoWon.NOTFINISHED) {
+      throw new IllegalStateException("Battle not finished yet");
+    }
+  }
 
   public List<Unit> getRemainingAttackingUnits() {
     return remainingAttackingUnits;
@@ -18,6 +18,7 @@ import java.util.logging.Level;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 
 import games.strategy.triplea.ResourceLoader;
@@ -45,6 +46,7 @@ public final class TileImageFactory {
   // maps image name to ImageRef
   private final Map<String, SoftReference<Image>> imageCache = Collections.synchronizedMap(new HashMap<>());
   private ResourceLoader resourceLoader;
+  private @Nullable TilePyramid tilePyramid;
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -124,6 +126,7 @@ public final class TileImageFactory {
 
   public void setMapDir(final ResourceLoader loader) {
     resourceLoader = loader;
+    tilePyramid = TilePyramid.forMap(loader);
     imageCache.clear();
   }
 
@@ -209,9 +212,28 @@ public final class TileImageFactory {
         : loadUnblendedImage(imageLocation, fileName, transparent, cache, scale);
   }
 
+  /**
+   * Returns the level of the tile pyramid to scale tiles from, or 1 if they should be scaled from full resolution.
+   */
+  private double getTilePyramidLevel(final boolean scaled) {
+    return (scaled && tilePyramid != null) ? TilePyramid.getLevel(scale) : 1.0;
+  }
+
+  /**
+   * Draws the specified image of a tile, possibly scaled down to a level of the tile pyramid, into a new image of the
+   * size of the full resolution tile at the current scale.
+   */
+  private Image scaleTileImage(final BufferedImage image, final TilePyramid.TileSource tileSource,
+      final boolean transparent) {
+    final Image scaledImage = Util.newImage(tileSource.getWidth(), tileSource.getHeight(), transparent);
+    final Graphics2D g = (Graphics2D) scaledImage.getGraphics();
+    g.scale(scale, scale);
+    g.drawImage(image, 0, 0, tileSource.getWidth(), tileSource.getHeight(), null);
+    g.dispose();
+    return scaledImage;
+  }
+
   private Image loadBlendedImage(final String fileName, final boolean cache, final boolean scaled) {
-    BufferedImage reliefFile = null;
-    BufferedImage baseFile = null;
     // The relief tile
     final String reliefFileName = fileName.replace("baseTiles", "reliefTiles");
     final URL urlrelief = resourceLoader.getResource(reliefFileName);
@@ -222,6 +244,36 @@ public final class TileImageFactory {
     final String blankReliefFileName = "reliefTiles/blank_relief.png";
     final URL urlBlankRelief = resourceLoader.getResource(blankReliefFileName);
 
+    final double level = getTilePyramidLevel(scaled);
+    final URL urlSize = (urlrelief != null) ? urlrelief : urlBlankRelief;
+    Image image = null;
+    if (level < 1 && urlSize != null) {
+      // the blended tiles are stored in the pyramid by blend mode and alpha, as both change how they look
+      final String blendedFileName = reliefFileName.replace("reliefTiles",
+          "blendedTiles/" + getShowMapBlendMode() + "_" + getShowMapBlendAlpha());
+      try {
+        final TilePyramid.TileSource tileSource = TilePyramid.TileSource.read(urlSize);
+        final BufferedImage blendedImage = tilePyramid.getImage(blendedFileName, level,
+            () -> blendImages(urlrelief, urlBase, urlBlankRelief, false));
+        image = scaleTileImage(blendedImage, tileSource, true);
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Failed to load scaled blended tile: " + blendedFileName, e);
+      }
+    }
+    if (image == null) {
+      image = blendImages(urlrelief, urlBase, urlBlankRelief, scaled);
+    }
+    if (cache) {
+      imageCache.put(fileName, new SoftReference<>(image));
+    }
+    return image;
+  }
+
+  private BufferedImage blendImages(final @Nullable URL urlrelief, final @Nullable URL urlBase,
+      final @Nullable URL urlBlankRelief, final boolean scaled) {
+    BufferedImage reliefFile = null;
+    BufferedImage baseFile = null;
+
     // Get buffered images
     try {
       if (urlrelief != null) {
@@ -262,23 +314,28 @@ public final class TileImageFactory {
       final BlendComposite blendComposite = BlendComposite.getInstance(blendMode).derive(alpha);
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, 0, 0, null);
-      final SoftReference<Image> ref = new SoftReference<>(blendedImage);
-      if (cache) {
-        imageCache.put(fileName, ref);
-      }
       return blendedImage;
     }
-
-    final SoftReference<Image> ref = new SoftReference<>(baseFile);
-    if (cache) {
-      imageCache.put(fileName, ref);
-    }
     return baseFile;
   }
 
   private Image loadUnblendedImage(final URL imageLocation, final String fileName, final boolean transparent,
       final boolean cache, final boolean scaled) {
+    final double level = getTilePyramidLevel(scaled);
     Image image;
+    if (level < 1) {
+      try {
+        final TilePyramid.TileSource tileSource = TilePyramid.TileSource.read(imageLocation);
+        final BufferedImage levelImage = tilePyramid.getImage(fileName, level, () -> ImageIO.read(imageLocation));
+        image = scaleTileImage(levelImage, tileSource, transparent);
+        if (cache) {
+          imageCache.put(fileName, new SoftReference<>(image));
+        }
+        return image;
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Failed to load scaled tile, url: " + imageLocation, e);
+      }
+    }
     try {
       final BufferedImage fromFile = ImageIO.read(imageLocation);
       // if we don't copy, drawing the tile to the screen takes significantly longer
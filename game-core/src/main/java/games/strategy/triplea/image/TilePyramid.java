@@ -0,0 +1,287 @@
+package games.strategy.triplea.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.triplea.java.function.ThrowingSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.triplea.ResourceLoader;
+import lombok.Value;
+import lombok.extern.java.Log;
+
+/**
+ * A disk cache of the tiles of a map scaled down to a few zoom levels, so that showing the map at another zoom does not
+ * decode and scale its full resolution tiles again.
+ *
+ * <p>
+ * Each level halves the resolution of the one above it. When a tile is first needed at any level, it is scaled to all
+ * levels at once, and the scaled images are written to disk in the background.
+ * </p>
+ *
+ * <p>
+ * The images of a map are kept in a folder named after a hash of the location of the map, in a subfolder named after a
+ * hash of the version of the map. The version is the size and modification time of the map zip, or of every file of a
+ * map folder, so any change to the map stores its images in a new subfolder. The subfolders of older versions are
+ * deleted when the pyramid of the current version is opened.
+ * </p>
+ */
+@Log
+final class TilePyramid {
+  @VisibleForTesting
+  static final double[] LEVELS = {0.5, 0.25, 0.125};
+
+  private static final ExecutorService defaultWriter = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+      .setDaemon(true)
+      .setNameFormat("Tile pyramid writer %d")
+      .build());
+
+  private final File directory;
+  private final Executor writer;
+
+  @VisibleForTesting
+  TilePyramid(final File directory, final Executor writer) {
+    this.directory = directory;
+    this.writer = writer;
+  }
+
+  /**
+   * Returns the pyramid of the map loaded by the specified loader, or null if the location or version of the map is
+   * unknown.
+   */
+  static @Nullable TilePyramid forMap(final ResourceLoader loader) {
+    final String polygonsFile = "polygons.txt";
+    final URL url = loader.getResource(polygonsFile);
+    if (url == null) {
+      return null;
+    }
+    final String mapLocation = url.toString().substring(0, url.toString().length() - polygonsFile.length());
+    final String version;
+    try {
+      version = getVersion(getMapSource(url));
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to read the version of the map, not caching its scaled tiles: " + mapLocation, e);
+      return null;
+    }
+    final File cacheFolder = new File(new File(ClientFileSystemHelper.getUserRootFolder(), "cache"), "tiles");
+    final File directory = getDirectory(cacheFolder, mapLocation, version);
+    defaultWriter.execute(() -> deleteOtherVersions(directory));
+    return new TilePyramid(directory, defaultWriter);
+  }
+
+  /**
+   * Returns the zip file or the folder that the specified file of a map was loaded from.
+   */
+  private static File getMapSource(final URL url) throws IOException {
+    try {
+      if ("jar".equals(url.getProtocol())) {
+        final String path = url.getPath();
+        return new File(new URL(path.substring(0, path.indexOf("!/"))).toURI());
+      }
+      return new File(url.toURI()).getParentFile();
+    } catch (final IllegalArgumentException | IndexOutOfBoundsException | URISyntaxException e) {
+      throw new IOException("Unknown map location: " + url, e);
+    }
+  }
+
+  /**
+   * Returns the version of the specified map zip or folder, which changes whenever a file of the map changes.
+   */
+  @VisibleForTesting
+  static String getVersion(final File mapSource) throws IOException {
+    final Hasher hasher = Hashing.sha256().newHasher();
+    if (mapSource.isFile()) {
+      hasher.putLong(mapSource.length()).putLong(mapSource.lastModified());
+    } else {
+      final Path root = mapSource.toPath();
+      final List<Path> files;
+      try (Stream<Path> paths = Files.walk(root)) {
+        files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+      }
+      for (final Path file : files) {
+        hasher.putString(root.relativize(file).toString(), StandardCharsets.UTF_8)
+            .putLong(Files.size(file))
+            .putLong(Files.getLastModifiedTime(file).toMillis());
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  @VisibleForTesting
+  static File getDirectory(final File cacheFolder, final String mapLocation, final String version) {
+    return new File(new File(cacheFolder, Hashing.sha256().hashString(mapLocation, StandardCharsets.UTF_8).toString()),
+        version);
+  }
+
+  /**
+   * Deletes the images of all other versions of the map whose images are stored in the specified directory.
+   */
+  @VisibleForTesting
+  static void deleteOtherVersions(final File directory) {
+    final Path mapFolder = directory.getParentFile().toPath();
+    if (!Files.isDirectory(mapFolder)) {
+      return;
+    }
+    try (DirectoryStream<Path> versions = Files.newDirectoryStream(mapFolder)) {
+      for (final Path version : versions) {
+        if (!version.equals(directory.toPath())) {
+          MoreFiles.deleteRecursively(version, RecursiveDeleteOption.ALLOW_INSECURE);
+        }
+      }
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to delete the cached tiles of older versions of the map: " + mapFolder, e);
+    }
+  }
+
+  /**
+   * Returns the level to scale tiles from to show them at the specified scale, which is the lowest resolution level not
+   * below that scale, or 1 if the full resolution tiles should be used.
+   */
+  static double getLevel(final double scale) {
+    for (int i = LEVELS.length - 1; i >= 0; i--) {
+      if (LEVELS[i] >= scale) {
+        return LEVELS[i];
+      }
+    }
+    return 1.0;
+  }
+
+  /**
+   * Returns the specified tile scaled to the specified level. If no image of the tile at that level is stored, the tile
+   * is scaled again from its full resolution image.
+   *
+   * @param name The path of the tile image in the pyramid, for example {@code baseTiles/0_0.png}.
+   * @param level One of {@link #LEVELS}.
+   * @param fullResolutionImage Supplies the full resolution image of the tile.
+   */
+  BufferedImage getImage(final String name, final double level,
+      final ThrowingSupplier<BufferedImage, IOException> fullResolutionImage) throws IOException {
+    final int levelIndex = getLevelIndex(level);
+    final File file = getFile(name, levelIndex);
+    if (file.isFile()) {
+      try {
+        final BufferedImage image = ImageIO.read(file);
+        if (image != null) {
+          return image;
+        }
+      } catch (final IOException e) {
+        log.log(Level.WARNING, "Failed to read cached tile, scaling it again: " + file, e);
+      }
+    }
+    final List<BufferedImage> images = scaleToAllLevels(fullResolutionImage.get());
+    writer.execute(() -> write(name, images));
+    return images.get(levelIndex);
+  }
+
+  private static int getLevelIndex(final double level) {
+    for (int i = 0; i < LEVELS.length; i++) {
+      if (LEVELS[i] == level) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("not a level of the pyramid: " + level);
+  }
+
+  private File getFile(final String name, final int levelIndex) {
+    return new File(new File(directory, String.valueOf(LEVELS[levelIndex])), name);
+  }
+
+  private static List<BufferedImage> scaleToAllLevels(final BufferedImage fullResolutionImage) {
+    final List<BufferedImage> images = new ArrayList<>(LEVELS.length);
+    BufferedImage image = fullResolutionImage;
+    for (int i = 0; i < LEVELS.length; i++) {
+      image = halve(image);
+      images.add(image);
+    }
+    return images;
+  }
+
+  private static BufferedImage halve(final BufferedImage image) {
+    final int width = Math.max((image.getWidth() + 1) / 2, 1);
+    final int height = Math.max((image.getHeight() + 1) / 2, 1);
+    final BufferedImage halvedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    final Graphics2D graphics = halvedImage.createGraphics();
+    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    graphics.drawImage(image, 0, 0, width, height, null);
+    graphics.dispose();
+    return halvedImage;
+  }
+
+  private void write(final String name, final List<BufferedImage> images) {
+    for (int i = 0; i < images.size(); i++) {
+      final File file = getFile(name, i);
+      try {
+        Files.createDirectories(file.getParentFile().toPath());
+        // write to a temporary file first, so that readers never see a partially written image
+        final Path temporaryFile = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp");
+        try {
+          ImageIO.write(images.get(i), "png", temporaryFile.toFile());
+          Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+          Files.deleteIfExists(temporaryFile);
+        }
+      } catch (final IOException e) {
+        log.log(Level.WARNING, "Failed to cache tile: " + file, e);
+      }
+    }
+  }
+
+  /**
+   * The size of a tile image, read without decoding the image.
+   */
+  @Value
+  static class TileSource {
+    private final int width;
+    private final int height;
+
+    static TileSource read(final URL url) throws IOException {
+      try (InputStream inputStream = url.openStream();
+          ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+        final Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+        if (!readers.hasNext()) {
+          throw new IOException("Unknown image format: " + url);
+        }
+        final ImageReader reader = readers.next();
+        try {
+          reader.setInput(imageInputStream, true, true);
+          return new TileSource(reader.getWidth(0), reader.getHeight(0));
+        } finally {
+          reader.dispose();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,381 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.triplea.util.Tuple;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.BaseEditDelegate;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.BattleResults;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.Matches;
+
+/**
+ * A battle compiled into primitive arrays so that it can be fought many times without touching the game data.
+ *
+ * <p>
+ * Unit strength, rolls, hit points and order of loss are computed once, using the same rules as
+ * {@link games.strategy.triplea.delegate.MustFightBattle}, {@link DiceRoll} and {@link BattleCalculator}. Each call to
+ * {@link #fight()} then only works on those arrays: no changes, delegate bridges or battle trackers are created, and the
+ * game data is never modified. If any unit gives support, the strength, rolls and power of both sides are recomputed
+ * with {@link DiceRoll} after each round in which units were killed, as the support left may have changed.
+ * </p>
+ *
+ * <p>
+ * Only battles in which every unit simply rolls its dice each round and is taken as a casualty in the default order of
+ * loss can be compiled. Battles involving AA, first strike, units that can not target or be targeted by others,
+ * transports, suicide units, bombardment, amphibious assaults or any other special combat rule are rejected by
+ * {@link #compile}, and must be fought with {@link games.strategy.triplea.delegate.MustFightBattle} instead.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are not thread safe.
+ * </p>
+ */
+final class CompiledBattle {
+  private final GameData data;
+  private final Side attacker;
+  private final Side defender;
+  private final int diceSides;
+  private final boolean lowLuck;
+  private final int maxRounds;
+  private final boolean removeDefenderThatCanNotRoll;
+  private final boolean hasSupport;
+
+  private CompiledBattle(final GameData data, final Side attacker, final Side defender, final int maxRounds,
+      final boolean hasSupport) {
+    this.data = data;
+    this.attacker = attacker;
+    this.defender = defender;
+    this.maxRounds = maxRounds;
+    this.hasSupport = hasSupport;
+    diceSides = data.getDiceSides();
+    lowLuck = Properties.getLowLuck(data);
+    removeDefenderThatCanNotRoll = Properties.getTransportCasualtiesRestricted(data);
+  }
+
+  /**
+   * Compiles the specified battle.
+   *
+   * @return The compiled battle or empty if the battle uses combat rules that can not be compiled.
+   */
+  static Optional<CompiledBattle> compile(final GameData data, final PlayerId attacker, final PlayerId defender,
+      final Territory location, final Collection<Unit> attackingUnits, final Collection<Unit> defendingUnits,
+      final Collection<TerritoryEffect> territoryEffects) {
+    if (attackingUnits.isEmpty() || defendingUnits.isEmpty() || BaseEditDelegate.getEditMode(data)) {
+      return Optional.empty();
+    }
+    final boolean isLandBattle = !location.isWater();
+    if (!attackingUnits.stream().allMatch(Matches.unitIsOwnedBy(attacker)
+        .and(isCompilable(true, isLandBattle)))
+        || !defendingUnits.stream().allMatch(Matches.enemyUnit(attacker, data)
+            .and(isCompilable(false, isLandBattle)))) {
+      return Optional.empty();
+    }
+    final List<Unit> attackers = new ArrayList<>(attackingUnits);
+    final List<Unit> defenders = new ArrayList<>(defendingUnits);
+    return Optional.of(new CompiledBattle(data,
+        Side.compile(attackers, defenders, false, attacker, location, territoryEffects, data),
+        Side.compile(defenders, attackers, true, defender, location, territoryEffects, data),
+        isLandBattle ? Properties.getLandBattleRounds(data) : Properties.getSeaBattleRounds(data),
+        Stream.concat(attackers.stream(), defenders.stream()).anyMatch(CompiledBattle::givesSupport)));
+  }
+
+  private static boolean givesSupport(final Unit unit) {
+    return UnitSupportAttachment.get(unit.getType()).stream()
+        .anyMatch(support -> support.getRoll() || support.getStrength());
+  }
+
+  private static Predicate<Unit> isCompilable(final boolean attacking, final boolean isLandBattle) {
+    return unit -> {
+      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+      final TripleAUnit taUnit = (TripleAUnit) unit;
+      return Matches.unitCanBeInBattle(attacking, isLandBattle, 1, false).test(unit)
+          && !(attacking && isLandBattle && ua.getIsSea())
+          && Matches.unitIsInfrastructure().negate()
+              .and(Matches.unitHasSubBattleAbilities().negate())
+              .and(Matches.unitCanNotTargetAll().negate())
+              .and(Matches.unitIsAaForAnything().negate())
+              .and(Matches.unitIsTransport().negate())
+              .and(Matches.unitIsDisabled().negate())
+              .and(Matches.unitIsBeingTransported().negate())
+              .test(unit)
+          && !ua.getIsSuicide()
+          && !ua.getIsSuicideOnHit()
+          && ua.getCanBeCapturedOnEnteringBy().isEmpty()
+          && ua.getWhenHitPointsDamagedChangesInto().isEmpty()
+          && ua.getWhenCombatDamaged().isEmpty()
+          && !taUnit.getWasInAirBattle()
+          && !taUnit.getWasAmphibious();
+    };
+  }
+
+  /**
+   * Fights the compiled battle once, until one side is eliminated, the round limit is reached, or neither side can
+   * score a hit. If transports are restricted from being taken as casualties, a defender left without units that can
+   * roll is removed at the start of a round, as {@link games.strategy.triplea.delegate.MustFightBattle} does.
+   */
+  BattleResults fight() {
+    final Random random = ThreadLocalRandom.current();
+    attacker.reset(hasSupport);
+    defender.reset(hasSupport);
+    int round = 1;
+    final WhoWon whoWon;
+    while (true) {
+      // like MustFightBattle.checkForUnitsThatCanRollLeft, the attacker is never removed, as a headless battle always
+      // lets it retreat instead
+      if (removeDefenderThatCanNotRoll && !defender.hasUnitsThatCanRoll() && attacker.hasUnitsThatCanRoll()) {
+        defender.eliminate();
+        whoWon = WhoWon.ATTACKER;
+        break;
+      }
+      // both sides fire before any casualties are removed
+      final int attackerHits = attacker.roll(random, diceSides, lowLuck);
+      final int defenderHits = defender.roll(random, diceSides, lowLuck);
+      final boolean defendersKilled = defender.takeHits(attackerHits);
+      final boolean attackersKilled = attacker.takeHits(defenderHits);
+      if (attacker.isEliminated()) {
+        whoWon = WhoWon.DEFENDER;
+        break;
+      } else if (defender.isEliminated()) {
+        whoWon = WhoWon.ATTACKER;
+        break;
+      }
+      if (hasSupport && (defendersKilled || attackersKilled)) {
+        attacker.updatePower(defender.getRemainingUnits());
+        defender.updatePower(attacker.getRemainingUnits());
+      }
+      if ((maxRounds > 0 && maxRounds <= round)
+          || (attacker.getTotalPower() == 0 && defender.getTotalPower() == 0)) {
+        whoWon = WhoWon.DRAW;
+        break;
+      }
+      round++;
+    }
+    return new BattleResults(round, attacker.getRemainingUnits(), defender.getRemainingUnits(), whoWon, data);
+  }
+
+  /**
+   * One side of a compiled battle. All arrays are indexed in order of loss, i.e. the unit at index 0 is the first to be
+   * taken as a casualty.
+   */
+  private static final class Side {
+    private final Unit[] units;
+    private final boolean defending;
+    private final Territory location;
+    private final Collection<TerritoryEffect> territoryEffects;
+    private final GameData data;
+    private final boolean lhtrBombers;
+    private final int[] initialStrength;
+    private final int[] initialRolls;
+    private final boolean[] initialChooseBestRoll;
+    private final int[] initialPower;
+    private final int[] strength;
+    private final int[] rolls;
+    private final boolean[] chooseBestRoll;
+    private final int[] power;
+    private final boolean[] canRoll;
+    private final int[] initialHitPoints;
+    private final int[] hitPoints;
+
+    private Side(final List<Unit> unitsInOrderOfLoss, final boolean defending, final Territory location,
+        final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+      units = unitsInOrderOfLoss.toArray(new Unit[0]);
+      this.defending = defending;
+      this.location = location;
+      this.territoryEffects = territoryEffects;
+      this.data = data;
+      lhtrBombers = Properties.getLhtrHeavyBombers(data);
+      strength = new int[units.length];
+      rolls = new int[units.length];
+      chooseBestRoll = new boolean[units.length];
+      power = new int[units.length];
+      canRoll = new boolean[units.length];
+      initialHitPoints = new int[units.length];
+      hitPoints = new int[units.length];
+      for (int i = 0; i < units.length; i++) {
+        canRoll[i] = Matches.unitIsSupporterOrHasCombatAbility(!defending).test(units[i]);
+        initialHitPoints[i] = Math.max(1, UnitAttachment.get(units[i].getType()).getHitPoints() - units[i].getHits());
+      }
+      initialStrength = new int[units.length];
+      initialRolls = new int[units.length];
+      initialChooseBestRoll = new boolean[units.length];
+      initialPower = new int[units.length];
+    }
+
+    static Side compile(final List<Unit> units, final List<Unit> enemyUnits, final boolean defending,
+        final PlayerId player, final Territory location, final Collection<TerritoryEffect> territoryEffects,
+        final GameData data) {
+      final Side side = new Side(
+          BattleCalculator.getDefaultOrderOfLoss(units, defending, player, enemyUnits, location, territoryEffects, data),
+          defending, location, territoryEffects, data);
+      side.resetHitPoints();
+      side.updatePower(enemyUnits);
+      System.arraycopy(side.strength, 0, side.initialStrength, 0, side.units.length);
+      System.arraycopy(side.rolls, 0, side.initialRolls, 0, side.units.length);
+      System.arraycopy(side.chooseBestRoll, 0, side.initialChooseBestRoll, 0, side.units.length);
+      System.arraycopy(side.power, 0, side.initialPower, 0, side.units.length);
+      return side;
+    }
+
+    /**
+     * Recomputes strength, rolls and power of the units left on this side, using the same rules as {@link DiceRoll},
+     * so that support given and received by the units left, and by the enemy units left, is taken into account.
+     */
+    void updatePower(final List<Unit> enemyUnits) {
+      final Map<Unit, Tuple<Integer, Integer>> unitPowerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(
+          getRemainingUnits(), enemyUnits, defending, data, location, territoryEffects, false,
+          Collections.emptyList());
+      for (int i = 0; i < units.length; i++) {
+        if (hitPoints[i] <= 0) {
+          continue;
+        }
+        final Tuple<Integer, Integer> powerAndRolls = unitPowerAndRolls.get(units[i]);
+        strength[i] = powerAndRolls.getFirst();
+        rolls[i] = powerAndRolls.getSecond();
+        chooseBestRoll[i] = powerAndRolls.getSecond() > 1
+            && (lhtrBombers || UnitAttachment.get(units[i].getType()).getChooseBestRoll());
+        power[i] = DiceRoll.getTotalPower(Collections.singletonMap(units[i], powerAndRolls), data);
+      }
+    }
+
+    private void resetHitPoints() {
+      System.arraycopy(initialHitPoints, 0, hitPoints, 0, hitPoints.length);
+    }
+
+    /**
+     * Restores the side to its state at the start of the battle. The strength, rolls and power of the units only need
+     * to be restored if they can change during the battle, i.e. if support is involved.
+     */
+    void reset(final boolean restorePower) {
+      resetHitPoints();
+      if (restorePower) {
+        System.arraycopy(initialStrength, 0, strength, 0, units.length);
+        System.arraycopy(initialRolls, 0, rolls, 0, units.length);
+        System.arraycopy(initialChooseBestRoll, 0, chooseBestRoll, 0, units.length);
+        System.arraycopy(initialPower, 0, power, 0, units.length);
+      }
+    }
+
+    int roll(final Random random, final int diceSides, final boolean lowLuck) {
+      if (lowLuck) {
+        final int totalPower = getTotalPower();
+        final int rollFor = totalPower % diceSides;
+        return totalPower / diceSides + (rollFor > 0 && rollFor > random.nextInt(diceSides) ? 1 : 0);
+      }
+      int hits = 0;
+      for (int i = 0; i < units.length; i++) {
+        if (hitPoints[i] <= 0 || strength[i] <= 0) {
+          continue;
+        }
+        if (chooseBestRoll[i]) {
+          int smallestDie = diceSides;
+          for (int j = 0; j < rolls[i]; j++) {
+            smallestDie = Math.min(smallestDie, random.nextInt(diceSides));
+          }
+          if (strength[i] > smallestDie) {
+            hits++;
+          }
+        } else {
+          for (int j = 0; j < rolls[i]; j++) {
+            if (strength[i] > random.nextInt(diceSides)) {
+              hits++;
+            }
+          }
+        }
+      }
+      return hits;
+    }
+
+    /**
+     * Applies hits the way default casualties are selected: extra hit points of multiple hit point units are used up
+     * first, then units are killed in order of loss.
+     *
+     * @return {@code true} if any unit was killed.
+     */
+    boolean takeHits(final int hits) {
+      int hitsLeft = hits;
+      for (int i = 0; i < units.length && hitsLeft > 0; i++) {
+        if (hitPoints[i] > 1) {
+          final int damage = Math.min(hitsLeft, hitPoints[i] - 1);
+          hitPoints[i] -= damage;
+          hitsLeft -= damage;
+        }
+      }
+      boolean killed = false;
+      for (int i = 0; i < units.length && hitsLeft > 0; i++) {
+        if (hitPoints[i] > 0) {
+          hitPoints[i] = 0;
+          hitsLeft--;
+          killed = true;
+        }
+      }
+      return killed;
+    }
+
+    /**
+     * Indicates whether any unit left has attack or defense, or gives support, even if its power is reduced to zero.
+     */
+    boolean hasUnitsThatCanRoll() {
+      for (int i = 0; i < units.length; i++) {
+        if (hitPoints[i] > 0 && canRoll[i]) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void eliminate() {
+      Arrays.fill(hitPoints, 0);
+    }
+
+    int getTotalPower() {
+      int totalPower = 0;
+      for (int i = 0; i < units.length; i++) {
+        if (hitPoints[i] > 0) {
+          totalPower += power[i];
+        }
+      }
+      return totalPower;
+    }
+
+    boolean isEliminated() {
+      for (final int unitHitPoints : hitPoints) {
+        if (unitHitPoints > 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    List<Unit> getRemainingUnits() {
+      final List<Unit> remaining = new ArrayList<>(units.length);
+      for (int i = 0; i < units.length; i++) {
+        if (hitPoints[i] > 0) {
+          remaining.add(units[i]);
+        }
+      }
+      return remaining;
+    }
+  }
+}
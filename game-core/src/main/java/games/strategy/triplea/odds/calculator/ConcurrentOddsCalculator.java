@@ -1,12 +1,15 @@
 package games.strategy.triplea.odds.calculator;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -27,6 +30,7 @@ import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.framework.GameDataSnapshot;
 import games.strategy.engine.framework.GameDataUtils;
 import lombok.extern.java.Log;
 
@@ -143,47 +147,61 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+      final GameDataSnapshot snapshot;
       final GameData newData;
       try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
-        data.acquireWriteLock();
-        newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
-      } finally {
-        data.releaseWriteLock();
+        try {
+          // take the snapshot, then release lock on it so game can continue (ie: we don't want to lock on it while we
+          // make 16 copies, when serializing once is enough) don't let the data change while we take the snapshot
+          data.acquireWriteLock();
+          snapshot = GameDataUtils.snapshotWithoutHistory(data, false);
+        } finally {
+          data.releaseWriteLock();
+        }
+        newData = snapshot.fork();
+      } catch (final IOException e) {
+        // leave the worker list empty so calculate requests are rejected rather than run against stale data
+        log.log(Level.SEVERE, "Failed to copy game data for battle calculator workers", e);
+        finishCreatingWorkers(data);
+        return;
       }
       currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
-        if (currentThreads <= 2 || MAX_THREADS <= 2) {
-          // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to make)
-          while (cancelCurrentOperation.get() >= 0 && i < currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
-          }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
-          final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
-          while (i < (currentThreads - 1)) {
-            ++i;
-            executor.execute(() -> {
-              if (cancelCurrentOperation.get() >= 0) {
-                workers.add(new OddsCalculator(newData, false));
-              }
-              workerLatch.countDown();
-            });
-          }
-          // the last one will use our already copied data from above, without copying it again
-          workers.add(new OddsCalculator(newData, true));
-          Interruptibles.await(workerLatch);
+      // the snapshot is immutable, so every remaining worker can fork its own copy from it independently
+      final Queue<OddsCalculator> newWorkers = new ConcurrentLinkedQueue<>();
+      if (currentThreads <= 2 || MAX_THREADS <= 2) {
+        // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
+        // only 1 more copy to make)
+        for (int i = 1; cancelCurrentOperation.get() >= 0 && i < currentThreads; i++) {
+          forkWorker(snapshot, newWorkers);
+        }
+      } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+        final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
+        for (int i = 1; i < currentThreads; i++) {
+          executor.execute(() -> {
+            if (cancelCurrentOperation.get() >= 0) {
+              forkWorker(snapshot, newWorkers);
+            }
+            workerLatch.countDown();
+          });
         }
-      } finally {
-        newData.releaseReadLock();
+        Interruptibles.await(workerLatch);
       }
+      workers.addAll(newWorkers);
+      // the last one will use our already copied data from above, without copying it again
+      workers.add(new OddsCalculator(newData, true));
     }
+    finishCreatingWorkers(data);
+  }
+
+  private static void forkWorker(final GameDataSnapshot snapshot, final Collection<OddsCalculator> newWorkers) {
+    try {
+      newWorkers.add(new OddsCalculator(snapshot.fork(), true));
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to copy game data for battle calculator worker", e);
+    }
+  }
+
+  private void finishCreatingWorkers(final GameData data) {
     if (cancelCurrentOperation.get() < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
       workers.clear();
@@ -3,8 +3,11 @@ package games.strategy.triplea.odds.calculator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
@@ -39,6 +42,7 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
   private volatile boolean isDataSet = false;
   private volatile boolean isCalcSet = false;
   private volatile boolean isRunning = false;
+  private boolean useCompiledBattles = true;
 
   OddsCalculator(final GameData data) {
     this(data, false);
@@ -121,6 +125,19 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     isRunning = true;
     final long start = System.currentTimeMillis();
     final AggregateResults aggregateResults = new AggregateResults(count);
+    final Optional<CompiledBattle> compiledBattle = useCompiledBattles && usesDefaultBattleOptions()
+        ? CompiledBattle.compile(gameData, attacker, defender, location, attackingUnits, defendingUnits,
+            territoryEffects)
+        : Optional.empty();
+    if (compiledBattle.isPresent()) {
+      for (int i = 0; i < count && !cancelled; i++) {
+        aggregateResults.addResult(compiledBattle.get().fight());
+      }
+      aggregateResults.setTime(System.currentTimeMillis() - start);
+      isRunning = false;
+      cancelled = false;
+      return aggregateResults;
+    }
     final BattleTracker battleTracker = new BattleTracker();
     // CasualtySortingCaching can cause issues if there is more than 1 one battle being calced at the same time (like if
     // the AI and a human are both using the calc)
@@ -154,6 +171,26 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     return aggregateResults;
   }
 
+  /**
+   * Indicates no option that requires a battle to be fought by {@link MustFightBattle} (e.g. retreating or a custom
+   * order of losses) has been set.
+   */
+  private boolean usesDefaultBattleOptions() {
+    return bombardingUnits.isEmpty()
+        && !amphibious
+        && !keepOneAttackingLandUnit
+        && retreatAfterRound < 0
+        && retreatAfterXUnitsLeft < 0
+        && !retreatWhenOnlyAirLeft
+        && (attackerOrderOfLosses == null || attackerOrderOfLosses.isEmpty())
+        && (defenderOrderOfLosses == null || defenderOrderOfLosses.isEmpty());
+  }
+
+  @VisibleForTesting
+  void setUseCompiledBattles(final boolean useCompiledBattles) {
+    this.useCompiledBattles = useCompiledBattles;
+  }
+
   @Override
   public AggregateResults call() {
     return calculate();
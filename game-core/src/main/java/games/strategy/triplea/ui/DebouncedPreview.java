@@ -0,0 +1,155 @@
+package games.strategy.triplea.ui;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.swing.SwingUtilities;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import lombok.extern.java.Log;
+
+/**
+ * Computes previews of a user action on a background thread while the user is still changing it, for example the
+ * route to the territory under the mouse and the units that can move along it.
+ *
+ * <p>
+ * Requests are made on the Swing event dispatch thread. A computation starts only when no newer request arrived for a
+ * short delay, and each request cancels the computation of the previous one. The result of a computation is delivered
+ * on the event dispatch thread, and only if no newer request was made or cancelled meanwhile.
+ * </p>
+ *
+ * <p>
+ * The results of the last few requests are cached, so that requesting one of them again delivers its result at once.
+ * </p>
+ *
+ * @param <K> The type of the requests. Requests must be immutable and implement {@code equals} and {@code hashCode}.
+ * @param <V> The type of the previews.
+ */
+@Log
+final class DebouncedPreview<K, V> {
+  private final Function<K, V> computation;
+  private final Consumer<V> consumer;
+  private final long delayMillis;
+  private final ScheduledThreadPoolExecutor executor;
+  private final AtomicLong generation = new AtomicLong();
+  @GuardedBy("cache")
+  private final Map<K, V> cache;
+  private @Nullable Future<?> pendingComputation;
+
+  /**
+   * Creates a new preview.
+   *
+   * @param name The name of the background thread.
+   * @param computation Computes the preview for a request, on the background thread.
+   * @param consumer Receives the previews, on the event dispatch thread.
+   * @param delayMillis How long to wait for a newer request before computing a preview.
+   * @param cacheSize The number of previews to cache.
+   */
+  DebouncedPreview(final String name, final Function<K, V> computation, final Consumer<V> consumer,
+      final long delayMillis, final int cacheSize) {
+    this.computation = checkNotNull(computation);
+    this.consumer = checkNotNull(consumer);
+    this.delayMillis = delayMillis;
+    cache = new LinkedHashMap<K, V>(16, 0.75f, true) {
+      private static final long serialVersionUID = 7375627385374592548L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        return size() > cacheSize;
+      }
+    };
+    executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat(name)
+        .build());
+    // let the thread end while the user does nothing
+    executor.setKeepAliveTime(1, TimeUnit.MINUTES);
+    executor.allowCoreThreadTimeOut(true);
+    executor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Requests the preview for the specified request, cancelling any previous request. Must be called on the event
+   * dispatch thread.
+   */
+  void request(final K request) {
+    checkNotNull(request);
+
+    cancelPendingComputation();
+    final long requestGeneration = generation.incrementAndGet();
+    final V cached;
+    synchronized (cache) {
+      cached = cache.get(request);
+    }
+    if (cached != null) {
+      consumer.accept(cached);
+      return;
+    }
+    pendingComputation = executor.schedule(
+        () -> compute(request, requestGeneration), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void compute(final K request, final long requestGeneration) {
+    if (generation.get() != requestGeneration) {
+      return;
+    }
+    final V preview;
+    try {
+      preview = checkNotNull(computation.apply(request));
+    } catch (final RuntimeException e) {
+      log.log(Level.SEVERE, "Failed to compute preview for " + request, e);
+      return;
+    }
+    SwingUtilities.invokeLater(() -> {
+      synchronized (cache) {
+        if (generation.get() != requestGeneration) {
+          return;
+        }
+        cache.put(request, preview);
+      }
+      pendingComputation = null;
+      consumer.accept(preview);
+    });
+  }
+
+  /**
+   * Cancels the last request: its preview is not delivered if it has not been yet. Must be called on the event
+   * dispatch thread.
+   */
+  void cancel() {
+    cancelPendingComputation();
+    generation.incrementAndGet();
+  }
+
+  private void cancelPendingComputation() {
+    if (pendingComputation != null) {
+      // a running computation is left to finish and its preview is dropped, as interrupting code holding the game
+      // data lock is not safe
+      pendingComputation.cancel(false);
+      pendingComputation = null;
+    }
+  }
+
+  /**
+   * Cancels the last request and forgets the cached previews, for example because the data they were computed from
+   * changed. May be called on any thread.
+   */
+  void clear() {
+    synchronized (cache) {
+      generation.incrementAndGet();
+      cache.clear();
+    }
+  }
+}
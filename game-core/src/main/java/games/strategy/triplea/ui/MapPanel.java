@@ -19,12 +19,15 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +65,7 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.screen.SmallMapImageManager;
 import games.strategy.triplea.ui.screen.Tile;
 import games.strategy.triplea.ui.screen.TileManager;
+import games.strategy.triplea.ui.screen.TileRenderScheduler;
 import games.strategy.triplea.ui.screen.UnitsDrawer;
 import games.strategy.triplea.ui.screen.drawable.IDrawable.OptionalExtraBorderLevel;
 import games.strategy.triplea.util.UnitCategory;
@@ -97,6 +101,8 @@ public class MapPanel extends ImageScrollerLargeView {
   private ResourceCollection movementFuelCost;
   private final UiContext uiContext;
   private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  private final TileRenderScheduler tileRenderScheduler =
+      new TileRenderScheduler(() -> SwingUtilities.invokeLater(this::repaint));
   private Map<Territory, List<Unit>> highlightedUnits;
   private Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
@@ -268,6 +274,7 @@ public class MapPanel extends ImageScrollerLargeView {
       deactivate();
       clearPendingDrawOperations();
       executor.shutdown();
+      tileRenderScheduler.shutdown();
       // Desperate attempt to fix a memory leak
       KeyboardFocusManager.getCurrentKeyboardFocusManager().focusNextComponent();
     });
@@ -533,7 +540,10 @@ public class MapPanel extends ImageScrollerLargeView {
     gameData.addTerritoryListener(territoryListener);
     gameData.addDataChangeListener(dataChangeListener);
     clearPendingDrawOperations();
-    executor.execute(() -> tileManager.resetTiles(gameData, uiContext.getMapData()));
+    executor.execute(() -> {
+      tileManager.resetTiles(gameData, uiContext.getMapData());
+      SwingUtilities.invokeLater(this::repaint);
+    });
   }
 
   @Override
@@ -651,26 +661,24 @@ public class MapPanel extends ImageScrollerLargeView {
         }
       }
     }
-    // draw the tiles nearest us first
-    // then draw farther away
-    updateUndrawnTiles(undrawnTiles, 30);
-    updateUndrawnTiles(undrawnTiles, 257);
-    updateUndrawnTiles(undrawnTiles, 513);
-    updateUndrawnTiles(undrawnTiles, 767);
-    clearPendingDrawOperations();
-    undrawnTiles.forEach(tile -> executor.execute(() -> {
-      data.acquireReadLock();
-      try {
-        tile.getImage(data, MapPanel.this.getUiContext().getMapData());
-      } finally {
-        data.releaseReadLock();
-      }
-      SwingUtilities.invokeLater(MapPanel.this::repaint);
-    }));
+    // render the visible tiles first, those nearest the center of the screen before the others
+    // then render those around them, nearest first
+    final Point2D center = new Point2D.Double(mainBounds.getCenterX(), mainBounds.getCenterY());
+    undrawnTiles.sort(Comparator.comparingDouble(tile -> center.distance(
+        tile.getBounds().getCenterX(), tile.getBounds().getCenterY())));
+    final Set<Tile> tilesToRender = new LinkedHashSet<>(undrawnTiles);
+    addUndrawnTilesAround(tilesToRender, 30);
+    addUndrawnTilesAround(tilesToRender, 257);
+    addUndrawnTilesAround(tilesToRender, 513);
+    final int tilesAroundCount = addUndrawnTilesAround(tilesToRender, 767);
+    // all these tiles must be able to keep their images, even if the panel is larger than the screen
+    tileManager.ensureImageCapacity(images.size() + undrawnTiles.size() + tilesAroundCount);
+    tileRenderScheduler.schedule(new ArrayList<>(tilesToRender), data, uiContext.getMapData());
   }
 
   private void clearPendingDrawOperations() {
     ((ThreadPoolExecutor) executor).getQueue().clear();
+    tileRenderScheduler.cancel();
   }
 
   private boolean mapWidthFitsOnScreen() {
@@ -682,22 +690,23 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   /**
-   * If we have nothing left undrawn, draw the tiles within preDrawMargin of us.
+   * Adds the undrawn tiles within preDrawMargin of us, so that they are rendered after the visible tiles.
+   *
+   * @return the number of tiles within preDrawMargin of us, drawn or not.
    */
-  private void updateUndrawnTiles(final List<Tile> undrawnTiles, final int preDrawMargin) {
-    // draw tiles near us if we have nothing left to draw
+  private int addUndrawnTilesAround(final Set<Tile> undrawnTiles, final int preDrawMargin) {
+    // draw tiles near us too
     // that way when we scroll slowly we wont notice a glitch
-    if (undrawnTiles.isEmpty()) {
-      final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
-          Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2.0 * preDrawMargin),
-          getScaledHeight() + (2.0 * preDrawMargin));
-      final List<Tile> tileList = tileManager.getTiles(extendedBounds);
-      for (final Tile tile : tileList) {
-        if (tile.isDirty()) {
-          undrawnTiles.add(tile);
-        }
+    final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
+        Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2.0 * preDrawMargin),
+        getScaledHeight() + (2.0 * preDrawMargin));
+    final List<Tile> tileList = tileManager.getTiles(extendedBounds);
+    for (final Tile tile : tileList) {
+      if (tile.isDirty()) {
+        undrawnTiles.add(tile);
       }
     }
+    return tileList.size();
   }
 
   private void drawTiles(final Graphics2D g, final List<Tile> images, final GameData data,
@@ -710,6 +719,9 @@ public class MapPanel extends ImageScrollerLargeView {
           // take what we can get to avoid screen flicker
           undrawn.add(tile);
           img = tile.getRawImage();
+          if (img == null) {
+            drawSmallMapPlaceholder(g, tile, bounds);
+          }
         } else {
           img = tile.getImage(data, uiContext.getMapData());
           images.add(tile);
@@ -725,6 +737,21 @@ public class MapPanel extends ImageScrollerLargeView {
     }
   }
 
+  /**
+   * Draws the part of the small map covered by a tile that has never been rendered, until it is.
+   */
+  private void drawSmallMapPlaceholder(final Graphics2D g, final Tile tile, final Rectangle2D.Double bounds) {
+    final Rectangle tileBounds = tile.getBounds();
+    final double ratioX = smallView.getRatioX();
+    final double ratioY = smallView.getRatioY();
+    final int x = (int) (scale * (tileBounds.x - bounds.getX()));
+    final int y = (int) (scale * (tileBounds.y - bounds.getY()));
+    g.drawImage(smallView.getOffScreenImage(),
+        x, y, x + (int) Math.ceil(scale * tileBounds.width), y + (int) Math.ceil(scale * tileBounds.height),
+        (int) (tileBounds.x * ratioX), (int) (tileBounds.y * ratioY),
+        (int) Math.ceil(tileBounds.getMaxX() * ratioX), (int) Math.ceil(tileBounds.getMaxY() * ratioY), this);
+  }
+
   Image getTerritoryImage(final Territory territory) {
     getData().acquireReadLock();
     try {
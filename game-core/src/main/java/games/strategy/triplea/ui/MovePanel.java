@@ -36,6 +36,7 @@ import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.events.GameDataChangeListener;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.attachments.TechAttachment;
@@ -47,6 +48,7 @@ import games.strategy.triplea.delegate.GameStepPropertiesHelper;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TransportTracker;
+import games.strategy.triplea.delegate.UndoableMove;
 import games.strategy.triplea.delegate.UnitComparator;
 import games.strategy.triplea.delegate.data.MoveDescription;
 import games.strategy.triplea.delegate.data.MoveValidationResult;
@@ -54,6 +56,7 @@ import games.strategy.triplea.delegate.data.MustMoveWithDetails;
 import games.strategy.triplea.util.TransportUtils;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeparator;
+import lombok.Value;
 import lombok.extern.java.Log;
 
 /**
@@ -68,6 +71,8 @@ public class MovePanel extends AbstractMovePanel {
    * changed it after feedback).
    */
   private static final int deselectNumber = 10;
+  private static final long routePreviewDelayMillis = 20;
+  private static final int routePreviewCacheSize = 8;
   private static final Map<Unit, Collection<Unit>> dependentUnits = new HashMap<>();
 
   // access only through getter and setter!
@@ -92,6 +97,11 @@ public class MovePanel extends AbstractMovePanel {
   private Route routeCached = null;
   private String displayText = "Combat Move";
   private MoveType moveType = MoveType.DEFAULT;
+  // routes and units that can move are computed off the event dispatch thread while the mouse moves
+  private final DebouncedPreview<RoutePreviewRequest, RoutePreview> routePreview = new DebouncedPreview<>(
+      "Move route preview", this::newRoutePreview, this::showRoutePreview, routePreviewDelayMillis,
+      routePreviewCacheSize);
+  private final GameDataChangeListener dataChangeListener = change -> routePreview.clear();
 
   private final UnitSelectionListener unitSelectionListener = new UnitSelectionListener() {
     @Override
@@ -555,31 +565,14 @@ public class MovePanel extends AbstractMovePanel {
         return;
       }
       if (getFirstSelectedTerritory() != null && territory != null) {
-        Route route;
-        if (mouseCurrentTerritory == null || !mouseCurrentTerritory.equals(territory)
-            || mouseCurrentPoint.equals(mouseLastUpdatePoint)) {
-          route = getRoute(getFirstSelectedTerritory(), territory, selectedUnits);
-          getData().acquireReadLock();
-          try {
-            updateUnitsThatCanMoveOnRoute(selectedUnits, route);
-            // now, check if there is a better route for just the units that can get there (we check only air since that
-            // is the only one for which the route may actually change much)
-            if (unitsThatCanMoveOnRoute.size() < selectedUnits.size() && (unitsThatCanMoveOnRoute.size() == 0
-                || unitsThatCanMoveOnRoute.stream().allMatch(Matches.unitIsAir()))) {
-              final Collection<Unit> airUnits = CollectionUtils.getMatches(selectedUnits, Matches.unitIsAir());
-              if (airUnits.size() > 0) {
-                route = getRoute(getFirstSelectedTerritory(), territory, airUnits);
-                updateUnitsThatCanMoveOnRoute(airUnits, route);
-              }
-            }
-          } finally {
-            getData().releaseReadLock();
-          }
-        } else {
-          route = routeCached;
-        }
+        final boolean isRouteOutdated = mouseCurrentTerritory == null || !mouseCurrentTerritory.equals(territory)
+            || mouseCurrentPoint.equals(mouseLastUpdatePoint);
         mouseCurrentPoint = me.getMapPoint();
-        updateRouteAndMouseShadowUnits(route);
+        if (isRouteOutdated) {
+          routePreview.request(newRoutePreviewRequest(territory));
+        }
+        // keep drawing the last route to the mouse until the route to this territory is known
+        showRouteAndMouseShadowUnits(routeCached);
       }
       mouseCurrentTerritory = territory;
     }
@@ -612,15 +605,22 @@ public class MovePanel extends AbstractMovePanel {
   }
 
   private PlayerId getUnitOwner(final Collection<Unit> units) {
-    return (BaseEditDelegate.getEditMode(getData()) && units != null && !units.isEmpty())
-        ? units.iterator().next().getOwner()
-        : getCurrentPlayer();
+    return getUnitOwner(units, getCurrentPlayer(), BaseEditDelegate.getEditMode(getData()));
+  }
+
+  private static PlayerId getUnitOwner(final @Nullable Collection<Unit> units, final PlayerId currentPlayer,
+      final boolean editMode) {
+    return (editMode && units != null && !units.isEmpty()) ? units.iterator().next().getOwner() : currentPlayer;
+  }
+
+  private void sortUnitsToMove(final List<Unit> units, final Route route) {
+    sortUnitsToMove(units, route, getUnitOwner(units));
   }
 
   /**
-   * Sort the specified units in preferred movement or unload order.
+   * Sort the specified units, owned by the specified player, in preferred movement or unload order.
    */
-  private void sortUnitsToMove(final List<Unit> units, final Route route) {
+  private static void sortUnitsToMove(final List<Unit> units, final Route route, final PlayerId owner) {
     if (units == null || units.isEmpty()) {
       return;
     } else if (route == null) {
@@ -633,7 +633,7 @@ public class MovePanel extends AbstractMovePanel {
     final Comparator<Unit> unitComparator;
     // sort units based on which transports are allowed to unload
     if (route.isUnload() && units.stream().anyMatch(Matches.unitIsLand())) {
-      unitComparator = UnitComparator.getUnloadableUnitsComparator(units, route, getUnitOwner(units));
+      unitComparator = UnitComparator.getUnloadableUnitsComparator(units, route, owner);
     } else {
       unitComparator = UnitComparator.getMovableUnitsComparator(units, route);
     }
@@ -878,11 +878,18 @@ public class MovePanel extends AbstractMovePanel {
   }
 
   private Route getRoute(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
+    // can't rely on current player being the unit owner in Edit Mode
+    // look at the units being moved to determine allies and enemies
+    return getRoute(start, end, selectedUnits, forced, getUnitOwner(selectedUnits));
+  }
+
+  private Route getRoute(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final @Nullable List<Territory> forced, final PlayerId owner) {
     getData().acquireReadLock();
     try {
       return (forced == null)
-          ? getRouteNonForced(start, end, selectedUnits)
-          : getRouteForced(start, end, selectedUnits);
+          ? getRouteNonForced(start, end, selectedUnits, owner)
+          : getRouteForced(start, end, selectedUnits, forced, owner);
     } finally {
       getData().releaseReadLock();
     }
@@ -891,11 +898,12 @@ public class MovePanel extends AbstractMovePanel {
   /**
    * Get the route including the territories that we are forced to move through.
    */
-  private Route getRouteForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
-    if (forced == null || forced.size() == 0) {
+  private Route getRouteForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final List<Territory> forced, final PlayerId owner) {
+    if (forced.size() == 0) {
       throw new IllegalStateException("No forced territories:" + forced + " end:" + end + " start:" + start);
     }
-    Territory last = getFirstSelectedTerritory();
+    Territory last = start;
 
     Route total = new Route();
     total.setStart(last);
@@ -909,7 +917,7 @@ public class MovePanel extends AbstractMovePanel {
       last = current;
     }
     if (!end.equals(last)) {
-      final Route add = getRouteNonForced(last, end, selectedUnits);
+      final Route add = getRouteNonForced(last, end, selectedUnits, owner);
       final Route newTotal = Route.join(total, add);
       if (newTotal != null) {
         total = newTotal;
@@ -921,28 +929,76 @@ public class MovePanel extends AbstractMovePanel {
   /**
    * Get the route ignoring forced territories.
    */
-  private Route getRouteNonForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
-    // can't rely on current player being the unit owner in Edit Mode
-    // look at the units being moved to determine allies and enemies
-    final PlayerId owner = getUnitOwner(selectedUnits);
+  private Route getRouteNonForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final PlayerId owner) {
     return MoveValidator.getBestRoute(start, end, getData(), owner, selectedUnits,
         !GameStepPropertiesHelper.isAirborneMove(getData()));
   }
 
   private void updateUnitsThatCanMoveOnRoute(final Collection<Unit> units, final Route route) {
+    routePreview.cancel();
+    showUnitsThatCanMoveOnRoute(newRoutePreview(units, route, selectedUnits, newMoveState()));
+  }
+
+  private MoveState newMoveState() {
+    return new MoveState(new HashMap<>(dependentUnits), mustMoveWithDetails, getUndoableMoves(), getCurrentPlayer(),
+        BaseEditDelegate.getEditMode(getData()), moveType, nonCombat);
+  }
+
+  private RoutePreviewRequest newRoutePreviewRequest(final Territory end) {
+    return new RoutePreviewRequest(getFirstSelectedTerritory(), end, new ArrayList<>(selectedUnits),
+        (forced == null) ? null : new ArrayList<>(forced), newMoveState());
+  }
+
+  /**
+   * Computes the route to the requested territory and the units that can move along it. Called off the event dispatch
+   * thread, so it must only use the state copied into the request.
+   */
+  private RoutePreview newRoutePreview(final RoutePreviewRequest request) {
+    final List<Unit> units = request.getUnits();
+    final MoveState state = request.getMoveState();
+    Route route = getRoute(request.getStart(), request.getEnd(), units, request.getForced(), state.getUnitOwner(units));
+    getData().acquireReadLock();
+    try {
+      RoutePreview preview = newRoutePreview(units, route, units, state);
+      // now, check if there is a better route for just the units that can get there (we check only air since that
+      // is the only one for which the route may actually change much)
+      final List<Unit> movableUnits = preview.getUnitsThatCanMoveOnRoute();
+      if (movableUnits.size() < units.size()
+          && (movableUnits.isEmpty() || movableUnits.stream().allMatch(Matches.unitIsAir()))) {
+        final Collection<Unit> airUnits = CollectionUtils.getMatches(units, Matches.unitIsAir());
+        if (airUnits.size() > 0) {
+          route = getRoute(request.getStart(), request.getEnd(), airUnits, request.getForced(),
+              state.getUnitOwner(airUnits));
+          preview = newRoutePreview(airUnits, route, units, state);
+        }
+      }
+      return preview;
+    } finally {
+      getData().releaseReadLock();
+    }
+  }
+
+  /**
+   * Finds which of the specified units can move along the specified route, and the message telling the user why the
+   * others cannot. Reads the state of the move only from the specified state, not from this panel.
+   */
+  private RoutePreview newRoutePreview(final Collection<Unit> units, final @Nullable Route route,
+      final Collection<Unit> selectedUnits, final MoveState state) {
+    final Map<Unit, Collection<Unit>> dependentUnits = state.getDependentUnits();
+    final MustMoveWithDetails mustMoveWithDetails = state.getMustMoveWithDetails();
+    final List<UndoableMove> undoableMoves = state.getUndoableMoves();
+    final PlayerId player = state.getPlayer();
+    final MoveType moveType = state.getMoveType();
+    final boolean nonCombat = state.isNonCombat();
     if (route == null || route.hasNoSteps()) {
-      clearStatusMessage();
-      getMap().showMouseCursor();
-      currentCursorImage = null;
-      unitsThatCanMoveOnRoute = new ArrayList<>(units);
-      return;
+      return new RoutePreview(route, ImmutableList.copyOf(units), RouteStatus.VALID, null);
     }
-    getMap().hideMouseCursor();
     // TODO kev check for already loaded airTransports
     Collection<Unit> transportsToLoad = Collections.emptyList();
-    if (MoveValidator.isLoad(units, dependentUnits, route, getData(), getCurrentPlayer())) {
+    if (MoveValidator.isLoad(units, dependentUnits, route, getData(), player)) {
       transportsToLoad = route.getEnd().getUnitCollection().getMatches(
-          Matches.unitIsTransport().and(Matches.alliedUnit(getCurrentPlayer(), getData())));
+          Matches.unitIsTransport().and(Matches.alliedUnit(player, getData())));
     }
     List<Unit> best = new ArrayList<>(units);
     // if the player selects a land unit and other units when the
@@ -950,14 +1006,14 @@ public class MovePanel extends AbstractMovePanel {
     if (route.getStart().isWater() && route.getEnd() != null && route.getEnd().isWater() && !route.isLoad()) {
       best = CollectionUtils.getMatches(best, Matches.unitIsLand().negate());
     }
-    sortUnitsToMove(best, route);
+    sortUnitsToMove(best, route, state.getUnitOwner(best));
     Collections.reverse(best);
-    List<Unit> bestWithDependents = addMustMoveWith(best);
+    List<Unit> bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
     final MoveValidationResult allResults;
     getData().acquireReadLock();
     try {
-      allResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-          transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
+      allResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, player,
+          transportsToLoad, dependentUnits, nonCombat, undoableMoves, getData());
     } finally {
       getData().releaseReadLock();
     }
@@ -965,52 +1021,79 @@ public class MovePanel extends AbstractMovePanel {
     if (!allResults.isMoveValid()) {
       // if the player is invading only consider units that can invade
       if (!nonCombat && route.isUnload()
-          && Matches.isTerritoryEnemy(getCurrentPlayer(), getData()).test(route.getEnd())) {
+          && Matches.isTerritoryEnemy(player, getData()).test(route.getEnd())) {
         best = CollectionUtils.getMatches(best, Matches.unitCanInvade());
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
+        bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
+        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, player,
+            transportsToLoad, dependentUnits, nonCombat, undoableMoves, getData());
       }
       while (!best.isEmpty() && !lastResults.isMoveValid()) {
         best = best.subList(1, best.size());
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
+        bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
+        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, player,
+            transportsToLoad, dependentUnits, nonCombat, undoableMoves, getData());
       }
     }
+    final ImmutableList<Unit> unitsThatCanMoveOnRoute = ImmutableList.copyOf(bestWithDependents);
     if (allResults.isMoveValid()) {
       // valid move
-      if (bestWithDependents.containsAll(selectedUnits)) {
+      return bestWithDependents.containsAll(selectedUnits)
+          ? new RoutePreview(route, unitsThatCanMoveOnRoute, RouteStatus.VALID, null)
+          : new RoutePreview(route, unitsThatCanMoveOnRoute, RouteStatus.WARNING, "Not all units can move there");
+    }
+    String message = allResults.getError();
+    if (message == null) {
+      message = allResults.getDisallowedUnitWarning(0);
+    }
+    if (message == null) {
+      message = allResults.getUnresolvedUnitWarning(0);
+    }
+    return new RoutePreview(route, unitsThatCanMoveOnRoute,
+        lastResults.isMoveValid() ? RouteStatus.WARNING : RouteStatus.ERROR, message);
+  }
+
+  private void showRoutePreview(final RoutePreview preview) {
+    if (!getListening() || getFirstSelectedTerritory() == null) {
+      return;
+    }
+    showUnitsThatCanMoveOnRoute(preview);
+    showRouteAndMouseShadowUnits(preview.getRoute());
+  }
+
+  private void showUnitsThatCanMoveOnRoute(final RoutePreview preview) {
+    final Route route = preview.getRoute();
+    if (route == null || route.hasNoSteps()) {
+      clearStatusMessage();
+      getMap().showMouseCursor();
+      currentCursorImage = null;
+      unitsThatCanMoveOnRoute = new ArrayList<>(preview.getUnitsThatCanMoveOnRoute());
+      return;
+    }
+    getMap().hideMouseCursor();
+    switch (preview.getStatus()) {
+      case VALID:
         clearStatusMessage();
         currentCursorImage = null;
-      } else {
-        setStatusWarningMessage("Not all units can move there");
+        break;
+      case WARNING:
+        setStatusWarningMessage(preview.getStatusMessage());
         currentCursorImage = getMap().getWarningImage().orElse(null);
-      }
-    } else {
-      String message = allResults.getError();
-      if (message == null) {
-        message = allResults.getDisallowedUnitWarning(0);
-      }
-      if (message == null) {
-        message = allResults.getUnresolvedUnitWarning(0);
-      }
-      if (!lastResults.isMoveValid()) {
-        setStatusErrorMessage(message);
+        break;
+      case ERROR:
+        setStatusErrorMessage(preview.getStatusMessage());
         currentCursorImage = getMap().getErrorImage().orElse(null);
-      } else {
-        setStatusWarningMessage(message);
-        currentCursorImage = getMap().getWarningImage().orElse(null);
-      }
+        break;
+      default:
+        throw new AssertionError("unknown route status: " + preview.getStatus());
     }
     if (unitsThatCanMoveOnRoute.size() != new HashSet<>(unitsThatCanMoveOnRoute).size()) {
       cancelMove();
       return;
     }
-    unitsThatCanMoveOnRoute = new ArrayList<>(bestWithDependents);
+    unitsThatCanMoveOnRoute = new ArrayList<>(preview.getUnitsThatCanMoveOnRoute());
   }
 
-  private List<Unit> addMustMoveWith(final List<Unit> best) {
+  private static List<Unit> addMustMoveWith(final List<Unit> best, final MustMoveWithDetails mustMoveWithDetails) {
     final List<Unit> bestWithDependents = new ArrayList<>(best);
     for (final Unit u : best) {
       if (mustMoveWithDetails.getMustMoveWith().containsKey(u)) {
@@ -1031,6 +1114,11 @@ public class MovePanel extends AbstractMovePanel {
    * Route can be null.
    */
   final void updateRouteAndMouseShadowUnits(final Route route) {
+    routePreview.cancel();
+    showRouteAndMouseShadowUnits(route);
+  }
+
+  private void showRouteAndMouseShadowUnits(final @Nullable Route route) {
     routeCached = route;
     getMap().setRoute(route, mouseSelectedPoint, mouseCurrentPoint, currentCursorImage);
     if (route == null) {
@@ -1328,6 +1416,7 @@ public class MovePanel extends AbstractMovePanel {
     getMap().removeMapSelectionListener(mapSelectionListener);
     getMap().removeUnitSelectionListener(unitSelectionListener);
     getMap().removeMouseOverUnitListener(mouseOverUnitListener);
+    getData().removeDataChangeListener(dataChangeListener);
     getMap().setUnitHighlight(null);
     selectedUnits.clear();
     updateRouteAndMouseShadowUnits(null);
@@ -1373,6 +1462,7 @@ public class MovePanel extends AbstractMovePanel {
     getMap().addMapSelectionListener(mapSelectionListener);
     getMap().addUnitSelectionListener(unitSelectionListener);
     getMap().addMouseOverUnitListener(mouseOverUnitListener);
+    getData().addDataChangeListener(dataChangeListener);
   }
 
   KeyListener getCustomKeyListeners() {
@@ -1495,4 +1585,50 @@ public class MovePanel extends AbstractMovePanel {
       getMap().setUnitHighlight(highlight);
     }
   }
+
+  /**
+   * The state of this panel that validating a move depends on, copied on the event dispatch thread.
+   */
+  @Value
+  private static class MoveState {
+    private final Map<Unit, Collection<Unit>> dependentUnits;
+    private final MustMoveWithDetails mustMoveWithDetails;
+    private final List<UndoableMove> undoableMoves;
+    private final PlayerId player;
+    private final boolean editMode;
+    private final MoveType moveType;
+    private final boolean nonCombat;
+
+    PlayerId getUnitOwner(final Collection<Unit> units) {
+      return MovePanel.getUnitOwner(units, player, editMode);
+    }
+  }
+
+  /**
+   * The state a route preview is computed from, copied on the event dispatch thread.
+   */
+  @Value
+  private static class RoutePreviewRequest {
+    private final Territory start;
+    private final Territory end;
+    private final List<Unit> units;
+    private final @Nullable List<Territory> forced;
+    private final MoveState moveState;
+  }
+
+  private enum RouteStatus {
+    VALID, WARNING, ERROR
+  }
+
+  /**
+   * The route to a territory, the units that can move along it, and the status message telling the user why the other
+   * units cannot.
+   */
+  @Value
+  private static class RoutePreview {
+    private final @Nullable Route route;
+    private final ImmutableList<Unit> unitsThatCanMoveOnRoute;
+    private final RouteStatus status;
+    private final @Nullable String statusMessage;
+  }
 }
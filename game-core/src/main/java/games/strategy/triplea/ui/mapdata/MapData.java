@@ -14,7 +14,6 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -108,6 +107,7 @@ public class MapData implements Closeable {
   private final Map<String, Color> playerColors = new HashMap<>();
   private final Map<String, Tuple<List<Point>, Boolean>> place = new HashMap<>();
   private final Map<String, List<Polygon>> polys = new HashMap<>();
+  private TerritoryPolygonIndex territoryPolygonIndex = new TerritoryPolygonIndex(Collections.emptyMap());
   private final Map<String, Point> centers = new HashMap<>();
   private final Map<String, Point> vcPlace = new HashMap<>();
   private final Map<String, Point> blockadePlace = new HashMap<>();
@@ -146,6 +146,7 @@ public class MapData implements Closeable {
       territoryEffects.putAll(readPointsOneToMany(optionalResource(TERRITORY_EFFECT_FILE)));
 
       polys.putAll(readPolygonsOneToMany(requiredResource(POLYGON_FILE)));
+      territoryPolygonIndex = new TerritoryPolygonIndex(polys);
       centers.putAll(readPointsOneToOne(requiredResource(CENTERS_FILE)));
       vcPlace.putAll(readPointsOneToOne(optionalResource(VC_MARKERS)));
       convoyPlace.putAll(readPointsOneToOne(optionalResource(CONVOY_MARKERS)));
@@ -656,22 +657,9 @@ public class MapData implements Closeable {
    * Get the territory at the x,y co-ordinates could be null.
    */
   public String getTerritoryAt(final double x, final double y) {
-    String seaName = null;
     // try to find a land territory.
     // sea zones often surround a land territory
-    for (final String name : polys.keySet()) {
-      final Collection<Polygon> polygons = polys.get(name);
-      for (final Polygon poly : polygons) {
-        if (poly.contains(x, y)) {
-          if (Util.isTerritoryNameIndicatingWater(name)) {
-            seaName = name;
-          } else {
-            return name;
-          }
-        }
-      }
-    }
-    return seaName;
+    return territoryPolygonIndex.getTerritoryAt(x, y);
   }
 
   public Dimension getMapDimensions() {
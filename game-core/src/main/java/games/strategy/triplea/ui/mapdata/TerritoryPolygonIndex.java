@@ -0,0 +1,110 @@
+package games.strategy.triplea.ui.mapdata;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import games.strategy.ui.Util;
+
+/**
+ * Finds the territory at a point of the map without testing the polygons of all territories.
+ *
+ * <p>
+ * The bounds of all polygons are divided into square cells, and each cell lists the polygons whose bounding box
+ * overlaps it. A lookup only tests the polygons of the cell containing the point, in the same order as the territories
+ * and polygons were given, so that it finds the same territory as testing all polygons in that order would.
+ * </p>
+ */
+final class TerritoryPolygonIndex {
+  private static final int CELL_SIZE = 64;
+  private static final TerritoryPolygon[] NO_POLYGONS = new TerritoryPolygon[0];
+
+  private final int minX;
+  private final int minY;
+  private final int columnCount;
+  private final int rowCount;
+  // the polygons overlapping the cell at column c and row r are at index r * columnCount + c
+  private final TerritoryPolygon[][] cells;
+
+  TerritoryPolygonIndex(final Map<String, List<Polygon>> polygonsByTerritoryName) {
+    final Rectangle bounds = polygonsByTerritoryName.values().stream()
+        .flatMap(List::stream)
+        .map(Polygon::getBounds)
+        .reduce(Rectangle::union)
+        .orElseGet(Rectangle::new);
+    minX = bounds.x;
+    minY = bounds.y;
+    columnCount = bounds.width / CELL_SIZE + 1;
+    rowCount = bounds.height / CELL_SIZE + 1;
+
+    final List<List<TerritoryPolygon>> polygonsByCell = new ArrayList<>(columnCount * rowCount);
+    for (int i = 0; i < columnCount * rowCount; i++) {
+      polygonsByCell.add(new ArrayList<>());
+    }
+    polygonsByTerritoryName.forEach((name, polygons) -> {
+      final boolean water = Util.isTerritoryNameIndicatingWater(name);
+      for (final Polygon polygon : polygons) {
+        final TerritoryPolygon territoryPolygon = new TerritoryPolygon(name, water, polygon);
+        final Rectangle polygonBounds = polygon.getBounds();
+        final int lastColumn = getColumn(polygonBounds.getMaxX());
+        final int lastRow = getRow(polygonBounds.getMaxY());
+        for (int row = getRow(polygonBounds.getMinY()); row <= lastRow; row++) {
+          for (int column = getColumn(polygonBounds.getMinX()); column <= lastColumn; column++) {
+            polygonsByCell.get(row * columnCount + column).add(territoryPolygon);
+          }
+        }
+      }
+    });
+    cells = polygonsByCell.stream()
+        .map(polygons -> polygons.isEmpty() ? NO_POLYGONS : polygons.toArray(NO_POLYGONS))
+        .toArray(TerritoryPolygon[][]::new);
+  }
+
+  private int getColumn(final double x) {
+    return (int) Math.floor((x - minX) / CELL_SIZE);
+  }
+
+  private int getRow(final double y) {
+    return (int) Math.floor((y - minY) / CELL_SIZE);
+  }
+
+  /**
+   * Returns the name of the territory at the specified point, or null if there is none. Land territories take
+   * precedence over sea zones, which often surround them.
+   */
+  @Nullable
+  String getTerritoryAt(final double x, final double y) {
+    final int column = getColumn(x);
+    final int row = getRow(y);
+    if (column < 0 || column >= columnCount || row < 0 || row >= rowCount) {
+      return null;
+    }
+    String seaName = null;
+    for (final TerritoryPolygon territoryPolygon : cells[row * columnCount + column]) {
+      if (territoryPolygon.polygon.contains(x, y)) {
+        if (territoryPolygon.water) {
+          seaName = territoryPolygon.name;
+        } else {
+          return territoryPolygon.name;
+        }
+      }
+    }
+    return seaName;
+  }
+
+  private static final class TerritoryPolygon {
+    private final String name;
+    private final boolean water;
+    private final Polygon polygon;
+
+    TerritoryPolygon(final String name, final boolean water, final Polygon polygon) {
+      this.name = name;
+      this.water = water;
+      this.polygon = polygon;
+    }
+  }
+}
@@ -1,20 +1,25 @@
 package games.strategy.triplea.ui.screen;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.thread.LockUtil;
 import games.strategy.triplea.ui.mapdata.MapData;
@@ -23,20 +28,37 @@ import games.strategy.ui.Util;
 
 /**
  * Responsible for rendering a single map tile.
+ *
+ * <p>
+ * A tile gets the image it is rendered to from a {@link TileImagePool} when it is first drawn, and may lose it again
+ * to other tiles while it is not drawn; it is then rendered again from its drawables when it is next drawn.
+ * </p>
+ *
+ * <p>
+ * {@link #render(GameData, MapData)} renders a dirty tile without holding its lock, so that the tile can be painted
+ * from its last image meanwhile.
+ * </p>
  */
 public class Tile {
+  // each rendering thread draws into its own buffer before copying it into the image of the tile
+  private static final ThreadLocal<BufferedImage> renderBuffers = new ThreadLocal<>();
+
   private boolean isDirty = true;
+  // changes whenever the drawables change, so that renderings of older drawables can be told apart
+  private final AtomicInteger version = new AtomicInteger();
+  private boolean isRendering;
 
-  private final Image image;
+  private @Nullable Image image;
   private final Rectangle bounds;
   private final double scale;
+  private final TileImagePool imagePool;
   private final Lock lock = new ReentrantLock();
   private final Queue<IDrawable> contents = new PriorityQueue<>(Comparator.comparingInt(IDrawable::getLevel));
 
-  Tile(final Rectangle bounds, final double scale) {
+  Tile(final Rectangle bounds, final double scale, final TileImagePool imagePool) {
     this.bounds = bounds;
     this.scale = scale;
-    image = Util.newImage((int) (bounds.getWidth() * scale), (int) (bounds.getHeight() * scale), true);
+    this.imagePool = imagePool;
   }
 
   public boolean isDirty() {
@@ -62,13 +84,17 @@ public class Tile {
   public Image getImage(final GameData data, final MapData mapData) {
     acquireLock();
     try {
+      if (image == null) {
+        image = imagePool.acquire(this);
+        isDirty = true;
+      } else {
+        imagePool.touch(this);
+      }
       if (isDirty) {
-        final Graphics2D g = (Graphics2D) image.getGraphics();
-        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        draw(g, data, mapData);
+        final Graphics2D g = newGraphics(image);
+        draw(g, new PriorityQueue<>(contents), data, mapData, version.get());
         g.dispose();
+        isDirty = false;
       }
       return image;
     } finally {
@@ -76,17 +102,134 @@ public class Tile {
     }
   }
 
+  /**
+   * Renders this tile if it is dirty. Unlike {@link #getImage(GameData, MapData)}, the lock of the tile is only held
+   * while copying the rendering into the image of the tile. If the drawables of the tile change while it is rendered,
+   * the stale rendering is abandoned and the tile is rendered again. Nothing is done if another thread is rendering the
+   * tile already.
+   *
+   * @return true if the tile was rendered.
+   */
+  public boolean render(final GameData data, final MapData mapData) {
+    acquireLock();
+    try {
+      if (!isDirty || isRendering) {
+        return false;
+      }
+      isRendering = true;
+    } finally {
+      releaseLock();
+    }
+    try {
+      while (true) {
+        final Queue<IDrawable> queue;
+        final int renderedVersion;
+        acquireLock();
+        try {
+          if (!isDirty) {
+            return false;
+          }
+          queue = new PriorityQueue<>(contents);
+          renderedVersion = version.get();
+        } finally {
+          releaseLock();
+        }
+        final BufferedImage buffer = getRenderBuffer();
+        final Graphics2D g = newGraphics(buffer);
+        final boolean isComplete = draw(g, queue, data, mapData, renderedVersion);
+        g.dispose();
+        if (isComplete && copyToImage(buffer, renderedVersion)) {
+          return true;
+        }
+      }
+    } finally {
+      acquireLock();
+      try {
+        isRendering = false;
+      } finally {
+        releaseLock();
+      }
+    }
+  }
+
+  private boolean copyToImage(final BufferedImage rendering, final int renderedVersion) {
+    acquireLock();
+    try {
+      if (version.get() != renderedVersion) {
+        return false;
+      }
+      if (image == null) {
+        image = imagePool.acquire(this);
+      } else {
+        imagePool.touch(this);
+      }
+      final Graphics2D g = (Graphics2D) image.getGraphics();
+      g.setComposite(AlphaComposite.Src);
+      g.drawImage(rendering, 0, 0, null);
+      g.dispose();
+      isDirty = false;
+      return true;
+    } finally {
+      releaseLock();
+    }
+  }
+
+  private BufferedImage getRenderBuffer() {
+    final int width = (int) (bounds.getWidth() * scale);
+    final int height = (int) (bounds.getHeight() * scale);
+    BufferedImage buffer = renderBuffers.get();
+    if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+      buffer = Util.newImage(width, height, true);
+      renderBuffers.set(buffer);
+    }
+    return buffer;
+  }
+
+  private static Graphics2D newGraphics(final Image image) {
+    final Graphics2D g = (Graphics2D) image.getGraphics();
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    return g;
+  }
+
   /**
    * This image may not reflect our current drawables.
    * Use getImage() to get a correct image
    *
-   * @return the image we currently have.
+   * @return the image we currently have, or null if the tile has no image yet or lost it to another tile.
    */
-  public Image getRawImage() {
+  public @Nullable Image getRawImage() {
     return image;
   }
 
-  private void draw(final Graphics2D g, final GameData data, final MapData mapData) {
+  /**
+   * Takes the image away from this tile so that it can be given to another tile, unless the tile is being used by
+   * another thread right now.
+   *
+   * @return true if the image was taken away.
+   */
+  boolean releaseImage() {
+    // never waits, as the image pool calls this while holding its own lock
+    if (!lock.tryLock()) {
+      return false;
+    }
+    try {
+      image = null;
+      isDirty = true;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Draws the specified drawables, stopping early if the drawables of the tile change meanwhile.
+   *
+   * @return true if all drawables were drawn.
+   */
+  private boolean draw(final Graphics2D g, final Queue<IDrawable> queue, final GameData data, final MapData mapData,
+      final int drawnVersion) {
     final AffineTransform unscaled = g.getTransform();
     final AffineTransform scaled;
     if (scale != 1) {
@@ -99,11 +242,13 @@ public class Tile {
     // clear
     g.setColor(Color.BLACK);
     g.fill(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE));
-    final Queue<IDrawable> queue = new PriorityQueue<>(contents);
     while (!queue.isEmpty()) {
+      if (version.get() != drawnVersion) {
+        return false;
+      }
       queue.remove().draw(bounds, data, g, mapData, unscaled, scaled);
     }
-    isDirty = false;
+    return true;
   }
 
   void addDrawables(final Collection<IDrawable> drawables) {
@@ -115,6 +260,7 @@ public class Tile {
     try {
       contents.add(d);
       isDirty = true;
+      version.incrementAndGet();
     } finally {
       releaseLock();
     }
@@ -125,6 +271,7 @@ public class Tile {
     try {
       contents.removeAll(c);
       isDirty = true;
+      version.incrementAndGet();
     } finally {
       releaseLock();
     }
@@ -135,6 +282,7 @@ public class Tile {
     try {
       contents.clear();
       isDirty = true;
+      version.incrementAndGet();
     } finally {
       releaseLock();
     }
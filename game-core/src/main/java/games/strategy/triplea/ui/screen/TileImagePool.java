@@ -0,0 +1,81 @@
+package games.strategy.triplea.ui.screen;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.awt.Image;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import games.strategy.ui.Util;
+
+/**
+ * Hands out the images tiles are rendered to, holding at most a fixed number of them.
+ *
+ * <p>
+ * When a tile needs an image and the pool is full, the image of the least recently used tile is taken away from that
+ * tile and handed out again. The tile it is taken from is rendered again from its drawables when it is next drawn, so
+ * the memory held by the tiles of a map depends on how many of them are drawn at once, not on the size of the map.
+ * </p>
+ */
+final class TileImagePool {
+  private final int imageWidth;
+  private final int imageHeight;
+  @GuardedBy("this")
+  private int capacity;
+  // in order of last use, least recently used first
+  @GuardedBy("this")
+  private final Map<Tile, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+
+  TileImagePool(final int imageWidth, final int imageHeight, final int capacity) {
+    checkArgument(capacity > 0, "capacity must be positive: " + capacity);
+
+    this.imageWidth = imageWidth;
+    this.imageHeight = imageHeight;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns an image for the specified tile, which holds none, taking it away from the least recently used tile if the
+   * pool is full. The contents of the returned image are undefined.
+   */
+  synchronized Image acquire(final Tile tile) {
+    if (images.size() >= capacity) {
+      final Iterator<Map.Entry<Tile, Image>> iterator = images.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<Tile, Image> eldest = iterator.next();
+        // tiles being drawn right now keep their image
+        if (eldest.getKey().releaseImage()) {
+          iterator.remove();
+          images.put(tile, eldest.getValue());
+          return eldest.getValue();
+        }
+      }
+    }
+    final Image image = Util.newImage(imageWidth, imageHeight, true);
+    images.put(tile, image);
+    return image;
+  }
+
+  /**
+   * Marks the image of the specified tile as used, so that it is not taken away before the images of tiles used less
+   * recently.
+   */
+  synchronized void touch(final Tile tile) {
+    images.get(tile);
+  }
+
+  /**
+   * Makes room for at least the specified number of images, for example because more tiles are visible at once than
+   * expected.
+   */
+  synchronized void ensureCapacity(final int minCapacity) {
+    capacity = Math.max(capacity, minCapacity);
+  }
+
+  synchronized int size() {
+    return images.size();
+  }
+}
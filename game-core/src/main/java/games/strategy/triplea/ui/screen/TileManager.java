@@ -4,11 +4,13 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
 import java.awt.Point;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Toolkit;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -62,8 +64,11 @@ import games.strategy.ui.Util;
  */
 public class TileManager {
   public static final int TILE_SIZE = 256;
+  // how many tiles around the visible ones are rendered ahead of time, rounded up
+  private static final int PREFETCH_TILES = 3;
 
   private List<Tile> tiles = new ArrayList<>();
+  private TileImagePool imagePool = new TileImagePool(TILE_SIZE, TILE_SIZE, 1);
   private final Lock lock = new ReentrantLock();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
@@ -159,16 +164,20 @@ public class TileManager {
   }
 
   /**
-   * Clears all existing tiles and creates those tiles that intersect {@code bounds}.
+   * Clears all existing tiles and creates those tiles that intersect {@code bounds}. The tiles get their images when
+   * they are first drawn, and only the tiles drawn most recently keep them.
    */
   public void createTiles(final Rectangle bounds) {
     acquireLock();
     try {
+      final double scale = uiContext.getScale();
+      final int imageSize = (int) (TILE_SIZE * scale);
+      imagePool = new TileImagePool(imageSize, imageSize, getMaxImageCount(getScreenSize(), scale));
       // create our tiles
       tiles = new ArrayList<>();
       for (int x = 0; x * TILE_SIZE < bounds.width; x++) {
         for (int y = 0; y * TILE_SIZE < bounds.height; y++) {
-          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), uiContext.getScale()));
+          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), scale, imagePool));
         }
       }
     } finally {
@@ -176,6 +185,36 @@ public class TileManager {
     }
   }
 
+  /**
+   * Makes sure that at least the specified number of tiles can keep their images at once, so that drawing that many
+   * tiles does not take the images of some of them away again.
+   */
+  public void ensureImageCapacity(final int tileCount) {
+    acquireLock();
+    try {
+      imagePool.ensureCapacity(tileCount);
+    } finally {
+      releaseLock();
+    }
+  }
+
+  private static Dimension getScreenSize() {
+    return GraphicsEnvironment.isHeadless()
+        ? new Dimension(1920, 1080)
+        : Toolkit.getDefaultToolkit().getScreenSize();
+  }
+
+  /**
+   * Returns how many tile images to keep so that all tiles visible on a screen of the specified size, and those
+   * rendered ahead of time around them, keep their images while scrolling.
+   */
+  private static int getMaxImageCount(final Dimension screenSize, final double scale) {
+    // one more for tiles partly visible on either side
+    final int columns = (int) Math.ceil(screenSize.width / (TILE_SIZE * scale)) + 1 + 2 * PREFETCH_TILES;
+    final int rows = (int) Math.ceil(screenSize.height / (TILE_SIZE * scale)) + 1 + 2 * PREFETCH_TILES;
+    return columns * rows;
+  }
+
   /**
    * Re-renders all tiles.
    */
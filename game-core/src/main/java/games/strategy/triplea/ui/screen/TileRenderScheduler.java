@@ -0,0 +1,101 @@
+package games.strategy.triplea.ui.screen;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.mapdata.MapData;
+
+/**
+ * Renders dirty tiles on a pool of worker threads, so that painting the map never waits for a tile to be rendered.
+ *
+ * <p>
+ * Each call to {@link #schedule(List, GameData, MapData)} replaces the tiles waiting to be rendered. Tiles are rendered
+ * in the order they are given, so callers pass the tiles visible on screen first and the tiles around them after. A
+ * tile keeps its previous image until its rendering is done, and a rendering that becomes stale because the drawables
+ * of the tile change is abandoned and started over.
+ * </p>
+ */
+public final class TileRenderScheduler {
+  private final ThreadPoolExecutor executor;
+  private final Runnable renderListener;
+
+  /**
+   * Creates a new scheduler.
+   *
+   * @param renderListener Called on a worker thread after a tile was rendered.
+   */
+  public TileRenderScheduler(final Runnable renderListener) {
+    this.renderListener = checkNotNull(renderListener);
+    final int threadCount = Runtime.getRuntime().availableProcessors();
+    executor = new ThreadPoolExecutor(threadCount, threadCount, 2L, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Tile renderer %d")
+            .build());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Replaces the tiles waiting to be rendered by the dirty tiles among the specified ones, in order of priority.
+   */
+  public void schedule(final List<Tile> tiles, final GameData data, final MapData mapData) {
+    cancel();
+    for (int i = 0; i < tiles.size(); i++) {
+      if (tiles.get(i).isDirty()) {
+        executor.execute(new RenderTask(tiles.get(i), i, data, mapData));
+      }
+    }
+  }
+
+  /**
+   * Forgets the tiles waiting to be rendered. Tiles being rendered right now are finished.
+   */
+  public void cancel() {
+    executor.getQueue().clear();
+  }
+
+  public void shutdown() {
+    cancel();
+    executor.shutdown();
+  }
+
+  private final class RenderTask implements Runnable, Comparable<RenderTask> {
+    private final Tile tile;
+    private final int priority;
+    private final GameData data;
+    private final MapData mapData;
+
+    RenderTask(final Tile tile, final int priority, final GameData data, final MapData mapData) {
+      this.tile = tile;
+      this.priority = priority;
+      this.data = data;
+      this.mapData = mapData;
+    }
+
+    @Override
+    public void run() {
+      final boolean rendered;
+      data.acquireReadLock();
+      try {
+        rendered = tile.render(data, mapData);
+      } finally {
+        data.releaseReadLock();
+      }
+      if (rendered) {
+        renderListener.run();
+      }
+    }
+
+    @Override
+    public int compareTo(final RenderTask other) {
+      return Integer.compare(priority, other.priority);
+    }
+  }
+}
@@ -72,11 +72,11 @@ public class TuvUtils {
     // since our production frontier may not cover all the units we control, and not the enemy units,
     // we will add any unit types not in our list, based on the list for everyone
     final IntegerMap<UnitType> costsAll = getCostsForTuvForAllPlayersMergedAndAveraged(data);
-    for (final UnitType ut : costsAll.keySet()) {
-      if (!costs.keySet().contains(ut)) {
-        costs.put(ut, costsAll.getInt(ut));
+    costsAll.forEach((ut, cost) -> {
+      if (!costs.containsKey(ut)) {
+        costs.put(ut, cost);
       }
-    }
+    });
 
     // Override with XML TUV or consumesUnit sum
     final IntegerMap<UnitType> result = new IntegerMap<>(costs);
@@ -1,12 +1,7 @@
 package org.triplea.game.server;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,117 +10,38 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.logging.Level;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
-import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
-import javax.annotation.concurrent.ThreadSafe;
 
 import org.triplea.java.UrlStreams;
 
-import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
-import games.strategy.io.FileUtils;
+import games.strategy.engine.framework.map.index.GameIndex;
 import lombok.extern.java.Log;
 
 /**
- * A list of all available games. We make sure we can parse them all, but we don't keep them in memory.
+ * A list of all available games. Games are found using the {@link GameIndex}, so they are not parsed until they are
+ * selected, and we don't keep them in memory.
  */
 @Log
 @Immutable
 final class AvailableGames {
-  private static final String ZIP_EXTENSION = ".zip";
   private final Map<String, URI> availableGames;
   private final Set<String> availableMapFolderOrZipNames;
 
   AvailableGames() {
-    final GameRepository gameRepository = newGameRepository();
-    availableGames = Collections.unmodifiableMap(new TreeMap<>(gameRepository.availableGames));
-    availableMapFolderOrZipNames =
-        Collections.unmodifiableSet(new HashSet<>(gameRepository.availableMapFolderOrZipNames));
-  }
-
-  @ThreadSafe
-  private static final class GameRepository {
-    final Map<String, URI> availableGames = Collections.synchronizedMap(new HashMap<>());
-    final Set<String> availableMapFolderOrZipNames = Collections.synchronizedSet(new HashSet<>());
-  }
-
-  private static GameRepository newGameRepository() {
-    final GameRepository gameRepository = new GameRepository();
-    FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
-        .forEach(map -> {
-          if (map.isDirectory()) {
-            populateFromDirectory(map, gameRepository.availableGames, gameRepository.availableMapFolderOrZipNames);
-          } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
-            populateFromZip(map, gameRepository.availableGames, gameRepository.availableMapFolderOrZipNames);
-          }
-        });
-    return gameRepository;
-  }
-
-  private static void populateFromDirectory(
-      final File mapDir,
-      final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
-    final File games = new File(mapDir, "games");
-    for (final File game : FileUtils.listFiles(games)) {
-      if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames);
-        if (added) {
-          availableMapFolderOrZipNames.add(mapDir.getName());
-        }
-      }
-    }
-  }
-
-  private static void populateFromZip(final File map, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
-    try (InputStream fis = new FileInputStream(map);
-        ZipInputStream zis = new ZipInputStream(fis);
-        URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
-      ZipEntry entry = zis.getNextEntry();
-      while (entry != null) {
-        if (entry.getName().contains("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
-          final URL url = loader.getResource(entry.getName());
-          if (url != null) {
-            final boolean added = addToAvailableGames(
-                URI.create(url.toString().replace(" ", "%20")),
-                availableGames);
-            if (added && map.getName().length() > 4) {
-              availableMapFolderOrZipNames
-                  .add(map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
-            }
-          }
-        }
-        // we have to close the loader to allow files to be deleted on windows
-        zis.closeEntry();
-        entry = zis.getNextEntry();
-      }
-    } catch (final IOException e) {
-      log.log(Level.SEVERE, "Map: " + map, e);
-    }
-  }
-
-  private static boolean addToAvailableGames(
-      @Nonnull final URI uri,
-      @Nonnull final Map<String, URI> availableGames) {
-    final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
-    if (inputStream.isPresent()) {
-      try (InputStream input = inputStream.get()) {
-        final GameData data = GameParser.parse(uri.toString(), input);
-        final String name = data.getGameName();
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          return true;
-        }
-      } catch (final Exception e) {
-        log.log(Level.SEVERE, "Exception while parsing: " + uri.toString(), e);
+    final Map<String, URI> availableGames = new HashMap<>();
+    final Set<String> availableMapFolderOrZipNames = new HashSet<>();
+    for (final GameIndex.IndexedGame game : GameIndex.listGames(
+        (map, errorDetails) -> log.severe("Map: " + map + errorDetails.map(details -> ", " + details).orElse("")))) {
+      if (!availableGames.containsKey(game.getGameName())) {
+        availableGames.put(game.getGameName(), game.getUri());
+        availableMapFolderOrZipNames.add(game.getMapFolderOrZipName());
       }
     }
-    return false;
+    this.availableGames = Collections.unmodifiableMap(new TreeMap<>(availableGames));
+    this.availableMapFolderOrZipNames = Collections.unmodifiableSet(availableMapFolderOrZipNames);
   }
 
   Set<String> getGameNames() {
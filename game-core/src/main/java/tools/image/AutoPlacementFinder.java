@@ -3,7 +3,6 @@ package tools.image;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.awt.Point;
-import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
@@ -15,26 +14,27 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
+import org.triplea.java.AlphanumComparator;
 import org.triplea.util.PointFileReaderWriter;
 
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.triplea.image.UnitImageFactory;
 import games.strategy.triplea.ui.mapdata.MapData;
 import lombok.extern.java.Log;
+import tools.util.TerritoryRaster;
 import tools.util.ToolArguments;
 
 /**
@@ -54,8 +54,6 @@ public final class AutoPlacementFinder {
   private int unitWidth = UnitImageFactory.DEFAULT_UNIT_ICON_SIZE;
   private int unitHeight = UnitImageFactory.DEFAULT_UNIT_ICON_SIZE;
   private File mapFolderLocation = null;
-  private final JTextAreaOptionPane textOptionPane = new JTextAreaOptionPane(null,
-      "AutoPlacementFinder Log\r\n\r\n", "", "AutoPlacementFinder Log", null, 500, 300, true, 1, null);
 
   private AutoPlacementFinder() {}
 
@@ -95,6 +93,34 @@ public final class AutoPlacementFinder {
     calculate();
   }
 
+  /**
+   * Runs the auto-placement finder tool without a user interface, for batch map builds. Reads the map from the folder
+   * given by {@value ToolArguments#MAP_FOLDER} and writes {@code place.txt} into it. The placement box size is given by
+   * the other {@link ToolArguments}, as arguments or system properties.
+   */
+  public static void main(final String[] args) {
+    new AutoPlacementFinder().runHeadless(args);
+  }
+
+  private void runHeadless(final String[] args) {
+    handleCommandLineArgs(args);
+    if (mapFolderLocation == null) {
+      log.severe("No map folder given, set " + ToolArguments.MAP_FOLDER);
+      return;
+    }
+    log.info("Place Dimensions in pixels, being used: " + placeWidth + "x" + placeHeight);
+    final File placeFile = new File(mapFolderLocation, "place.txt");
+    try (MapData mapData = new MapData(mapFolderLocation.getName());
+        OutputStream os = new FileOutputStream(placeFile)) {
+      final Map<String, List<Point>> placements = findPlacements(mapData);
+      placements.forEach((name, points) -> log.info(name + ": " + points.size()));
+      PointFileReaderWriter.writeOneToMany(os, placements);
+      log.info("Data written to :" + placeFile.getCanonicalPath());
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to write points file: " + placeFile.getAbsolutePath(), e);
+    }
+  }
+
   /**
    * Will calculate the placements on the map automatically.
    */
@@ -207,30 +233,16 @@ public final class AutoPlacementFinder {
       }
     }
 
+    final JTextAreaOptionPane textOptionPane = new JTextAreaOptionPane(null,
+        "AutoPlacementFinder Log\r\n\r\n", "", "AutoPlacementFinder Log", null, 500, 300, true, 1, null);
     // makes TripleA read all the text data files for the map.
     try (MapData mapData = new MapData(mapDir)) {
       textOptionPane.show();
       textOptionPane
           .appendNewLine("Place Dimensions in pixels, being used: " + placeWidth + "x" + placeHeight + "\r\n");
       textOptionPane.appendNewLine("Calculating, this may take a while...\r\n");
-      final Map<String, List<Point>> placements = new HashMap<>();
-      for (final String name : mapData.getTerritories()) {
-        final List<Point> points;
-        if (mapData.hasContainedTerritory(name)) {
-          final Set<Polygon> containedPolygons = new HashSet<>();
-          for (final String containedName : mapData.getContainedTerritory(name)) {
-            containedPolygons.addAll(mapData.getPolygons(containedName));
-          }
-          points = getPlacementsStartingAtTopLeft(mapData.getPolygons(name), mapData.getBoundingRect(name),
-              mapData.getCenter(name), containedPolygons);
-          placements.put(name, points);
-        } else {
-          points = getPlacementsStartingAtMiddle(mapData.getPolygons(name), mapData.getBoundingRect(name),
-              mapData.getCenter(name));
-          placements.put(name, points);
-        }
-        textOptionPane.appendNewLine(name + ": " + points.size());
-      }
+      final Map<String, List<Point>> placements = findPlacements(mapData);
+      placements.forEach((name, points) -> textOptionPane.appendNewLine(name + ": " + points.size()));
       textOptionPane.appendNewLine("\r\nAll Finished!");
       textOptionPane.countDown();
       final String fileName = new FileSave("Where To Save place.txt ?", "place.txt", mapFolderLocation).getPathString();
@@ -289,7 +301,28 @@ public final class AutoPlacementFinder {
     return (unitsScale != null) ? unitsScale : "1";
   }
 
-  private List<Point> getPlacementsStartingAtMiddle(final Collection<Polygon> countryPolygons, final Rectangle bounding,
+  /**
+   * Calculates the placements of all territories of the specified map, in parallel.
+   *
+   * @return The placements of each territory, in alphanumeric order of the territories.
+   */
+  private Map<String, List<Point>> findPlacements(final MapData mapData) {
+    final TerritoryRaster raster = new TerritoryRaster(mapData.getTerritories().stream()
+        .collect(Collectors.toMap(Function.identity(), mapData::getPolygons)));
+    final Map<String, List<Point>> placements = mapData.getTerritories().parallelStream()
+        .collect(Collectors.toConcurrentMap(Function.identity(), name -> {
+          final TerritoryRaster.Coverage coverage = raster.getCoverage(name);
+          // the pixels of contained territories are theirs in the raster, so the coverage leaves them out
+          return mapData.hasContainedTerritory(name)
+              ? getPlacementsStartingAtTopLeft(coverage, mapData.getBoundingRect(name), mapData.getCenter(name))
+              : getPlacementsStartingAtMiddle(coverage, mapData.getBoundingRect(name), mapData.getCenter(name));
+        }));
+    final Map<String, List<Point>> sortedPlacements = new TreeMap<>(new AlphanumComparator());
+    sortedPlacements.putAll(placements);
+    return sortedPlacements;
+  }
+
+  private List<Point> getPlacementsStartingAtMiddle(final TerritoryRaster.Coverage coverage, final Rectangle bounding,
       final Point center) {
     final List<Rectangle2D> placementRects = new ArrayList<>();
     final List<Point> placementPoints = new ArrayList<>();
@@ -304,7 +337,7 @@ public final class AutoPlacementFinder {
         } else {
           x--;
         }
-        isPlacement(countryPolygons, Collections.emptySet(), placementRects, placementPoints, place, x, y);
+        isPlacement(coverage, placementRects, placementPoints, place, x, y);
       }
       for (int j = 0; j < Math.abs(step); j++) {
         if (step > 0) {
@@ -312,7 +345,7 @@ public final class AutoPlacementFinder {
         } else {
           y--;
         }
-        isPlacement(countryPolygons, Collections.emptySet(), placementRects, placementPoints, place, x, y);
+        isPlacement(coverage, placementRects, placementPoints, place, x, y);
       }
       step = -step;
       if (step > 0) {
@@ -334,14 +367,14 @@ public final class AutoPlacementFinder {
     return placementPoints;
   }
 
-  private List<Point> getPlacementsStartingAtTopLeft(final Collection<Polygon> countryPolygons,
-      final Rectangle bounding, final Point center, final Collection<Polygon> containedCountryPolygons) {
+  private List<Point> getPlacementsStartingAtTopLeft(final TerritoryRaster.Coverage coverage, final Rectangle bounding,
+      final Point center) {
     final List<Rectangle2D> placementRects = new ArrayList<>();
     final List<Point> placementPoints = new ArrayList<>();
     final Rectangle2D place = new Rectangle2D.Double(center.x, center.y, placeHeight, placeWidth);
     for (int x = bounding.x + 1; x < bounding.width + bounding.x; x++) {
       for (int y = bounding.y + 1; y < bounding.height + bounding.y; y++) {
-        isPlacement(countryPolygons, containedCountryPolygons, placementRects, placementPoints, place, x, y);
+        isPlacement(coverage, placementRects, placementPoints, place, x, y);
       }
       if (placementPoints.size() > 50) {
         break;
@@ -355,13 +388,11 @@ public final class AutoPlacementFinder {
     return placementPoints;
   }
 
-  private void isPlacement(final Collection<Polygon> countryPolygons,
-      final Collection<Polygon> containedCountryPolygons, final List<Rectangle2D> placementRects,
+  private void isPlacement(final TerritoryRaster.Coverage coverage, final List<Rectangle2D> placementRects,
       final List<Point> placementPoints, final Rectangle2D place, final int x, final int y) {
     place.setFrame(x, y, placeWidth, placeHeight);
-    // make sure it is not in or intersects the contained country
-    if (containedIn(place, countryPolygons) && !intersectsOneOf(place, placementRects)
-        && (!containedIn(place, containedCountryPolygons) && !intersectsOneOf(place, containedCountryPolygons))) {
+    // the coverage leaves out contained countries, so this makes sure it is not in or intersects them
+    if (coverage.covers(x, y, placeWidth, placeHeight) && !intersectsOneOf(place, placementRects)) {
       placementPoints.add(new Point((int) place.getX(), (int) place.getY()));
       final Rectangle2D newRect = new Rectangle2D.Double();
       newRect.setFrame(place);
@@ -369,18 +400,6 @@ public final class AutoPlacementFinder {
     } // if
   }
 
-  /**
-   * Function to test if the given 2D rectangle is contained in any of the given shapes in the collection.
-   */
-  private static boolean containedIn(final Rectangle2D r, final Collection<Polygon> shapes) {
-    for (final Shape item : shapes) {
-      if (item.contains(r)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   /**
    * Function to test if the given 2D rectangle intersects any of the shapes given in the collection.
    */
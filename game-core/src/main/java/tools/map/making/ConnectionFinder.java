@@ -10,36 +10,39 @@ import java.awt.geom.Area;
 import java.awt.geom.PathIterator;
 import java.awt.geom.Point2D;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.triplea.java.AlphanumComparator;
-import org.triplea.util.PointFileReaderWriter;
+
+import com.google.common.annotations.VisibleForTesting;
 
 import games.strategy.ui.Util;
 import lombok.extern.java.Log;
 import tools.image.FileOpen;
 import tools.image.FileSave;
+import tools.util.TerritoryRaster;
 import tools.util.ToolArguments;
 
 /**
@@ -104,15 +107,9 @@ public final class ConnectionFinder {
     if (mapFolderLocation == null) {
       mapFolderLocation = polyFile.getParentFile();
     }
-    final Map<String, List<Area>> territoryAreas = new HashMap<>();
-    final Map<String, List<Polygon>> mapOfPolygons;
-    try (InputStream in = new FileInputStream(polyFile)) {
-      mapOfPolygons = PointFileReaderWriter.readOneToManyPolygons(in);
-      for (final Entry<String, List<Polygon>> entry : mapOfPolygons.entrySet()) {
-        territoryAreas.put(entry.getKey(), entry.getValue().stream()
-            .map(Area::new)
-            .collect(Collectors.toList()));
-      }
+    final TerritoryRaster raster;
+    try {
+      raster = TerritoryRaster.read(polyFile.toPath());
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to load polygons: " + polyFile.getAbsolutePath(), e);
       return;
@@ -152,39 +149,9 @@ public final class ConnectionFinder {
       }
     }
     log.info("Now Scanning for Connections");
+    final Map<String, Collection<String>> connections = findConnections(raster, scalePixels, minOverlap);
     // sort so that they are in alphabetic order (makes xml's prettier and easier to update in future)
-    final List<String> allTerritories =
-        new ArrayList<>(mapOfPolygons.keySet());
-    allTerritories.sort(new AlphanumComparator());
-    final List<String> allAreas = new ArrayList<>(territoryAreas.keySet());
-    allAreas.sort(new AlphanumComparator());
-    final Map<String, Collection<String>> connections = new HashMap<>();
-    for (final String territory : allTerritories) {
-      final Set<String> thisTerritoryConnections = new LinkedHashSet<>();
-      final List<Polygon> currentPolygons = mapOfPolygons.get(territory);
-      for (final Polygon currentPolygon : currentPolygons) {
-        final Shape scaledShape = scale(currentPolygon, scalePixels);
-        for (final String otherTerritory : allAreas) {
-          if (otherTerritory.equals(territory)) {
-            continue;
-          }
-          if (thisTerritoryConnections.contains(otherTerritory)) {
-            continue;
-          }
-          if (connections.get(otherTerritory) != null && connections.get(otherTerritory).contains(territory)) {
-            continue;
-          }
-          for (final Area otherArea : territoryAreas.get(otherTerritory)) {
-            final Area testArea = new Area(scaledShape);
-            testArea.intersect(otherArea);
-            if (!testArea.isEmpty() && sizeOfArea(testArea) > minOverlap) {
-              thisTerritoryConnections.add(otherTerritory);
-            }
-          }
-        }
-        connections.put(territory, thisTerritoryConnections);
-      }
-    }
+    final List<String> allTerritories = new ArrayList<>(connections.keySet());
     if (JOptionPane.showConfirmDialog(null, "Do you also want to create the Territory Definitions?",
         "Territory Definitions", JOptionPane.YES_NO_CANCEL_OPTION) == 0) {
       final String waterString = JOptionPane.showInputDialog(null,
@@ -216,6 +183,107 @@ public final class ConnectionFinder {
     }
   } // end main
 
+  /**
+   * Runs the connection finder tool without a user interface, for batch map builds. Reads {@code polygons.txt} from
+   * the folder given by {@value ToolArguments#MAP_FOLDER} and writes {@code connections.txt} next to it. The scale and
+   * overlap are given by {@value #LINE_THICKNESS}, or by {@value #SCALE_PIXELS} and {@value #MIN_OVERLAP}, as
+   * arguments or system properties.
+   */
+  public static void main(final String[] args) {
+    new ConnectionFinder().runHeadless(args);
+  }
+
+  private void runHeadless(final String[] args) {
+    handleCommandLineArgs(args);
+    if (mapFolderLocation == null) {
+      log.severe("No map folder given, set " + ToolArguments.MAP_FOLDER);
+      return;
+    }
+    final File polyFile = new File(mapFolderLocation, "polygons.txt");
+    final File connectionsFile = new File(mapFolderLocation, "connections.txt");
+    try {
+      final Map<String, Collection<String>> connections =
+          findConnections(TerritoryRaster.read(polyFile.toPath()), scalePixels, minOverlap);
+      try (OutputStream out = new FileOutputStream(connectionsFile)) {
+        out.write(String.valueOf(convertToXml(connections)).getBytes(StandardCharsets.UTF_8));
+      }
+      log.info("Data written to :" + connectionsFile.getCanonicalPath());
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to find connections: " + polyFile.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Finds the connections between the territories of a map. Each territory is made larger by the specified number of
+   * pixels, and it connects to the territories it then overlaps by a bounding box larger than the specified size.
+   *
+   * <p>
+   * Only the territories whose bounding box intersects that of the enlarged territory are tested for overlap, and the
+   * territories are tested in parallel. Each connection is listed once, for the territory that comes first in
+   * alphanumeric order unless only the other territory overlaps it when enlarged.
+   * </p>
+   *
+   * @return The connections of each territory, in alphanumeric order of the territories.
+   */
+  @VisibleForTesting
+  static Map<String, Collection<String>> findConnections(
+      final TerritoryRaster raster, final int scalePixels, final double minOverlap) {
+    final List<String> allTerritories = new ArrayList<>(raster.getPolygons().keySet());
+    allTerritories.sort(new AlphanumComparator());
+    final Map<String, Integer> territoryIndexes = IntStream.range(0, allTerritories.size()).boxed()
+        .collect(Collectors.toMap(allTerritories::get, Function.identity()));
+    final Map<String, List<Area>> territoryAreas = raster.getPolygons().entrySet().stream()
+        .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().stream()
+            .map(Area::new)
+            .collect(Collectors.toList())));
+    final Map<String, Map<String, Integer>> overlappingPolygonIndexes = allTerritories.parallelStream()
+        .collect(Collectors.toConcurrentMap(Function.identity(),
+            territory -> findOverlappingPolygonIndexes(territory, raster, territoryAreas, scalePixels, minOverlap)));
+
+    final Map<String, Collection<String>> connections = new LinkedHashMap<>();
+    for (final String territory : allTerritories) {
+      final int index = territoryIndexes.get(territory);
+      // in the order they were found when testing each polygon of the territory against all territories in turn
+      final Comparator<String> foundOrder = Comparator
+          .comparing((String otherTerritory) -> overlappingPolygonIndexes.get(territory).get(otherTerritory))
+          .thenComparing(territoryIndexes::get);
+      connections.put(territory, overlappingPolygonIndexes.get(territory).keySet().stream()
+          .filter(otherTerritory -> territoryIndexes.get(otherTerritory) > index
+              || !overlappingPolygonIndexes.get(otherTerritory).containsKey(territory))
+          .sorted(foundOrder)
+          .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+    return connections;
+  }
+
+  /**
+   * Returns the territories the specified territory overlaps when enlarged, each with the index of the first polygon of
+   * the territory that overlaps it.
+   */
+  private static Map<String, Integer> findOverlappingPolygonIndexes(final String territory,
+      final TerritoryRaster raster, final Map<String, List<Area>> territoryAreas, final int scalePixels,
+      final double minOverlap) {
+    final Map<String, Integer> overlappingPolygonIndexes = new HashMap<>();
+    final List<Polygon> polygons = raster.getPolygons().get(territory);
+    for (int i = 0; i < polygons.size(); i++) {
+      final Shape scaledShape = scale(polygons.get(i), scalePixels);
+      for (final String otherTerritory : raster.getTerritoriesWithBoundingBoxIntersecting(scaledShape.getBounds2D())) {
+        if (otherTerritory.equals(territory) || overlappingPolygonIndexes.containsKey(otherTerritory)) {
+          continue;
+        }
+        for (final Area otherArea : territoryAreas.get(otherTerritory)) {
+          final Area testArea = new Area(scaledShape);
+          testArea.intersect(otherArea);
+          if (!testArea.isEmpty() && sizeOfArea(testArea) > minOverlap) {
+            overlappingPolygonIndexes.put(otherTerritory, i);
+            break;
+          }
+        }
+      }
+    }
+    return overlappingPolygonIndexes;
+  }
+
   /**
    * Creates the xml territory definitions.
    *
@@ -0,0 +1,200 @@
+package tools.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.triplea.util.PointFileReaderWriter;
+import org.triplea.util.Tuple;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The territories of a map rasterized at map resolution, for map making tools that need to know which territory covers
+ * which pixel.
+ *
+ * <p>
+ * Each pixel of the raster holds the label of the territory covering it, or zero if no territory covers it. Where
+ * polygons overlap, for example a sea zone around an island, the polygon with the smaller area wins, so that the
+ * label of a pixel is that of the innermost territory covering it.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and may be shared between threads. They work in headless environments.
+ * </p>
+ */
+public final class TerritoryRaster {
+  private final Map<String, List<Polygon>> polygons;
+  private final Map<String, Rectangle> boundingBoxes;
+  // the label of a territory is one more than its index in this list
+  private final List<String> territoryNames;
+  private final Map<String, Integer> labels;
+  private final Rectangle bounds;
+  // row-major, the pixel at (x, y) is at index (y - bounds.y) * bounds.width + (x - bounds.x)
+  private final int[] pixels;
+
+  public TerritoryRaster(final Map<String, List<Polygon>> polygons) {
+    checkNotNull(polygons);
+    checkArgument(polygons.size() < 0xFFFFFF, "too many territories: " + polygons.size());
+
+    this.polygons = ImmutableMap.copyOf(polygons);
+    boundingBoxes = this.polygons.entrySet().stream()
+        .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> getBoundingBox(entry.getValue())));
+    final Rectangle union = boundingBoxes.values().stream()
+        .reduce(Rectangle::union)
+        .orElseGet(Rectangle::new);
+    bounds = new Rectangle(union.x, union.y, Math.max(union.width, 1), Math.max(union.height, 1));
+    territoryNames = new ArrayList<>(this.polygons.keySet());
+    labels = IntStream.range(0, territoryNames.size()).boxed()
+        .collect(Collectors.toMap(territoryNames::get, index -> index + 1));
+
+    final BufferedImage image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = image.createGraphics();
+    graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+    graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+    graphics.setTransform(AffineTransform.getTranslateInstance(-bounds.x, -bounds.y));
+    final List<Tuple<String, Polygon>> polygonsByDecreasingArea = this.polygons.entrySet().stream()
+        .flatMap(entry -> entry.getValue().stream().map(polygon -> Tuple.of(entry.getKey(), polygon)))
+        .sorted(Comparator.comparingDouble((Tuple<String, Polygon> tuple) -> getArea(tuple.getSecond())).reversed())
+        .collect(Collectors.toList());
+    for (final Tuple<String, Polygon> tuple : polygonsByDecreasingArea) {
+      graphics.setColor(new Color(labels.get(tuple.getFirst())));
+      graphics.fill(tuple.getSecond());
+    }
+    graphics.dispose();
+    pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+  }
+
+  /**
+   * Reads the polygons of a map from a {@code polygons.txt} file and rasterizes them.
+   */
+  public static TerritoryRaster read(final Path polygonsFile) throws IOException {
+    try (InputStream inputStream = Files.newInputStream(polygonsFile)) {
+      return new TerritoryRaster(PointFileReaderWriter.readOneToManyPolygons(inputStream));
+    }
+  }
+
+  private static Rectangle getBoundingBox(final List<Polygon> polygons) {
+    return polygons.stream()
+        .map(Polygon::getBounds)
+        .reduce(Rectangle::union)
+        .orElseGet(Rectangle::new);
+  }
+
+  private static double getArea(final Polygon polygon) {
+    double area = 0;
+    for (int i = 0, j = polygon.npoints - 1; i < polygon.npoints; j = i++) {
+      area += (double) polygon.xpoints[j] * polygon.ypoints[i] - (double) polygon.xpoints[i] * polygon.ypoints[j];
+    }
+    return Math.abs(area / 2);
+  }
+
+  public Map<String, List<Polygon>> getPolygons() {
+    return polygons;
+  }
+
+  public Rectangle getBoundingBox(final String territoryName) {
+    return new Rectangle(checkNotNull(boundingBoxes.get(territoryName), territoryName));
+  }
+
+  /**
+   * Returns the names of the territories whose bounding box intersects the specified rectangle. Territories whose
+   * bounding box does not intersect it cannot have any point in it.
+   */
+  public List<String> getTerritoriesWithBoundingBoxIntersecting(final Rectangle2D rectangle) {
+    final List<String> territoryNames = new ArrayList<>();
+    boundingBoxes.forEach((name, boundingBox) -> {
+      if (boundingBox.intersects(rectangle)) {
+        territoryNames.add(name);
+      }
+    });
+    return territoryNames;
+  }
+
+  private int getLabel(final int x, final int y) {
+    if (!bounds.contains(x, y)) {
+      return 0;
+    }
+    return pixels[(y - bounds.y) * bounds.width + (x - bounds.x)] & 0xFFFFFF;
+  }
+
+  /**
+   * Returns the name of the innermost territory covering the specified pixel, or null if no territory covers it.
+   */
+  public @Nullable String getTerritoryAt(final int x, final int y) {
+    final int label = getLabel(x, y);
+    return (label == 0) ? null : territoryNames.get(label - 1);
+  }
+
+  /**
+   * Returns the pixels of the bounding box of the specified territory that the territory covers in this raster.
+   */
+  public Coverage getCoverage(final String territoryName) {
+    return new Coverage(getBoundingBox(territoryName), checkNotNull(labels.get(territoryName), territoryName));
+  }
+
+  /**
+   * The pixels a territory covers within its bounding box, to find rectangles that lie completely within it.
+   */
+  public final class Coverage {
+    private final Rectangle boundingBox;
+    // the number of covered pixels above and left of each pixel of the bounding box, one row and column larger than it
+    private final int[] coveredPixelCounts;
+
+    private Coverage(final Rectangle boundingBox, final int label) {
+      this.boundingBox = boundingBox;
+      final int width = boundingBox.width + 1;
+      coveredPixelCounts = new int[width * (boundingBox.height + 1)];
+      for (int y = 0; y < boundingBox.height; y++) {
+        int coveredInRow = 0;
+        for (int x = 0; x < boundingBox.width; x++) {
+          if (getLabel(boundingBox.x + x, boundingBox.y + y) == label) {
+            coveredInRow++;
+          }
+          coveredPixelCounts[(y + 1) * width + x + 1] = coveredPixelCounts[y * width + x + 1] + coveredInRow;
+        }
+      }
+    }
+
+    /**
+     * Indicates whether the territory covers all pixels of the specified rectangle, and no other territory is drawn
+     * over any of them.
+     */
+    public boolean covers(final int x, final int y, final int width, final int height) {
+      final int minX = x - boundingBox.x;
+      final int minY = y - boundingBox.y;
+      final int maxX = minX + width;
+      final int maxY = minY + height;
+      if (minX < 0 || minY < 0 || maxX > boundingBox.width || maxY > boundingBox.height) {
+        return false;
+      }
+      final int rowLength = boundingBox.width + 1;
+      final int covered = coveredPixelCounts[maxY * rowLength + maxX]
+          - coveredPixelCounts[minY * rowLength + maxX]
+          - coveredPixelCounts[maxY * rowLength + minX]
+          + coveredPixelCounts[minY * rowLength + minX];
+      return covered == width * height;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+import games.strategy.net.IObjectStreamFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+class CompactGameObjectStreamTest {
+  private final RegisteredTypes types = new RegisteredTypes(Arrays.asList(
+      Change.class, CompositeChange.class, GameObjectStreamReference.class, GameObjectStreamData.class));
+  private GameData gameDataSource;
+  private GameData gameDataSink;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameDataSource = TestMapGameData.TEST.getGameData();
+    gameDataSink = TestMapGameData.TEST.getGameData();
+  }
+
+  private byte[] write(final Object object) throws Exception {
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream output =
+          new CompactGameObjectOutputStream(os, types, GameObjectIndex.of(gameDataSource))) {
+        output.writeObject(object);
+      }
+    });
+  }
+
+  private Object read(final byte[] bytes, final GameData gameData) throws Exception {
+    return IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream input = new CompactGameObjectInputStream(
+          new GameObjectStreamFactory(gameData), is, types, GameObjectIndex.of(gameData))) {
+        return input.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  @Test
+  void shouldResolvePlayersTerritoriesAndUnitTypesOfTheReadingGame() throws Exception {
+    final List<Named> objects = Arrays.asList(
+        gameDataSource.getPlayerList().getPlayerId("chretian"),
+        gameDataSource.getMap().getTerritory("canada"),
+        gameDataSource.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF));
+
+    final List<?> read = (List<?>) read(write(objects), gameDataSink);
+
+    assertThat(read.get(0), is(sameInstance(gameDataSink.getPlayerList().getPlayerId("chretian"))));
+    assertThat(read.get(1), is(sameInstance(gameDataSink.getMap().getTerritory("canada"))));
+    assertThat(read.get(2), is(sameInstance(gameDataSink.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF))));
+  }
+
+  @Test
+  void shouldResolveOtherGameDataComponentsByName() throws Exception {
+    final Object rule = gameDataSource.getProductionRuleList().getProductionRule("infForSilver");
+
+    assertThat(read(write(rule), gameDataSink),
+        is(sameInstance(gameDataSink.getProductionRuleList().getProductionRule("infForSilver"))));
+  }
+
+  @Test
+  void shouldBeSmallerThanJavaSerialization() throws Exception {
+    final Change change = new CompositeChange(ChangeFactory.changeOwner(
+        gameDataSource.getMap().getTerritory("canada"),
+        gameDataSource.getPlayerList().getPlayerId("chretian")));
+    final byte[] javaBytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream output = new GameObjectOutputStream(os)) {
+        output.writeObject(change);
+      }
+    });
+
+    final byte[] compactBytes = write(change);
+
+    assertThat(compactBytes.length, is(lessThan(javaBytes.length)));
+    assertThat(read(compactBytes, gameDataSink).toString(), is(change.toString()));
+  }
+
+  @Test
+  void shouldRejectReferencesToAnotherGame() throws Exception {
+    final byte[] bytes = write(gameDataSource.getMap().getTerritory("canada"));
+
+    assertThrows(InvalidObjectException.class, () -> read(bytes, TestMapGameData.REVISED.getGameData()));
+  }
+
+  @Test
+  void gameObjectStreamFactoryShouldProvideCompactFactoryWithDistinctFormatName() throws Exception {
+    final IObjectStreamFactory factory = new GameObjectStreamFactory(gameDataSource);
+    final IObjectStreamFactory compactFactory = factory.getCompactFactory().get();
+    final Object territory = gameDataSource.getMap().getTerritory("canada");
+
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream output = compactFactory.create(os)) {
+        output.writeObject(territory);
+      }
+    });
+    final Object read = IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream input = compactFactory.create(is)) {
+        return input.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+
+    assertThat(read, is(sameInstance(territory)));
+    assertThat(compactFactory.getFormatName().equals(factory.getFormatName()), is(false));
+  }
+}
@@ -8,17 +8,16 @@ import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 
-import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import javax.xml.stream.XMLStreamReader;
+
 import org.junit.jupiter.api.Test;
-import org.w3c.dom.Element;
 
 class GameDataVariableParserTest {
 
@@ -32,28 +31,27 @@ class GameDataVariableParserTest {
 
   @Test
   void emptyList() throws Exception {
-    final Element xmlSample = readFile(EMPTY_LIST);
+    final XmlElement xmlSample = readFile(EMPTY_LIST);
 
     final Map<String, List<String>> result = parser.parseVariables(xmlSample);
 
     assertThat(result.keySet(), empty());
   }
 
-  private static Element readFile(final String fileName) throws Exception {
+  private static XmlElement readFile(final String fileName) throws Exception {
     final File file = new File(fileName);
     checkState(file.isFile());
 
-    final InputStream inputStream = new DataInputStream(new FileInputStream(file));
-
-    return XmlReader.parseDom(
-        fileName,
-        inputStream,
-        new ArrayList<>());
+    try (InputStream inputStream = new FileInputStream(file)) {
+      final XMLStreamReader reader = XmlReader.newStreamReader(fileName, inputStream);
+      reader.nextTag();
+      return new NodeFinder().getSingleChild("variableList", XmlElement.read(reader));
+    }
   }
 
   @Test
   void singleElementList() throws Exception {
-    final Element xmlSample = readFile(SINGLE_ELEMENT_LIST);
+    final XmlElement xmlSample = readFile(SINGLE_ELEMENT_LIST);
 
     final Map<String, List<String>> result = parser.parseVariables(xmlSample);
 
@@ -63,7 +61,7 @@ class GameDataVariableParserTest {
 
   @Test
   void manyElementList() throws Exception {
-    final Element xmlSample = readFile(MANY_ELEMENT_LIST);
+    final XmlElement xmlSample = readFile(MANY_ELEMENT_LIST);
 
     final Map<String, List<String>> result = parser.parseVariables(xmlSample);
 
@@ -76,7 +74,7 @@ class GameDataVariableParserTest {
 
   @Test
   void nestedVariable() throws Exception {
-    final Element xmlSample = readFile(NESTED_VARIABLE);
+    final XmlElement xmlSample = readFile(NESTED_VARIABLE);
 
     final Map<String, List<String>> result = parser.parseVariables(xmlSample);
 
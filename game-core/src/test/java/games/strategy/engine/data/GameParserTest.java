@@ -6,13 +6,26 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.triplea.util.Tuple;
 
+import com.google.common.hash.Hashing;
+
+import games.strategy.engine.data.export.GameDataExporter;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.xml.TestMapGameData;
+
 final class GameParserTest {
   @Nested
   final class DecapitalizeTest {
@@ -71,4 +84,98 @@ final class GameParserTest {
       assertThat(e.getMessage(), containsString("Parse resources could not find player: " + player.getName()));
     }
   }
+
+  @Nested
+  final class ParseTest {
+    private static final String PROPERTIES_AFTER_ATTACHMENTS =
+        "src/test/resources/game_parsing/properties_after_attachments.xml";
+
+    @Test
+    void shouldParseSectionsThatDependOnSectionsFurtherDownTheFile() throws Exception {
+      try (InputStream inputStream = new FileInputStream(PROPERTIES_AFTER_ATTACHMENTS)) {
+        final GameData gameData = GameParser.parse(PROPERTIES_AFTER_ATTACHMENTS, inputStream);
+
+        final UnitType submarine = gameData.getUnitTypeList().getUnitType("submarine");
+        assertThat(UnitAttachment.get(submarine).getCanMoveThroughEnemies(), is(true));
+        assertThat(gameData.getMap().getTerritory("sea").getUnitCollection().getUnitCount(), is(2));
+      }
+    }
+
+    @Test
+    void shouldApplyDefaultAttributeValuesDeclaredByDtd() throws Exception {
+      try (InputStream inputStream = new FileInputStream(PROPERTIES_AFTER_ATTACHMENTS)) {
+        final GameData gameData = GameParser.parse(PROPERTIES_AFTER_ATTACHMENTS, inputStream);
+
+        assertThat(gameData.getMap().getTerritory("land").isWater(), is(false));
+        assertThat(gameData.getMap().getTerritory("sea").isWater(), is(true));
+        assertThat(gameData.getPlayerList().getPlayerId("Red").getOptional(), is(false));
+        assertThat(gameData.getPlayerList().getPlayerId("Blue").getOptional(), is(true));
+      }
+    }
+
+    @Test
+    void parseShallowShouldParseMapProperties() throws Exception {
+      try (InputStream inputStream = new FileInputStream(PROPERTIES_AFTER_ATTACHMENTS)) {
+        final GameData gameData = GameParser.parseShallow(PROPERTIES_AFTER_ATTACHMENTS, inputStream);
+
+        assertThat(gameData.getGameName(), is("properties after attachments"));
+        assertThat(gameData.getPlayerList().size(), is(2));
+        assertThat(gameData.getProperties().get(Constants.SUBMERSIBLE_SUBS, false), is(true));
+        assertThat(gameData.getMap().getTerritories().isEmpty(), is(true));
+      }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSectionIsRepeated() {
+      final String xml = "<game><info name='first' version='1.0'/><info name='second' version='1.0'/></game>";
+
+      final Exception e = assertThrows(
+          GameParseException.class,
+          () -> GameParser.parse("mapName", new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+      assertThat(e.getMessage(), containsString("Too many children named: info"));
+    }
+  }
+
+  /**
+   * Checks every test game file against a structural digest of the game data the previous DOM based parser produced
+   * for it. The digest includes a hash of the exported XML, without the engine version, so that any difference in the
+   * parsed territories, units, players, attachments, production, sequence or properties is detected.
+   */
+  @Nested
+  final class ParseTestMapsTest {
+    @ParameterizedTest
+    @CsvSource({
+        "BIG_WORLD_1942, 264, 423, 6, 726fb00d4a91c427d9b4b06145cb4767f6f93cb9b5f59b0f3f432ab0eacf1c8f",
+        "IRON_BLITZ, 128, 161, 5, fd59d860f7f3fd7f0370fe5a2b2d0f3824b0c3d0af493beb1b59f057eb821e44",
+        "LHTR, 143, 205, 5, 1e32a2b42c616092eda43625b35c80838559da21b28e69897ad408f28f29db4a",
+        "PACIFIC_INCOMPLETE, 116, 221, 6, 7803b9843569b71d4592786bb49e443d4ab8a7aae964c69a621ef6930557b379",
+        "PACT_OF_STEEL_2, 149, 240, 7, eab3cb541ea0e5e9685402c537b7fd3a7d05c2987d80ccdb99893401b8a6e7aa",
+        "REVISED, 143, 205, 5, d963f4ba5a3fa51de22d71df1f8c8b30dd7bc79d5e5da9b9827d2db86dd24d38",
+        "VICTORY_TEST, 149, 234, 7, 4386ee4300c023084879d44ba3e0a0ccb2f1e5f2ee03414ec5fccfc5ff8a3bc3",
+        "WW2V3_1941, 162, 229, 7, d26f3f6870f387db4610af0c48948a879fb0be920ecf5d1c59a0d38afb28b91c",
+        "WW2V3_1942, 162, 251, 7, 9d691bfecaad0ebd59862e99e7642092514f0f07dab5f9552b9b487469c5609c",
+        "GLOBAL1940, 332, 589, 16, 2002a15a36b7e5947009aa4f95ceba93710fae6defd40f04732e21de6ae7eb8e",
+        "TEST, 3, 155, 3, 72c143690929a38a5ae86e258479ee95202a4060735510f390a9fa2abd44078f",
+        "DELEGATE_TEST, 128, 98, 6, 9b22fbd68673b0efe194e6a291d582776c8e743e4c79a9dc5fb2219ef6ada9af",
+        "GAME_EXAMPLE, 3, 155, 3, 09210bb0b7d153842d24bea27cdc13ebe8d9f12848ea71edee6001ba9e0d765d",
+        "TWW, 485, 1820, 22, 4add5e15d809b521e535849b65b0095a549dff8c2c2cc6fbd61749b7b685ee83"
+    })
+    void shouldParseSameGameDataAsDomParser(final TestMapGameData testMap, final int territoryCount,
+        final int unitCount, final int playerCount, final String exportedXmlHash) throws Exception {
+      final GameData gameData = testMap.getGameData();
+
+      assertThat(gameData.getMap().getTerritories().size(), is(territoryCount));
+      assertThat(gameData.getMap().getTerritories().stream()
+          .mapToInt(territory -> territory.getUnitCollection().size())
+          .sum(), is(unitCount));
+      assertThat(gameData.getPlayerList().size(), is(playerCount));
+      assertThat(hashExportedXml(gameData), is(exportedXmlHash));
+    }
+
+    private String hashExportedXml(final GameData gameData) {
+      final String xml = new GameDataExporter(gameData).getXml()
+          .replaceFirst("\\s*<triplea minimumVersion=\"[^\"]*\"/>", "");
+      return Hashing.sha256().hashString(xml, StandardCharsets.UTF_8).toString();
+    }
+  }
 }
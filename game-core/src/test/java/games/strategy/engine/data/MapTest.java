@@ -10,6 +10,8 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableSet;
+
 import games.strategy.triplea.delegate.Matches;
 
 class MapTest {
@@ -216,4 +218,55 @@ class MapTest {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  @Test
+  void testNeighborsWithDistanceAndCondition() {
+    assertEquals(ImmutableSet.of(ab, ba, ac, bb, ca, ad, cb, da), map.getNeighbors(aa, 3, t -> !t.isWater()));
+    assertEquals(ImmutableSet.of(ab, ba, ac, ca, ad, cb, da), map.getNeighbors(aa, 3, t -> !t.isWater() && !t.equals(bb)));
+    assertEquals(ImmutableSet.of(ab, ba, bb), map.getNeighbors(aa, 2, t -> !t.equals(ac) && !t.equals(ca)));
+  }
+
+  @Test
+  void testDistanceWithCondition() {
+    assertEquals(-1, map.getDistance(aa, cd, t -> !t.isWater()));
+    assertEquals(6, map.getDistance(aa, db, t -> !t.equals(bb) && !t.equals(ca)));
+    assertEquals(1, map.getDistance(aa, ab, t -> !t.equals(aa)));
+    assertEquals(-1, map.getDistance(aa, ab, t -> !t.equals(ab)));
+  }
+
+  @Test
+  void testDistancesMatchSearchWithEquivalentCondition() {
+    for (final Territory t1 : map.getTerritories()) {
+      for (final Territory t2 : map.getTerritories()) {
+        assertEquals(map.getDistance(t1, t2, t -> true), map.getDistance(t1, t2));
+        assertEquals(map.getDistance(t1, t2, t -> !t.isWater()), map.getLandDistance(t1, t2));
+        assertEquals(map.getDistance(t1, t2, Territory::isWater), map.getWaterDistance(t1, t2));
+      }
+    }
+  }
+
+  @Test
+  void testDistancesAfterConnectionAdded() {
+    assertEquals(-1, map.getLandDistance(aa, cd));
+    assertEquals(7, map.getNeighbors(cd, 2).size());
+
+    map.addConnection(ad, cd);
+
+    assertEquals(4, map.getLandDistance(aa, cd));
+    assertEquals(2, map.getDistance(ac, cd));
+    assertEquals(8, map.getNeighbors(cd, 2).size());
+  }
+
+  @Test
+  void testDistancesAfterTerritoryAdded() {
+    final Territory island = new Territory("island", false, null);
+    map.addTerritory(island);
+    assertEquals(-1, map.getDistance(aa, island));
+    assertNull(map.getRoute(aa, island, Matches.territoryIsLandOrWater()));
+
+    map.addConnection(dd, island);
+
+    assertEquals(7, map.getDistance(aa, island));
+    assertEquals(1, map.getWaterDistance(island, dd));
+  }
 }
@@ -3,10 +3,20 @@ package games.strategy.engine.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import games.strategy.engine.data.RelationshipTracker.RelatedPlayers;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.attachments.RelationshipTypeAttachment;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
@@ -44,4 +54,87 @@ final class RelationshipTrackerTest {
       }
     }
   }
+
+  @Nested
+  final class RelationshipMatrixTest {
+    private GameData gameData;
+    private RelationshipTracker relationshipTracker;
+    private List<PlayerId> players;
+
+    @BeforeEach
+    void setUp() throws Exception {
+      gameData = TestMapGameData.TWW.getGameData();
+      relationshipTracker = gameData.getRelationshipTracker();
+      players = new ArrayList<>(gameData.getPlayerList().getPlayers());
+      players.add(PlayerId.NULL_PLAYERID);
+    }
+
+    private void assertArcheTypesMatchRelationshipTypes(final RelationshipTracker relationshipTracker) {
+      for (final PlayerId player1 : players) {
+        for (final PlayerId player2 : players) {
+          final RelationshipType relationshipType = relationshipTracker.getRelationshipType(player1, player2);
+          assertThat(player1 + " allied with " + player2, relationshipTracker.isAllied(player1, player2),
+              is(Matches.relationshipTypeIsAllied().test(relationshipType)));
+          assertThat(player1 + " at war with " + player2, relationshipTracker.isAtWar(player1, player2),
+              is(Matches.relationshipTypeIsAtWar().test(relationshipType)));
+        }
+      }
+    }
+
+    private PlayerId getPlayer(final String name) {
+      return gameData.getPlayerList().getPlayerId(name);
+    }
+
+    private RelationshipType getRelationshipType(final Predicate<RelationshipType> predicate) {
+      return gameData.getRelationshipTypeList().getAllRelationshipTypes().stream()
+          .filter(predicate)
+          .findFirst()
+          .orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    void shouldMatchArcheTypeOfRelationshipTypes() {
+      assertArcheTypesMatchRelationshipTypes(relationshipTracker);
+    }
+
+    @Test
+    void shouldReflectRelationshipChanges() {
+      final PlayerId germany = getPlayer("Germany");
+      final PlayerId japan = getPlayer("Japan");
+      final RelationshipType war = getRelationshipType(Matches.relationshipTypeIsAtWar());
+      assertThat(relationshipTracker.isAllied(germany, japan), is(true));
+
+      gameData.performChange(ChangeFactory.relationshipChange(
+          germany, japan, relationshipTracker.getRelationshipType(germany, japan), war));
+
+      assertThat(relationshipTracker.getRelationshipType(germany, japan), is(war));
+      assertThat(relationshipTracker.isAllied(germany, japan), is(false));
+      assertThat(relationshipTracker.isAtWar(japan, germany), is(true));
+      assertArcheTypesMatchRelationshipTypes(relationshipTracker);
+    }
+
+    @Test
+    void shouldReflectArcheTypeChanges() {
+      final PlayerId germany = getPlayer("Germany");
+      final PlayerId japan = getPlayer("Japan");
+      final RelationshipTypeAttachment attachment =
+          RelationshipTypeAttachment.get(relationshipTracker.getRelationshipType(germany, japan));
+      assertThat(relationshipTracker.isAllied(germany, japan), is(true));
+
+      gameData.performChange(ChangeFactory.attachmentPropertyChange(attachment, "war", "archeType"));
+
+      assertThat(relationshipTracker.isAllied(germany, japan), is(false));
+      assertThat(relationshipTracker.isAtWar(germany, japan), is(true));
+      assertArcheTypesMatchRelationshipTypes(relationshipTracker);
+    }
+
+    @Test
+    void shouldMatchArcheTypeOfRelationshipTypesAfterCloning() {
+      final GameData clone = GameDataUtils.cloneGameData(gameData);
+      players = new ArrayList<>(clone.getPlayerList().getPlayers());
+      players.add(PlayerId.NULL_PLAYERID);
+
+      assertArcheTypesMatchRelationshipTypes(clone.getRelationshipTracker());
+    }
+  }
 }
@@ -8,8 +8,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -268,6 +270,66 @@ class UnitCollectionTest {
     assertThat(allPlayersUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayer)));
   }
 
+  @Test
+  void getUnitCountShouldFollowOwnerChanges() {
+    final UnitCollection allPlayersUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeOne, defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayerUnitTypeOne)));
+
+    unitOtherPlayer1.setOwner(defaultPlayerId);
+
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeOne, defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayerUnitTypeOne + 1)));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeOne, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne - 1)));
+    assertThat(allPlayersUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(unitCountDefaultPlayer + 1)));
+    assertThat(allPlayersUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayer - 1)));
+  }
+
+  @Test
+  void getUnitCountShouldFollowOwnerChangesOfUnitsMovedFromAnotherCollection() {
+    final UnitCollection otherUnitCollection = new UnitCollection(otherPlayerId, mockGameData);
+    otherUnitCollection.add(unitOtherPlayer1);
+    assertThat(otherUnitCollection.getUnitCount(otherPlayerId), is(equalTo(1)));
+    assertThat(unitCollection.getUnitCount(otherPlayerId), is(equalTo(0)));
+    otherUnitCollection.remove(unitOtherPlayer1);
+    unitCollection.add(unitOtherPlayer1);
+
+    unitOtherPlayer1.setOwner(defaultPlayerId);
+
+    assertThat(unitCollection.getUnitCount(defaultPlayerId), is(equalTo(1)));
+    assertThat(unitCollection.getUnitCount(otherPlayerId), is(equalTo(0)));
+    assertThat(otherUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(0)));
+  }
+
+  @Test
+  void removeShouldUpdateUnitCounts() {
+    final UnitCollection allPlayersUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+
+    assertThat(allPlayersUnitCollection.remove(unitDefaultPlayer1), is(true));
+    assertThat(allPlayersUnitCollection.remove(unitDefaultPlayer1), is(false));
+    allPlayersUnitCollection.removeAll(getDefaultPlayerUnitsOfUnitTypeTwo());
+
+    assertThat(allPlayersUnitCollection.contains(unitDefaultPlayer1), is(false));
+    assertThat(allPlayersUnitCollection.contains(unitOtherPlayer1), is(true));
+    assertThat(allPlayersUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(0)));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo), is(equalTo(unitCountOtherPlayerUnitTypeTwo)));
+    assertThat(allPlayersUnitCollection.getPlayersWithUnits().size(), is(equalTo(1)));
+    assertThat(allPlayersUnitCollection.getUnitsByType(defaultPlayerId).isEmpty(), is(true));
+  }
+
+  @Test
+  void removeAllShouldKeepOrderOfRemainingUnits() {
+    final UnitCollection allPlayersUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    final List<Unit> expected = new ArrayList<>(allPlayersUnitCollection.getUnits());
+    final List<Unit> removed = Arrays.asList(unitOtherPlayer2, unitDefaultPlayer2, unitOtherPlayer6);
+    expected.removeAll(removed);
+
+    allPlayersUnitCollection.removeAll(removed);
+
+    assertThat(new ArrayList<>(allPlayersUnitCollection.getUnits()), is(equalTo(expected)));
+  }
+
   @Test
   void containsAll() {
     final Collection<Unit> unitsOfDefaultPlayerOfUnitTypeOne = getDefaultPlayerUnitsOfUnitTypeOne();
@@ -5,10 +5,17 @@ import static org.hamcrest.Matchers.is;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.swing.JSpinner;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataUtils;
+
 final class GamePropertiesTest {
   @Nested
   final class ReadWriteEditablePropertiesTest {
@@ -25,4 +32,85 @@ final class GamePropertiesTest {
       assertThat(actual, is(expected));
     }
   }
+
+  @Nested
+  final class GetSnapshotTest {
+    private final GameProperties gameProperties = new GameProperties(new GameData());
+    private final AtomicInteger snapshotCount = new AtomicInteger();
+    private final Function<GameProperties, Integer> factory = properties -> {
+      snapshotCount.incrementAndGet();
+      return properties.get("key", 0);
+    };
+
+    @Test
+    void shouldReuseSnapshotWhilePropertiesAreUnchanged() {
+      gameProperties.set("key", 1);
+
+      assertThat(gameProperties.getSnapshot(Integer.class, factory), is(1));
+      assertThat(gameProperties.getSnapshot(Integer.class, factory), is(1));
+      assertThat(snapshotCount.get(), is(1));
+    }
+
+    @Test
+    void shouldCreateNewSnapshotAfterPropertyIsSet() {
+      gameProperties.set("key", 1);
+      gameProperties.getSnapshot(Integer.class, factory);
+
+      gameProperties.set("key", 2);
+
+      assertThat(gameProperties.getSnapshot(Integer.class, factory), is(2));
+      assertThat(snapshotCount.get(), is(2));
+    }
+
+    @Test
+    void shouldCreateNewSnapshotAfterEditablePropertyValueChanges() {
+      final NumberProperty property = new NumberProperty("key", null, 10, 0, 1);
+      gameProperties.addEditableProperty(property);
+      gameProperties.getSnapshot(Integer.class, factory);
+
+      property.setValue(2);
+
+      assertThat(gameProperties.getSnapshot(Integer.class, factory), is(2));
+      assertThat(snapshotCount.get(), is(2));
+    }
+
+    @Test
+    void shouldCreateNewSnapshotAfterEditorOfDoublePropertyChangesValue() {
+      final DoubleProperty property = new DoubleProperty("double", null, 10, 0, 1, 1);
+      gameProperties.addEditableProperty(property);
+      gameProperties.getSnapshot(Integer.class, factory);
+
+      ((JSpinner) property.getEditorComponent()).setValue(2.0);
+      gameProperties.getSnapshot(Integer.class, factory);
+
+      assertThat(property.getValue(), is(2.0));
+      assertThat(snapshotCount.get(), is(2));
+    }
+
+    @Test
+    void shouldReuseSnapshotWhenPropertiesOfAnotherGameChange() {
+      final GameProperties otherGameProperties = new GameProperties(new GameData());
+      gameProperties.set("key", 1);
+      gameProperties.getSnapshot(Integer.class, factory);
+
+      otherGameProperties.set("key", 2);
+      otherGameProperties.addEditableProperty(new NumberProperty("other", null, 10, 0, 1));
+
+      assertThat(gameProperties.getSnapshot(Integer.class, factory), is(1));
+      assertThat(snapshotCount.get(), is(1));
+    }
+
+    @Test
+    void shouldCreateNewSnapshotAfterEditablePropertyOfCopiedGameChanges() {
+      final GameData data = new GameData();
+      data.getProperties().addEditableProperty(new NumberProperty("key", null, 10, 0, 1));
+      final GameProperties copiedProperties = GameDataUtils.cloneGameData(data).getProperties();
+      copiedProperties.getSnapshot(Integer.class, factory);
+
+      ((NumberProperty) copiedProperties.getEditablePropertiesByName().get("key")).setValue(2);
+
+      assertThat(copiedProperties.getSnapshot(Integer.class, factory), is(2));
+      assertThat(snapshotCount.get(), is(2));
+    }
+  }
 }
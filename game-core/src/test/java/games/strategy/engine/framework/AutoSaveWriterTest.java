@@ -0,0 +1,126 @@
+package games.strategy.engine.framework;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.HistoryJournal;
+import games.strategy.engine.history.HistoryNode;
+
+@ExtendWith(TempDirectory.class)
+final class AutoSaveWriterTest {
+  private File saveDir;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) {
+    saveDir = tempDirPath.toFile();
+  }
+
+  private static byte[] serializeGame(final String gameName) throws Exception {
+    final GameData data = new GameData();
+    data.setGameName(gameName);
+    return GameDataManager.serializeGame(data);
+  }
+
+  @Test
+  void shouldWriteSubmittedSavesBeforeShutdownReturns() throws Exception {
+    final File file = new File(new File(saveDir, "autoSave"), "autoSave.tsvg");
+    final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
+
+    autoSaveWriter.submit(file, serializeGame("gameName"), 42);
+    autoSaveWriter.shutdown(10, TimeUnit.SECONDS);
+
+    assertThat(GameDataManager.loadGame(file).getGameName(), is("gameName"));
+    final AutoSaveMetrics metrics = autoSaveWriter.getMetrics();
+    assertThat(metrics.getSavesWritten(), is(1L));
+    assertThat(metrics.getLastStallMillis(), is(42L));
+    assertThat(metrics.getTotalStallMillis(), is(42L));
+  }
+
+  private static void submit(final AutoSaveWriter autoSaveWriter, final File file, final GameData data,
+      final HistoryJournal journal) throws Exception {
+    autoSaveWriter.appendToJournal(journal, journal.newSegment(data.getHistory()));
+    autoSaveWriter.submit(file, GameDataManager.serializeGame(data, journal.newHistoryReference(data)), journal,
+        journal.getRecordCount(), 0);
+  }
+
+  @Test
+  void shouldWriteJournalRecordsIntoSavesThatReferenceThem() throws Exception {
+    final File file = new File(saveDir, "autoSave.tsvg");
+    final GameData data = new GameData();
+    data.getHistory().getHistoryWriter().startNextRound(1);
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
+
+    submit(autoSaveWriter, file, data, journal);
+    data.getHistory().getHistoryWriter().startNextRound(2);
+    submit(autoSaveWriter, file, data, journal);
+    autoSaveWriter.shutdown(10, TimeUnit.SECONDS);
+
+    assertThat(journal.getFile().exists(), is(false));
+    assertThat(((HistoryNode) GameDataManager.loadGame(file).getHistory().getRoot()).getChildCount(), is(2));
+    try (InputStream is = new FileInputStream(file)) {
+      assertThat(((HistoryNode) GameDataManager.loadGame(is).getHistory().getRoot()).getChildCount(), is(2));
+    }
+  }
+
+  @Test
+  void shouldDeleteJournalsNoLongerReferencedBySaves() throws Exception {
+    final File file = new File(saveDir, "autoSave.tsvg");
+    final GameData data = new GameData();
+    final HistoryJournal oldJournal = HistoryJournal.create(saveDir);
+    final HistoryJournal newJournal = HistoryJournal.create(saveDir);
+    final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
+
+    submit(autoSaveWriter, file, data, oldJournal);
+    submit(autoSaveWriter, file, data, newJournal);
+    final File otherFile = new File(saveDir, "other.tsvg");
+    submit(autoSaveWriter, otherFile, data, newJournal);
+    await().until(otherFile::exists);
+
+    assertThat(oldJournal.getFile().exists(), is(false));
+    assertThat(newJournal.getFile().exists(), is(true));
+    autoSaveWriter.shutdown(10, TimeUnit.SECONDS);
+    assertThat(newJournal.getFile().exists(), is(false));
+  }
+
+  @Test
+  void shouldDropSavesSubmittedAfterShutdown() throws Exception {
+    final File file = new File(saveDir, "autoSave.tsvg");
+    final GameData data = new GameData();
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
+    autoSaveWriter.shutdown(10, TimeUnit.SECONDS);
+
+    autoSaveWriter.appendToJournal(journal, journal.newSegment(data.getHistory()));
+    autoSaveWriter.submit(file, serializeGame("gameName"), 0);
+
+    assertThat(file.exists(), is(false));
+    assertThat(autoSaveWriter.getMetrics().getSavesDropped(), is(1L));
+  }
+
+  @Test
+  void writeShouldReplaceExistingFileWithoutLeavingTemporaryFiles() throws Exception {
+    final File file = new File(saveDir, "autoSave.tsvg");
+    AutoSaveWriter.write(file, serializeGame("old"));
+
+    AutoSaveWriter.write(file, serializeGame("new"));
+
+    assertThat(GameDataManager.loadGame(file).getGameName(), is("new"));
+    assertThat(saveDir.list(), is(arrayContaining("autoSave.tsvg")));
+  }
+}
@@ -1,16 +1,31 @@
 package games.strategy.engine.framework;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.history.HistoryJournal;
 import games.strategy.io.IoUtils;
+import games.strategy.triplea.xml.TestMapGameData;
 
 final class GameDataManagerTest {
   @Nested
@@ -22,8 +37,19 @@ final class GameDataManagerTest {
       final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
       assertEquals(loaded.getGameName(), data.getGameName());
     }
+
+    @Test
+    void shouldPreserveGameNameWhenSerializedBeforeBeingWritten() throws Exception {
+      final GameData data = new GameData();
+      data.setGameName("gameName");
+      final byte[] serializedGame = GameDataManager.serializeGame(data);
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.writeSerializedGame(os, serializedGame));
+      final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+      assertEquals("gameName", loaded.getGameName());
+    }
   }
 
+  @ExtendWith(TempDirectory.class)
   @Nested
   final class SaveGameTest {
     @Test
@@ -34,5 +60,48 @@ final class GameDataManagerTest {
 
       verify(os).close();
     }
+
+    @Test
+    void shouldBeLoadableWithoutHistoryJournalSupportWhileAutoSavesUseJournal(@TempDir final Path tempDirPath)
+        throws Exception {
+      final GameData data = TestMapGameData.REVISED.getGameData();
+      final PlayerId germans = data.getPlayerList().getPlayerId("Germans");
+      final String stepTitle = "German Purchase";
+      data.getHistory().getHistoryWriter().startNextStep("germanPurchase", "purchase", germans, stepTitle);
+      final HistoryJournal journal = HistoryJournal.create(tempDirPath.toFile());
+      journal.append(journal.newSegment(data.getHistory()));
+      final byte[] autoSave = GameDataManager.serializeGame(data, journal.newHistoryReference(data));
+
+      final byte[] save = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+      final byte[] serializedSave = GameDataManager.serializeGame(data);
+
+      assertThrows(Exception.class, () -> readWithoutHistoryJournalSupport(autoSave));
+      assertEquals(stepTitle, readWithoutHistoryJournalSupport(gunzip(save)).getHistory().getLastNode().getTitle());
+      assertEquals(stepTitle, readWithoutHistoryJournalSupport(serializedSave).getHistory().getLastNode().getTitle());
+    }
+
+    private byte[] gunzip(final byte[] bytes) throws IOException {
+      try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+        return IOUtils.toByteArray(is);
+      }
+    }
+
+    /**
+     * Reads game data like an engine that does not know about history journals.
+     */
+    private GameData readWithoutHistoryJournalSupport(final byte[] serializedGame) throws Exception {
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedGame)) {
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+          if (desc.getName().endsWith(".SerializedHistoryReference")) {
+            throw new ClassNotFoundException(desc.getName());
+          }
+          return super.resolveClass(desc);
+        }
+      }) {
+        in.readObject();
+        return (GameData) in.readObject();
+      }
+    }
   }
 }
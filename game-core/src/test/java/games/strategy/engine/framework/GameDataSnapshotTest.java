@@ -0,0 +1,88 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class GameDataSnapshotTest {
+  private GameData data;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+  }
+
+  private static int getUnitCount(final GameData data, final String territoryName) {
+    return data.getMap().getTerritory(territoryName).getUnitCollection().size();
+  }
+
+  @Test
+  void forkShouldPreserveGameData() throws Exception {
+    final GameData fork = GameDataSnapshot.of(data, false).fork();
+
+    assertThat(fork.getGameName(), is(data.getGameName()));
+    assertThat(fork.getMap().getTerritories().size(), is(data.getMap().getTerritories().size()));
+    assertThat(getUnitCount(fork, "Germany"), is(getUnitCount(data, "Germany")));
+    assertThat(fork.getMap().getDistance(fork.getMap().getTerritory("Germany"), fork.getMap().getTerritory("Russia")),
+        is(data.getMap().getDistance(data.getMap().getTerritory("Germany"), data.getMap().getTerritory("Russia"))));
+  }
+
+  @Test
+  void forksShouldBeIndependent() throws Exception {
+    final GameDataSnapshot snapshot = GameDataSnapshot.of(data, false);
+    final GameData fork1 = snapshot.fork();
+    final GameData fork2 = snapshot.fork();
+    final int germanyUnitCount = getUnitCount(data, "Germany");
+
+    final Territory germany = fork1.getMap().getTerritory("Germany");
+    final PlayerId russians = fork1.getPlayerList().getPlayerId("Russians");
+    fork1.performChange(ChangeFactory.removeUnits(germany, germany.getUnitCollection()));
+    fork1.performChange(ChangeFactory.changeOwner(germany, russians));
+    fork1.performChange(ChangeFactory.attachmentPropertyChange(
+        UnitAttachment.get(fork1.getUnitTypeList().getUnitType("infantry")), "3", "movement"));
+
+    assertThat(getUnitCount(fork1, "Germany"), is(0));
+    assertThat(getUnitCount(fork2, "Germany"), is(germanyUnitCount));
+    assertThat(getUnitCount(data, "Germany"), is(germanyUnitCount));
+    assertThat(fork2.getMap().getTerritory("Germany").getOwner().getName(), is("Germans"));
+    assertThat(UnitAttachment.get(fork1.getUnitTypeList().getUnitType("infantry")).getMovement(russians), is(3));
+    assertThat(UnitAttachment.get(fork2.getUnitTypeList().getUnitType("infantry")).getMovement(
+        fork2.getPlayerList().getPlayerId("Russians")), is(1));
+    assertThat(fork1.getMap(), is(not(sameInstance(fork2.getMap()))));
+    assertThat(fork1.getUnitTypeList().getUnitType("infantry"),
+        is(not(sameInstance(fork2.getUnitTypeList().getUnitType("infantry")))));
+  }
+
+  @Test
+  void forksShouldShareDistanceTables() throws Exception {
+    final GameDataSnapshot snapshot = GameDataSnapshot.of(data, false);
+
+    final GameData fork1 = snapshot.fork();
+    final GameData fork2 = snapshot.fork();
+
+    assertThat(fork1.getMap().getDistanceTables(), is(sameInstance(fork2.getMap().getDistanceTables())));
+    assertThat(fork1.getMap().getDistanceTables(), is(sameInstance(data.getMap().getDistanceTables())));
+  }
+
+  @Test
+  void forkShouldNotBeAffectedByLaterChangesToSource() throws Exception {
+    final GameDataSnapshot snapshot = GameDataSnapshot.of(data, false);
+    final Territory germany = data.getMap().getTerritory("Germany");
+    final int germanyUnitCount = germany.getUnitCollection().size();
+
+    data.performChange(ChangeFactory.removeUnits(germany, germany.getUnitCollection()));
+
+    assertThat(getUnitCount(snapshot.fork(), "Germany"), is(germanyUnitCount));
+  }
+}
@@ -0,0 +1,47 @@
+package games.strategy.engine.framework.map.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameParseException;
+
+final class GameHeaderTest {
+  private static GameHeader read(final String xml) throws Exception {
+    return GameHeader.read("location", new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void shouldReadInfoAndMinimumEngineVersion() throws Exception {
+    final GameHeader header = read("<?xml version=\"1.0\"?>\n"
+        + "<!DOCTYPE game SYSTEM \"game.dtd\">\n"
+        + "<game>\n"
+        + "  <info name=\"gameName\" version=\"1.2\"/>\n"
+        + "  <loader javaClass=\"games.strategy.triplea.TripleA\"/>\n"
+        + "  <triplea minimumVersion=\"1.9\"/>\n"
+        + "  <map/>\n"
+        + "</game>");
+
+    assertThat(header, is(new GameHeader("gameName", "1.2", "1.9")));
+  }
+
+  @Test
+  void shouldStopReadingAfterHeader() throws Exception {
+    final GameHeader header = read("<game><info name=\"gameName\" version=\"1\"/><map><territory <<< not xml");
+
+    assertThat(header.getName(), is("gameName"));
+    assertThat(header.getMinimumEngineVersion(), is(nullValue()));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenInfoIsMissing() {
+    assertThrows(GameParseException.class, () -> read("<game><map/></game>"));
+    assertThrows(GameParseException.class, () -> read("<notAGame><info name=\"gameName\" version=\"1\"/></notAGame>"));
+  }
+}
@@ -0,0 +1,121 @@
+package games.strategy.engine.framework.map.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+final class GameIndexTest {
+  private File mapsFolder;
+  private File indexFile;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    mapsFolder = tempDirPath.resolve("maps").toFile();
+    mapsFolder.mkdirs();
+    indexFile = tempDirPath.resolve("gameIndex.cache").toFile();
+  }
+
+  private static byte[] gameXml(final String gameName) {
+    return ("<game><info name=\"" + gameName + "\" version=\"1\"/><map/></game>").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private File writeMapZip(final String mapName, final String... gameNames) throws IOException {
+    final File zip = new File(mapsFolder, mapName + ".zip");
+    try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip))) {
+      for (final String gameName : gameNames) {
+        zos.putNextEntry(new ZipEntry(mapName + "/games/" + gameName + ".xml"));
+        zos.write(gameXml(gameName));
+        zos.closeEntry();
+      }
+    }
+    return zip;
+  }
+
+  private File writeMapFolder(final String mapName, final String gameName) throws IOException {
+    final File gamesFolder = new File(new File(new File(mapsFolder, mapName), "map"), "games");
+    gamesFolder.mkdirs();
+    final File game = new File(gamesFolder, gameName + ".xml");
+    Files.write(game.toPath(), gameXml(gameName));
+    return game;
+  }
+
+  private List<GameIndex.IndexedGame> listGames() {
+    return GameIndex.listGames(mapsFolder, indexFile, (map, errorDetails) -> fail("Corrupt map: " + map));
+  }
+
+  private List<String> listGameNames() {
+    return listGames().stream()
+        .map(GameIndex.IndexedGame::getGameName)
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void shouldListGamesInMapZipsAndMapFolders() throws Exception {
+    writeMapZip("zipMap", "game1", "game2");
+    writeMapFolder("folderMap", "game3");
+
+    final List<GameIndex.IndexedGame> games = listGames();
+
+    assertThat(games.stream().map(GameIndex.IndexedGame::getGameName).collect(Collectors.toList()),
+        containsInAnyOrder("game1", "game2", "game3"));
+    assertThat(games.stream().map(GameIndex.IndexedGame::getMapFolderOrZipName).collect(Collectors.toSet()),
+        containsInAnyOrder("zipMap", "folderMap"));
+    assertThat(indexFile.exists(), is(true));
+  }
+
+  @Test
+  void shouldNotReadFilesAgainUntilTheyAreModified() throws Exception {
+    final File game = writeMapFolder("folderMap", "gameA");
+    assertThat(listGameNames(), containsInAnyOrder("gameA"));
+    final long lastModified = game.lastModified();
+
+    // same size and modification time, so the indexed game is used
+    Files.write(game.toPath(), gameXml("gameB"));
+    game.setLastModified(lastModified);
+    assertThat(listGameNames(), containsInAnyOrder("gameA"));
+
+    game.setLastModified(lastModified - 10_000);
+    assertThat(listGameNames(), containsInAnyOrder("gameB"));
+  }
+
+  @Test
+  void shouldRemoveDeletedMapsFromIndex() throws Exception {
+    final File zip = writeMapZip("zipMap", "game1");
+    assertThat(listGameNames(), containsInAnyOrder("game1"));
+
+    Files.delete(zip.toPath());
+
+    assertThat(listGameNames(), is(empty()));
+  }
+
+  @Test
+  void shouldReportCorruptMapZips() throws Exception {
+    Files.write(new File(mapsFolder, "corrupt.zip").toPath(), new byte[] {1, 2, 3});
+    final List<File> corruptMaps = new ArrayList<>();
+
+    GameIndex.listGames(mapsFolder, indexFile, (map, errorDetails) -> corruptMaps.add(map));
+
+    assertThat(corruptMaps, containsInAnyOrder(new File(mapsFolder, "corrupt.zip")));
+  }
+}
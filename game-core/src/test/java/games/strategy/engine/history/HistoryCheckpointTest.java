@@ -0,0 +1,87 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataSnapshot;
+import games.strategy.triplea.delegate.BattleDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class HistoryCheckpointTest {
+  private GameData gameData;
+  private PlayerId germans;
+  private Territory germany;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    germans = gameData.getPlayerList().getPlayerId("Germans");
+    germany = gameData.getMap().getTerritory("Germany");
+  }
+
+  private void writeStep(final String stepName) {
+    final HistoryWriter writer = gameData.getHistory().getHistoryWriter();
+    writer.startNextStep(stepName, "purchase", germans, stepName + " display name");
+    writer.startEvent(stepName + " event");
+    final Change change =
+        ChangeFactory.addUnits(germany, gameData.getUnitTypeList().getUnitType("infantry").create(2, germans));
+    gameData.performChange(change);
+    writer.addChange(change);
+    writer.addChildToEvent(new EventChild(stepName + " child", null));
+    gameData.getSequence().next();
+  }
+
+  @Test
+  void applyDeltaShouldBringCopyUpToDate() throws Exception {
+    writeStep("step1");
+    final HistoryCheckpoint checkpoint = HistoryCheckpoint.of(gameData.getHistory());
+    final GameData copy = GameDataSnapshot.of(gameData, true).fork();
+    writeStep("step2");
+    writeStep("step3");
+
+    HistoryCheckpoint.applyDelta(copy, checkpoint.newDelta(gameData));
+
+    assertThat(copy.getMap().getTerritory("Germany").getUnitCollection().size(),
+        is(germany.getUnitCollection().size()));
+    assertThat(((HistoryNode) copy.getHistory().getRoot()).getChildCount(),
+        is(((HistoryNode) gameData.getHistory().getRoot()).getChildCount()));
+    assertThat(copy.getHistory().getLastNode().getTitle(), is(gameData.getHistory().getLastNode().getTitle()));
+    assertThat(copy.getSequence().getStepIndex(), is(gameData.getSequence().getStepIndex()));
+    assertThat(copy.getSequence().getRound(), is(gameData.getSequence().getRound()));
+    assertThat(checkpoint.getRecordsSince(gameData.getHistory()), is(8));
+  }
+
+  @Test
+  void applyDeltaShouldRestoreCurrentDelegateState() throws Exception {
+    final HistoryCheckpoint checkpoint = HistoryCheckpoint.of(gameData.getHistory());
+    final GameData copy = GameDataSnapshot.of(gameData, true).fork();
+    ((BattleDelegate) gameData.getDelegate("battle")).getBattleTracker().getConquered().add(germany);
+
+    HistoryCheckpoint.applyDelta(copy, checkpoint.newDelta(gameData));
+
+    assertThat(((BattleDelegate) copy.getDelegate("battle")).getBattleTracker()
+        .wasConquered(copy.getMap().getTerritory("Germany")), is(true));
+  }
+
+  @Test
+  void shouldNotCreateDeltaAfterHistoryHasBeenRemoved() {
+    writeStep("step1");
+    final HistoryNode step1 = gameData.getHistory().getLastNode();
+    writeStep("step2");
+    final HistoryCheckpoint checkpoint = HistoryCheckpoint.of(gameData.getHistory());
+
+    gameData.getHistory().removeAllHistoryAfterNode(step1);
+
+    assertThat(checkpoint.canCreateDelta(gameData.getHistory()), is(false));
+    assertThrows(IllegalStateException.class, () -> checkpoint.newDelta(gameData));
+  }
+}
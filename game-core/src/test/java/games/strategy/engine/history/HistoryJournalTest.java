@@ -0,0 +1,183 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+
+@ExtendWith(TempDirectory.class)
+final class HistoryJournalTest {
+  private File saveDir;
+  private GameData gameData;
+  private PlayerId germans;
+  private Territory germany;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    saveDir = tempDirPath.toFile();
+    gameData = TestMapGameData.REVISED.getGameData();
+    germans = gameData.getPlayerList().getPlayerId("Germans");
+    germany = gameData.getMap().getTerritory("Germany");
+  }
+
+  private void writeStep(final String stepName) {
+    final HistoryWriter writer = gameData.getHistory().getHistoryWriter();
+    writer.startNextStep(stepName, "purchase", germans, stepName + " display name");
+    writer.startEvent(stepName + " event");
+    writer.setRenderingData(stepName + " rendering data");
+    final Change change =
+        ChangeFactory.addUnits(germany, gameData.getUnitTypeList().getUnitType("infantry").create(2, germans));
+    gameData.performChange(change);
+    writer.addChange(change);
+    writer.addChildToEvent(new EventChild(stepName + " child", null));
+  }
+
+  private byte[] save(final HistoryJournal journal, final boolean includeJournal) throws Exception {
+    final History history = gameData.getHistory();
+    gameData.setHistory(journal.newHistoryReference(gameData));
+    try {
+      return IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+          out.writeObject(gameData);
+          if (includeJournal) {
+            out.writeObject(journal.read(journal.getRecordCount()));
+          }
+        }
+      });
+    } finally {
+      gameData.setHistory(history);
+    }
+  }
+
+  private static GameData load(final byte[] save) throws Exception {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(save))) {
+      final GameData data = (GameData) in.readObject();
+      data.postDeSerialize();
+      HistoryJournal.restore(data, in);
+      return data;
+    }
+  }
+
+  private static String describe(final History history) {
+    final StringBuilder sb = new StringBuilder();
+    describe((HistoryNode) history.getRoot(), "", sb);
+    return sb.append(history.getChanges().size()).toString();
+  }
+
+  private static void describe(final HistoryNode node, final String indent, final StringBuilder sb) {
+    sb.append(indent).append(node.getTitle());
+    if (node instanceof Renderable) {
+      sb.append(" [").append(((Renderable) node).getRenderingData()).append(']');
+    }
+    sb.append('\n');
+    for (int i = 0; i < node.getChildCount(); i++) {
+      describe((HistoryNode) node.getChildAt(i), indent + "  ", sb);
+    }
+  }
+
+  @Test
+  void shouldRestoreHistoryFromCheckpointAndAppendedSegments() throws Exception {
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    writeStep("step1");
+    journal.append(journal.newSegment(gameData.getHistory()));
+    final byte[] firstSave = save(journal, true);
+    final String firstHistory = describe(gameData.getHistory());
+
+    writeStep("step2");
+    gameData.getHistory().getHistoryWriter().startNextRound(2);
+    writeStep("step3");
+    journal.append(journal.newSegment(gameData.getHistory()));
+    final byte[] secondSave = save(journal, true);
+
+    assertThat(describe(load(firstSave).getHistory()), is(firstHistory));
+    assertThat(describe(load(secondSave).getHistory()), is(describe(gameData.getHistory())));
+  }
+
+  @Test
+  void historyShouldOnlyKeepRecordsWrittenSinceThePreviousSegment() throws Exception {
+    final History history = gameData.getHistory();
+    writeStep("step1");
+    assertThrows(IllegalStateException.class, () -> history.getRecords(0));
+
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    journal.newSegment(history);
+    final int recordCount = history.getRecordCount();
+    writeStep("step2");
+
+    assertThrows(IllegalStateException.class, () -> history.getRecords(recordCount - 1));
+    assertThat(history.getRecords(recordCount).size(), is(history.getRecordCount() - recordCount));
+    journal.newSegment(history);
+    assertThat(history.getRecords(history.getRecordCount()).size(), is(0));
+    assertThrows(IllegalStateException.class, () -> history.getRecords(recordCount));
+  }
+
+  @Test
+  void shouldNotBeAbleToAppendAfterHistoryIsRemoved() throws Exception {
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    writeStep("step1");
+    final HistoryNode step1 = gameData.getHistory().getLastNode();
+    writeStep("step2");
+    journal.newSegment(gameData.getHistory());
+
+    assertThat(journal.canAppend(gameData.getHistory()), is(true));
+    gameData.getHistory().removeAllHistoryAfterNode(step1);
+    assertThat(journal.canAppend(gameData.getHistory()), is(false));
+  }
+
+  @Test
+  void restoreShouldFailWhenSaveDoesNotContainJournal() throws Exception {
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    writeStep("step1");
+    journal.append(journal.newSegment(gameData.getHistory()));
+    final byte[] save = save(journal, false);
+
+    assertThrows(IOException.class, () -> load(save));
+  }
+
+  @Test
+  void readShouldFailJournalWhenSegmentsHaveNotBeenAppended() throws Exception {
+    final HistoryJournal journal = HistoryJournal.create(saveDir);
+    writeStep("step1");
+    journal.append(journal.newSegment(gameData.getHistory()));
+    writeStep("step2");
+    journal.newSegment(gameData.getHistory());
+
+    assertThrows(IOException.class, () -> journal.read(journal.getRecordCount()));
+    assertThat(journal.hasFailed(), is(true));
+    assertThat(journal.canAppend(gameData.getHistory()), is(false));
+  }
+
+  @Test
+  void deleteStaleJournalsShouldOnlyDeleteJournalsNotModifiedRecently() throws Exception {
+    final File staleJournal = new File(saveDir, "stale" + HistoryJournal.FILE_EXTENSION);
+    assertThat(staleJournal.createNewFile(), is(true));
+    assertThat(staleJournal.setLastModified(System.currentTimeMillis() - 120_000L), is(true));
+    final File recentJournal = new File(saveDir, "recent" + HistoryJournal.FILE_EXTENSION);
+    assertThat(recentJournal.createNewFile(), is(true));
+
+    HistoryJournal.deleteStaleJournals(saveDir, 60_000L);
+
+    assertThat(staleJournal.exists(), is(false));
+    assertThat(recentJournal.exists(), is(true));
+  }
+}
@@ -1,9 +1,20 @@
 package games.strategy.engine.message.unifiedmessenger;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,7 +25,7 @@ class EndPointTest {
 
   @Test
   void testEndPoint() {
-    final EndPoint endPoint = new EndPoint("", Comparator.class, false);
+    final EndPoint endPoint = new EndPoint("", Comparator.class, false, Runnable::run);
     endPoint.addImplementor((Comparator<Object>) (o1, o2) -> 2);
     final RemoteMethodCall call = new RemoteMethodCall("", "compare", new Object[] {"", ""},
         new Class<?>[] {Object.class, Object.class}, Comparator.class);
@@ -22,4 +33,92 @@ class EndPointTest {
     assertEquals(1, results.size());
     assertEquals(2, results.iterator().next().getRVal());
   }
+
+  @Test
+  void executeShouldRunInvocationsOfSingleThreadedEndPointInOrder() throws Exception {
+    final List<Integer> runs = Collections.synchronizedList(new ArrayList<>());
+    final int invocationCount = 50;
+    final CountDownLatch done = new CountDownLatch(invocationCount);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final EndPoint endPoint = new EndPoint("", IntConsumer.class, true, executor);
+    endPoint.addImplementor((IntConsumer) runs::add);
+    try {
+      for (int i = 0; i < invocationCount; i++) {
+        final RemoteMethodCall call =
+            new RemoteMethodCall("", "accept", new Object[] {i}, new Class<?>[] {int.class}, IntConsumer.class);
+        endPoint.execute(number -> {
+          endPoint.invokeLocal(call, number, null);
+          done.countDown();
+        });
+      }
+      done.await();
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(runs, is(IntStream.range(0, invocationCount).boxed().collect(Collectors.toList())));
+  }
+
+  @Test
+  void executeShouldRunInvocationsOfSingleThreadedEndPointQueuedOnSeveralThreads() throws Exception {
+    final int threadCount = 4;
+    final int invocationsPerThread = 200;
+    final CountDownLatch done = new CountDownLatch(threadCount * invocationsPerThread);
+    final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    final ExecutorService submitters = Executors.newFixedThreadPool(threadCount);
+    final EndPoint endPoint = new EndPoint("", IntConsumer.class, true, executor);
+    endPoint.addImplementor((IntConsumer) i -> {});
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        submitters.execute(() -> {
+          for (int j = 0; j < invocationsPerThread; j++) {
+            final RemoteMethodCall call =
+                new RemoteMethodCall("", "accept", new Object[] {j}, new Class<?>[] {int.class}, IntConsumer.class);
+            endPoint.execute(number -> {
+              endPoint.invokeLocal(call, number, null);
+              done.countDown();
+            });
+          }
+        });
+      }
+
+      assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+    } finally {
+      submitters.shutdown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void executeShouldRecordStats() {
+    final EndPoint endPoint = new EndPoint("", Runnable.class, false, Runnable::run);
+
+    endPoint.execute(number -> {});
+    endPoint.execute(number -> {});
+
+    final InvocationStats stats = endPoint.getStats();
+    assertThat(stats.getQueuedInvocations(), is(0));
+    assertThat(stats.getRunningInvocations(), is(0));
+    assertThat(stats.getQueueLatency().getTotalCount(), is(2L));
+    assertThat(stats.getRunLatency().getTotalCount(), is(2L));
+  }
+
+  @Test
+  void latencyHistogramShouldCountLatenciesInPowerOfTwoBuckets() {
+    final LatencyHistogram.Recorder recorder = new LatencyHistogram.Recorder();
+
+    recorder.record(500_000L);
+    recorder.record(1_000_000L);
+    recorder.record(3_000_000L);
+    recorder.record(Long.MAX_VALUE);
+
+    final LatencyHistogram histogram = recorder.snapshot();
+    assertThat(histogram.getCount(0), is(1L));
+    assertThat(histogram.getCount(1), is(1L));
+    assertThat(histogram.getCount(2), is(1L));
+    assertThat(histogram.getCount(histogram.getBucketCount() - 1), is(1L));
+    assertThat(histogram.getUpperBound(2).toMillis(), is(4L));
+    assertThat(IntStream.range(0, histogram.getBucketCount()).mapToObj(histogram::getUpperBound)
+        .filter(bound -> bound == null).count(), is(1L));
+  }
 }
@@ -1,6 +1,7 @@
 package games.strategy.net;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -9,8 +10,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.GuardedBy;
 
@@ -19,6 +26,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.triplea.test.common.Integration;
 
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.net.nio.NioSocketConfiguration;
+
 @Integration
 class MessengerIntegrationTest {
   private IServerMessenger serverMessenger;
@@ -106,6 +116,119 @@ class MessengerIntegrationTest {
   }
 
 
+  @Test
+  void testClientBroadcast() {
+    final String message = "Hello";
+    client1Messenger.send(message, null);
+    assertEquals(message, serverMessageListener.getLastMessage());
+    assertEquals(message, client2MessageListener.getLastMessage());
+    assertEquals(client2MessageListener.getLastSender(), client1Messenger.getLocalNode());
+    assertEquals(0, client1MessageListener.getMessageCount());
+  }
+
+  @Test
+  void testClientBroadcastLargeMessage() {
+    final int count = 1_000_000;
+    final StringBuilder builder = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      builder.append('a');
+    }
+    final String message = builder.toString();
+    client1Messenger.send(message, null);
+    assertEquals(message, serverMessageListener.getLastMessage());
+    assertEquals(message, client2MessageListener.getLastMessage());
+    assertEquals(0, client1MessageListener.getMessageCount());
+  }
+
+  @Test
+  void testClientBroadcastWithMixedWireFormats() throws Exception {
+    final IServerMessenger compactServerMessenger =
+        new ServerMessenger("compactServer", 0, new GameObjectStreamFactory(null));
+    try {
+      compactServerMessenger.setAcceptNewConnections(true);
+      final MessageListener compactServerMessageListener = new MessageListener();
+      compactServerMessenger.addMessageListener(compactServerMessageListener);
+      final int serverPort = compactServerMessenger.getLocalNode().getSocketAddress().getPort();
+      final String mac = MacFinder.getHashedMacAddress();
+      final IMessenger compactClientMessenger = new ClientMessenger(
+          "localhost", serverPort, "compactClient", mac, new GameObjectStreamFactory(null), null);
+      final IMessenger javaClientMessenger = new ClientMessenger("localhost", serverPort, "javaClient", mac);
+      try {
+        final MessageListener javaClientMessageListener = new MessageListener();
+        javaClientMessenger.addMessageListener(javaClientMessageListener);
+        await().until(compactServerMessenger::getNodes, hasSize(3));
+
+        final String message = "Hello";
+        compactClientMessenger.send(message, null);
+        assertEquals(message, compactServerMessageListener.getLastMessage());
+        assertEquals(message, javaClientMessageListener.getLastMessage());
+        assertEquals(javaClientMessageListener.getLastSender(), compactClientMessenger.getLocalNode());
+      } finally {
+        MessengerTestUtils.shutDownQuietly(compactClientMessenger);
+        MessengerTestUtils.shutDownQuietly(javaClientMessenger);
+      }
+    } finally {
+      MessengerTestUtils.shutDownQuietly(compactServerMessenger);
+    }
+  }
+
+  @Test
+  void testReservedNamesAreTakenUntilReleased() {
+    final ServerMessenger messenger = (ServerMessenger) serverMessenger;
+    assertEquals("client1 (1)", messenger.reserveUniqueName("client1"));
+    assertEquals("client3", messenger.reserveUniqueName("client3"));
+    assertEquals("client3 (1)", messenger.reserveUniqueName("client3"));
+    messenger.releaseName("client3");
+    assertEquals("client3", messenger.reserveUniqueName("client3"));
+  }
+
+  @Test
+  void testConcurrentLoginsWithSameNameGetUniqueNames() throws Exception {
+    final IServerMessenger parallelServerMessenger = new ServerMessenger("parallelServer", 0,
+        new DefaultObjectStreamFactory(), NioSocketConfiguration.builder().decoderThreads(4).build());
+    final int clientCount = 8;
+    final ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+    final List<IMessenger> clientMessengers = new ArrayList<>();
+    try {
+      parallelServerMessenger.setAcceptNewConnections(true);
+      final int serverPort = parallelServerMessenger.getLocalNode().getSocketAddress().getPort();
+      final String mac = MacFinder.getHashedMacAddress();
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<IMessenger>> futures = new ArrayList<>();
+      for (int i = 0; i < clientCount; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return new ClientMessenger("localhost", serverPort, "client", mac);
+        }));
+      }
+      start.countDown();
+      for (final Future<IMessenger> future : futures) {
+        clientMessengers.add(future.get());
+      }
+
+      await().until(parallelServerMessenger::getNodes, hasSize(clientCount + 1));
+      final Set<String> names = parallelServerMessenger.getNodes().stream()
+          .map(INode::getName)
+          .collect(Collectors.toSet());
+      assertThat(names, hasSize(clientCount + 1));
+    } finally {
+      executor.shutdownNow();
+      clientMessengers.forEach(MessengerTestUtils::shutDownQuietly);
+      MessengerTestUtils.shutDownQuietly(parallelServerMessenger);
+    }
+  }
+
+  @Test
+  void testWriteQueueStatsAfterSend() {
+    final String message = "Hello";
+    serverMessenger.send(message, client1Messenger.getLocalNode());
+    assertEquals(message, client1MessageListener.getLastMessage());
+    final ServerMessenger messenger = (ServerMessenger) serverMessenger;
+    await().until(() -> messenger.getWriteQueueStats(client1Messenger.getLocalNode())
+        .map(stats -> stats.getQueuedPackets() == 0 && stats.getPendingBytes() == 0 && !stats.isSlow())
+        .orElse(false));
+  }
+
   @Test
   void testMultipleServer() {
     for (int i = 0; i < 100; i++) {
@@ -34,9 +34,6 @@ class BattleTrackerTest {
   @Mock
   private GameData mockGameData;
 
-  @Mock
-  private GameProperties mockGameProperties;
-
   @Mock
   private RelationshipTracker mockRelationshipTracker;
 
@@ -64,9 +61,10 @@ class BattleTrackerTest {
     final List<Unit> attackers = Collections.singletonList(unit);
 
     when(mockDelegateBridge.getData()).thenReturn(mockGameData);
-    when(mockGameData.getProperties()).thenReturn(mockGameProperties);
+    final GameProperties gameProperties = new GameProperties(mockGameData);
+    gameProperties.set(Constants.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, true);
+    when(mockGameData.getProperties()).thenReturn(gameProperties);
     when(mockGameData.getRelationshipTracker()).thenReturn(mockRelationshipTracker);
-    when(mockGameProperties.get(Constants.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false)).thenReturn(true);
     doReturn(null).when(mockGetBattleFunction).apply(territory, IBattle.BattleType.AIR_RAID);
     doReturn(mockBattle).when(mockGetBattleFunction).apply(territory, IBattle.BattleType.BOMBING_RAID);
 
@@ -0,0 +1,156 @@
+package games.strategy.triplea.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+final class TilePyramidTest {
+  @Nested
+  final class GetLevelTest {
+    @Test
+    void shouldReturnFullResolutionAboveHighestLevel() {
+      assertThat(TilePyramid.getLevel(1.0), is(1.0));
+      assertThat(TilePyramid.getLevel(0.75), is(1.0));
+    }
+
+    @Test
+    void shouldReturnLowestResolutionLevelNotBelowScale() {
+      assertThat(TilePyramid.getLevel(0.5), is(0.5));
+      assertThat(TilePyramid.getLevel(0.3), is(0.5));
+      assertThat(TilePyramid.getLevel(0.25), is(0.25));
+      assertThat(TilePyramid.getLevel(0.2), is(0.25));
+      assertThat(TilePyramid.getLevel(0.1), is(0.125));
+    }
+  }
+
+  @ExtendWith(TempDirectory.class)
+  @Nested
+  final class GetImageTest {
+    private static final String NAME = "baseTiles/0_0.png";
+
+    private TilePyramid tilePyramid;
+    private File directory;
+
+    @BeforeEach
+    void createTilePyramid(@TempDir final Path tempDirPath) {
+      directory = tempDirPath.toFile();
+      tilePyramid = new TilePyramid(directory, MoreExecutors.directExecutor());
+    }
+
+    private BufferedImage newTile() {
+      final BufferedImage image = new BufferedImage(256, 200, BufferedImage.TYPE_INT_ARGB);
+      final Graphics2D graphics = image.createGraphics();
+      graphics.setColor(Color.RED);
+      graphics.fillRect(0, 0, 256, 200);
+      graphics.dispose();
+      return image;
+    }
+
+    private BufferedImage failToLoadTile() throws IOException {
+      throw new IOException("the tile should not be loaded");
+    }
+
+    @Test
+    void shouldScaleTileToAllLevels() throws Exception {
+      final BufferedImage image = tilePyramid.getImage(NAME, 0.25, this::newTile);
+
+      assertThat(image.getWidth(), is(64));
+      assertThat(image.getHeight(), is(50));
+      assertThat(image.getRGB(10, 10), is(Color.RED.getRGB()));
+      assertThat(ImageIO.read(new File(directory, "0.5/" + NAME)).getWidth(), is(128));
+      assertThat(ImageIO.read(new File(directory, "0.25/" + NAME)).getWidth(), is(64));
+      assertThat(ImageIO.read(new File(directory, "0.125/" + NAME)).getWidth(), is(32));
+    }
+
+    @Test
+    void shouldReadStoredLevelWithoutLoadingTile() throws Exception {
+      tilePyramid.getImage(NAME, 0.5, this::newTile);
+
+      final BufferedImage image = tilePyramid.getImage(NAME, 0.125, this::failToLoadTile);
+
+      assertThat(image.getWidth(), is(32));
+      assertThat(image.getHeight(), is(25));
+    }
+
+    @Test
+    void shouldRejectUnknownLevel() {
+      assertThrows(IllegalArgumentException.class, () -> tilePyramid.getImage(NAME, 0.3, this::newTile));
+    }
+  }
+
+  @ExtendWith(TempDirectory.class)
+  @Nested
+  final class VersionTest {
+    private File mapFolder;
+
+    @BeforeEach
+    void createMapFolder(@TempDir final Path tempDirPath) throws Exception {
+      mapFolder = tempDirPath.resolve("map").toFile();
+      Files.createDirectories(mapFolder.toPath().resolve("baseTiles"));
+      writeFile("polygons.txt", "polygons");
+      writeFile("baseTiles/0_0.png", "tile");
+    }
+
+    private void writeFile(final String name, final String content) throws IOException {
+      Files.write(mapFolder.toPath().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getVersionShouldChangeWhenAnyFileOfMapFolderChanges() throws Exception {
+      final String version = TilePyramid.getVersion(mapFolder);
+
+      assertThat(TilePyramid.getVersion(mapFolder), is(version));
+      writeFile("baseTiles/0_0.png", "changed tile");
+      assertThat(TilePyramid.getVersion(mapFolder), is(not(version)));
+    }
+
+    @Test
+    void getVersionShouldChangeWhenMapZipChanges() throws Exception {
+      final File mapZip = new File(mapFolder, "map.zip");
+      Files.write(mapZip.toPath(), new byte[10]);
+      final String version = TilePyramid.getVersion(mapZip);
+
+      Files.write(mapZip.toPath(), new byte[20]);
+
+      assertThat(TilePyramid.getVersion(mapZip), is(not(version)));
+    }
+
+    @Test
+    void deleteOtherVersionsShouldKeepOnlyCurrentVersionOfMap() throws Exception {
+      final File cacheFolder = new File(mapFolder.getParentFile(), "cache");
+      final File oldVersion = TilePyramid.getDirectory(cacheFolder, "map", "old");
+      final File currentVersion = TilePyramid.getDirectory(cacheFolder, "map", "current");
+      final File otherMap = TilePyramid.getDirectory(cacheFolder, "otherMap", "old");
+      for (final File directory : new File[] {oldVersion, currentVersion, otherMap}) {
+        Files.createDirectories(new File(directory, "0.5/baseTiles").toPath());
+      }
+
+      TilePyramid.deleteOtherVersions(currentVersion);
+
+      assertThat(oldVersion.exists(), is(false));
+      assertThat(currentVersion.isDirectory(), is(true));
+      assertThat(otherMap.isDirectory(), is(true));
+    }
+  }
+}
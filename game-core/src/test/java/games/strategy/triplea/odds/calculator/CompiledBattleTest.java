@@ -0,0 +1,145 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.aaGun;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.battleship;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.destroyer;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class CompiledBattleTest {
+  private static final int RUN_COUNT = 3000;
+
+  private GameData gameData;
+  private PlayerId germans;
+  private PlayerId british;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    germans = germans(gameData);
+    british = british(gameData);
+  }
+
+  private Territory land() {
+    return territory("Eastern Canada", gameData);
+  }
+
+  private Territory sea() {
+    return territory("1 Sea Zone", gameData);
+  }
+
+  @Test
+  void shouldNotCompileBattleWithAa() {
+    final List<Unit> defending = infantry(gameData).create(2, british);
+    defending.addAll(aaGun(gameData).create(1, british));
+
+    assertThat(CompiledBattle.compile(gameData, germans, british, land(), infantry(gameData).create(3, germans),
+        defending, Collections.emptyList()).isPresent(), is(false));
+  }
+
+  @Test
+  void shouldNotCompileBattleWithAlliedAttackers() {
+    assertThat(CompiledBattle.compile(gameData, germans, british, land(), infantry(gameData).create(3, british),
+        infantry(gameData).create(3, british), Collections.emptyList()).isPresent(), is(false));
+  }
+
+  @Test
+  void shouldKillEveryoneWhenAttackerIsOverwhelming() {
+    final CompiledBattle battle = CompiledBattle.compile(gameData, germans, british, land(),
+        armour(gameData).create(60, germans), infantry(gameData).create(1, british), Collections.emptyList())
+        .orElseThrow(AssertionError::new);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(battle.fight().attackerWon(), is(true));
+    }
+  }
+
+  @Test
+  void landBattleShouldMatchMustFightBattle() {
+    final List<Unit> attacking = infantry(gameData).create(5, germans);
+    attacking.addAll(armour(gameData).create(3, germans));
+    final List<Unit> defending = infantry(gameData).create(7, british);
+
+    assertSameResults(land(), attacking, defending);
+  }
+
+  @Test
+  void seaBattleWithMultipleHitPointUnitsShouldMatchMustFightBattle() {
+    final List<Unit> attacking = battleship(gameData).create(2, germans);
+    final List<Unit> defending = destroyer(gameData).create(4, british);
+
+    assertSameResults(sea(), attacking, defending);
+  }
+
+  @Test
+  void battleWithSupportShouldMatchMustFightBattle() {
+    final UnitType artillery = gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_ARTILLERY);
+    final List<Unit> attacking = infantry(gameData).create(6, germans);
+    attacking.addAll(artillery.create(3, germans));
+    final List<Unit> defending = infantry(gameData).create(8, british);
+    defending.addAll(artillery.create(2, british));
+
+    assertSameResults(land(), attacking, defending);
+  }
+
+  @Test
+  void battleAgainstDefendersThatCanNotRollShouldMatchMustFightBattle() throws Exception {
+    gameData.getProperties().set(Constants.TRANSPORT_CASUALTIES_RESTRICTED, true);
+    UnitAttachment.get(infantry(gameData)).getPropertyOrThrow("defense").setValue(0);
+    final List<Unit> attacking = infantry(gameData).create(2, germans);
+    final List<Unit> defending = infantry(gameData).create(6, british);
+
+    assertSameResults(land(), attacking, defending);
+    assertThat(calculate(land(), attacking, defending, true).getAverageBattleRoundsFought(), is(1.0));
+  }
+
+  private void assertSameResults(final Territory location, final Collection<Unit> attacking,
+      final Collection<Unit> defending) {
+    assertThat(CompiledBattle.compile(gameData, germans, british, location, attacking, defending,
+        TerritoryEffectHelper.getEffects(location)).isPresent(), is(true));
+
+    final AggregateResults compiled = calculate(location, attacking, defending, true);
+    final AggregateResults fought = calculate(location, attacking, defending, false);
+
+    assertEquals(RUN_COUNT, compiled.getRollCount());
+    assertThat(compiled.getAttackerWinPercent(), is(closeTo(fought.getAttackerWinPercent(), 0.05)));
+    assertThat(compiled.getDefenderWinPercent(), is(closeTo(fought.getDefenderWinPercent(), 0.05)));
+    assertThat(compiled.getAverageAttackingUnitsLeft(), is(closeTo(fought.getAverageAttackingUnitsLeft(), 0.3)));
+    assertThat(compiled.getAverageDefendingUnitsLeft(), is(closeTo(fought.getAverageDefendingUnitsLeft(), 0.3)));
+    assertThat(compiled.getAverageBattleRoundsFought(), is(closeTo(fought.getAverageBattleRoundsFought(), 0.3)));
+  }
+
+  private AggregateResults calculate(final Territory location, final Collection<Unit> attacking,
+      final Collection<Unit> defending, final boolean useCompiledBattles) {
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    calculator.setUseCompiledBattles(useCompiledBattles);
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(germans, british, location, attacking,
+        defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(location), RUN_COUNT);
+    calculator.shutdown();
+    return results;
+  }
+}
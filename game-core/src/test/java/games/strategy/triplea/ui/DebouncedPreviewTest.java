@@ -0,0 +1,114 @@
+package games.strategy.triplea.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.java.Interruptibles;
+import org.triplea.swing.SwingAction;
+
+import com.google.common.util.concurrent.Runnables;
+
+final class DebouncedPreviewTest {
+  private final AtomicInteger computations = new AtomicInteger();
+  private final List<String> previews = Collections.synchronizedList(new ArrayList<>());
+  private final DebouncedPreview<Integer, String> preview = new DebouncedPreview<>("test preview", request -> {
+    computations.incrementAndGet();
+    return "preview " + request;
+  }, previews::add, 10, 2);
+
+  private static void onSwingThread(final Runnable action) {
+    Interruptibles.await(() -> SwingAction.invokeAndWait(action));
+  }
+
+  /**
+   * Waits long enough for all requested previews to be computed and delivered.
+   */
+  private static void waitForPreviews() {
+    Interruptibles.sleep(200);
+    onSwingThread(Runnables.doNothing());
+  }
+
+  @Test
+  void shouldDeliverPreviewOfRequest() {
+    onSwingThread(() -> preview.request(1));
+    waitForPreviews();
+
+    assertThat(previews, contains("preview 1"));
+  }
+
+  @Test
+  void shouldOnlyDeliverPreviewOfLastRequestWhenRequestsFollowEachOther() {
+    onSwingThread(() -> {
+      preview.request(1);
+      preview.request(2);
+      preview.request(3);
+    });
+    waitForPreviews();
+
+    assertThat(previews, contains("preview 3"));
+    assertThat(computations.get(), is(1));
+  }
+
+  @Test
+  void shouldDeliverCachedPreviewWithoutComputingItAgain() {
+    onSwingThread(() -> preview.request(1));
+    waitForPreviews();
+    onSwingThread(() -> preview.request(2));
+    waitForPreviews();
+    onSwingThread(() -> preview.request(1));
+
+    assertThat(previews, contains("preview 1", "preview 2", "preview 1"));
+    assertThat(computations.get(), is(2));
+  }
+
+  @Test
+  void shouldComputePreviewAgainWhenCleared() {
+    onSwingThread(() -> preview.request(1));
+    waitForPreviews();
+    preview.clear();
+    onSwingThread(() -> preview.request(1));
+    waitForPreviews();
+
+    assertThat(previews, contains("preview 1", "preview 1"));
+    assertThat(computations.get(), is(2));
+  }
+
+  @Test
+  void shouldNotDeliverPreviewOfCancelledRequest() {
+    onSwingThread(() -> {
+      preview.request(1);
+      preview.cancel();
+    });
+    waitForPreviews();
+
+    assertThat(previews, is(Collections.emptyList()));
+  }
+
+  @Test
+  void shouldNotDeliverPreviewOfRequestCancelledWhileComputing() {
+    final CountDownLatch computing = new CountDownLatch(1);
+    final CountDownLatch cancelled = new CountDownLatch(1);
+    final DebouncedPreview<Integer, String> slowPreview = new DebouncedPreview<>("test preview", request -> {
+      computing.countDown();
+      Interruptibles.await(cancelled);
+      return "preview " + request;
+    }, previews::add, 0, 2);
+
+    onSwingThread(() -> slowPreview.request(1));
+    Interruptibles.await(() -> computing.await(5, TimeUnit.SECONDS));
+    onSwingThread(slowPreview::cancel);
+    cancelled.countDown();
+    waitForPreviews();
+
+    assertThat(previews, is(Collections.emptyList()));
+  }
+}
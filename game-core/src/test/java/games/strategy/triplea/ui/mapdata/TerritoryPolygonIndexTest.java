@@ -0,0 +1,106 @@
+package games.strategy.triplea.ui.mapdata;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import games.strategy.ui.Util;
+
+final class TerritoryPolygonIndexTest {
+  private static Polygon newRectangle(final int x, final int y, final int width, final int height) {
+    return new Polygon(
+        new int[] {x, x + width, x + width, x},
+        new int[] {y, y, y + height, y + height},
+        4);
+  }
+
+  private static Polygon newTriangle(final int x, final int y, final int size) {
+    return new Polygon(new int[] {x, x + size, x}, new int[] {y, y, y + size}, 3);
+  }
+
+  /**
+   * Finds the territory at the specified point by testing all polygons.
+   */
+  private static String getTerritoryAtBySearch(final Map<String, List<Polygon>> polygonsByTerritoryName,
+      final double x, final double y) {
+    String seaName = null;
+    for (final Map.Entry<String, List<Polygon>> entry : polygonsByTerritoryName.entrySet()) {
+      for (final Polygon polygon : entry.getValue()) {
+        if (polygon.contains(x, y)) {
+          if (Util.isTerritoryNameIndicatingWater(entry.getKey())) {
+            seaName = entry.getKey();
+          } else {
+            return entry.getKey();
+          }
+        }
+      }
+    }
+    return seaName;
+  }
+
+  @Test
+  void shouldPreferLandTerritoryOverSurroundingSeaZone() {
+    final Map<String, List<Polygon>> polygons = new LinkedHashMap<>();
+    polygons.put("Island", ImmutableList.of(newRectangle(100, 100, 50, 50)));
+    polygons.put("Sea Zone 1", ImmutableList.of(newRectangle(0, 0, 300, 300)));
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(polygons);
+
+    assertThat(index.getTerritoryAt(120, 120), is("Island"));
+    assertThat(index.getTerritoryAt(20, 20), is("Sea Zone 1"));
+  }
+
+  @Test
+  void shouldFindTerritoryOfAnyOfItsPolygons() {
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(Collections.singletonMap(
+        "Archipelago", ImmutableList.of(newRectangle(0, 0, 10, 10), newRectangle(500, 700, 10, 10))));
+
+    assertThat(index.getTerritoryAt(5, 5), is("Archipelago"));
+    assertThat(index.getTerritoryAt(505, 705), is("Archipelago"));
+    assertThat(index.getTerritoryAt(300, 300), is(nullValue()));
+  }
+
+  @Test
+  void shouldFindNoTerritoryOutsideAllPolygons() {
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(
+        Collections.singletonMap("Land", ImmutableList.of(newRectangle(-20, -20, 100, 100))));
+
+    assertThat(index.getTerritoryAt(-21, 0), is(nullValue()));
+    assertThat(index.getTerritoryAt(0, 81), is(nullValue()));
+    assertThat(index.getTerritoryAt(1000, 1000), is(nullValue()));
+    assertThat(new TerritoryPolygonIndex(Collections.emptyMap()).getTerritoryAt(0, 0), is(nullValue()));
+  }
+
+  @Test
+  void shouldFindSameTerritoryAsSearchingAllPolygons() {
+    final Random random = new Random(42);
+    final Map<String, List<Polygon>> polygons = new LinkedHashMap<>();
+    for (int i = 0; i < 200; i++) {
+      final String name = (i % 3 == 0) ? ("Sea Zone " + i) : ("Land " + i);
+      final int x = random.nextInt(2000) - 100;
+      final int y = random.nextInt(1500) - 100;
+      polygons.put(name, (i % 2 == 0)
+          ? ImmutableList.of(newRectangle(x, y, 1 + random.nextInt(300), 1 + random.nextInt(300)))
+          : ImmutableList.of(newTriangle(x, y, 1 + random.nextInt(300)), newTriangle(y, x, 1 + random.nextInt(50))));
+    }
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(polygons);
+    final Rectangle bounds = new Rectangle(-200, -200, 2500, 2200);
+
+    for (int i = 0; i < 20000; i++) {
+      final double x = bounds.x + random.nextDouble() * bounds.width;
+      final double y = bounds.y + random.nextDouble() * bounds.height;
+      assertThat(index.getTerritoryAt(x, y), is(getTerritoryAtBySearch(polygons, x, y)));
+    }
+  }
+}
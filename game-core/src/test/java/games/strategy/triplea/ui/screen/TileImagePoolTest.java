@@ -0,0 +1,69 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+final class TileImagePoolTest {
+  private final TileImagePool imagePool = new TileImagePool(16, 16, 2);
+
+  private Tile newTile() {
+    return new Tile(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE), 1, imagePool);
+  }
+
+  @Test
+  void shouldHandOutNewImagesWhileNotFull() {
+    final Tile tile1 = newTile();
+    final Tile tile2 = newTile();
+
+    final Image image1 = imagePool.acquire(tile1);
+    final Image image2 = imagePool.acquire(tile2);
+
+    assertThat(image1, is(not(sameInstance(image2))));
+    assertThat(imagePool.size(), is(2));
+  }
+
+  @Test
+  void shouldTakeImageAwayFromLeastRecentlyUsedTileWhenFull() {
+    final Tile tile1 = newTile();
+    final Tile tile2 = newTile();
+    final Tile tile3 = newTile();
+    final Image image1 = tile1.getImage(null, null);
+    final Image image2 = tile2.getImage(null, null);
+    tile1.getImage(null, null);
+
+    final Image image3 = tile3.getImage(null, null);
+
+    assertThat(image3, is(sameInstance(image2)));
+    assertThat(tile2.getRawImage(), is(nullValue()));
+    assertThat(tile2.isDirty(), is(true));
+    assertThat(tile1.getRawImage(), is(sameInstance(image1)));
+    assertThat(imagePool.size(), is(2));
+  }
+
+  @Test
+  void shouldNotTakeImageAwayFromTileInUse() throws Exception {
+    final Tile tile1 = newTile();
+    final Tile tile2 = newTile();
+    final Image image1 = tile1.getImage(null, null);
+    final Image image2 = tile2.getImage(null, null);
+
+    tile1.acquireLock();
+    try {
+      final Image image3 = CompletableFuture.supplyAsync(() -> imagePool.acquire(newTile())).get();
+
+      assertThat(image3, is(sameInstance(image2)));
+      assertThat(tile1.getRawImage(), is(sameInstance(image1)));
+    } finally {
+      tile1.releaseLock();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.drawable.IDrawable;
+
+final class TileTest {
+  private final Tile tile = new Tile(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE), 0.25,
+      new TileImagePool(TileManager.TILE_SIZE / 4, TileManager.TILE_SIZE / 4, 4));
+
+  private int getRenderedColor() {
+    return ((BufferedImage) tile.getRawImage()).getRGB(0, 0);
+  }
+
+  @Test
+  void shouldRenderDirtyTile() {
+    tile.addDrawable(new FillDrawable(Color.RED, IDrawable.BASE_MAP_LEVEL));
+
+    assertThat(tile.render(null, null), is(true));
+
+    assertThat(tile.isDirty(), is(false));
+    assertThat(getRenderedColor(), is(Color.RED.getRGB()));
+  }
+
+  @Test
+  void shouldNotRenderCleanTile() {
+    tile.render(null, null);
+
+    assertThat(tile.render(null, null), is(false));
+  }
+
+  @Test
+  void shouldRenderAgainWhenDrawablesChangeWhileRendering() {
+    final FillDrawable blue = new FillDrawable(Color.BLUE, IDrawable.UNITS_LEVEL);
+    tile.addDrawable(new FillDrawable(Color.RED, IDrawable.BASE_MAP_LEVEL) {
+      private boolean drawn;
+
+      @Override
+      public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+          final AffineTransform unscaled, final AffineTransform scaled) {
+        super.draw(bounds, data, graphics, mapData, unscaled, scaled);
+        if (!drawn) {
+          drawn = true;
+          tile.addDrawable(blue);
+        }
+      }
+    });
+
+    assertThat(tile.render(null, null), is(true));
+
+    assertThat(tile.isDirty(), is(false));
+    assertThat(getRenderedColor(), is(Color.BLUE.getRGB()));
+  }
+
+  private static class FillDrawable implements IDrawable {
+    private final Color color;
+    private final int level;
+
+    FillDrawable(final Color color, final int level) {
+      this.color = color;
+      this.level = level;
+    }
+
+    @Override
+    public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+        final AffineTransform unscaled, final AffineTransform scaled) {
+      graphics.setColor(color);
+      graphics.fill(bounds);
+    }
+
+    @Override
+    public int getLevel() {
+      return level;
+    }
+  }
+}
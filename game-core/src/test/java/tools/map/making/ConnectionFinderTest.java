@@ -0,0 +1,69 @@
+package tools.map.making;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Polygon;
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import tools.util.TerritoryRaster;
+
+final class ConnectionFinderTest {
+  private static Polygon newRectangle(final int x, final int y, final int width, final int height) {
+    return new Polygon(
+        new int[] {x, x + width, x + width, x},
+        new int[] {y, y, y + height, y + height},
+        4);
+  }
+
+  @Test
+  void findConnectionsShouldListEachConnectionOnceForFirstTerritory() {
+    final Map<String, Collection<String>> connections = ConnectionFinder.findConnections(
+        new TerritoryRaster(ImmutableMap.of(
+            "Territory 3", ImmutableList.of(newRectangle(200, 0, 100, 100)),
+            "Territory 1", ImmutableList.of(newRectangle(0, 0, 100, 100)),
+            "Territory 10", ImmutableList.of(newRectangle(0, 100, 300, 100)),
+            "Territory 2", ImmutableList.of(newRectangle(100, 0, 100, 100)))),
+        8, 32);
+
+    assertThat(connections.keySet(), contains("Territory 1", "Territory 2", "Territory 3", "Territory 10"));
+    assertThat(connections.get("Territory 1"), contains("Territory 2", "Territory 10"));
+    assertThat(connections.get("Territory 2"), contains("Territory 3", "Territory 10"));
+    assertThat(connections.get("Territory 3"), contains("Territory 10"));
+    assertThat(connections.get("Territory 10"), is(empty()));
+  }
+
+  @Test
+  void findConnectionsShouldConnectContainedTerritory() {
+    final Map<String, Collection<String>> connections = ConnectionFinder.findConnections(
+        new TerritoryRaster(ImmutableMap.of(
+            "Sea Zone", ImmutableList.of(newRectangle(0, 0, 300, 300)),
+            "Island", ImmutableList.of(newRectangle(100, 100, 100, 100)),
+            "Far Island", ImmutableList.of(newRectangle(1000, 1000, 100, 100)))),
+        8, 32);
+
+    assertThat(connections.get("Far Island"), is(empty()));
+    assertThat(connections.get("Island"), contains("Sea Zone"));
+    assertThat(connections.get("Sea Zone"), is(empty()));
+  }
+
+  @Test
+  void findConnectionsShouldListConnectionsInOrderOfPolygons() {
+    final Map<String, Collection<String>> connections = ConnectionFinder.findConnections(
+        new TerritoryRaster(ImmutableMap.of(
+            "A", ImmutableList.of(newRectangle(500, 0, 100, 100), newRectangle(0, 0, 100, 100)),
+            "B", ImmutableList.of(newRectangle(100, 0, 100, 100)),
+            "C", ImmutableList.of(newRectangle(400, 0, 100, 100)))),
+        8, 32);
+
+    assertThat(connections.get("A"), contains("C", "B"));
+  }
+}
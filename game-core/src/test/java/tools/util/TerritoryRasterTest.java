@@ -0,0 +1,94 @@
+package tools.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+final class TerritoryRasterTest {
+  // a sea zone with an island in its middle, and a land territory made of two polygons next to it
+  private final TerritoryRaster raster = new TerritoryRaster(ImmutableMap.of(
+      "Sea", ImmutableList.of(newRectangle(0, 0, 100, 100)),
+      "Island", ImmutableList.of(newRectangle(40, 40, 20, 20)),
+      "Land", ImmutableList.of(newRectangle(100, 0, 50, 50), newRectangle(100, 50, 50, 50))));
+
+  private static Polygon newRectangle(final int x, final int y, final int width, final int height) {
+    return new Polygon(
+        new int[] {x, x + width, x + width, x},
+        new int[] {y, y, y + height, y + height},
+        4);
+  }
+
+  @Nested
+  final class GetTerritoryAtTest {
+    @Test
+    void shouldReturnInnermostTerritory() {
+      assertThat(raster.getTerritoryAt(10, 10), is("Sea"));
+      assertThat(raster.getTerritoryAt(40, 40), is("Island"));
+      assertThat(raster.getTerritoryAt(59, 59), is("Island"));
+      assertThat(raster.getTerritoryAt(60, 60), is("Sea"));
+      assertThat(raster.getTerritoryAt(120, 80), is("Land"));
+    }
+
+    @Test
+    void shouldReturnNullWhenNoTerritoryCoversPixel() {
+      assertThat(raster.getTerritoryAt(-1, 10), is(nullValue()));
+      assertThat(raster.getTerritoryAt(150, 10), is(nullValue()));
+      assertThat(raster.getTerritoryAt(1000, 1000), is(nullValue()));
+    }
+  }
+
+  @Test
+  void getBoundingBoxShouldReturnUnionOfPolygonBounds() {
+    assertThat(raster.getBoundingBox("Land"), is(new Rectangle(100, 0, 50, 100)));
+  }
+
+  @Test
+  void getTerritoriesWithBoundingBoxIntersectingShouldReturnTerritoriesThatMayOverlapRectangle() {
+    assertThat(raster.getTerritoriesWithBoundingBoxIntersecting(new Rectangle(30, 30, 15, 15)),
+        containsInAnyOrder("Sea", "Island"));
+    assertThat(raster.getTerritoriesWithBoundingBoxIntersecting(new Rectangle(95, 0, 10, 10)),
+        containsInAnyOrder("Sea", "Land"));
+  }
+
+  @Nested
+  final class CoverageTest {
+    @Test
+    void shouldCoverRectanglesInsideTerritory() {
+      final TerritoryRaster.Coverage coverage = raster.getCoverage("Sea");
+
+      assertThat(coverage.covers(0, 0, 40, 40), is(true));
+      assertThat(coverage.covers(60, 60, 40, 40), is(true));
+    }
+
+    @Test
+    void shouldNotCoverRectanglesOverlappingContainedTerritory() {
+      final TerritoryRaster.Coverage coverage = raster.getCoverage("Sea");
+
+      assertThat(coverage.covers(0, 0, 41, 41), is(false));
+      assertThat(coverage.covers(45, 45, 5, 5), is(false));
+    }
+
+    @Test
+    void shouldNotCoverRectanglesOutsideTerritory() {
+      final TerritoryRaster.Coverage coverage = raster.getCoverage("Sea");
+
+      assertThat(coverage.covers(-1, 0, 10, 10), is(false));
+      assertThat(coverage.covers(95, 0, 10, 10), is(false));
+    }
+
+    @Test
+    void shouldCoverRectanglesSpanningSeveralPolygonsOfTerritory() {
+      assertThat(raster.getCoverage("Land").covers(100, 40, 50, 20), is(true));
+    }
+  }
+}
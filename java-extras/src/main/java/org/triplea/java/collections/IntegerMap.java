@@ -1,60 +1,217 @@
 package org.triplea.java.collections;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Comparator;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A utility class for mapping Objects to ints. <br>
  * Supports adding and comparing of maps.
  *
+ * <p>
+ * Keys and values are kept in insertion order in two parallel arrays, one of them an {@code int[]}, and are found
+ * through an open-addressing hash table of indexes into those arrays, so neither reading nor updating a value boxes it.
+ * Keys are compared with {@link Object#equals(Object)}. Iteration order is insertion order, as for a
+ * {@link LinkedHashMap}: updating the value of a key does not move it, removing a key and adding it again does.
+ * </p>
+ *
+ * <p>
+ * The serialized form is the same as when this class wrapped a {@code LinkedHashMap<T, Integer>}, so save games
+ * written by either implementation can be read by the other.
+ * </p>
+ *
  * @param <T> The type of the map key.
  */
 public final class IntegerMap<T> implements Serializable {
   private static final long serialVersionUID = 6856531659284300930L;
-  private final Map<T, Integer> mapValues;
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("mapValues", Map.class)
+  };
+  private static final int MIN_CAPACITY = 4;
+  private static final Object[] NO_KEYS = new Object[0];
+  private static final int[] NO_VALUES = new int[0];
+  /** The table of empty maps, which is never written to so it can be shared. */
+  private static final int[] EMPTY_TABLE = new int[1];
+
+  /** The keys, in insertion order. */
+  private Object[] keys;
+  /** The values of the keys at the same index. */
+  private int[] values;
+  private int size;
+  /**
+   * Open-addressing hash table (linear probing) holding, for each key, its index plus one; zero marks an empty slot.
+   * Its length is a power of two at least twice the length of {@link #keys}.
+   */
+  private int[] table;
+  /** Number of structural modifications, so iterators can fail fast like those of a {@link LinkedHashMap}. */
+  private int modCount;
+  private transient Set<T> keySet;
+  private transient Set<Map.Entry<T, Integer>> entrySet;
 
   public IntegerMap() {
-    mapValues = new LinkedHashMap<>();
+    init(0);
   }
 
   public IntegerMap(final Map<T, Integer> map) {
-    mapValues = new LinkedHashMap<>(map);
+    init(map.size());
+    map.forEach(this::put);
   }
 
   /**
    * Creates a shallow clone of the provided IntegerMap.
    */
   public IntegerMap(final IntegerMap<T> integerMap) {
-    this(integerMap.mapValues);
+    init(integerMap.size);
+    System.arraycopy(integerMap.keys, 0, keys, 0, integerMap.size);
+    System.arraycopy(integerMap.values, 0, values, 0, integerMap.size);
+    size = integerMap.size;
+    rebuildTable();
+  }
+
+  /**
+   * Initializes the storage of an empty map. Empty maps, of which there are many, share empty arrays until their first
+   * key is added.
+   */
+  private void init(final int capacity) {
+    if (capacity == 0) {
+      keys = NO_KEYS;
+      values = NO_VALUES;
+      table = EMPTY_TABLE;
+    } else {
+      final int length = Math.max(MIN_CAPACITY, capacity);
+      keys = new Object[length];
+      values = new int[length];
+      table = new int[tableLength(length)];
+    }
+    size = 0;
+  }
+
+  private static int tableLength(final int capacity) {
+    return Integer.highestOneBit(capacity * 2 - 1) << 1;
+  }
+
+  private static int hash(final Object key) {
+    final int h = Objects.hashCode(key);
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Returns the index of the specified key in {@link #keys}, or -1 if the key is not in this map.
+   */
+  private int indexOf(final Object key) {
+    final int mask = table.length - 1;
+    for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+      final int entry = table[slot];
+      if (entry == 0) {
+        return -1;
+      }
+      final Object candidate = keys[entry - 1];
+      if (candidate == key || (key != null && key.equals(candidate))) {
+        return entry - 1;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the specified key in {@link #keys}, adding the key with a value of zero if it is not in this
+   * map.
+   */
+  private int indexOrAdd(final T key) {
+    final int mask = table.length - 1;
+    int slot = hash(key) & mask;
+    for (;; slot = (slot + 1) & mask) {
+      final int entry = table[slot];
+      if (entry == 0) {
+        break;
+      }
+      final Object candidate = keys[entry - 1];
+      if (candidate == key || (key != null && key.equals(candidate))) {
+        return entry - 1;
+      }
+    }
+    if (size == keys.length) {
+      grow();
+      return indexOrAdd(key);
+    }
+    final int index = size++;
+    keys[index] = key;
+    values[index] = 0;
+    table[slot] = index + 1;
+    modCount++;
+    return index;
+  }
+
+  private void grow() {
+    final int length = Math.max(MIN_CAPACITY, keys.length * 2);
+    keys = Arrays.copyOf(keys, length);
+    values = Arrays.copyOf(values, length);
+    table = new int[tableLength(length)];
+    rebuildTable();
+  }
+
+  private void rebuildTable() {
+    Arrays.fill(table, 0);
+    final int mask = table.length - 1;
+    for (int i = 0; i < size; i++) {
+      int slot = hash(keys[i]) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = i + 1;
+    }
+  }
+
+  private void removeAt(final int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    keys[size] = null;
+    modCount++;
+    rebuildTable();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T keyAt(final int index) {
+    return (T) keys[index];
   }
 
   public int size() {
-    return mapValues.size();
+    return size;
   }
 
   public void put(final T key, final int value) {
-    mapValues.put(key, value);
+    // the index must be found first, as adding the key may replace the values array
+    final int index = indexOrAdd(key);
+    values[index] = value;
   }
 
   /**
    * returns 0 if no key found.
    */
   public int getInt(final T key) {
-    return mapValues.getOrDefault(key, 0);
+    final int index = indexOf(key);
+    return index == -1 ? 0 : values[index];
   }
 
   public void add(final T key, final int value) {
-    mapValues.compute(key, (k, oldVal) -> oldVal == null ? value : (oldVal + value));
+    final int index = indexOrAdd(key);
+    values[index] += value;
   }
 
   public void add(final IntegerMap<T> map) {
-    for (final Map.Entry<T, Integer> entry : map.entrySet()) {
-      add(entry.getKey(), entry.getValue());
-    }
+    addMultiple(map, 1);
   }
 
   /**
@@ -62,15 +219,26 @@ public final class IntegerMap<T> implements Serializable {
    * Rounds up the results when converting to an int.
    */
   public void multiplyAllValuesBy(final double multiplyBy) {
-    mapValues.replaceAll((key, value) -> (int) Math.ceil(value * multiplyBy));
+    for (int i = 0; i < size; i++) {
+      values[i] = (int) Math.ceil(values[i] * multiplyBy);
+    }
   }
 
   public void clear() {
-    mapValues.clear();
+    if (size == 0) {
+      return;
+    }
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(table, 0);
+    size = 0;
+    modCount++;
   }
 
   public Set<T> keySet() {
-    return mapValues.keySet();
+    if (keySet == null) {
+      keySet = new KeySet();
+    }
+    return keySet;
   }
 
   /**
@@ -79,32 +247,40 @@ public final class IntegerMap<T> implements Serializable {
    * @return true if all values are equal to the given integer.
    */
   public boolean allValuesEqual(final int integer) {
-    return mapValues.values().stream().allMatch(value -> integer == value);
+    for (int i = 0; i < size; i++) {
+      if (values[i] != integer) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * Will return null if empty.
    */
   public T lowestKey() {
-    return mapValues.entrySet().stream()
-        .min(Comparator.comparing(Map.Entry::getValue))
-        .map(Map.Entry::getKey)
-        .orElse(null);
+    int lowest = -1;
+    for (int i = 0; i < size; i++) {
+      if (lowest == -1 || values[i] < values[lowest]) {
+        lowest = i;
+      }
+    }
+    return lowest == -1 ? null : keyAt(lowest);
   }
 
   /**
    * Returns the sum of all keys.
    */
   public int totalValues() {
-    return mapValues.values().stream()
-        .mapToInt(value -> value)
-        .sum();
+    int total = 0;
+    for (int i = 0; i < size; i++) {
+      total += values[i];
+    }
+    return total;
   }
 
   public void subtract(final IntegerMap<T> map) {
-    for (final Map.Entry<T, Integer> entry : map.entrySet()) {
-      add(entry.getKey(), -entry.getValue());
-    }
+    addMultiple(map, -1);
   }
 
   /**
@@ -114,58 +290,268 @@ public final class IntegerMap<T> implements Serializable {
    * a.greaterThanOrEqualTo(b) is false, and b.greaterThanOrEqualTo(a) is false, and that a and b are not equal.
    */
   public boolean greaterThanOrEqualTo(final IntegerMap<T> map) {
-    return map.entrySet().stream()
-        .allMatch(entry -> getInt(entry.getKey()) >= entry.getValue());
+    for (int i = 0; i < map.size; i++) {
+      if (getInt(map.keyAt(i)) < map.values[i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * True if all values are >= 0.
    */
   public boolean isPositive() {
-    return mapValues.values().stream().allMatch(value -> value >= 0);
+    for (int i = 0; i < size; i++) {
+      if (values[i] < 0) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * Add map * multiple.
    */
   public void addMultiple(final IntegerMap<T> map, final int multiple) {
-    for (final Map.Entry<T, Integer> entry : map.entrySet()) {
-      add(entry.getKey(), entry.getValue() * multiple);
+    // the other map may be this map, which does not change size while its own keys are added to it
+    final int otherSize = map.size;
+    for (int i = 0; i < otherSize; i++) {
+      add(map.keyAt(i), map.values[i] * multiple);
     }
   }
 
   public void removeKey(final T key) {
-    mapValues.remove(key);
+    final int index = indexOf(key);
+    if (index != -1) {
+      removeAt(index);
+    }
   }
 
   public boolean containsKey(final T key) {
-    return mapValues.containsKey(key);
+    return indexOf(key) != -1;
   }
 
   public boolean isEmpty() {
-    return mapValues.isEmpty();
+    return size == 0;
   }
 
+  /**
+   * Performs the specified action for each key and its value, in insertion order, without boxing the values.
+   */
+  public void forEach(final ObjIntConsumer<? super T> action) {
+    final int expectedModCount = modCount;
+    for (int i = 0; i < size; i++) {
+      action.accept(keyAt(i), values[i]);
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * Returns a view of the entries of this map. Setting the value of an entry writes through to this map.
+   */
   public Set<Map.Entry<T, Integer>> entrySet() {
-    return mapValues.entrySet();
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private abstract class IndexIterator<E> implements Iterator<E> {
+    private int next = 0;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    final int nextIndex() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return last;
+    }
+
+    @Override
+    public void remove() {
+      if (last == -1) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  private final class KeySet extends AbstractSet<T> {
+    @Override
+    public Iterator<T> iterator() {
+      return new IndexIterator<T>() {
+        @Override
+        public T next() {
+          return keyAt(nextIndex());
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+      return indexOf(key) != -1;
+    }
+
+    @Override
+    public boolean remove(final Object key) {
+      final int index = indexOf(key);
+      if (index == -1) {
+        return false;
+      }
+      removeAt(index);
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      IntegerMap.this.clear();
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<T, Integer>> {
+    @Override
+    public Iterator<Map.Entry<T, Integer>> iterator() {
+      return new IndexIterator<Map.Entry<T, Integer>>() {
+        @Override
+        public Map.Entry<T, Integer> next() {
+          return new Entry(nextIndex());
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      IntegerMap.this.clear();
+    }
+  }
+
+  private final class Entry implements Map.Entry<T, Integer> {
+    private final int index;
+    private final int expectedModCount = modCount;
+
+    Entry(final int index) {
+      this.index = index;
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public T getKey() {
+      checkForComodification();
+      return keyAt(index);
+    }
+
+    @Override
+    public Integer getValue() {
+      checkForComodification();
+      return values[index];
+    }
+
+    @Override
+    public Integer setValue(final Integer value) {
+      checkForComodification();
+      final int oldValue = values[index];
+      values[index] = value;
+      return oldValue;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      return Objects.equals(getKey(), other.getKey()) && getValue().equals(other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ values[index];
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private Map<T, Integer> toLinkedHashMap() {
+    final Map<T, Integer> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      map.put(keyAt(i), values[i]);
+    }
+    return map;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.putFields().put("mapValues", toLinkedHashMap());
+    out.writeFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    @SuppressWarnings("unchecked")
+    final Map<T, Integer> map = (Map<T, Integer>) in.readFields().get("mapValues", null);
+    if (map == null) {
+      throw new IOException("IntegerMap without values");
+    }
+    init(map.size());
+    map.forEach(this::put);
   }
 
   @Override
   public String toString() {
     final StringBuilder buf = new StringBuilder();
     buf.append("IntegerMap:\n");
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       buf.append("empty\n");
     }
-    for (final Map.Entry<T, Integer> entry : mapValues.entrySet()) {
-      buf.append(entry.getKey()).append(" -> ").append(entry.getValue()).append('\n');
+    for (int i = 0; i < size; i++) {
+      buf.append(keys[i]).append(" -> ").append(values[i]).append('\n');
     }
     return buf.toString();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mapValues);
+    // the same hash code as the LinkedHashMap this class used to wrap
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += Objects.hashCode(keys[i]) ^ values[i];
+    }
+    return hashCode;
   }
 
   /**
@@ -177,9 +563,19 @@ public final class IntegerMap<T> implements Serializable {
     if (this == o) {
       return true;
     }
-    if (o instanceof IntegerMap) {
-      return mapValues.equals(((IntegerMap<?>) o).mapValues);
+    if (!(o instanceof IntegerMap)) {
+      return false;
+    }
+    final IntegerMap<?> other = (IntegerMap<?>) o;
+    if (size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      final int index = other.indexOf(keys[i]);
+      if (index == -1 || other.values[index] != values[i]) {
+        return false;
+      }
     }
-    return false;
+    return true;
   }
 }
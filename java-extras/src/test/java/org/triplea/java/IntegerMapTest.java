@@ -8,7 +8,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -16,10 +24,14 @@ import org.triplea.java.collections.IntegerMap;
 
 import com.google.common.collect.ImmutableMap;
 
-import nl.jqno.equalsverifier.EqualsVerifier;
-import nl.jqno.equalsverifier.Warning;
-
 class IntegerMapTest {
+  /** An {@code IntegerMap<String>} of c=3, a=1 and b=-2, serialized when it was backed by a {@code LinkedHashMap}. */
+  private static final String SERIALIZED_MAP = "rO0ABXNyACdvcmcudHJpcGxlYS5qYXZhLmNvbGxlY3Rpb25zLkludGVnZXJNYXBfJ0s3dtxEggIAAUwA"
+      + "CW1hcFZhbHVlc3QAD0xqYXZhL3V0aWwvTWFwO3hwc3IAF2phdmEudXRpbC5MaW5rZWRIYXNoTWFwNMBOXBBswPsCAAFaAAth"
+      + "Y2Nlc3NPcmRlcnhyABFqYXZhLnV0aWwuSGFzaE1hcAUH2sHDFmDRAwACRgAKbG9hZEZhY3RvckkACXRocmVzaG9sZHhwP0AA"
+      + "AAAAAAx3CAAAABAAAAADdAABY3NyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5n"
+      + "Lk51bWJlcoaslR0LlOCLAgAAeHAAAAADdAABYXNxAH4ABwAAAAF0AAFic3EAfgAH/////ngA";
+
   private final Object k1 = new Object();
   private final Object k2 = new Object();
   private final Object k3 = new Object();
@@ -38,12 +50,21 @@ class IntegerMapTest {
 
   @Test
   void shouldBeEquatableAndHashable() {
-    EqualsVerifier.forClass(IntegerMap.class)
-        .suppress(Warning.NULL_FIELDS)
-        .verify();
+    // the keys and values are kept in arrays, in insertion order, so equal maps do not have equal fields and the
+    // contract is checked on examples
+    final IntegerMap<Object> map = new IntegerMap<>(ImmutableMap.of(k1, 1, k2, 2));
+    final IntegerMap<Object> equalMap = new IntegerMap<>(ImmutableMap.of(k2, 2, k1, 1));
 
-    // We need to explicitly test this case because EqualsVerifier's internal prefab values for LinkedHashMap use the
-    // same value for all key/value pairs
+    assertThat(map, is(map));
+    assertThat(map, is(equalMap));
+    assertThat(equalMap, is(map));
+    assertThat(map.hashCode(), is(equalMap.hashCode()));
+    assertThat(map.hashCode(), is(ImmutableMap.of(k1, 1, k2, 2).hashCode()));
+    assertThat(map, is(not(new IntegerMap<>(ImmutableMap.of(k1, 1)))));
+    assertThat(map, is(not(new IntegerMap<>(ImmutableMap.of(k1, 1, k3, 2)))));
+    assertThat(map, is(not(new IntegerMap<>())));
+    assertThat(map.equals(null), is(false));
+    assertThat(map.equals(ImmutableMap.of(k1, 1, k2, 2)), is(false));
     assertThat(
         "should not be equal when keys are equal but values are not equal",
         new IntegerMap<>(ImmutableMap.of(k1, 1)),
@@ -221,4 +242,103 @@ class IntegerMapTest {
     assertEquals(k3, third.getKey());
     assertEquals(0, third.getValue().intValue());
   }
+
+  @Test
+  void shouldKeepPositionOfUpdatedKeysAndMoveKeysThatAreAddedAgain() {
+    final IntegerMap<Object> map = new IntegerMap<>();
+    map.put(k1, 1);
+    map.put(k2, 2);
+    map.put(k3, 3);
+
+    map.add(k1, 10);
+    map.removeKey(k2);
+    map.put(k2, 20);
+
+    assertThat(new ArrayList<>(map.keySet()), is(Arrays.asList(k1, k3, k2)));
+    assertThat(map.getInt(k1), is(11));
+    assertThat(map.getInt(k2), is(20));
+    assertThat(map.getInt(k3), is(3));
+  }
+
+  @Test
+  void shouldFindKeysByEquality() {
+    final IntegerMap<String> map = new IntegerMap<>();
+    final int count = 1000;
+    for (int i = 0; i < count; i++) {
+      map.add(String.valueOf(i), i);
+    }
+
+    assertThat(map.size(), is(count));
+    for (int i = 0; i < count; i++) {
+      assertThat(map.getInt(new String(String.valueOf(i))), is(i));
+    }
+    assertThat(map.totalValues(), is(count * (count - 1) / 2));
+  }
+
+  @Test
+  void shouldRemoveKeysThroughViews() {
+    final IntegerMap<Object> map = new IntegerMap<>(ImmutableMap.of(k1, 1, k2, 2, k3, 3));
+
+    map.keySet().removeIf(k2::equals);
+    final Iterator<Map.Entry<Object, Integer>> iterator = map.entrySet().iterator();
+    iterator.next();
+    iterator.remove();
+
+    assertThat(map, is(new IntegerMap<>(ImmutableMap.of(k3, 3))));
+    assertFalse(map.containsKey(k1));
+    assertFalse(map.containsKey(k2));
+  }
+
+  @Test
+  void shouldSetValuesThroughEntries() {
+    final IntegerMap<Object> map = new IntegerMap<>(ImmutableMap.of(k1, 1, k2, 2));
+
+    map.entrySet().forEach(entry -> entry.setValue(entry.getValue() * 10));
+
+    assertThat(map, is(new IntegerMap<>(ImmutableMap.of(k1, 10, k2, 20))));
+  }
+
+  @Test
+  void forEachShouldVisitEntriesInInsertionOrder() {
+    final IntegerMap<Object> map = new IntegerMap<>(ImmutableMap.of(k2, 2, k1, 1, k3, 3));
+    final List<Object> keys = new ArrayList<>();
+    final List<Integer> values = new ArrayList<>();
+
+    map.forEach((key, value) -> {
+      keys.add(key);
+      values.add(value);
+    });
+
+    assertThat(keys, is(Arrays.asList(k2, k1, k3)));
+    assertThat(values, is(Arrays.asList(2, 1, 3)));
+  }
+
+  @Test
+  void shouldBeSerializable() throws Exception {
+    final IntegerMap<String> map = new IntegerMap<>(ImmutableMap.of("c", 3, "a", 1, "b", -2));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(map);
+    }
+    final IntegerMap<?> copy;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (IntegerMap<?>) in.readObject();
+    }
+
+    assertThat(copy, is(map));
+    assertThat(new ArrayList<>(copy.keySet()), is(Arrays.asList("c", "a", "b")));
+  }
+
+  @Test
+  void shouldReadMapsSerializedWhenBackedByLinkedHashMap() throws Exception {
+    final IntegerMap<?> map;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+        Base64.getDecoder().decode(SERIALIZED_MAP)))) {
+      map = (IntegerMap<?>) in.readObject();
+    }
+
+    assertThat(map, is(new IntegerMap<>(ImmutableMap.of("c", 3, "a", 1, "b", -2))));
+    assertThat(new ArrayList<>(map.keySet()), is(Arrays.asList("c", "a", "b")));
+  }
 }
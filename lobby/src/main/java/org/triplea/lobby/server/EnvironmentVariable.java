@@ -7,7 +7,11 @@ import lombok.AllArgsConstructor;
 /** Class that represent OS environment variable keys with default values. */
 @AllArgsConstructor
 public enum EnvironmentVariable {
-  PORT("3304");
+  PORT("3304"),
+
+  NIO_READER_THREADS("1"),
+
+  NIO_DECODER_THREADS(String.valueOf(Runtime.getRuntime().availableProcessors()));
 
   private final String defaultValue;
 
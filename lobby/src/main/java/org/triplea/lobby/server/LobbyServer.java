@@ -43,7 +43,10 @@ final class LobbyServer {
     ClipPlayer.setBeSilentInPreferencesWithoutAffectingCurrent(true);
 
     final IServerMessenger server = new ServerMessenger(
-        LobbyConstants.ADMIN_USERNAME, lobbyConfiguration.getPort(), new DefaultObjectStreamFactory());
+        LobbyConstants.ADMIN_USERNAME,
+        lobbyConfiguration.getPort(),
+        new DefaultObjectStreamFactory(),
+        lobbyConfiguration.getNioSocketConfiguration());
     final Messengers messengers = new Messengers(server);
     server.setLoginValidator(
         new LobbyLoginValidator(
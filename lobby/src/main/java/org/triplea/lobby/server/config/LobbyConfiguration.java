@@ -5,6 +5,7 @@ import org.triplea.lobby.server.db.Database;
 import org.triplea.lobby.server.db.DatabaseDao;
 import org.triplea.lobby.server.db.DatabaseEnvironmentVariable;
 
+import games.strategy.net.nio.NioSocketConfiguration;
 import lombok.Getter;
 
 /**
@@ -14,10 +15,15 @@ import lombok.Getter;
 public final class LobbyConfiguration {
 
   private final int port;
+  private final NioSocketConfiguration nioSocketConfiguration;
   private final DatabaseDao databaseDao;
 
   public LobbyConfiguration() {
     port = Integer.valueOf(EnvironmentVariable.PORT.getValue());
+    nioSocketConfiguration = NioSocketConfiguration.builder()
+        .readerThreads(Integer.valueOf(EnvironmentVariable.NIO_READER_THREADS.getValue()))
+        .decoderThreads(Integer.valueOf(EnvironmentVariable.NIO_DECODER_THREADS.getValue()))
+        .build();
     databaseDao = Database.builder()
         .postgresDatabase(DatabaseEnvironmentVariable.POSTGRES_DATABASE.getValue())
         .postgresHost(DatabaseEnvironmentVariable.POSTGRES_HOST.getValue())